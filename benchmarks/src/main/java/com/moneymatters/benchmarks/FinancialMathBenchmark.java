@@ -0,0 +1,60 @@
+package com.moneymatters.benchmarks;
+
+import com.moneymatters.calculators.service.FinancialMathService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The formula layer every calculator sits on, in both precisions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FinancialMathBenchmark {
+
+    @Param({"12", "120", "360"})
+    private int tenureMonths;
+
+    @Param({"FAST", "EXACT"})
+    private FinancialMathService.Precision precision;
+
+    private FinancialMathService service;
+    private BigDecimal principal;
+    private BigDecimal monthlyPayment;
+    private BigDecimal rate;
+    private BigDecimal years;
+
+    @Setup
+    public void setUp() {
+        service = new FinancialMathService();
+        principal = new BigDecimal("5000000");
+        rate = new BigDecimal("8.5");
+        monthlyPayment = new BigDecimal("25000");
+        years = new BigDecimal(tenureMonths / 12);
+    }
+
+    @Benchmark
+    public BigDecimal emi() {
+        return service.calculateEMI(principal, rate, tenureMonths, precision);
+    }
+
+    @Benchmark
+    public BigDecimal futureValue() {
+        return service.calculateFutureValue(principal, rate, years, precision);
+    }
+
+    @Benchmark
+    public BigDecimal annuityFutureValue() {
+        return service.calculateAnnuityFutureValue(monthlyPayment, rate, tenureMonths, precision);
+    }
+
+    @Benchmark
+    public BigDecimal presentValueAnnuity() {
+        return service.calculatePresentValueAnnuity(monthlyPayment, rate, tenureMonths, precision);
+    }
+}
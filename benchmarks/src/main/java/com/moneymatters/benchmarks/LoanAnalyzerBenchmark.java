@@ -0,0 +1,58 @@
+package com.moneymatters.benchmarks;
+
+import com.moneymatters.calculators.dto.LoanAnalysisRequest;
+import com.moneymatters.calculators.dto.LoanAnalysisResponse;
+import com.moneymatters.calculators.dto.PrepaymentScenario;
+import com.moneymatters.calculators.dto.ResponseShape;
+import com.moneymatters.calculators.service.FinancialMathService;
+import com.moneymatters.calculators.service.LoanAnalyzerServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full loan analysis: EMI, amortization with and without prepayments,
+ * and the schedule rows the response shape asks for.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoanAnalyzerBenchmark {
+
+    @Param({"60", "240", "360"})
+    private int tenureMonths;
+
+    @Param({"FULL", "SUMMARY"})
+    private ResponseShape.ScheduleView view;
+
+    @Param({"NONE", "YEARLY"})
+    private String prepayments;
+
+    private LoanAnalyzerServiceImpl service;
+    private LoanAnalysisRequest request;
+    private ResponseShape shape;
+
+    @Setup
+    public void setUp() {
+        service = new LoanAnalyzerServiceImpl(new FinancialMathService());
+
+        List<PrepaymentScenario> scenarios = prepayments.equals("YEARLY")
+            ? List.of(new PrepaymentScenario(12, new BigDecimal("100000"),
+                PrepaymentScenario.PrepaymentOption.REDUCE_TENURE, 12, null, new BigDecimal("5")))
+            : null;
+
+        request = new LoanAnalysisRequest(
+            new BigDecimal("5000000"), new BigDecimal("8.5"), tenureMonths, scenarios);
+        shape = ResponseShape.of(view, null, null, null);
+    }
+
+    @Benchmark
+    public LoanAnalysisResponse analyzeLoan() {
+        return service.analyzeLoan(request, shape);
+    }
+}
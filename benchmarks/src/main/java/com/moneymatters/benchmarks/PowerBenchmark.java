@@ -0,0 +1,39 @@
+package com.moneymatters.benchmarks;
+
+import com.moneymatters.calculators.util.CalculationUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CalculationUtils.power, the BigDecimal (1 + r)^n behind the EXACT formulas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PowerBenchmark {
+
+    @Param({"12", "120", "360", "600"})
+    private int exponent;
+
+    private BigDecimal monthlyGrowth;
+
+    @Setup
+    public void setUp() {
+        monthlyGrowth = new BigDecimal("1.0070833333");
+    }
+
+    @Benchmark
+    public BigDecimal power() {
+        return CalculationUtils.power(monthlyGrowth, exponent);
+    }
+
+    @Benchmark
+    public BigDecimal inversePower() {
+        return CalculationUtils.power(monthlyGrowth, -exponent);
+    }
+}
@@ -0,0 +1,47 @@
+package com.moneymatters.benchmarks;
+
+import com.moneymatters.calculators.dto.SIPStepupRequest;
+import com.moneymatters.calculators.dto.SIPStepupResponse;
+import com.moneymatters.calculators.service.FinancialMathService;
+import com.moneymatters.calculators.service.SIPCalculatorServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step-up SIP maturity with its yearly breakdown and charts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SIPCalculatorBenchmark {
+
+    @Param({"5", "20", "40"})
+    private int years;
+
+    @Param({"0", "10"})
+    private String stepupPercent;
+
+    private SIPCalculatorServiceImpl service;
+    private SIPStepupRequest request;
+
+    @Setup
+    public void setUp() {
+        service = new SIPCalculatorServiceImpl(new FinancialMathService());
+        request = new SIPStepupRequest(
+            new BigDecimal("10000"),
+            new BigDecimal("12"),
+            years,
+            new BigDecimal(stepupPercent)
+        );
+    }
+
+    @Benchmark
+    public SIPStepupResponse calculateStepupSIP() {
+        return service.calculateStepupSIP(request);
+    }
+}
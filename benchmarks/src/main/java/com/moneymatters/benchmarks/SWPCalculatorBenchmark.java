@@ -0,0 +1,51 @@
+package com.moneymatters.benchmarks;
+
+import com.moneymatters.calculators.dto.ResponseShape;
+import com.moneymatters.calculators.dto.SWPRequest;
+import com.moneymatters.calculators.dto.SWPResponse;
+import com.moneymatters.calculators.service.SWPCalculatorServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deterministic SWP projection over the withdrawal period.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SWPCalculatorBenchmark {
+
+    @Param({"10", "30", "50"})
+    private int durationYears;
+
+    @Param({"false", "true"})
+    private boolean inflationAdjusted;
+
+    private SWPCalculatorServiceImpl service;
+    private SWPRequest request;
+    private ResponseShape shape;
+
+    @Setup
+    public void setUp() {
+        service = new SWPCalculatorServiceImpl();
+        request = new SWPRequest(
+            new BigDecimal("10000000"),
+            new BigDecimal("50000"),
+            new BigDecimal("8"),
+            durationYears,
+            new BigDecimal("6"),
+            inflationAdjusted
+        );
+        shape = ResponseShape.full();
+    }
+
+    @Benchmark
+    public SWPResponse calculateSWP() {
+        return service.calculateSWP(request, shape);
+    }
+}
@@ -0,0 +1,52 @@
+package com.moneymatters.benchmarks;
+
+import com.moneymatters.portfolio.util.XIRRCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XIRR of a monthly SIP history closed by the current value, the shape
+ * the portfolio analytics feed it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XIRRBenchmark {
+
+    @Param({"12", "120", "1200"})
+    private int cashFlows;
+
+    private List<LocalDate> dates;
+    private List<BigDecimal> amounts;
+
+    @Setup
+    public void setUp() {
+        dates = new ArrayList<>(cashFlows);
+        amounts = new ArrayList<>(cashFlows);
+
+        // Weekly instalments for long histories so the span stays realistic
+        int stepDays = cashFlows > 240 ? 7 : 30;
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        double value = 0;
+        for (int i = 0; i < cashFlows - 1; i++) {
+            dates.add(start.plusDays((long) i * stepDays));
+            amounts.add(new BigDecimal("-10000"));
+            value = (value + 10000) * (1 + 0.12 * stepDays / 365.0);
+        }
+        dates.add(start.plusDays((long) (cashFlows - 1) * stepDays));
+        amounts.add(BigDecimal.valueOf(Math.round(value)));
+    }
+
+    @Benchmark
+    public BigDecimal calculateXIRR() {
+        return XIRRCalculator.calculateXIRR(dates, amounts);
+    }
+}
@@ -119,6 +119,7 @@ export default function ExplainButton({ type, inputs, result, disabled }) {
   const suggestions = SUGGESTED_QUESTIONS[type] || [];
 
   const errMsg = (e) => {
+    if (e?.aiMessage) return e.aiMessage;
     if (e?.response?.status === 429) {
       const d = e.response.data || {};
       return `You've hit the AI limit (${d.limit || 10}/hour). Try again in ~${Math.ceil((d.retryAfterSeconds || 60) / 60)} min.`;
@@ -130,10 +131,9 @@ export default function ExplainButton({ type, inputs, result, disabled }) {
     if (!result) return;
     setLoading(true); setError(''); setExplanation(''); setFollowAnswer('');
     try {
-      const res = await aiApi.explainCalculator(type, inputs, result);
-      const data = res.data.data;
-      setExplanation(data.explanation);
-      setRemaining(data.remainingRequests);
+      const done = await aiApi.explainCalculatorStream(type, inputs, result,
+        (text) => setExplanation((prev) => prev + text));
+      setRemaining(done.remainingRequests);
     } catch (e) {
       setError(errMsg(e));
     }
@@ -145,10 +145,9 @@ export default function ExplainButton({ type, inputs, result, disabled }) {
     if (!q) return;
     setFollowLoading(true); setError(''); setFollowAnswer('');
     try {
-      const res = await aiApi.followup('CALCULATOR', explanation, q);
-      const data = res.data.data;
-      setFollowAnswer(data.explanation);
-      setRemaining(data.remainingRequests);
+      const done = await aiApi.followupStream('CALCULATOR', explanation, q,
+        (text) => setFollowAnswer((prev) => prev + text));
+      setRemaining(done.remainingRequests);
     } catch (e) {
       setError(errMsg(e));
     }
@@ -72,6 +72,7 @@ export default function PortfolioAnalyser() {
   const [followLoading, setFollowLoading] = useState(false);
 
   const errMsg = (e) => {
+    if (e?.aiMessage) return e.aiMessage;
     if (e?.response?.status === 429) {
       const d = e.response.data || {};
       return `You've hit the AI limit (${d.limit || 10}/hour). Try again in ~${Math.ceil((d.retryAfterSeconds || 60) / 60)} min.`;
@@ -82,10 +83,8 @@ export default function PortfolioAnalyser() {
   const analyse = async () => {
     setLoading(true); setError(''); setAnalysis(''); setFollowAnswer('');
     try {
-      const res = await aiApi.analysePortfolio();
-      const data = res.data.data;
-      setAnalysis(data.explanation);
-      setRemaining(data.remainingRequests);
+      const done = await aiApi.analysePortfolioStream((text) => setAnalysis((prev) => prev + text));
+      setRemaining(done.remainingRequests);
     } catch (e) {
       setError(errMsg(e));
     }
@@ -97,10 +96,9 @@ export default function PortfolioAnalyser() {
     if (!q || !analysis) return;
     setFollowLoading(true); setError(''); setFollowAnswer('');
     try {
-      const res = await aiApi.followup('PORTFOLIO', analysis, q);
-      const data = res.data.data;
-      setFollowAnswer(data.explanation);
-      setRemaining(data.remainingRequests);
+      const done = await aiApi.followupStream('PORTFOLIO', analysis, q,
+        (text) => setFollowAnswer((prev) => prev + text));
+      setRemaining(done.remainingRequests);
     } catch (e) {
       setError(errMsg(e));
     }
@@ -6,6 +6,10 @@ const API = axios.create({
   withCredentials: true,
 });
 
+// Clerk's getToken, registered by useAxiosInterceptor for requests made outside axios
+let tokenProvider = null;
+export const setTokenProvider = (getToken) => { tokenProvider = getToken; };
+
 // ─── Portfolio Holdings ───
 export const holdingsApi = {
   create: (data) => API.post('/portfolio/holdings', data),
@@ -62,6 +66,67 @@ export const aiApi = {
   followup: (topic, context, question) =>
     API.post('/ai/followup', { topic, context, question }),
   quota: () => API.get('/ai/quota'),
+
+  // Streamed variants: onToken receives text as it is generated; resolves to { remainingRequests }
+  explainCalculatorStream: (type, inputs, result, onToken) =>
+    streamPost('/ai/explain-calculator/stream', { type, inputs, result }, onToken),
+  analysePortfolioStream: (onToken) => streamPost('/ai/analyse-portfolio/stream', null, onToken),
+  followupStream: (topic, context, question, onToken) =>
+    streamPost('/ai/followup/stream', { topic, context, question }, onToken),
 };
 
+// ─── Server-Sent Events ───
+// EventSource can only GET and cannot send an Authorization header, so the
+// stream is POSTed with fetch and its "event:"/"data:" blocks parsed here.
+// Failures are thrown in axios' shape ({ response: { status, data } }) so
+// callers handle a 429 the same way for both.
+async function streamPost(path, body, onToken) {
+  const headers = { 'Content-Type': 'application/json' };
+  const token = tokenProvider ? await tokenProvider() : null;
+  if (token) headers.Authorization = `Bearer ${token}`;
+
+  const res = await fetch(`${API.defaults.baseURL}${path}`, {
+    method: 'POST',
+    headers,
+    credentials: 'include',
+    body: body ? JSON.stringify(body) : undefined,
+  });
+  if (!res.ok) {
+    const data = await res.json().catch(() => ({}));
+    throw Object.assign(new Error(data.message || `HTTP ${res.status}`), { response: { status: res.status, data } });
+  }
+
+  const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+  try {
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) break;
+      buffer += value;
+
+      let end;
+      while ((end = buffer.indexOf('\n\n')) >= 0) {
+        const block = buffer.slice(0, end);
+        buffer = buffer.slice(end + 2);
+
+        let event = 'message';
+        const data = [];
+        for (const line of block.split('\n')) {
+          if (line.startsWith('event:')) event = line.slice(6).trim();
+          else if (line.startsWith('data:')) data.push(line.slice(5));
+        }
+        if (!data.length) continue;
+
+        const payload = JSON.parse(data.join('\n'));
+        if (event === 'token') onToken(payload.text);
+        else if (event === 'done') return payload;
+        else if (event === 'error') throw Object.assign(new Error(payload.message), { aiMessage: payload.message });
+      }
+    }
+  } finally {
+    reader.cancel().catch(() => {});
+  }
+  throw new Error('AI stream ended unexpectedly');
+}
+
 export default API;
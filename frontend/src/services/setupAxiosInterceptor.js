@@ -1,11 +1,12 @@
 import { useEffect } from 'react';
 import { useAuth } from '@clerk/react';
-import API from './api';
+import API, { setTokenProvider } from './api';
 
 export function useAxiosInterceptor() {
     const { getToken } = useAuth();
 
     useEffect(() => {
+        setTokenProvider(getToken);
         const interceptor = API.interceptors.request.use(
             async (config) => {
                 const token = await getToken();
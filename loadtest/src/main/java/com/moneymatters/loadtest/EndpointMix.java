@@ -0,0 +1,201 @@
+package com.moneymatters.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * Weighted mix of API calls. Portfolio reads go out as a random seeded
+ * user; calculator calls cycle through a fixed set of input variants so
+ * the result cache sees a realistic mix of repeats and misses.
+ */
+class EndpointMix {
+
+    /**
+     * name:weight pairs; the AI endpoints are off by default because they
+     * are rate limited per user. For ai-stream the latency is to the end of
+     * the stream, not the first token
+     */
+    static final String DEFAULT_MIX = "holdings:20,summary:15,analytics:15,transactions:10,rebalance:5,"
+        + "price:10,sip:8,loan:8,swp:5,life-plan:4,ai:0,ai-stream:0";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    record Call(String endpoint, HttpRequest request) {
+    }
+
+    private final LoadTestConfig config;
+    private final String[] authorization;   // Per user, signed up front: RSA signing would stall the send loop
+    private final List<String> symbols;
+
+    private final String[] names;
+    private final int[] cumulativeWeights;
+    private final List<BiFunction<Random, Integer, HttpRequest>> builders = new ArrayList<>();
+
+    private final String[] sipBodies;
+    private final String[] loanBodies;
+    private final String[] swpBodies;
+    private final String[] lifePlanBodies;
+
+    EndpointMix(LoadTestConfig config, TokenIssuer tokens, SyntheticMarket market) {
+        this.config = config;
+        this.authorization = new String[config.users];
+        for (int u = 0; u < config.users; u++) {
+            authorization[u] = "Bearer " + tokens.tokenFor(SyntheticDataSeeder.userId(u));
+        }
+        this.symbols = market.instruments().stream().map(SyntheticMarket.Instrument::symbol).toList();
+
+        Random variants = new Random(config.seed);
+        int count = Math.max(1, config.calculatorVariants);
+        sipBodies = new String[count];
+        loanBodies = new String[count];
+        swpBodies = new String[count];
+        lifePlanBodies = new String[count];
+        for (int i = 0; i < count; i++) {
+            sipBodies[i] = sipBody(variants);
+            loanBodies[i] = loanBody(variants);
+            swpBodies[i] = swpBody(variants);
+            lifePlanBodies[i] = lifePlanBody(variants);
+        }
+
+        List<String> active = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : config.mix.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            builders.add(builder(entry.getKey()));
+            total += entry.getValue();
+            active.add(entry.getKey());
+            cumulative.add(total);
+        }
+        if (active.isEmpty()) {
+            throw new IllegalArgumentException("Endpoint mix has no positive weights");
+        }
+        names = active.toArray(String[]::new);
+        cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Endpoints with a positive weight, in mix order
+     */
+    String[] endpoints() {
+        return names.clone();
+    }
+
+    Call next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (pick >= cumulativeWeights[index]) {
+            index++;
+        }
+        int user = random.nextInt(config.users);
+        return new Call(names[index], builders.get(index).apply(random, user));
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private BiFunction<Random, Integer, HttpRequest> builder(String endpoint) {
+        return switch (endpoint) {
+            case "holdings" -> (random, user) -> get("/v1/portfolio/holdings/user", user);
+            case "summary" -> (random, user) -> get("/v1/portfolio/holdings/user/summary", user);
+            case "analytics" -> (random, user) -> get("/v1/portfolio/analytics/user", user);
+            case "transactions" -> (random, user) -> get("/v1/portfolio/transactions/user/page?limit=50", user);
+            case "rebalance" -> (random, user) -> get("/v1/portfolio/rebalance", user);
+            case "price" -> (random, user) ->
+                get("/v1/portfolio/prices/current/" + symbols.get(random.nextInt(symbols.size())), user);
+            case "sip" -> (random, user) ->
+                post("/v1/calculators/sip-stepup/calculate", user, pick(sipBodies, random));
+            case "loan" -> (random, user) ->
+                post("/v1/calculators/loan/analyze", user, pick(loanBodies, random));
+            case "swp" -> (random, user) ->
+                post("/v1/calculators/swp/calculate", user, pick(swpBodies, random));
+            case "life-plan" -> (random, user) ->
+                post("/v1/calculators/life-plan/evaluate", user, pick(lifePlanBodies, random));
+            case "ai" -> (random, user) ->
+                post("/v1/ai/explain-calculator", user, explainBody(pick(sipBodies, random)));
+            case "ai-stream" -> (random, user) ->
+                post("/v1/ai/explain-calculator/stream", user, explainBody(pick(sipBodies, random)));
+            default -> throw new IllegalArgumentException("Unknown endpoint '" + endpoint + "' in mix");
+        };
+    }
+
+    private HttpRequest get(String path, int user) {
+        return request(path, user).GET().build();
+    }
+
+    private HttpRequest post(String path, int user, String body) {
+        return request(path, user)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpRequest.Builder request(String path, int user) {
+        return HttpRequest.newBuilder(URI.create(config.apiBaseUrl() + path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Authorization", authorization[user]);
+    }
+
+    private static String pick(String[] bodies, Random random) {
+        return bodies[random.nextInt(bodies.length)];
+    }
+
+    private static String sipBody(Random random) {
+        return String.format(Locale.ROOT,
+            "{\"monthlySIP\":%d,\"expectedAnnualReturnPercent\":%d,\"years\":%d,\"annualStepupPercent\":%d}",
+            (1 + random.nextInt(50)) * 1000, 8 + random.nextInt(7), 5 + random.nextInt(26), random.nextInt(16));
+    }
+
+    private static String loanBody(Random random) {
+        int tenure = (5 + random.nextInt(26)) * 12;
+        String prepayment = random.nextBoolean()
+            ? String.format(Locale.ROOT,
+                ",\"prepayments\":[{\"atMonth\":%d,\"amount\":%d,\"option\":\"REDUCE_TENURE\"}]",
+                12 + random.nextInt(tenure - 12), (1 + random.nextInt(10)) * 50_000)
+            : "";
+        return String.format(Locale.ROOT,
+            "{\"principal\":%d,\"annualInterestRatePercent\":%.2f,\"tenureMonths\":%d%s}",
+            (5 + random.nextInt(96)) * 100_000, 7.0 + random.nextInt(500) / 100.0, tenure, prepayment);
+    }
+
+    private static String swpBody(Random random) {
+        return String.format(Locale.ROOT,
+            "{\"startingCorpus\":%d,\"monthlyWithdrawal\":%d,\"expectedAnnualReturnPercent\":%d,"
+                + "\"durationYears\":%d,\"inflationPercent\":6,\"inflationAdjusted\":%b}",
+            (10 + random.nextInt(191)) * 100_000, (2 + random.nextInt(19)) * 5_000,
+            6 + random.nextInt(7), 10 + random.nextInt(21), random.nextBoolean());
+    }
+
+    private static String lifePlanBody(Random random) {
+        int years = 10 + random.nextInt(21);
+        return String.format(Locale.ROOT,
+            "{\"horizonYears\":%d,\"startingCorpus\":%d,\"startingCash\":%d,"
+                + "\"expectedAnnualReturnPercent\":%d,\"inflationPercent\":6,\"incomeGrowthPercent\":%d,"
+                + "\"incomes\":[{\"name\":\"Salary\",\"monthlyAmount\":%d,\"category\":\"Fixed\"}],"
+                + "\"expenses\":[{\"name\":\"Living\",\"monthlyAmount\":%d,\"category\":\"Variable\"}],"
+                + "\"sips\":[{\"name\":\"Index fund\",\"monthlyAmount\":%d,\"annualStepupPercent\":10}],"
+                + "\"loans\":[{\"name\":\"Home loan\",\"startMonth\":%d,\"loan\":"
+                + "{\"principal\":%d,\"annualInterestRatePercent\":8.5,\"tenureMonths\":240}}],"
+                + "\"goals\":[{\"name\":\"Education\",\"amountToday\":%d,\"targetMonth\":%d}]}",
+            years, (1 + random.nextInt(50)) * 100_000, (1 + random.nextInt(10)) * 50_000,
+            8 + random.nextInt(5), 3 + random.nextInt(6),
+            (8 + random.nextInt(33)) * 10_000, (4 + random.nextInt(17)) * 10_000,
+            (1 + random.nextInt(10)) * 5_000, 1 + random.nextInt(36),
+            (20 + random.nextInt(61)) * 100_000, (5 + random.nextInt(46)) * 100_000,
+            12 + random.nextInt(years * 12 - 12));
+    }
+
+    private static String explainBody(String sipInputs) {
+        return "{\"type\":\"sip-stepup\",\"inputs\":" + sipInputs + ",\"result\":{\"maturityValue\":1000000}}";
+    }
+}
@@ -0,0 +1,170 @@
+package com.moneymatters.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for every outbound dependency, so a run never touches
+ * the internet and upstream latency is a fixed, known quantity:
+ *
+ *   /v8/finance/chart/{symbol}          Yahoo prices
+ *   /v10/finance/quoteSummary/{symbol}  Yahoo fundamentals
+ *   /v1/chat/completions                NVIDIA NIM, whole or streamed as SSE
+ *   /.well-known/jwks.json              Clerk signing keys
+ */
+class FakeUpstreamServer implements AutoCloseable {
+
+    private static final String[] STREAMED_WORDS = "Synthetic explanation from the load-test stub.".split("(?<= )");
+    private static final int TOKEN_INTERVAL_MS = 20;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int latencyMs;
+    private final TokenIssuer tokenIssuer;
+    private final Map<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    FakeUpstreamServer(int port, int latencyMs, TokenIssuer tokenIssuer) throws IOException {
+        this.latencyMs = latencyMs;
+        this.tokenIssuer = tokenIssuer;
+        this.executor = Executors.newFixedThreadPool(64);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        server.setExecutor(executor);
+
+        server.createContext("/v8/finance/chart/", exchange ->
+            respond(exchange, "yahoo-chart", true, chart(lastSegment(exchange))));
+        server.createContext("/v10/finance/quoteSummary/", exchange ->
+            respond(exchange, "yahoo-summary", true, quoteSummary(lastSegment(exchange))));
+        server.createContext("/v1/chat/completions", this::chat);
+        server.createContext("/.well-known/jwks.json", exchange ->
+            respond(exchange, "jwks", false, tokenIssuer.jwkSetJson()));
+    }
+
+    void start() {
+        server.start();
+    }
+
+    /**
+     * Requests served per route, to show how much caching saved upstream
+     */
+    Map<String, LongAdder> calls() {
+        return calls;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private void respond(HttpExchange exchange, String route, boolean delayed, String body) throws IOException {
+        calls.computeIfAbsent(route, r -> new LongAdder()).increment();
+        try {
+            exchange.getRequestBody().readAllBytes();
+            if (delayed && latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Streamed requests get the answer a word at a time: the configured
+     * latency before the first chunk, then one chunk every TOKEN_INTERVAL_MS
+     */
+    private void chat(HttpExchange exchange) throws IOException {
+        String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (!request.contains("\"stream\":true")) {
+            respond(exchange, "nvidia-chat", true, chatCompletion());
+            return;
+        }
+
+        calls.computeIfAbsent("nvidia-chat-stream", r -> new LongAdder()).increment();
+        try {
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (String word : STREAMED_WORDS) {
+                    writeEvent(out, "{\"id\":\"loadtest\",\"object\":\"chat.completion.chunk\",\"choices\":[{\"index\":0"
+                        + ",\"delta\":{\"content\":\"" + word + "\"},\"finish_reason\":null}]}");
+                    Thread.sleep(TOKEN_INTERVAL_MS);
+                }
+                writeEvent(out, "{\"id\":\"loadtest\",\"object\":\"chat.completion.chunk\",\"choices\":[]"
+                    + ",\"usage\":{\"prompt_tokens\":420,\"completion_tokens\":" + STREAMED_WORDS.length
+                    + ",\"total_tokens\":" + (420 + STREAMED_WORDS.length) + "}}");
+                writeEvent(out, "[DONE]");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static String lastSegment(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static String chart(String symbol) {
+        double price = SyntheticMarket.currentPrice(symbol);
+        return String.format(
+            "{\"chart\":{\"result\":[{\"meta\":{\"symbol\":\"%s\",\"longName\":\"%s\",\"currency\":\"INR\""
+                + ",\"regularMarketPrice\":%.2f,\"chartPreviousClose\":%.2f"
+                + ",\"regularMarketDayHigh\":%.2f,\"regularMarketDayLow\":%.2f"
+                + ",\"regularMarketVolume\":%d,\"fiftyTwoWeekHigh\":%.2f,\"fiftyTwoWeekLow\":%.2f}}]"
+                + ",\"error\":null}}",
+            symbol, symbol, price, price * 0.99, price * 1.01, price * 0.98,
+            100_000 + (symbol.hashCode() & 0xffff), price * 1.25, price * 0.75);
+    }
+
+    private static String quoteSummary(String symbol) {
+        double price = SyntheticMarket.currentPrice(symbol);
+        return String.format(
+            "{\"quoteSummary\":{\"result\":[{"
+                + "\"price\":{\"longName\":\"%s\",\"regularMarketPrice\":{\"raw\":%.2f}"
+                + ",\"regularMarketChangePercent\":{\"raw\":0.01},\"marketCap\":{\"raw\":%d}}"
+                + ",\"assetProfile\":{\"sector\":\"Synthetic\",\"industry\":\"Load Test\"}"
+                + ",\"defaultKeyStatistics\":{\"trailingEps\":{\"raw\":%.2f}}"
+                + ",\"financialData\":{\"returnOnEquity\":{\"raw\":0.15}}"
+                + ",\"summaryDetail\":{\"trailingPE\":{\"raw\":22.5}}}],\"error\":null}}",
+            symbol, price, (long) (price * 1_000_000_000L), price / 22.5);
+    }
+
+    private static String chatCompletion() {
+        return "{\"id\":\"loadtest\",\"object\":\"chat.completion\",\"choices\":[{\"index\":0"
+            + ",\"message\":{\"role\":\"assistant\",\"content\":\"Synthetic explanation from the load-test stub.\"}"
+            + ",\"finish_reason\":\"stop\"}],\"usage\":{\"prompt_tokens\":420,\"completion_tokens\":180"
+            + ",\"total_tokens\":600}}";
+    }
+}
@@ -0,0 +1,137 @@
+package com.moneymatters.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Raw per-endpoint latencies, kept whole so percentiles are exact rather
+ * than bucketed. Latency is measured from the moment a request was due
+ * to be sent, so a stalled server shows up as queueing delay instead of
+ * silently lowering the offered rate.
+ */
+class LatencyRecorder {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final Map<String, Series> series = new LinkedHashMap<>();
+    private final long elapsedNanos;
+
+    LatencyRecorder(String[] endpoints, long elapsedNanos) {
+        for (String endpoint : endpoints) {
+            series.put(endpoint, new Series());
+        }
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void success(String endpoint, long latencyNanos) {
+        series.get(endpoint).add(latencyNanos, false);
+    }
+
+    void failure(String endpoint, long latencyNanos) {
+        series.get(endpoint).add(latencyNanos, true);
+    }
+
+    /**
+     * Request never sent because too many were already in flight
+     */
+    void dropped(String endpoint) {
+        series.get(endpoint).dropped();
+    }
+
+    void print() {
+        System.out.printf(Locale.ROOT, "%n%-14s %8s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "dropped", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        Series total = new Series();
+        for (Map.Entry<String, Series> entry : series.entrySet()) {
+            printRow(entry.getKey(), entry.getValue());
+            total.merge(entry.getValue());
+        }
+        printRow("ALL", total);
+        System.out.printf(Locale.ROOT, "Achieved throughput: %.1f req/s%n", total.count / (elapsedNanos / 1e9));
+    }
+
+    void writeCsv(Path file) throws IOException {
+        StringBuilder csv = new StringBuilder(
+            "endpoint,requests,errors,dropped,p50_ms,p90_ms,p95_ms,p99_ms,p999_ms,max_ms\n");
+        for (Map.Entry<String, Series> entry : series.entrySet()) {
+            Series s = entry.getValue();
+            double[] stats = s.stats();
+            csv.append(entry.getKey()).append(',').append(s.count).append(',')
+                .append(s.errors).append(',').append(s.dropped);
+            for (double stat : stats) {
+                csv.append(',').append(String.format(Locale.ROOT, "%.3f", stat));
+            }
+            csv.append('\n');
+        }
+        Files.writeString(file, csv);
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private static void printRow(String name, Series s) {
+        double[] stats = s.stats();
+        System.out.printf(Locale.ROOT, "%-14s %8d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+            name, s.count, s.errors, s.dropped, stats[0], stats[1], stats[2], stats[3], stats[4], stats[5]);
+    }
+
+    /**
+     * Growable array of latencies; callbacks from the HTTP client arrive
+     * on several threads
+     */
+    private static final class Series {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+        private long dropped;
+
+        synchronized void add(long latencyNanos, boolean error) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized void dropped() {
+            dropped++;
+        }
+
+        synchronized void merge(Series other) {
+            synchronized (other) {
+                for (int i = 0; i < other.count; i++) {
+                    add(other.nanos[i], false);
+                }
+                errors += other.errors;
+                dropped += other.dropped;
+            }
+        }
+
+        /**
+         * Percentiles then max, in milliseconds (nearest rank)
+         */
+        synchronized double[] stats() {
+            double[] stats = new double[PERCENTILES.length + 1];
+            if (count == 0) {
+                return stats;
+            }
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                int rank = (int) Math.ceil(PERCENTILES[p] / 100.0 * count);
+                stats[p] = sorted[Math.max(0, rank - 1)] / 1e6;
+            }
+            stats[PERCENTILES.length] = sorted[count - 1] / 1e6;
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.moneymatters.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load: requests are released on a fixed schedule at the target
+ * rate whether or not earlier ones have returned, the way independent
+ * users arrive. A closed loop (N threads, send-wait-send) would slow down
+ * with the server and hide exactly the queueing this is meant to find.
+ */
+class LoadDriver implements AutoCloseable {
+
+    private final LoadTestConfig config;
+    private final EndpointMix mix;
+    private final ExecutorService executor;
+    private final HttpClient client;
+
+    LoadDriver(LoadTestConfig config, EndpointMix mix) {
+        this.config = config;
+        this.mix = mix;
+        this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+    }
+
+    /**
+     * Offer config.rps requests a second for the given time and wait for
+     * the stragglers
+     */
+    LatencyRecorder run(int seconds, long seed) throws InterruptedException {
+        long intervalNanos = 1_000_000_000L / config.rps;
+        long total = (long) config.rps * seconds;
+        Semaphore inFlight = new Semaphore(config.maxInFlight);
+        Random random = new Random(seed);
+
+        long start = System.nanoTime();
+        LatencyRecorder recorder = new LatencyRecorder(mix.endpoints(), seconds * 1_000_000_000L);
+
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            EndpointMix.Call call = mix.next(random);
+            if (!inFlight.tryAcquire()) {
+                recorder.dropped(call.endpoint());
+                continue;
+            }
+
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intended;
+                    if (error == null && response.statusCode() < 400) {
+                        recorder.success(call.endpoint(), latency);
+                    } else {
+                        recorder.failure(call.endpoint(), latency);
+                    }
+                    inFlight.release();
+                });
+        }
+
+        // Drain: every permit back means every request has completed
+        if (!inFlight.tryAcquire(config.maxInFlight, 60, TimeUnit.SECONDS)) {
+            System.out.println("Some requests were still in flight after 60s");
+        }
+        return recorder;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,125 @@
+package com.moneymatters.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from -Dloadtest.* system properties or
+ * --name=value arguments (arguments win).
+ */
+public class LoadTestConfig {
+
+    // Data
+    final int users;
+    final int holdingsPerUser;
+    final int historyYears;
+    final long seed;
+    final boolean reseed;
+    final Path symbolFile;
+
+    // Database: empty JDBC URL starts a Testcontainers Postgres
+    final String jdbcUrl;
+    final String dbUser;
+    final String dbPassword;
+
+    // Application: empty target URL starts the app in-process
+    final String targetUrl;
+    final int appPort;
+    final int fakePort;
+    final int fakeLatencyMs;
+
+    // Load
+    final int rps;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final int maxInFlight;
+    final int calculatorVariants;
+    final Map<String, Integer> mix;
+    final Path reportFile;
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    LoadTestConfig(String[] args) {
+        System.getProperties().forEach((key, value) -> {
+            String name = key.toString();
+            if (name.startsWith("loadtest.")) {
+                values.put(name.substring("loadtest.".length()), value.toString());
+            }
+        });
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        users = integer("users", 1000);
+        holdingsPerUser = integer("holdings", 15);
+        historyYears = integer("history-years", 5);
+        seed = Long.parseLong(string("seed", "42"));
+        reseed = Boolean.parseBoolean(string("reseed", "true"));
+        symbolFile = Path.of(string("symbols", "../ind_nifty500list.csv"));
+
+        jdbcUrl = string("jdbc-url", "");
+        dbUser = string("db-user", "postgres");
+        dbPassword = string("db-password", "postgres");
+
+        targetUrl = string("target", "");
+        appPort = integer("app-port", 18082);
+        fakePort = integer("fake-port", 18090);
+        fakeLatencyMs = integer("fake-latency-ms", 50);
+
+        rps = integer("rps", 100);
+        warmupSeconds = integer("warmup-seconds", 10);
+        durationSeconds = integer("duration-seconds", 60);
+        maxInFlight = integer("max-in-flight", 512);
+        calculatorVariants = integer("calculator-variants", 50);
+        mix = parseMix(string("mix", EndpointMix.DEFAULT_MIX));
+        reportFile = values.containsKey("report") ? Path.of(values.get("report")) : null;
+
+        if (rps < 1 || durationSeconds < 1 || users < 1) {
+            throw new IllegalArgumentException("rps, duration-seconds and users must be positive");
+        }
+    }
+
+    /**
+     * Base URL of the API including the servlet context path
+     */
+    String apiBaseUrl() {
+        return targetUrl.isEmpty() ? "http://localhost:" + appPort + "/api" : targetUrl;
+    }
+
+    String fakeBaseUrl() {
+        return "http://localhost:" + fakePort;
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", holdings/user=" + holdingsPerUser + ", history=" + historyYears + "y"
+            + ", rps=" + rps + ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s"
+            + ", mix=" + mix;
+    }
+
+    private String string(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    private int integer(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    /**
+     * "holdings:20,analytics:15" -> {holdings=20, analytics=15}
+     */
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + part + "', expected name:weight");
+            }
+            mix.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
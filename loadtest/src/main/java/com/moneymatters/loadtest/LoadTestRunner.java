@@ -0,0 +1,120 @@
+package com.moneymatters.loadtest;
+
+import com.moneymatters.MoneyMattersApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Self-contained load test:
+ *
+ *   1. local fakes for Yahoo, NVIDIA and Clerk's JWK set
+ *   2. Postgres (Testcontainers unless --jdbc-url is given)
+ *   3. the application in-process (unless --target points at a running one)
+ *   4. synthetic users, holdings and transaction histories
+ *   5. warmup, then the measured run at a fixed request rate
+ *   6. latency percentiles per endpoint
+ *
+ * Arguments that are not load test settings (for example
+ * --spring.datasource.hikari.maximum-pool-size=20) are passed through to
+ * the in-process application.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig(args);
+        System.out.println("Load test: " + config);
+
+        SyntheticMarket market = new SyntheticMarket(config.symbolFile);
+        long tokenTtlSeconds = config.warmupSeconds + config.durationSeconds + 3600L;
+        TokenIssuer tokens = new TokenIssuer(config.fakeBaseUrl(), tokenTtlSeconds);
+
+        PostgreSQLContainer<?> postgres = null;
+        ConfigurableApplicationContext app = null;
+        try (FakeUpstreamServer fakes = new FakeUpstreamServer(config.fakePort, config.fakeLatencyMs, tokens)) {
+            fakes.start();
+
+            String jdbcUrl = config.jdbcUrl;
+            String dbUser = config.dbUser;
+            String dbPassword = config.dbPassword;
+            if (jdbcUrl.isEmpty() && config.targetUrl.isEmpty()) {
+                postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+                postgres.start();
+                jdbcUrl = postgres.getJdbcUrl();
+                dbUser = postgres.getUsername();
+                dbPassword = postgres.getPassword();
+            }
+
+            if (config.targetUrl.isEmpty()) {
+                app = startApplication(config, jdbcUrl, dbUser, dbPassword, args);
+            } else {
+                System.out.println("Targeting running application at " + config.targetUrl
+                    + " (it must trust " + config.fakeBaseUrl() + " as its JWT issuer)");
+            }
+
+            if (!jdbcUrl.isEmpty()) {
+                new SyntheticDataSeeder(config, market).seed(jdbcUrl, dbUser, dbPassword);
+            } else {
+                System.out.println("No --jdbc-url given; assuming the target already holds load-test users");
+            }
+
+            EndpointMix mix = new EndpointMix(config, tokens, market);
+            try (LoadDriver driver = new LoadDriver(config, mix)) {
+                if (config.warmupSeconds > 0) {
+                    System.out.printf("Warming up for %ds at %d req/s%n", config.warmupSeconds, config.rps);
+                    driver.run(config.warmupSeconds, config.seed + 1);
+                }
+
+                System.out.printf("Measuring for %ds at %d req/s%n", config.durationSeconds, config.rps);
+                LatencyRecorder recorder = driver.run(config.durationSeconds, config.seed + 2);
+                recorder.print();
+                System.out.println("Upstream calls (warmup + run): " + fakes.calls());
+
+                if (config.reportFile != null) {
+                    recorder.writeCsv(config.reportFile);
+                    System.out.println("Report written to " + config.reportFile.toAbsolutePath());
+                }
+            }
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config, String jdbcUrl,
+                                                                   String dbUser, String dbPassword,
+                                                                   String[] args) {
+        // Same default as MoneyMattersApplication.main
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+
+        // System properties outrank application.yml; command-line arguments still win
+        String fake = config.fakeBaseUrl();
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", config.appPort);
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", dbUser);
+        properties.put("spring.datasource.password", dbPassword);
+        properties.put("spring.security.oauth2.resourceserver.jwt.jwk-set-uri", fake + "/.well-known/jwks.json");
+        properties.put("spring.security.oauth2.resourceserver.jwt.issuer-uri", fake);
+        properties.put("app.market-data.yahoo-base-url", fake);
+        properties.put("app.portfolio.sector-file", "file:" + config.symbolFile.toAbsolutePath());
+        properties.put("nvidia.api-url", fake + "/v1/chat/completions");
+        properties.put("nvidia.api-key", "loadtest");
+        properties.put("ai.rate-limit.max-requests-per-hour", Integer.MAX_VALUE);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.moneymatters", "WARN");
+        properties.put("logging.file.name", "target/loadtest-app.log");
+
+        System.out.println("Starting application on port " + config.appPort);
+        properties.forEach((key, value) -> System.setProperty(key, String.valueOf(value)));
+        return new SpringApplicationBuilder(MoneyMattersApplication.class).run(args);
+    }
+}
@@ -0,0 +1,349 @@
+package com.moneymatters.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Writes synthetic users, holdings, multi-year transaction histories and
+ * sector rebalance targets straight into the application's tables with
+ * JDBC batches. The schema itself comes from the application (ddl-auto),
+ * so the app must have started against the database first.
+ *
+ * Everything is derived from the configured seed, so two runs with the
+ * same settings see the same portfolios.
+ */
+class SyntheticDataSeeder {
+
+    static final String USER_PREFIX = "loadtest-user-";
+
+    private static final int COMMIT_EVERY_USERS = 100;
+    private static final BigDecimal BROKERAGE_PERCENT = new BigDecimal("0.001");
+
+    private final LoadTestConfig config;
+    private final SyntheticMarket market;
+
+    private long holdingRows;
+    private long transactionRows;
+
+    SyntheticDataSeeder(LoadTestConfig config, SyntheticMarket market) {
+        this.config = config;
+        this.market = market;
+    }
+
+    static String userId(int index) {
+        return String.format("%s%05d", USER_PREFIX, index);
+    }
+
+    void seed(String jdbcUrl, String user, String password) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, user, password)) {
+            connection.setAutoCommit(false);
+
+            if (!config.reseed && existingUsers(connection) >= config.users) {
+                System.out.println("Reusing existing load-test data (reseed=false)");
+                return;
+            }
+
+            long started = System.nanoTime();
+            deleteExisting(connection);
+
+            Random random = new Random(config.seed);
+            LocalDate today = LocalDate.now();
+            for (int u = 0; u < config.users; u++) {
+                seedUser(connection, userId(u), random, today);
+                if ((u + 1) % COMMIT_EVERY_USERS == 0) {
+                    connection.commit();
+                }
+            }
+            connection.commit();
+
+            System.out.printf("Seeded %d users, %d holdings, %d transactions in %.1fs%n",
+                config.users, holdingRows, transactionRows, (System.nanoTime() - started) / 1e9);
+        }
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private int existingUsers(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM users WHERE clerk_user_id LIKE ?")) {
+            statement.setString(1, USER_PREFIX + "%");
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    private void deleteExisting(Connection connection) throws SQLException {
+        String[] deletes = {
+            "DELETE FROM transactions WHERE user_id LIKE ?",
+            "DELETE FROM holdings WHERE user_id LIKE ?",
+            "DELETE FROM rebalance_policy_targets WHERE policy_id IN "
+                + "(SELECT id FROM rebalance_policies WHERE user_id LIKE ?)",
+            "DELETE FROM rebalance_policies WHERE user_id LIKE ?",
+            "DELETE FROM users WHERE clerk_user_id LIKE ?"
+        };
+        for (String sql : deletes) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, USER_PREFIX + "%");
+                statement.executeUpdate();
+            }
+        }
+        connection.commit();
+    }
+
+    private void seedUser(Connection connection, String userId, Random random, LocalDate today)
+            throws SQLException {
+
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (clerk_user_id, email, name, created_at) VALUES (?, ?, ?, ?)")) {
+            statement.setString(1, userId);
+            statement.setString(2, userId + "@loadtest.local");
+            statement.setString(3, "Load Test " + userId.substring(USER_PREFIX.length()));
+            statement.setTimestamp(4, Timestamp.valueOf(now));
+            statement.executeUpdate();
+        }
+
+        List<Position> positions = new ArrayList<>(config.holdingsPerUser);
+        for (SyntheticMarket.Instrument instrument : pickInstruments(random)) {
+            positions.add(simulateHistory(instrument, random, today));
+        }
+
+        insertHoldings(connection, userId, positions, now);
+        insertTransactions(connection, userId, positions, now);
+        insertPolicy(connection, userId, positions);
+    }
+
+    private Set<SyntheticMarket.Instrument> pickInstruments(Random random) {
+        List<SyntheticMarket.Instrument> all = market.instruments();
+        int count = Math.min(config.holdingsPerUser, all.size());
+        Set<SyntheticMarket.Instrument> picked = new LinkedHashSet<>(count * 2);
+        while (picked.size() < count) {
+            picked.add(all.get(random.nextInt(all.size())));
+        }
+        return picked;
+    }
+
+    /**
+     * Roughly monthly buys from a random start within the history window,
+     * an occasional partial sale and a yearly dividend
+     */
+    private Position simulateHistory(SyntheticMarket.Instrument instrument, Random random, LocalDate today) {
+        Position position = new Position(instrument);
+        int historyMonths = Math.max(1, config.historyYears * 12);
+        int startMonthsAgo = 1 + random.nextInt(historyMonths);
+
+        for (int monthsAgo = startMonthsAgo; monthsAgo >= 1; monthsAgo--) {
+            LocalDate date = today.minusMonths(monthsAgo).withDayOfMonth(1 + random.nextInt(28));
+            double price = SyntheticMarket.historicalPrice(
+                instrument.symbol(), monthsAgo, (random.nextDouble() - 0.5) * 0.1);
+
+            if (position.quantity == 0 || random.nextDouble() < 0.6) {
+                position.buy(date, price, 1 + random.nextInt(20));
+            } else if (random.nextDouble() < 0.08) {
+                position.sell(date, price, Math.max(1, position.quantity / 4));
+            }
+            if (monthsAgo % 12 == 0 && position.quantity > 0) {
+                position.dividend(date, price * 0.01);
+            }
+        }
+        return position;
+    }
+
+    private void insertHoldings(Connection connection, String userId, List<Position> positions, LocalDateTime now)
+            throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO holdings (user_id, asset_symbol, asset_name, exchange, quantity, avg_buy_price, "
+                    + "total_invested, current_price, current_value, unrealized_gain, unrealized_gain_percent, "
+                    + "asset_type, purchase_date, active, last_updated, created_at) "
+                    + "VALUES (?, ?, ?, 'NSE', ?, ?, ?, ?, ?, ?, ?, 'STOCK', ?, true, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+
+            for (Position position : positions) {
+                BigDecimal quantity = BigDecimal.valueOf(position.quantity);
+                BigDecimal avgPrice = amount(position.averageCost());
+                BigDecimal invested = amount(position.averageCost() * position.quantity);
+                BigDecimal currentPrice = amount(SyntheticMarket.currentPrice(position.instrument.symbol()));
+                BigDecimal currentValue = currentPrice.multiply(quantity).setScale(2, RoundingMode.HALF_UP);
+                BigDecimal gain = currentValue.subtract(invested);
+
+                statement.setString(1, userId);
+                statement.setString(2, position.instrument.symbol());
+                statement.setString(3, truncate(position.instrument.name(), 100));
+                statement.setBigDecimal(4, quantity);
+                statement.setBigDecimal(5, avgPrice);
+                statement.setBigDecimal(6, invested);
+                statement.setBigDecimal(7, currentPrice);
+                statement.setBigDecimal(8, currentValue);
+                statement.setBigDecimal(9, gain);
+                statement.setBigDecimal(10, invested.signum() > 0
+                    ? gain.multiply(new BigDecimal("100")).divide(invested, 4, RoundingMode.HALF_UP)
+                    : BigDecimal.ZERO);
+                statement.setDate(11, Date.valueOf(position.firstBuy));
+                statement.setTimestamp(12, Timestamp.valueOf(now));
+                statement.setTimestamp(13, Timestamp.valueOf(now));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                for (Position position : positions) {
+                    keys.next();
+                    position.holdingId = keys.getLong("id");
+                }
+            }
+        }
+        holdingRows += positions.size();
+    }
+
+    private void insertTransactions(Connection connection, String userId, List<Position> positions,
+                                    LocalDateTime now) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO transactions (user_id, holding_id, transaction_type, asset_type, asset_name, "
+                    + "asset_symbol, quantity, price_per_unit, total_amount, charges, net_amount, "
+                    + "transaction_date, notes, created_at) "
+                    + "VALUES (?, ?, ?, 'STOCK', ?, ?, ?, ?, ?, ?, ?, ?, 'Synthetic load-test data', ?)")) {
+
+            for (Position position : positions) {
+                for (Trade trade : position.trades) {
+                    BigDecimal quantity = BigDecimal.valueOf(trade.quantity);
+                    BigDecimal price = amount(trade.price);
+                    BigDecimal total = price.multiply(quantity).setScale(2, RoundingMode.HALF_UP);
+                    BigDecimal charges = "DIVIDEND".equals(trade.type)
+                        ? BigDecimal.ZERO
+                        : total.multiply(BROKERAGE_PERCENT).setScale(2, RoundingMode.HALF_UP);
+
+                    statement.setString(1, userId);
+                    statement.setLong(2, position.holdingId);
+                    statement.setString(3, trade.type);
+                    statement.setString(4, truncate(position.instrument.name(), 100));
+                    statement.setString(5, position.instrument.symbol());
+                    statement.setBigDecimal(6, quantity);
+                    statement.setBigDecimal(7, price);
+                    statement.setBigDecimal(8, total);
+                    statement.setBigDecimal(9, charges);
+                    statement.setBigDecimal(10, "BUY".equals(trade.type) ? total.add(charges) : total.subtract(charges));
+                    statement.setDate(11, Date.valueOf(trade.date));
+                    statement.setTimestamp(12, Timestamp.valueOf(now));
+                    statement.addBatch();
+                    transactionRows++;
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Equal-weight sector targets over the sectors the user holds, so the
+     * rebalance endpoint has real drift to work on
+     */
+    private void insertPolicy(Connection connection, String userId, List<Position> positions)
+            throws SQLException {
+
+        Set<String> sectors = new LinkedHashSet<>();
+        for (Position position : positions) {
+            sectors.add(truncate(position.instrument.industry(), 100));
+        }
+
+        long policyId;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO rebalance_policies (user_id, grouping, tolerance_band_percent, updated_at) "
+                    + "VALUES (?, 'SECTOR', 5.00, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            statement.setString(1, userId);
+            statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+                policyId = keys.getLong("id");
+            }
+        }
+
+        BigDecimal share = new BigDecimal("100").divide(BigDecimal.valueOf(sectors.size()), 2, RoundingMode.DOWN);
+        BigDecimal remainder = new BigDecimal("100").subtract(share.multiply(BigDecimal.valueOf(sectors.size())));
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO rebalance_policy_targets (policy_id, bucket, target_percent) VALUES (?, ?, ?)")) {
+            boolean first = true;
+            for (String sector : sectors) {
+                statement.setLong(1, policyId);
+                statement.setString(2, sector);
+                statement.setBigDecimal(3, first ? share.add(remainder) : share);
+                statement.addBatch();
+                first = false;
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String truncate(String value, int length) {
+        return value.length() <= length ? value : value.substring(0, length);
+    }
+
+    private record Trade(String type, LocalDate date, double price, long quantity) {
+    }
+
+    /**
+     * One holding's simulated history at average cost
+     */
+    private static final class Position {
+
+        final SyntheticMarket.Instrument instrument;
+        final List<Trade> trades = new ArrayList<>();
+        long quantity;
+        double cost;
+        LocalDate firstBuy;
+        long holdingId;
+
+        Position(SyntheticMarket.Instrument instrument) {
+            this.instrument = instrument;
+        }
+
+        void buy(LocalDate date, double price, long units) {
+            trades.add(new Trade("BUY", date, price, units));
+            quantity += units;
+            cost += price * units;
+            if (firstBuy == null) {
+                firstBuy = date;
+            }
+        }
+
+        void sell(LocalDate date, double price, long units) {
+            double average = averageCost();
+            trades.add(new Trade("SELL", date, price, units));
+            quantity -= units;
+            cost -= average * units;
+        }
+
+        void dividend(LocalDate date, double perUnit) {
+            trades.add(new Trade("DIVIDEND", date, perUnit, quantity));
+        }
+
+        double averageCost() {
+            return quantity > 0 ? cost / quantity : 0.0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.moneymatters.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NSE symbols from the Nifty 500 list with deterministic synthetic prices,
+ * shared by the seeder (buy prices) and the fake Yahoo (current prices) so
+ * portfolios show plausible gains.
+ */
+class SyntheticMarket {
+
+    record Instrument(String name, String industry, String symbol) {
+    }
+
+    private final List<Instrument> instruments;
+
+    SyntheticMarket(Path symbolFile) throws IOException {
+        List<Instrument> loaded = new ArrayList<>();
+        List<String> lines = Files.readAllLines(symbolFile, StandardCharsets.UTF_8);
+        for (int i = 1; i < lines.size(); i++) {   // Skip header
+            String[] columns = lines.get(i).split(",");
+            if (columns.length >= 3 && !columns[2].isBlank()) {
+                loaded.add(new Instrument(columns[0].trim(), columns[1].trim(), columns[2].trim()));
+            }
+        }
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("No symbols in " + symbolFile);
+        }
+        this.instruments = List.copyOf(loaded);
+    }
+
+    List<Instrument> instruments() {
+        return instruments;
+    }
+
+    /**
+     * Today's price, between ₹50 and ₹5000
+     */
+    static double currentPrice(String symbol) {
+        String base = symbol.contains(".") ? symbol.substring(0, symbol.indexOf('.')) : symbol;
+        int hash = base.hashCode() & 0x7fffffff;
+        return 50 + (hash % 495_000) / 100.0;
+    }
+
+    /**
+     * Price monthsAgo months back: ~12% a year of drift with a wobble
+     */
+    static double historicalPrice(String symbol, int monthsAgo, double noise) {
+        double drift = Math.pow(1.12, -monthsAgo / 12.0);
+        return Math.max(1.0, currentPrice(symbol) * drift * (1 + noise));
+    }
+}
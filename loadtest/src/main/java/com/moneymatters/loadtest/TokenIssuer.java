@@ -0,0 +1,87 @@
+package com.moneymatters.loadtest;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stands in for Clerk: signs RS256 JWTs with a throwaway key and publishes
+ * the matching JWK set, so the app validates load-test users exactly as it
+ * validates real ones (signature, issuer, expiry).
+ */
+class TokenIssuer {
+
+    private static final String KEY_ID = "loadtest";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final KeyPair keyPair;
+    private final String issuer;
+    private final long ttlSeconds;
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    TokenIssuer(String issuer, long ttlSeconds) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            this.keyPair = generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("RSA not available", e);
+        }
+        this.issuer = issuer;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * One token per user for the whole run, like a browser session
+     */
+    String tokenFor(String userId) {
+        return tokens.computeIfAbsent(userId, this::sign);
+    }
+
+    String jwkSetJson() {
+        RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+        return "{\"keys\":[{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"" + KEY_ID + "\""
+            + ",\"n\":\"" + unsigned(key.getModulus()) + "\""
+            + ",\"e\":\"" + unsigned(key.getPublicExponent()) + "\"}]}";
+    }
+
+    private String sign(String userId) {
+        long now = Instant.now().getEpochSecond();
+        String header = "{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"" + KEY_ID + "\"}";
+        String payload = "{\"iss\":\"" + issuer + "\",\"sub\":\"" + userId + "\""
+            + ",\"email\":\"" + userId + "@loadtest.local\""
+            + ",\"iat\":" + now + ",\"nbf\":" + (now - 60) + ",\"exp\":" + (now + ttlSeconds) + "}";
+
+        String signingInput = encode(header) + "." + encode(payload);
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyPair.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + BASE64_URL.encodeToString(signature.sign());
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not sign token", e);
+        }
+    }
+
+    private static String encode(String json) {
+        return BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // JWK integers are big-endian without the sign byte
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+}
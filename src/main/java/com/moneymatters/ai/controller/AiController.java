@@ -3,25 +3,39 @@ package com.moneymatters.ai.controller;
 import com.moneymatters.ai.dto.ExplainRequest;
 import com.moneymatters.ai.dto.ExplainResponse;
 import com.moneymatters.ai.dto.FollowupRequest;
+import com.moneymatters.ai.exception.AiUnavailableException;
 import com.moneymatters.ai.service.AiPortfolioAnalysisService;
 import com.moneymatters.ai.service.AiRateLimiter;
+import com.moneymatters.ai.service.ChatStream;
 import com.moneymatters.ai.service.NemotronService;
 import com.moneymatters.ai.service.PromptBuilder;
 import com.moneymatters.common.dto.ApiResponse;
 import com.moneymatters.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/v1/ai")
 @RequiredArgsConstructor
 public class AiController {
 
+    /**
+     * Upper bound on one streamed answer; generation normally ends well inside it
+     */
+    private static final long STREAM_TIMEOUT_MS = 120_000;
+
     private final NemotronService nemotron;
     private final PromptBuilder prompts;
     private final AiPortfolioAnalysisService portfolioAi;
@@ -74,10 +88,100 @@ public class AiController {
             "OK"));
     }
 
+    // ============================================================
+    // Streaming (Server-Sent Events)
+    //
+    // Same prompts and rate limit as above, but the answer is relayed as it
+    // is generated: "token" events carry {"text"} pieces, then one "done"
+    // event carries {"remainingRequests"}, or an "error" event {"message"}.
+    // The request thread is released as soon as the stream is set up.
+    // ============================================================
+
+    @PostMapping("/explain-calculator/stream")
+    public SseEmitter explainCalculatorStream(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestBody ExplainRequest req) {
+        String userId = jwt.getSubject();
+        rateLimiter.checkAndConsume(userId);
+
+        String system = prompts.calculatorSystem();
+        String user = prompts.buildCalculatorPrompt(req.getType(), req.getInputs(), req.getResult());
+        return relay(userId, onToken -> nemotron.streamChat(system, user, onToken));
+    }
+
+    @PostMapping("/analyse-portfolio/stream")
+    public SseEmitter analysePortfolioStream(@AuthenticationPrincipal Jwt jwt) {
+        String userId = jwt.getSubject();
+        String email = jwt.getClaimAsString("email");
+        userService.ensureUserExists(userId, email);
+        rateLimiter.checkAndConsume(userId);
+
+        return relay(userId, onToken -> portfolioAi.streamAnalyse(userId, onToken));
+    }
+
+    @PostMapping("/followup/stream")
+    public SseEmitter followupStream(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestBody FollowupRequest req) {
+        String userId = jwt.getSubject();
+        rateLimiter.checkAndConsume(userId);
+
+        String system = prompts.followupSystem(req.getTopic());
+        String user = prompts.buildFollowupPrompt(req.getContext(), req.getQuestion());
+        return relay(userId, onToken -> nemotron.streamChat(system, user, onToken));
+    }
+
     @GetMapping("/quota")
     public ResponseEntity<ApiResponse<Map<String, Integer>>> quota(@AuthenticationPrincipal Jwt jwt) {
         return ResponseEntity.ok(new ApiResponse<>(true,
             Map.of("remaining", rateLimiter.remaining(jwt.getSubject())),
             "OK"));
     }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private SseEmitter relay(String userId, Function<Consumer<String>, ChatStream> generation) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        ChatStream stream = generation.apply(token -> send(emitter, "token", Map.of("text", token)));
+
+        // Browser gone, timeout or a failed write: stop NIM generating for nobody.
+        // Also runs after a normal completion, where cancel is a no-op.
+        emitter.onTimeout(stream::cancel);
+        emitter.onError(error -> stream.cancel());
+        emitter.onCompletion(stream::cancel);
+
+        stream.result().whenComplete((text, error) -> {
+            try {
+                if (error == null) {
+                    send(emitter, "done", Map.of("remainingRequests", rateLimiter.remaining(userId)));
+                } else {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (!(cause instanceof AiUnavailableException)) {
+                        // The browser went away mid-stream or the emitter timed out;
+                        // nobody is left to tell
+                        emitter.completeWithError(cause);
+                        return;
+                    }
+                    send(emitter, "error", Map.of("message", cause.getMessage()));
+                }
+                emitter.complete();
+            } catch (RuntimeException e) {
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * JSON payloads keep newlines in the model's text from breaking SSE framing
+     */
+    private static void send(SseEmitter emitter, String event, Map<String, Object> data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.moneymatters.ai.exception;
+
+/**
+ * The model could not produce an answer. The message is safe to show to
+ * the user; the cause, if any, is for the logs.
+ */
+public class AiUnavailableException extends RuntimeException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+
+    public AiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
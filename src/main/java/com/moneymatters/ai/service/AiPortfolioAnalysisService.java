@@ -7,30 +7,78 @@ import com.moneymatters.portfolio.service.PortfolioAnalyticsService;
 import com.moneymatters.portfolio.service.StockPriceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AiPortfolioAnalysisService {
 
+    private static final String CACHE = "aiPortfolioAnalysis";
+    private static final String EMPTY_PORTFOLIO =
+        "Your portfolio is empty. Add some holdings first, then come back for an AI analysis.";
+
     private final HoldingRepository holdingRepo;
     private final PortfolioAnalyticsService analyticsService;
     private final StockPriceService stockPrice;
     private final MarketFundamentalsService fundamentals;
     private final PromptBuilder prompts;
     private final NemotronService nemotron;
+    private final CacheManager cacheManager;
 
-    @Cacheable(value = "aiPortfolioAnalysis", key = "#userId")
+    @Cacheable(value = CACHE, key = "#userId")
     public String analyse(String userId) {
+        String user = buildUserPrompt(userId);
+        if (user == null) {
+            return EMPTY_PORTFOLIO;
+        }
+        return nemotron.chat(prompts.portfolioSystem(), user);
+    }
+
+    /**
+     * Streaming form of {@link #analyse}, sharing its cache: a cached analysis
+     * is sent as a single token, and a freshly streamed one is cached once
+     * it has arrived in full. The prompt is assembled on the calling thread
+     * before the stream starts.
+     */
+    public ChatStream streamAnalyse(String userId, Consumer<String> onToken) {
+        Cache cache = cacheManager.getCache(CACHE);
+        String cached = cache == null ? null : cache.get(userId, String.class);
+        if (cached != null) {
+            onToken.accept(cached);
+            return ChatStream.completed(cached);
+        }
+
+        String user = buildUserPrompt(userId);
+        if (user == null) {
+            onToken.accept(EMPTY_PORTFOLIO);
+            return ChatStream.completed(EMPTY_PORTFOLIO);
+        }
+        return nemotron.streamChat(prompts.portfolioSystem(), user, onToken)
+            .thenApply(analysis -> {
+                if (cache != null) {
+                    cache.put(userId, analysis);
+                }
+                return analysis;
+            });
+    }
+
+    /**
+     * Holdings, their fundamentals and the portfolio analytics as a prompt,
+     * or null when the user holds nothing
+     */
+    private String buildUserPrompt(String userId) {
         List<Holding> holdings = holdingRepo.findActiveHoldingsByClerkUserId(userId);
         if (holdings.isEmpty()) {
-            return "Your portfolio is empty. Add some holdings first, then come back for an AI analysis.";
+            return null;
         }
 
         List<Map<String, Object>> enriched = new ArrayList<>();
@@ -50,8 +98,6 @@ public class AiPortfolioAnalysisService {
         } catch (Exception e) {
             log.warn("Analytics fetch failed for {}: {}", userId, e.getMessage());
         }
-        String system = prompts.portfolioSystem();
-        String user = prompts.buildPortfolioPrompt(holdings, enriched, analytics);
-        return nemotron.chat(system, user);
+        return prompts.buildPortfolioPrompt(holdings, enriched, analytics);
     }
 }
@@ -0,0 +1,54 @@
+package com.moneymatters.ai.service;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A streamed completion in flight: the future for its full text plus a way
+ * to stop it. Cancelling a dependent of the future (thenApply, ...) does
+ * not reach the HTTP exchange, so callers that stop listening - the
+ * browser went away, the SSE timeout fired - must call {@link #cancel}.
+ */
+public final class ChatStream {
+
+    private final CompletableFuture<String> result;
+    private final Runnable onCancel;
+
+    ChatStream(CompletableFuture<String> result, Runnable onCancel) {
+        this.result = result;
+        this.onCancel = onCancel;
+    }
+
+    /**
+     * A stream that has already finished with this text
+     */
+    public static ChatStream completed(String text) {
+        return new ChatStream(CompletableFuture.completedFuture(text), () -> { });
+    }
+
+    /**
+     * Completes with the full text, or exceptionally with an
+     * AiUnavailableException, the consumer's exception, or a
+     * CancellationException after {@link #cancel}
+     */
+    public CompletableFuture<String> result() {
+        return result;
+    }
+
+    /**
+     * Same stream, with the full text transformed once it has arrived
+     */
+    public ChatStream thenApply(Function<String, String> fn) {
+        return new ChatStream(result.thenApply(fn), this::cancel);
+    }
+
+    /**
+     * Stops the upstream generation; a no-op once the stream has finished
+     */
+    public void cancel() {
+        if (result.completeExceptionally(new CancellationException("Stream cancelled"))) {
+            onCancel.run();
+        }
+    }
+}
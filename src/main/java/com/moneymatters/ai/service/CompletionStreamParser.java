@@ -0,0 +1,76 @@
+package com.moneymatters.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads a streamed chat completion one server-sent-event line at a time.
+ * Every "data:" line is a JSON chunk whose text is in
+ * choices[0].delta.content; with stream_options.include_usage the last
+ * chunk before "data: [DONE]" has no choices and carries the usage block.
+ */
+@Slf4j
+class CompletionStreamParser {
+
+    private static final String DATA = "data:";
+    private static final String DONE = "[DONE]";
+
+    private final ObjectMapper mapper;
+    private final StringBuilder text = new StringBuilder();
+    private JsonNode usage = MissingNode.getInstance();
+    private boolean done;
+
+    CompletionStreamParser(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return the text the line adds to the completion, or null if it adds none
+     */
+    String accept(String line) {
+        // Blank event separators, ": keep-alive" comments and anything after [DONE]
+        if (done || !line.startsWith(DATA)) {
+            return null;
+        }
+        String data = line.substring(DATA.length()).trim();
+        if (DONE.equals(data)) {
+            done = true;
+            return null;
+        }
+
+        JsonNode chunk;
+        try {
+            chunk = mapper.readTree(data);
+        } catch (Exception e) {
+            log.warn("Skipping malformed completion chunk: {}", data);
+            return null;
+        }
+        JsonNode chunkUsage = chunk.path("usage");
+        if (chunkUsage.isObject()) {
+            usage = chunkUsage;
+        }
+        String delta = chunk.path("choices").path(0).path("delta").path("content").asText("");
+        if (delta.isEmpty()) {
+            return null;
+        }
+        text.append(delta);
+        return delta;
+    }
+
+    /**
+     * Everything received so far
+     */
+    String text() {
+        return text.toString();
+    }
+
+    JsonNode usage() {
+        return usage;
+    }
+
+    boolean done() {
+        return done;
+    }
+}
@@ -2,7 +2,11 @@ package com.moneymatters.ai.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneymatters.common.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -19,11 +23,12 @@ import java.util.Map;
  * Separate from StockPriceService which only does price/chart data.
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class MarketFundamentalsService {
 
-    private static final String SUMMARY_URL =
-        "https://query1.finance.yahoo.com/v10/finance/quoteSummary/%s"
+    private static final String SUMMARY_PATH =
+        "/v10/finance/quoteSummary/%s"
         + "?modules=price,defaultKeyStatistics,financialData,summaryDetail,assetProfile";
     private static final String USER_AGENT =
         "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
@@ -31,17 +36,29 @@ public class MarketFundamentalsService {
     private final ObjectMapper mapper = new ObjectMapper();
     private final HttpClient http = HttpClient.newBuilder()
         .connectTimeout(Duration.ofSeconds(10)).build();
+    private final UpstreamMetrics upstreamMetrics;
+
+    @Value("${app.market-data.yahoo-base-url:https://query1.finance.yahoo.com}")
+    private String yahooBaseUrl;
 
     @Cacheable(value = "stockFundamentals", key = "#yahooSymbol")
     public Map<String, Object> getFundamentals(String yahooSymbol) {
         Map<String, Object> out = new LinkedHashMap<>();
         try {
             HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create(String.format(SUMMARY_URL, yahooSymbol)))
+                .uri(URI.create(yahooBaseUrl + String.format(SUMMARY_PATH, yahooSymbol)))
                 .timeout(Duration.ofSeconds(15))
                 .header("User-Agent", USER_AGENT)
                 .GET().build();
-            HttpResponse<String> res = http.send(req, HttpResponse.BodyHandlers.ofString());
+            Timer.Sample sample = upstreamMetrics.start();
+            HttpResponse<String> res;
+            try {
+                res = http.send(req, HttpResponse.BodyHandlers.ofString());
+            } catch (Exception e) {
+                upstreamMetrics.record(sample, "yahoo", "quoteSummary", UpstreamMetrics.NO_RESPONSE);
+                throw e;
+            }
+            upstreamMetrics.record(sample, "yahoo", "quoteSummary", res.statusCode());
             if (res.statusCode() != 200) {
                 log.warn("Yahoo fundamentals returned {} for {}", res.statusCode(), yahooSymbol);
                 return out;
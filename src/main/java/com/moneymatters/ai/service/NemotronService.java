@@ -3,6 +3,11 @@ package com.moneymatters.ai.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.moneymatters.ai.config.NvidiaProperties;
+import com.moneymatters.ai.exception.AiUnavailableException;
+import com.moneymatters.common.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,63 +16,251 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class NemotronService {
 
+    private static final String NOT_CONFIGURED = "AI is not configured on this server. Please set NVIDIA_API_KEY.";
+    private static final String UNAVAILABLE = "AI analysis temporarily unavailable. Please try again in a moment.";
+    private static final String EMPTY = "AI returned an empty response. Please try again.";
+
     private final NvidiaProperties props;
+    private final UpstreamMetrics upstreamMetrics;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper mapper = new ObjectMapper();
     private final HttpClient client = HttpClient.newBuilder()
         .connectTimeout(Duration.ofSeconds(10))
         .build();
 
     public String chat(String systemPrompt, String userPrompt) {
-        if (props.getApiKey() == null || props.getApiKey().isBlank()) {
-            log.warn("NVIDIA API key not configured");
-            return "AI is not configured on this server. Please set NVIDIA_API_KEY.";
+        if (!configured()) {
+            return NOT_CONFIGURED;
         }
 
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("model", props.getModel());
-        body.put("messages", List.of(
-            Map.of("role", "system", "content", systemPrompt),
-            Map.of("role", "user", "content", userPrompt)
-        ));
-        body.put("temperature", props.getTemperature());
-        body.put("max_tokens", props.getMaxTokens());
-
         try {
-            String payload = mapper.writeValueAsString(body);
-            HttpRequest req = HttpRequest.newBuilder()
-                .uri(URI.create(props.getApiUrl()))
-                .timeout(Duration.ofSeconds(60))
-                .header("Authorization", "Bearer " + props.getApiKey())
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(payload))
-                .build();
-
-            HttpResponse<String> res = client.send(req, HttpResponse.BodyHandlers.ofString());
+            HttpRequest req = request(requestBody(systemPrompt, userPrompt), "application/json");
+
+            Timer.Sample sample = upstreamMetrics.start();
+            HttpResponse<String> res;
+            try {
+                res = client.send(req, HttpResponse.BodyHandlers.ofString());
+            } catch (Exception e) {
+                upstreamMetrics.record(sample, "nvidia", "chat", UpstreamMetrics.NO_RESPONSE);
+                throw e;
+            }
+            upstreamMetrics.record(sample, "nvidia", "chat", res.statusCode());
+
             if (res.statusCode() >= 400) {
                 log.error("Nemotron error {}: {}", res.statusCode(), res.body());
-                return "AI service returned an error (HTTP " + res.statusCode() + "). Please try again shortly.";
+                return httpError(res.statusCode());
             }
             JsonNode root = mapper.readTree(res.body());
+            recordTokens(root.path("usage"));
             JsonNode choice = root.path("choices").get(0);
             if (choice == null || choice.isMissingNode()) {
                 return "AI returned no response. Please try again.";
             }
             String content = choice.path("message").path("content").asText("");
-            return content.isBlank() ? "AI returned an empty response. Please try again." : content;
+            return content.isBlank() ? EMPTY : content;
         } catch (Exception e) {
             log.error("Nemotron call failed", e);
-            return "AI analysis temporarily unavailable. Please try again in a moment.";
+            return UNAVAILABLE;
         }
     }
+
+    /**
+     * Same completion as {@link #chat} but requested with stream: true, so
+     * each piece of text is handed to onToken as the model produces it.
+     * Nothing blocks while the model generates: the stream's result completes
+     * on the HTTP client's threads with the full text, or exceptionally with
+     * an {@link AiUnavailableException} whose message can be shown to the
+     * user. If onToken throws, or the caller cancels the returned stream, the
+     * upstream request is cancelled so NIM stops generating.
+     */
+    public ChatStream streamChat(String systemPrompt, String userPrompt, Consumer<String> onToken) {
+        if (!configured()) {
+            onToken.accept(NOT_CONFIGURED);
+            return ChatStream.completed(NOT_CONFIGURED);
+        }
+
+        Map<String, Object> body = requestBody(systemPrompt, userPrompt);
+        body.put("stream", true);
+        body.put("stream_options", Map.of("include_usage", true));
+        HttpRequest req;
+        try {
+            req = request(body, "text/event-stream");
+        } catch (Exception e) {
+            log.error("Nemotron stream request could not be built", e);
+            return new ChatStream(CompletableFuture.failedFuture(new AiUnavailableException(UNAVAILABLE, e)), () -> { });
+        }
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletionStreamParser parser = new CompletionStreamParser(mapper);
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        Flow.Subscriber<String> lines = new Flow.Subscriber<>() {
+            private final long start = System.nanoTime();
+            private boolean first = true;
+
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+                if (result.isDone()) {
+                    // Cancelled before the body started
+                    s.cancel();
+                    return;
+                }
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(String line) {
+                String delta = parser.accept(line);
+                if (delta == null || result.isDone()) {
+                    return;
+                }
+                if (first) {
+                    first = false;
+                    firstTokenTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                try {
+                    onToken.accept(delta);
+                } catch (RuntimeException e) {
+                    log.debug("Stream consumer failed, cancelling completion: {}", e.getMessage());
+                    subscription.get().cancel();
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                // Surfaces through the sendAsync future
+            }
+
+            @Override
+            public void onComplete() {
+                // Surfaces through the sendAsync future
+            }
+        };
+
+        // Error responses are plain JSON, so read those whole for the log
+        HttpResponse.BodyHandler<String> handler = info -> info.statusCode() >= 400
+            ? HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8)
+            : HttpResponse.BodySubscribers.fromLineSubscriber(lines, s -> null, StandardCharsets.UTF_8, null);
+
+        Timer.Sample sample = upstreamMetrics.start();
+        CompletableFuture<HttpResponse<String>> exchange = client.sendAsync(req, handler);
+        exchange.whenComplete((res, error) -> {
+            upstreamMetrics.record(sample, "nvidia", "chat-stream",
+                res == null ? UpstreamMetrics.NO_RESPONSE : res.statusCode());
+            if (result.isDone()) {
+                return;
+            }
+            if (error != null) {
+                log.error("Nemotron stream failed", error);
+                result.completeExceptionally(new AiUnavailableException(UNAVAILABLE, error));
+            } else if (res.statusCode() >= 400) {
+                log.error("Nemotron error {}: {}", res.statusCode(), res.body());
+                result.completeExceptionally(new AiUnavailableException(httpError(res.statusCode())));
+            } else {
+                recordTokens(parser.usage());
+                String text = parser.text();
+                if (text.isBlank()) {
+                    result.completeExceptionally(new AiUnavailableException(EMPTY));
+                } else {
+                    result.complete(text);
+                }
+            }
+        });
+
+        return new ChatStream(result, () -> {
+            // Once the body is flowing, cancelling the subscription closes the
+            // connection; before that only the exchange future can abort it
+            Flow.Subscription s = subscription.get();
+            if (s != null) {
+                s.cancel();
+            }
+            exchange.cancel(true);
+        });
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private boolean configured() {
+        if (props.getApiKey() == null || props.getApiKey().isBlank()) {
+            log.warn("NVIDIA API key not configured");
+            return false;
+        }
+        return true;
+    }
+
+    private Map<String, Object> requestBody(String systemPrompt, String userPrompt) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("model", props.getModel());
+        body.put("messages", List.of(
+            Map.of("role", "system", "content", systemPrompt),
+            Map.of("role", "user", "content", userPrompt)
+        ));
+        body.put("temperature", props.getTemperature());
+        body.put("max_tokens", props.getMaxTokens());
+        return body;
+    }
+
+    /**
+     * The timeout covers the wait for response headers; a stream may run
+     * past it once the first bytes have arrived
+     */
+    private HttpRequest request(Map<String, Object> body, String accept) throws Exception {
+        return HttpRequest.newBuilder()
+            .uri(URI.create(props.getApiUrl()))
+            .timeout(Duration.ofSeconds(60))
+            .header("Authorization", "Bearer " + props.getApiKey())
+            .header("Content-Type", "application/json")
+            .header("Accept", accept)
+            .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+            .build();
+    }
+
+    private static String httpError(int status) {
+        return "AI service returned an error (HTTP " + status + "). Please try again shortly.";
+    }
+
+    /**
+     * Prompt and completion tokens billed for a call, from the response's usage block
+     */
+    private void recordTokens(JsonNode usage) {
+        if (usage.isMissingNode()) {
+            return;
+        }
+        tokenCounter("prompt").increment(usage.path("prompt_tokens").asLong(0));
+        tokenCounter("completion").increment(usage.path("completion_tokens").asLong(0));
+    }
+
+    private Counter tokenCounter(String type) {
+        return Counter.builder("nvidia.tokens")
+            .description("Tokens used by NVIDIA NIM chat completions")
+            .tag("model", props.getModel())
+            .tag("type", type)
+            .register(meterRegistry);
+    }
+
+    private Timer firstTokenTimer() {
+        return Timer.builder("nvidia.first.token")
+            .description("Time from sending a streamed completion to its first token")
+            .tag("model", props.getModel())
+            .register(meterRegistry);
+    }
 }
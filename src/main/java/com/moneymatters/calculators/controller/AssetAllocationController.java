@@ -34,4 +34,20 @@ public class AssetAllocationController {
 
         return ResponseEntity.ok(apiResponse);
     }
+
+    @PostMapping("/optimize")
+    public ResponseEntity<ApiResponse<RebalanceOptimizationResponse>> optimizeRebalancing(
+            @Valid @RequestBody RebalanceOptimizationRequest request) {
+
+        log.info("Optimizing rebalance of {} positions with a {}% band",
+            request.getPositions().size(), request.getToleranceBandPercent());
+
+        RebalanceOptimizationResponse response =
+            assetAllocationService.optimizeRebalancing(request);
+
+        ApiResponse<RebalanceOptimizationResponse> apiResponse =
+            new ApiResponse<>(true, response, "Rebalance optimization completed");
+
+        return ResponseEntity.ok(apiResponse);
+    }
 }
@@ -0,0 +1,43 @@
+package com.moneymatters.calculators.controller;
+
+import com.moneymatters.calculators.dto.BatchCalculationRequest;
+import com.moneymatters.calculators.dto.BatchCalculationResponse;
+import com.moneymatters.calculators.dto.ResponseShape;
+import com.moneymatters.calculators.service.CalculatorBatchService;
+import com.moneymatters.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/calculators/batch")
+@RequiredArgsConstructor
+@Slf4j
+public class BatchController {
+
+    private final CalculatorBatchService calculatorBatchService;
+
+    /**
+     * Evaluates up to 20 SIP / SWP / loan / retirement calculations in one
+     * round trip. view and chartPoints apply to loan and SWP items.
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<BatchCalculationResponse>> calculateBatch(
+            @Valid @RequestBody BatchCalculationRequest request,
+            @RequestParam(required = false) ResponseShape.ScheduleView view,
+            @RequestParam(required = false) @Min(2) Integer chartPoints) {
+
+        log.info("Received batch of {} calculations", request.getItems().size());
+
+        BatchCalculationResponse response = calculatorBatchService.evaluate(
+            request, ResponseShape.of(view, null, null, chartPoints));
+
+        ApiResponse<BatchCalculationResponse> apiResponse =
+            new ApiResponse<>(true, response, "Batch calculation completed");
+
+        return ResponseEntity.ok(apiResponse);
+    }
+}
@@ -2,6 +2,7 @@ package com.moneymatters.calculators.controller;
 
 import com.moneymatters.calculators.dto.CashflowRequest;
 import com.moneymatters.calculators.dto.CashflowResponse;
+import com.moneymatters.calculators.service.CalculatorResultCache;
 import com.moneymatters.calculators.service.CashflowPlannerService;
 import com.moneymatters.common.dto.ApiResponse;
 import jakarta.validation.Valid;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class CashflowController {
 
     private final CashflowPlannerService cashflowPlannerService;
+    private final CalculatorResultCache calculatorResultCache;
 
     @PostMapping("/project")
     public ResponseEntity<ApiResponse<CashflowResponse>> projectCashflow(
@@ -27,7 +29,8 @@ public class CashflowController {
             request.getExpenses().size(),
             request.getProjectionYears());
 
-        CashflowResponse response = cashflowPlannerService.projectCashflow(request);
+        CashflowResponse response = calculatorResultCache.get(
+            "cashflow", () -> cashflowPlannerService.projectCashflow(request), request);
 
         ApiResponse<CashflowResponse> apiResponse =
             new ApiResponse<>(true, response, "Cashflow projection completed successfully");
@@ -0,0 +1,35 @@
+package com.moneymatters.calculators.controller;
+
+import com.moneymatters.calculators.dto.GoalSeekRequest;
+import com.moneymatters.calculators.dto.GoalSeekResponse;
+import com.moneymatters.calculators.service.GoalSeekService;
+import com.moneymatters.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/calculators/goal-seek")
+@RequiredArgsConstructor
+@Slf4j
+public class GoalSeekController {
+
+    private final GoalSeekService goalSeekService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<GoalSeekResponse>> solve(
+            @Valid @RequestBody GoalSeekRequest request) {
+
+        log.info("Goal seek: {} for {} = {}",
+            request.getCalculator(), request.getSolveFor(), request.getTarget());
+
+        GoalSeekResponse response = goalSeekService.solve(request);
+
+        ApiResponse<GoalSeekResponse> apiResponse =
+            new ApiResponse<>(true, response, "Goal seek solved");
+
+        return ResponseEntity.ok(apiResponse);
+    }
+}
@@ -0,0 +1,37 @@
+package com.moneymatters.calculators.controller;
+
+import com.moneymatters.calculators.dto.LifePlanRequest;
+import com.moneymatters.calculators.dto.LifePlanResponse;
+import com.moneymatters.calculators.service.CalculatorResultCache;
+import com.moneymatters.calculators.service.LifePlanService;
+import com.moneymatters.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/calculators/life-plan")
+@RequiredArgsConstructor
+@Slf4j
+public class LifePlanController {
+
+    private final LifePlanService lifePlanService;
+    private final CalculatorResultCache calculatorResultCache;
+
+    @PostMapping("/evaluate")
+    public ResponseEntity<ApiResponse<LifePlanResponse>> evaluatePlan(
+            @Valid @RequestBody LifePlanRequest request) {
+
+        log.info("Evaluating life plan over {} years", request.getHorizonYears());
+
+        LifePlanResponse response = calculatorResultCache.get(
+            "life-plan", () -> lifePlanService.evaluatePlan(request), request);
+
+        ApiResponse<LifePlanResponse> apiResponse =
+            new ApiResponse<>(true, response, "Life plan evaluated successfully");
+
+        return ResponseEntity.ok(apiResponse);
+    }
+}
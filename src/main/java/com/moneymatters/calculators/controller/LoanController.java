@@ -5,9 +5,17 @@ import com.moneymatters.calculators.dto.LoanAnalysisRequest;
 import com.moneymatters.calculators.dto.LoanAnalysisResponse;
 import com.moneymatters.calculators.dto.LoanComparisonRequest;
 import com.moneymatters.calculators.dto.LoanComparisonResponse;
+import com.moneymatters.calculators.dto.LoanOptimizationRequest;
+import com.moneymatters.calculators.dto.LoanOptimizationResponse;
+import com.moneymatters.calculators.dto.ResponseShape;
+import com.moneymatters.calculators.service.CalculatorBatchService;
+import com.moneymatters.calculators.service.CalculatorResultCache;
 import com.moneymatters.calculators.service.LoanAnalyzerService;
+import com.moneymatters.calculators.service.LoanOptimizerService;
 import com.moneymatters.common.dto.ApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -22,17 +30,30 @@ import java.util.List;
 public class LoanController {
 
     private final LoanAnalyzerService loanAnalyzerService;
-
+    private final LoanOptimizerService loanOptimizerService;
+    private final CalculatorBatchService calculatorBatchService;
+    private final CalculatorResultCache calculatorResultCache;
+
+    /**
+     * view=SUMMARY|YEARLY|MONTHLY (default FULL) trims the schedule;
+     * offset/limit page MONTHLY rows, chartPoints caps each chart series.
+     */
     @PostMapping("/analyze")
     public ResponseEntity<ApiResponse<LoanAnalysisResponse>> analyzeLoan(
-            @Valid @RequestBody LoanAnalysisRequest request) {
+            @Valid @RequestBody LoanAnalysisRequest request,
+            @RequestParam(required = false) ResponseShape.ScheduleView view,
+            @RequestParam(required = false) @Min(0) Integer offset,
+            @RequestParam(required = false) @Min(1) @Max(ResponseShape.MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(required = false) @Min(2) Integer chartPoints) {
 
         log.info("Received loan analysis request: Principal={}, Rate={}, Tenure={}",
             request.getPrincipal(), 
             request.getAnnualInterestRatePercent(), 
             request.getTenureMonths());
 
-        LoanAnalysisResponse response = loanAnalyzerService.analyzeLoan(request);
+        ResponseShape shape = ResponseShape.of(view, offset, limit, chartPoints);
+        LoanAnalysisResponse response = calculatorResultCache.get(
+            "loan", () -> loanAnalyzerService.analyzeLoan(request, shape), request, shape);
 
         ApiResponse<LoanAnalysisResponse> apiResponse =
             new ApiResponse<>(true, response, "Loan analysis completed successfully");
@@ -45,9 +66,10 @@ public ResponseEntity<ApiResponse<LoanComparisonResponse>> compareLoans(
 
     log.info("Comparing {} loan options", request.getLoanOptions().size());
 
-    List<LoanAnalysisResponse> analyses = request.getLoanOptions().stream()
-        .map(loanAnalyzerService::analyzeLoan)
-        .toList();
+    // Options are independent; analyse them concurrently, results stay in request order
+    ResponseShape shape = ResponseShape.full();
+    List<LoanAnalysisResponse> analyses = calculatorBatchService.evaluateAll(
+        "loan", request.getLoanOptions(), option -> loanAnalyzerService.analyzeLoan(option, shape), shape);
 
     // Find best option (lowest total interest)
     LoanAnalysisResponse bestLoan = analyses.stream()
@@ -75,4 +97,23 @@ public ResponseEntity<ApiResponse<LoanComparisonResponse>> compareLoans(
     return ResponseEntity.ok(apiResponse);
 }
 
+    @PostMapping("/optimize")
+    public ResponseEntity<ApiResponse<LoanOptimizationResponse>> optimizeLoan(
+            @Valid @RequestBody LoanOptimizationRequest request) {
+
+        log.info("Optimizing prepayments: Principal={}, Rate={}, Tenure={}, Surplus={}, Objective={}",
+            request.getPrincipal(),
+            request.getAnnualInterestRatePercent(),
+            request.getTenureMonths(),
+            request.getMonthlySurplus(),
+            request.getObjective());
+
+        LoanOptimizationResponse response = calculatorResultCache.get(
+            "loan-optimize", () -> loanOptimizerService.optimize(request), request);
+
+        ApiResponse<LoanOptimizationResponse> apiResponse =
+            new ApiResponse<>(true, response, "Loan optimization completed");
+
+        return ResponseEntity.ok(apiResponse);
+    }
 }
@@ -2,6 +2,9 @@ package com.moneymatters.calculators.controller;
 
 import com.moneymatters.calculators.dto.RetirementPlanRequest;
 import com.moneymatters.calculators.dto.RetirementPlanResponse;
+import com.moneymatters.calculators.dto.RetirementSimulationRequest;
+import com.moneymatters.calculators.dto.RetirementSimulationResponse;
+import com.moneymatters.calculators.service.CalculatorResultCache;
 import com.moneymatters.calculators.service.RetirementPlannerService;
 import com.moneymatters.common.dto.ApiResponse;
 import jakarta.validation.Valid;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class RetirementController {
 
     private final RetirementPlannerService retirementPlannerService;
+    private final CalculatorResultCache calculatorResultCache;
 
     @PostMapping("/plan")
     public ResponseEntity<ApiResponse<RetirementPlanResponse>> calculatePlan(
@@ -25,13 +29,28 @@ public class RetirementController {
         log.info("Received retirement plan request for age {} retiring at {}",
             request.getCurrentAge(), request.getRetirementAge());
 
-        RetirementPlanResponse response = 
-            retirementPlannerService.calculateRetirementPlan(request);
+        RetirementPlanResponse response = calculatorResultCache.get(
+            "retirement", () -> retirementPlannerService.calculateRetirementPlan(request), request);
 
         ApiResponse<RetirementPlanResponse> apiResponse =
             new ApiResponse<>(true, response, "Retirement plan calculated successfully");
 
         return ResponseEntity.ok(apiResponse);
     }
-}
 
+    @PostMapping("/simulate")
+    public ResponseEntity<ApiResponse<RetirementSimulationResponse>> simulatePlan(
+            @Valid @RequestBody RetirementSimulationRequest request) {
+
+        log.info("Received retirement simulation request: {} paths, {}",
+            request.getSimulations(), request.getDistribution());
+
+        RetirementSimulationResponse response =
+            retirementPlannerService.simulateRetirementPlan(request);
+
+        ApiResponse<RetirementSimulationResponse> apiResponse =
+            new ApiResponse<>(true, response, "Retirement simulation completed");
+
+        return ResponseEntity.ok(apiResponse);
+    }
+}
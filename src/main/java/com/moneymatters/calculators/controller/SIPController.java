@@ -1,7 +1,10 @@
 package com.moneymatters.calculators.controller;
 
+import com.moneymatters.calculators.dto.SIPGoalRequest;
+import com.moneymatters.calculators.dto.SIPGoalResponse;
 import com.moneymatters.calculators.dto.SIPStepupRequest;
 import com.moneymatters.calculators.dto.SIPStepupResponse;
+import com.moneymatters.calculators.service.CalculatorResultCache;
 import com.moneymatters.calculators.service.SIPCalculatorService;
 import com.moneymatters.common.dto.ApiResponse;
 import jakarta.validation.Valid;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class SIPController {
 
     private final SIPCalculatorService sipCalculatorService;
+    private final CalculatorResultCache calculatorResultCache;
 
     @PostMapping("/calculate")
     public ResponseEntity<ApiResponse<SIPStepupResponse>> calculateStepup(
@@ -24,11 +28,27 @@ public class SIPController {
 
         log.info("Received SIP Step-up calculation request: {}", request);
 
-        SIPStepupResponse response = sipCalculatorService.calculateStepupSIP(request);
+        SIPStepupResponse response = calculatorResultCache.get(
+            "sip", () -> sipCalculatorService.calculateStepupSIP(request), request);
 
         ApiResponse<SIPStepupResponse> apiResponse =
                 new ApiResponse<>(true, response, "SIP Step-up calculation successful");
 
         return ResponseEntity.ok(apiResponse);
     }
+
+    @PostMapping("/goal")
+    public ResponseEntity<ApiResponse<SIPGoalResponse>> solveGoal(
+            @Valid @RequestBody SIPGoalRequest request) {
+
+        log.info("Received SIP goal request: {}", request);
+
+        SIPGoalResponse response = calculatorResultCache.get(
+            "sip-goal", () -> sipCalculatorService.solveGoal(request), request);
+
+        ApiResponse<SIPGoalResponse> apiResponse =
+                new ApiResponse<>(true, response, "SIP goal solved");
+
+        return ResponseEntity.ok(apiResponse);
+    }
 }
@@ -1,10 +1,16 @@
 package com.moneymatters.calculators.controller;
 
+import com.moneymatters.calculators.dto.ResponseShape;
 import com.moneymatters.calculators.dto.SWPRequest;
 import com.moneymatters.calculators.dto.SWPResponse;
+import com.moneymatters.calculators.dto.SWPSimulationRequest;
+import com.moneymatters.calculators.dto.SWPSimulationResponse;
+import com.moneymatters.calculators.service.CalculatorResultCache;
 import com.moneymatters.calculators.service.SWPCalculatorService;
 import com.moneymatters.common.dto.ApiResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,10 +23,19 @@ import org.springframework.web.bind.annotation.*;
 public class SWPController {
 
     private final SWPCalculatorService swpCalculatorService;
+    private final CalculatorResultCache calculatorResultCache;
 
+    /**
+     * view=SUMMARY|YEARLY|MONTHLY (default FULL) trims the breakdowns;
+     * offset/limit page MONTHLY rows, chartPoints caps each chart series.
+     */
     @PostMapping("/calculate")
     public ResponseEntity<ApiResponse<SWPResponse>> calculateSWP(
-            @Valid @RequestBody SWPRequest request) {
+            @Valid @RequestBody SWPRequest request,
+            @RequestParam(required = false) ResponseShape.ScheduleView view,
+            @RequestParam(required = false) @Min(0) Integer offset,
+            @RequestParam(required = false) @Min(1) @Max(ResponseShape.MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(required = false) @Min(2) Integer chartPoints) {
 
         log.info("Calculating SWP: Corpus={}, Withdrawal={}, Duration={} years, Inflation={}",
             request.getStartingCorpus(),
@@ -28,12 +43,27 @@ public class SWPController {
             request.getDurationYears(),
             request.getInflationAdjusted() ? "Yes" : "No");
 
-        SWPResponse response = swpCalculatorService.calculateSWP(request);
+        ResponseShape shape = ResponseShape.of(view, offset, limit, chartPoints);
+        SWPResponse response = calculatorResultCache.get(
+            "swp", () -> swpCalculatorService.calculateSWP(request, shape), request, shape);
 
         ApiResponse<SWPResponse> apiResponse =
             new ApiResponse<>(true, response, "SWP calculation completed successfully");
 
         return ResponseEntity.ok(apiResponse);
     }
-}
 
+    @PostMapping("/simulate")
+    public ResponseEntity<ApiResponse<SWPSimulationResponse>> simulateSWP(
+            @Valid @RequestBody SWPSimulationRequest request) {
+
+        log.info("Simulating SWP: {} paths, {}", request.getSimulations(), request.getDistribution());
+
+        SWPSimulationResponse response = swpCalculatorService.simulateSWP(request);
+
+        ApiResponse<SWPSimulationResponse> apiResponse =
+            new ApiResponse<>(true, response, "SWP simulation completed");
+
+        return ResponseEntity.ok(apiResponse);
+    }
+}
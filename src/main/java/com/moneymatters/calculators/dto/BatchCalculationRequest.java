@@ -0,0 +1,55 @@
+package com.moneymatters.calculators.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCalculationRequest {
+
+    @NotEmpty(message = "At least 1 calculation required")
+    @Size(max = 20, message = "At most 20 calculations per batch")
+    @Valid
+    private List<Item> items;
+
+    public enum CalculatorType {
+        SIP,
+        SWP,
+        LOAN,
+        RETIREMENT
+    }
+
+    /**
+     * One calculation: set the payload field matching its type.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        // Optional client-side correlation id, echoed back in the result
+        private String id;
+
+        @NotNull(message = "Calculator type required")
+        private CalculatorType type;
+
+        @Valid
+        private SIPStepupRequest sip;
+
+        @Valid
+        private SWPRequest swp;
+
+        @Valid
+        private LoanAnalysisRequest loan;
+
+        @Valid
+        private RetirementPlanRequest retirement;
+    }
+}
@@ -0,0 +1,26 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BatchCalculationResponse {
+
+    // Same order as the request items
+    private List<Result> results;
+    private Integer succeeded;
+    private Integer failed;
+    private Long elapsedMs;
+
+    @Data
+    @AllArgsConstructor
+    public static class Result {
+        private String id;
+        private BatchCalculationRequest.CalculatorType type;
+        private Boolean success;
+        private Object data;       // The calculator's usual response
+        private String error;
+    }
+}
@@ -37,6 +37,11 @@ public class CashflowRequest {
     @DecimalMax(value = "20.0", message = "Expense growth rate too high (max 20%)")
     private BigDecimal expectedExpenseGrowthPercent;
 
+    /**
+     * A recurring or one-off flow. Months are counted from 1 (this month);
+     * amounts are in today's money and grow at the request's rate unless
+     * the item carries its own.
+     */
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -47,9 +52,53 @@ public class CashflowRequest {
         
         @NotNull(message = "Amount required")
         @Positive(message = "Amount must be positive")
-        private BigDecimal monthlyAmount;
+        private BigDecimal monthlyAmount;         // Per occurrence for non-monthly items
         
         private String category;  // Optional: "Fixed", "Variable", "Discretionary"
+
+        private Frequency frequency;
+
+        @Min(value = 1, message = "Start month must be at least 1")
+        private Integer startMonth;
+
+        @Min(value = 1, message = "End month must be at least 1")
+        private Integer endMonth;                 // Inclusive; null runs to the end of the horizon
+
+        @DecimalMin(value = "-50.0", message = "Growth rate too low (min -50%)")
+        @DecimalMax(value = "50.0", message = "Growth rate too high (max 50%)")
+        private BigDecimal growthPercent;         // Overrides the request's income/expense growth
+
+        public CashflowItem(String name, BigDecimal monthlyAmount, String category) {
+            this(name, monthlyAmount, category, null, null, null, null);
+        }
+
+        public Frequency getFrequency() {
+            return frequency != null ? frequency : Frequency.MONTHLY;
+        }
+
+        public Integer getStartMonth() {
+            return startMonth != null ? startMonth : 1;
+        }
     }
-}
 
+    public enum Frequency {
+        MONTHLY(1),
+        QUARTERLY(3),
+        HALF_YEARLY(6),
+        YEARLY(12),
+        ONE_OFF(0);
+
+        private final int months;
+
+        Frequency(int months) {
+            this.months = months;
+        }
+
+        /**
+         * Months between occurrences, 0 for a one-off
+         */
+        public int getMonths() {
+            return months;
+        }
+    }
+}
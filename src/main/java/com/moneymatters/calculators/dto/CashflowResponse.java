@@ -21,6 +21,8 @@ public class CashflowResponse {
     private BigDecimal averageAnnualExpense;
     private BigDecimal totalSavingsOverPeriod;
     private BigDecimal averageSavingsRate;
+    private BigDecimal lowestMonthlyNetCashflow;
+    private Integer firstDeficitMonth;          // First month spending exceeds income, null if never
 
     // Yearly projections
     private List<YearlyCashflow> projections;
@@ -38,7 +40,7 @@ public class CashflowResponse {
     @AllArgsConstructor
     public static class YearlyCashflow {
         private Integer year;
-        private BigDecimal monthlyIncome;
+        private BigDecimal monthlyIncome;       // Average month of the year
         private BigDecimal monthlyExpense;
         private BigDecimal monthlyNetCashflow;
         private BigDecimal annualIncome;
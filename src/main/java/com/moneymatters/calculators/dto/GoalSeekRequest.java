@@ -0,0 +1,78 @@
+package com.moneymatters.calculators.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+/**
+ * "Solve for X": which input of a calculator must change so its output
+ * hits the target. The calculator payload carries every other input; its
+ * value for the solved input is only used as a starting guess.
+ *
+ * Output matched against target, per calculator:
+ *   SIP        - maturity value of the step-up SIP
+ *   SWP        - corpus left at the end (0 = lasts exactly the duration)
+ *   LOAN       - monthly EMI
+ *   RETIREMENT - corpus surplus at retirement (0 = exactly funded)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalSeekRequest {
+
+    @NotNull(message = "Calculator required")
+    private Calculator calculator;
+
+    @NotNull(message = "Variable to solve for required")
+    private Variable solveFor;
+
+    @PositiveOrZero(message = "Target cannot be negative")
+    private BigDecimal target;
+
+    @Valid
+    private SIPStepupRequest sip;
+
+    @Valid
+    private SWPRequest swp;
+
+    @Valid
+    private LoanAnalysisRequest loan;
+
+    @Valid
+    private RetirementPlanRequest retirement;
+
+    // RETIREMENT only: SIP already running toward retirement
+    @PositiveOrZero(message = "Monthly SIP cannot be negative")
+    private BigDecimal monthlySIP;
+
+    public enum Calculator {
+        SIP,
+        SWP,
+        LOAN,
+        RETIREMENT
+    }
+
+    public enum Variable {
+        MONTHLY_SIP,          // SIP, RETIREMENT
+        STEPUP_PERCENT,       // SIP
+        RETURN_RATE,          // SIP, SWP, RETIREMENT (pre-retirement)
+        YEARS,                // SIP (shortest), SWP (longest duration)
+        RETIREMENT_AGE,       // RETIREMENT (earliest)
+        MONTHLY_WITHDRAWAL,   // SWP
+        STARTING_CORPUS,      // SWP
+        PRINCIPAL,            // LOAN
+        INTEREST_RATE,        // LOAN
+        TENURE_MONTHS         // LOAN (shortest)
+    }
+
+    public BigDecimal getTarget() {
+        return target != null ? target : BigDecimal.ZERO;
+    }
+
+    public BigDecimal getMonthlySIP() {
+        return monthlySIP != null ? monthlySIP : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,20 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+public class GoalSeekResponse {
+
+    private GoalSeekRequest.Calculator calculator;
+    private GoalSeekRequest.Variable solveFor;
+
+    private BigDecimal solution;        // Amount, % or whole years / months / age
+    private BigDecimal target;
+    private BigDecimal achievedValue;   // Calculator output at the solution
+
+    private Integer evaluations;        // Formula evaluations spent
+    private Long elapsedMicros;
+}
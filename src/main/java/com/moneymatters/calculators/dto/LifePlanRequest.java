@@ -0,0 +1,202 @@
+package com.moneymatters.calculators.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A whole household plan evaluated on one monthly timeline: income and
+ * expenses, SIPs into a shared portfolio, loans, SWP withdrawals and
+ * dated goals. Months are counted from 1 (this month); amounts are in
+ * today's money and inflate yearly where a rate applies.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LifePlanRequest {
+
+    @NotNull(message = "Horizon required")
+    @Min(value = 1, message = "Horizon must be at least 1 year")
+    @Max(value = 60, message = "Horizon cannot exceed 60 years")
+    private Integer horizonYears;
+
+    @PositiveOrZero(message = "Starting corpus cannot be negative")
+    private BigDecimal startingCorpus;
+
+    @PositiveOrZero(message = "Starting cash cannot be negative")
+    private BigDecimal startingCash;
+
+    @NotNull(message = "Expected return required")
+    @DecimalMin(value = "0.0", message = "Expected return cannot be negative")
+    @DecimalMax(value = "30.0", message = "Expected return too high (max 30%)")
+    private BigDecimal expectedAnnualReturnPercent;   // Portfolio, shared by every SIP
+
+    @DecimalMin(value = "0.0", message = "Inflation cannot be negative")
+    @DecimalMax(value = "20.0", message = "Inflation rate too high")
+    private BigDecimal inflationPercent;              // Expenses, goals and inflation-adjusted SWPs
+
+    @DecimalMin(value = "0.0", message = "Income growth cannot be negative")
+    @DecimalMax(value = "50.0", message = "Income growth rate too high (max 50%)")
+    private BigDecimal incomeGrowthPercent;
+
+    @Valid
+    private List<CashflowRequest.CashflowItem> incomes;
+
+    @Valid
+    private List<CashflowRequest.CashflowItem> expenses;
+
+    @Valid
+    private List<PlannedSip> sips;
+
+    @Valid
+    private List<PlannedLoan> loans;
+
+    @Valid
+    private List<PlannedWithdrawal> withdrawals;
+
+    @Valid
+    private List<Goal> goals;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlannedSip {
+
+        @NotBlank(message = "SIP name required")
+        private String name;
+
+        @NotNull
+        @Positive(message = "Monthly SIP must be > 0")
+        private BigDecimal monthlyAmount;
+
+        @DecimalMin(value = "0.0", message = "Step-up cannot be negative")
+        @DecimalMax(value = "50.0", message = "Step-up cannot exceed 50%")
+        private BigDecimal annualStepupPercent;
+
+        @Min(value = 1, message = "Start month must be at least 1")
+        private Integer startMonth;
+
+        @Min(value = 1, message = "End month must be at least 1")
+        private Integer endMonth;                 // Inclusive; null runs to the end of the horizon
+
+        public BigDecimal getAnnualStepupPercent() {
+            return annualStepupPercent != null ? annualStepupPercent : BigDecimal.ZERO;
+        }
+
+        public Integer getStartMonth() {
+            return startMonth != null ? startMonth : 1;
+        }
+    }
+
+    /**
+     * Same inputs as the loan analyzer; the loan is taken in startMonth
+     * and its first EMI is paid the month after.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlannedLoan {
+
+        @NotBlank(message = "Loan name required")
+        private String name;
+
+        @NotNull(message = "Loan details required")
+        @Valid
+        private LoanAnalysisRequest loan;
+
+        @Min(value = 1, message = "Start month must be at least 1")
+        private Integer startMonth;
+
+        public Integer getStartMonth() {
+            return startMonth != null ? startMonth : 1;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlannedWithdrawal {
+
+        @NotBlank(message = "Withdrawal name required")
+        private String name;
+
+        @NotNull
+        @Positive(message = "Monthly withdrawal must be positive")
+        private BigDecimal monthlyAmount;
+
+        @NotNull(message = "Start month required")
+        @Min(value = 1, message = "Start month must be at least 1")
+        private Integer startMonth;
+
+        @Min(value = 1, message = "End month must be at least 1")
+        private Integer endMonth;
+
+        private Boolean inflationAdjusted;
+
+        public Boolean getInflationAdjusted() {
+            return inflationAdjusted != null ? inflationAdjusted : true;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Goal {
+
+        @NotBlank(message = "Goal name required")
+        private String name;
+
+        @NotNull
+        @Positive(message = "Goal amount must be positive")
+        private BigDecimal amountToday;
+
+        @NotNull(message = "Target month required")
+        @Min(value = 1, message = "Target month must be at least 1")
+        private Integer targetMonth;
+    }
+
+    public BigDecimal getStartingCorpus() {
+        return startingCorpus != null ? startingCorpus : BigDecimal.ZERO;
+    }
+
+    public BigDecimal getStartingCash() {
+        return startingCash != null ? startingCash : BigDecimal.ZERO;
+    }
+
+    public BigDecimal getInflationPercent() {
+        return inflationPercent != null ? inflationPercent : new BigDecimal("6");
+    }
+
+    public BigDecimal getIncomeGrowthPercent() {
+        return incomeGrowthPercent != null ? incomeGrowthPercent : BigDecimal.ZERO;
+    }
+
+    public List<CashflowRequest.CashflowItem> getIncomes() {
+        return incomes != null ? incomes : new ArrayList<>();
+    }
+
+    public List<CashflowRequest.CashflowItem> getExpenses() {
+        return expenses != null ? expenses : new ArrayList<>();
+    }
+
+    public List<PlannedSip> getSips() {
+        return sips != null ? sips : new ArrayList<>();
+    }
+
+    public List<PlannedLoan> getLoans() {
+        return loans != null ? loans : new ArrayList<>();
+    }
+
+    public List<PlannedWithdrawal> getWithdrawals() {
+        return withdrawals != null ? withdrawals : new ArrayList<>();
+    }
+
+    public List<Goal> getGoals() {
+        return goals != null ? goals : new ArrayList<>();
+    }
+}
@@ -0,0 +1,73 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class LifePlanResponse {
+
+    // End of horizon
+    private BigDecimal finalCorpus;
+    private BigDecimal finalCash;
+    private BigDecimal finalLoanOutstanding;
+    private BigDecimal finalNetWorth;           // Corpus + cash - loans
+
+    // Totals
+    private BigDecimal totalInvested;           // SIP contributions
+    private BigDecimal totalReturns;
+    private BigDecimal totalInterestPaid;
+    private BigDecimal totalShortfall;          // Deficits and goal gaps nothing could cover
+
+    private Integer firstShortfallMonth;        // null if the plan is always funded
+    private Integer corpusDepletedMonth;        // null if the portfolio never runs dry
+    private boolean feasible;
+
+    private List<GoalOutcome> goals;
+    private List<LoanOutcome> loans;
+    private List<YearlyPlan> projections;
+
+    // Charts
+    private List<ChartPoint> netWorthChart;
+    private List<ChartPoint> corpusChart;
+
+    @Data
+    @AllArgsConstructor
+    public static class GoalOutcome {
+        private String name;
+        private Integer targetMonth;
+        private BigDecimal inflatedAmount;
+        private BigDecimal fundedAmount;
+        private BigDecimal shortfall;
+        private boolean funded;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class LoanOutcome {
+        private String name;
+        private Integer startMonth;
+        private BigDecimal emi;
+        private BigDecimal totalInterest;
+        private Integer closedInMonth;          // Plan month of the last EMI
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class YearlyPlan {
+        private Integer year;
+        private BigDecimal income;
+        private BigDecimal expense;
+        private BigDecimal loanPayments;        // EMIs + prepayments
+        private BigDecimal sipContributions;
+        private BigDecimal withdrawals;
+        private BigDecimal goalPayments;
+        private BigDecimal cashBalance;         // Year end
+        private BigDecimal corpus;
+        private BigDecimal loanOutstanding;
+        private BigDecimal netWorth;
+    }
+}
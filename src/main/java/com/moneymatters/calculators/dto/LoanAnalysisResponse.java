@@ -19,8 +19,10 @@ public class LoanAnalysisResponse {
     private BigDecimal principalAmount;
     private BigDecimal interestPercentage;
 
-    // Amortization Schedule
+    // Amortization Schedule (all months, a page of months, or absent)
     private List<MonthlyPaymentBreakdown> amortizationSchedule;
+    private List<YearlyPaymentSummary> yearlySchedule;
+    private SchedulePage schedulePage;
 
     // Prepayment Analysis
     private PrepaymentImpact prepaymentImpact;
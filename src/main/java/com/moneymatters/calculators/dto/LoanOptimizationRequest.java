@@ -0,0 +1,74 @@
+package com.moneymatters.calculators.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanOptimizationRequest {
+
+    @NotNull
+    @Positive(message = "Principal must be positive")
+    private BigDecimal principal;
+
+    @NotNull
+    @DecimalMin(value = "0.01", message = "Interest rate must be > 0")
+    @DecimalMax(value = "50.0", message = "Interest rate cannot exceed 50%")
+    private BigDecimal annualInterestRatePercent;
+
+    @NotNull
+    @Min(value = 1, message = "Tenure must be at least 1 month")
+    @Max(value = 600, message = "Tenure cannot exceed 600 months (50 years)")
+    private Integer tenureMonths;
+
+    // Cash available for prepayment every month, on top of the EMI
+    @NotNull
+    @Positive(message = "Monthly surplus must be positive")
+    private BigDecimal monthlySurplus;
+
+    // Optional constraints
+    @DecimalMin(value = "0.0", message = "Penalty cannot be negative")
+    @DecimalMax(value = "10.0", message = "Penalty cannot exceed 10%")
+    private BigDecimal prepaymentPenaltyPercent;   // % charged on each prepaid amount
+
+    @DecimalMin(value = "0.0", message = "Fee cannot be negative")
+    private BigDecimal prepaymentFee;              // Flat charge per prepayment
+
+    @DecimalMin(value = "0.0", message = "Minimum prepayment cannot be negative")
+    private BigDecimal minPrepaymentAmount;        // Lender's minimum lump size
+
+    @Min(value = 0, message = "Lock-in cannot be negative")
+    @Max(value = 600, message = "Lock-in cannot exceed 600 months (50 years)")
+    private Integer lockInMonths;                  // No prepayment allowed before this
+
+    private Objective objective;
+
+    public enum Objective {
+        MIN_INTEREST,     // Lowest interest + prepayment charges
+        MIN_TENURE        // Debt-free soonest
+    }
+
+    public Objective getObjective() {
+        return objective != null ? objective : Objective.MIN_INTEREST;
+    }
+
+    public BigDecimal getPrepaymentPenaltyPercent() {
+        return prepaymentPenaltyPercent != null ? prepaymentPenaltyPercent : BigDecimal.ZERO;
+    }
+
+    public BigDecimal getPrepaymentFee() {
+        return prepaymentFee != null ? prepaymentFee : BigDecimal.ZERO;
+    }
+
+    public BigDecimal getMinPrepaymentAmount() {
+        return minPrepaymentAmount != null ? minPrepaymentAmount : BigDecimal.ZERO;
+    }
+
+    public Integer getLockInMonths() {
+        return lockInMonths != null ? lockInMonths : 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class LoanOptimizationResponse {
+
+    // Without any prepayment
+    private BigDecimal emi;
+    private BigDecimal baselineTotalInterest;
+    private Integer baselineTenureMonths;
+
+    // Search
+    private LoanOptimizationRequest.Objective objective;
+    private Integer candidatesEvaluated;
+    private PrepaymentPlan bestPlan;        // null when no plan satisfies the constraints
+    private List<PrepaymentPlan> alternatives;
+    private String recommendation;
+
+    @Data
+    @AllArgsConstructor
+    public static class PrepaymentPlan {
+        private PrepaymentScenario.PrepaymentOption option;
+        private Integer firstPrepaymentMonth;
+        private Integer everyMonths;
+        private BigDecimal firstPrepaymentAmount;
+        private BigDecimal recurringPrepaymentAmount;
+        private BigDecimal totalPrepaid;
+        private BigDecimal prepaymentCharges;    // Penalties + fees
+        private BigDecimal totalInterest;
+        private BigDecimal interestSaved;        // Net of prepayment charges
+        private Integer debtFreeMonth;
+        private Integer monthsSaved;
+        private BigDecimal finalEmi;
+
+        // Ready to send to /loan/analyze as-is
+        private List<PrepaymentScenario> prepayments;
+    }
+}
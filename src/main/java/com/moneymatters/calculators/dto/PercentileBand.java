@@ -0,0 +1,19 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.math.BigDecimal;
+
+/**
+ * Spread of simulated outcomes at one point in time.
+ */
+@Data
+@AllArgsConstructor
+public class PercentileBand {
+    private String label;       // "Age 45", "Year 3"
+    private BigDecimal p10;     // Pessimistic
+    private BigDecimal p25;
+    private BigDecimal p50;     // Median
+    private BigDecimal p75;
+    private BigDecimal p90;     // Optimistic
+}
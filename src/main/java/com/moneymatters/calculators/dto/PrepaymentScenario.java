@@ -22,6 +22,23 @@ public class PrepaymentScenario {
     @NotNull
     private PrepaymentOption option;
 
+    // Optional: repeat every N months from atMonth (null = one-time lump sum)
+    @Positive(message = "Prepayment frequency must be positive")
+    private Integer everyMonths;
+
+    // Optional: last month a recurring prepayment may fall in (inclusive)
+    @Positive(message = "Prepayment end month must be positive")
+    private Integer untilMonth;
+
+    // Optional: grow a recurring amount by this % every 12 months
+    @DecimalMin(value = "0.0", message = "Step-up cannot be negative")
+    @DecimalMax(value = "100.0", message = "Step-up cannot exceed 100%")
+    private BigDecimal annualStepupPercent;
+
+    public PrepaymentScenario(Integer atMonth, BigDecimal amount, PrepaymentOption option) {
+        this(atMonth, amount, option, null, null, null);
+    }
+
     public enum PrepaymentOption {
         REDUCE_TENURE,    // Keep EMI same, reduce months
         REDUCE_EMI        // Keep tenure same, reduce EMI
@@ -0,0 +1,158 @@
+package com.moneymatters.calculators.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Instrument-level rebalance: each position carries its purchase lots so
+ * the optimizer can choose which units to sell. A position maps to one
+ * portfolio Holding row, a lot to one of its BUY transactions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalanceOptimizationRequest {
+
+    @NotEmpty(message = "At least one position required")
+    @Valid
+    private List<Position> positions;
+
+    @NotEmpty(message = "Target allocation required")
+    @Valid
+    private List<AssetAllocationRequest.TargetAllocation> targetAllocations;
+
+    @PositiveOrZero(message = "Fresh investment cannot be negative")
+    private BigDecimal freshInvestment;
+
+    // Allowed drift either side of each target, in percentage points
+    @DecimalMin(value = "0.0", message = "Tolerance band cannot be negative")
+    @DecimalMax(value = "25.0", message = "Tolerance band cannot exceed 25 points")
+    private BigDecimal toleranceBandPercent;
+
+    @DecimalMin(value = "0.0", message = "Transaction cost cannot be negative")
+    @DecimalMax(value = "5.0", message = "Transaction cost cannot exceed 5%")
+    private BigDecimal transactionCostPercent;   // Brokerage + STT + stamp duty, per trade
+
+    @PositiveOrZero(message = "Minimum trade cannot be negative")
+    private BigDecimal minTradeAmount;           // Smaller trades are skipped
+
+    // Capital gains tax (Indian rules from FY 2024-25)
+    @DecimalMin(value = "0.0") @DecimalMax(value = "50.0")
+    private BigDecimal stcgRatePercent;          // Equity, held <= 12 months
+
+    @DecimalMin(value = "0.0") @DecimalMax(value = "50.0")
+    private BigDecimal ltcgRatePercent;          // Equity > 12 months, others > 24 months
+
+    @PositiveOrZero
+    private BigDecimal ltcgExemption;            // Equity LTCG exempt per year
+
+    @DecimalMin(value = "0.0") @DecimalMax(value = "50.0")
+    private BigDecimal slabRatePercent;          // Debt funds, short-term non-equity
+
+    private LocalDate asOfDate;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Position {
+
+        @NotBlank(message = "Symbol required")
+        private String symbol;
+
+        @NotBlank(message = "Asset class required")
+        private String assetClass;               // Must match a target's assetName
+
+        @NotNull
+        @PositiveOrZero(message = "Price cannot be negative")
+        private BigDecimal currentPrice;
+
+        @NotEmpty(message = "At least one lot required")
+        @Valid
+        private List<Lot> lots;
+
+        private TaxTreatment taxTreatment;
+
+        @DecimalMin(value = "0.0") @DecimalMax(value = "10.0")
+        private BigDecimal exitLoadPercent;
+
+        @Min(value = 0)
+        private Integer exitLoadDays;            // Load applies to lots younger than this
+
+        public TaxTreatment getTaxTreatment() {
+            return taxTreatment != null ? taxTreatment : TaxTreatment.EQUITY;
+        }
+
+        public BigDecimal getExitLoadPercent() {
+            return exitLoadPercent != null ? exitLoadPercent : BigDecimal.ZERO;
+        }
+
+        public Integer getExitLoadDays() {
+            return exitLoadDays != null ? exitLoadDays : 0;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lot {
+
+        @NotNull
+        @Positive(message = "Lot quantity must be positive")
+        private BigDecimal quantity;
+
+        @NotNull
+        @PositiveOrZero(message = "Buy price cannot be negative")
+        private BigDecimal buyPrice;
+
+        @NotNull
+        private LocalDate purchaseDate;
+    }
+
+    public enum TaxTreatment {
+        EQUITY,     // Listed equity / equity funds: STCG 20%, LTCG 12.5% after 12 months above exemption
+        DEBT,       // Debt funds bought after April 2023: slab rate regardless of holding period
+        OTHER       // Gold, international funds: slab rate, LTCG 12.5% after 24 months
+    }
+
+    public BigDecimal getFreshInvestment() {
+        return freshInvestment != null ? freshInvestment : BigDecimal.ZERO;
+    }
+
+    public BigDecimal getToleranceBandPercent() {
+        return toleranceBandPercent != null ? toleranceBandPercent : new BigDecimal("5");
+    }
+
+    public BigDecimal getTransactionCostPercent() {
+        return transactionCostPercent != null ? transactionCostPercent : new BigDecimal("0.1");
+    }
+
+    public BigDecimal getMinTradeAmount() {
+        return minTradeAmount != null ? minTradeAmount : new BigDecimal("500");
+    }
+
+    public BigDecimal getStcgRatePercent() {
+        return stcgRatePercent != null ? stcgRatePercent : new BigDecimal("20");
+    }
+
+    public BigDecimal getLtcgRatePercent() {
+        return ltcgRatePercent != null ? ltcgRatePercent : new BigDecimal("12.5");
+    }
+
+    public BigDecimal getLtcgExemption() {
+        return ltcgExemption != null ? ltcgExemption : new BigDecimal("125000");
+    }
+
+    public BigDecimal getSlabRatePercent() {
+        return slabRatePercent != null ? slabRatePercent : new BigDecimal("30");
+    }
+
+    public LocalDate getAsOfDate() {
+        return asOfDate != null ? asOfDate : LocalDate.now();
+    }
+}
@@ -0,0 +1,56 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class RebalanceOptimizationResponse {
+
+    private BigDecimal totalPortfolioValue;     // Holdings + fresh investment
+    private BigDecimal toleranceBandPercent;
+    private List<ClassAllocation> allocations;
+    private List<Trade> trades;
+
+    // Totals
+    private BigDecimal totalBuyAmount;
+    private BigDecimal totalSellAmount;
+    private BigDecimal shortTermGains;          // Net of short-term losses
+    private BigDecimal longTermGains;           // Net of remaining losses
+    private BigDecimal estimatedTax;
+    private BigDecimal exitLoads;
+    private BigDecimal transactionCosts;
+    private BigDecimal totalCost;               // Tax + exit loads + transaction costs
+    private boolean withinBands;                // Every class inside its band after the trades
+    private String recommendation;
+
+    @Data
+    @AllArgsConstructor
+    public static class ClassAllocation {
+        private String assetClass;
+        private BigDecimal currentValue;
+        private BigDecimal currentPercentage;
+        private BigDecimal targetPercentage;
+        private BigDecimal lowerBandPercentage;
+        private BigDecimal upperBandPercentage;
+        private BigDecimal finalValue;
+        private BigDecimal finalPercentage;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Trade {
+        private String symbol;                  // Largest existing position for buys, null if the class is empty
+        private String assetClass;
+        private String action;                  // "BUY", "SELL"
+        private BigDecimal quantity;            // Units sold; null for buys
+        private BigDecimal amount;
+        private BigDecimal shortTermGain;
+        private BigDecimal longTermGain;
+        private BigDecimal exitLoad;
+        private BigDecimal transactionCost;
+    }
+}
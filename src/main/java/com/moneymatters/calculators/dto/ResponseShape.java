@@ -0,0 +1,66 @@
+package com.moneymatters.calculators.dto;
+
+import com.moneymatters.common.exception.InvalidRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * How much detail a calculator response should carry.
+ *
+ * FULL keeps the historical payload (every month plus charts). SUMMARY drops
+ * the schedule, YEARLY returns one row per year, MONTHLY returns a page of
+ * months starting at offset. chartPoints, when set, caps every chart series.
+ */
+@Data
+@AllArgsConstructor
+public class ResponseShape {
+
+    public static final int DEFAULT_PAGE_SIZE = 60;
+    public static final int MAX_PAGE_SIZE = 600;
+
+    private ScheduleView view;
+    private int offset;
+    private int limit;
+    private Integer chartPoints;
+
+    public enum ScheduleView {
+        FULL,
+        SUMMARY,
+        YEARLY,
+        MONTHLY
+    }
+
+    public static ResponseShape full() {
+        return new ResponseShape(ScheduleView.FULL, 0, MAX_PAGE_SIZE, null);
+    }
+
+    public static ResponseShape of(ScheduleView view, Integer offset, Integer limit, Integer chartPoints) {
+        if (offset != null && offset < 0) {
+            throw new InvalidRequestException("offset must not be negative");
+        }
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (chartPoints != null && chartPoints < 2) {
+            throw new InvalidRequestException("chartPoints must be at least 2");
+        }
+        return new ResponseShape(
+            view != null ? view : ScheduleView.FULL,
+            offset != null ? offset : 0,
+            limit != null ? limit : DEFAULT_PAGE_SIZE,
+            chartPoints
+        );
+    }
+
+    /**
+     * Whether the month at this zero-based index belongs in the response.
+     * Compares against index - offset so a huge offset cannot overflow.
+     */
+    public boolean includesMonthIndex(int index) {
+        return switch (view) {
+            case FULL -> true;
+            case MONTHLY -> index >= offset && index - offset < limit;
+            default -> false;
+        };
+    }
+}
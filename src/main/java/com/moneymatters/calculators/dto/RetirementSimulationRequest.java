@@ -0,0 +1,83 @@
+package com.moneymatters.calculators.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetirementSimulationRequest {
+
+    // Ages, expense and expected (mean) returns / inflation
+    @NotNull
+    @Valid
+    private RetirementPlanRequest plan;
+
+    // Monthly SIP to test; defaults to the deterministic plan's recommended SIP
+    @PositiveOrZero(message = "Monthly SIP cannot be negative")
+    private BigDecimal monthlySIP;
+
+    @Min(value = 1000, message = "At least 1,000 simulations required")
+    @Max(value = 100000, message = "At most 100,000 simulations allowed")
+    private Integer simulations;
+
+    private ReturnDistribution distribution;
+
+    // Annual volatility (standard deviation) of each input
+    @DecimalMin(value = "0.0", message = "Volatility cannot be negative")
+    @DecimalMax(value = "60.0", message = "Volatility too high (max 60%)")
+    private BigDecimal preRetirementVolatilityPercent;
+
+    @DecimalMin(value = "0.0", message = "Volatility cannot be negative")
+    @DecimalMax(value = "60.0", message = "Volatility too high (max 60%)")
+    private BigDecimal postRetirementVolatilityPercent;
+
+    @DecimalMin(value = "0.0", message = "Volatility cannot be negative")
+    @DecimalMax(value = "10.0", message = "Inflation volatility too high (max 10%)")
+    private BigDecimal inflationVolatilityPercent;
+
+    // Tail weight for FAT_TAILED (lower = fatter tails)
+    @Min(value = 3, message = "Degrees of freedom must be at least 3")
+    @Max(value = 30, message = "Degrees of freedom cannot exceed 30")
+    private Integer degreesOfFreedom;
+
+    // Confidence the safe SIP must reach
+    @DecimalMin(value = "50.0", message = "Target success must be at least 50%")
+    @DecimalMax(value = "99.0", message = "Target success cannot exceed 99%")
+    private BigDecimal targetSuccessPercent;
+
+    // Fixed seed for reproducible runs
+    private Long seed;
+
+    public Integer getSimulations() {
+        return simulations != null ? simulations : 10000;
+    }
+
+    public ReturnDistribution getDistribution() {
+        return distribution != null ? distribution : ReturnDistribution.NORMAL;
+    }
+
+    public BigDecimal getPreRetirementVolatilityPercent() {
+        return preRetirementVolatilityPercent != null ? preRetirementVolatilityPercent : new BigDecimal("15");
+    }
+
+    public BigDecimal getPostRetirementVolatilityPercent() {
+        return postRetirementVolatilityPercent != null ? postRetirementVolatilityPercent : new BigDecimal("6");
+    }
+
+    public BigDecimal getInflationVolatilityPercent() {
+        return inflationVolatilityPercent != null ? inflationVolatilityPercent : new BigDecimal("1.5");
+    }
+
+    public Integer getDegreesOfFreedom() {
+        return degreesOfFreedom != null ? degreesOfFreedom : 4;
+    }
+
+    public BigDecimal getTargetSuccessPercent() {
+        return targetSuccessPercent != null ? targetSuccessPercent : new BigDecimal("90");
+    }
+}
@@ -0,0 +1,31 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class RetirementSimulationResponse {
+
+    // Run
+    private Integer simulations;
+    private ReturnDistribution distribution;
+    private Long seed;                              // Pass back to reproduce this run
+
+    // Outcome at the tested SIP
+    private BigDecimal monthlySIP;
+    private BigDecimal successProbabilityPercent;  // Corpus lasts to life expectancy
+    private PercentileBand corpusAtRetirement;
+    private Integer medianDepletionAge;            // Among failed paths; null when none fail
+
+    // SIP that succeeds in targetSuccessPercent of paths
+    private BigDecimal targetSuccessPercent;
+    private BigDecimal safeMonthlySIP;
+
+    // Corpus spread year by year (chart)
+    private List<PercentileBand> corpusBands;
+
+    private Long elapsedMs;
+}
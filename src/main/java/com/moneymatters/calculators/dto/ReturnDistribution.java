@@ -0,0 +1,10 @@
+package com.moneymatters.calculators.dto;
+
+/**
+ * How yearly returns are drawn in stochastic simulations.
+ */
+public enum ReturnDistribution {
+    NORMAL,       // Log-normal growth: normally distributed log returns
+    FAT_TAILED,   // Student-t log returns (crashes and rallies more often than NORMAL)
+    HISTORICAL    // Bootstrapped from Nifty 50 calendar-year returns
+}
@@ -0,0 +1,51 @@
+package com.moneymatters.calculators.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SIPGoalRequest {
+
+    @NotNull
+    @Positive(message = "Target corpus must be > 0")
+    private BigDecimal targetCorpus;
+
+    @NotNull
+    @DecimalMin(value = "0.01", message = "Expected return must be > 0")
+    @DecimalMax(value = "50.00", message = "Expected return must be <= 50%")
+    private BigDecimal expectedAnnualReturnPercent;
+
+    @NotNull
+    @Positive(message = "Years must be > 0")
+    @Max(value = 50, message = "Years cannot exceed 50")
+    private Integer years;
+
+    private SolveFor solveFor;
+
+    // Given when solving for STARTING_SIP (defaults to 0%)
+    @DecimalMin(value = "0.0", inclusive = true, message = "Step-up cannot be negative")
+    @DecimalMax(value = "50.0", message = "Step-up cannot exceed 50%")
+    private BigDecimal annualStepupPercent;
+
+    // Required when solving for STEPUP_PERCENT
+    @Positive(message = "Monthly SIP must be > 0")
+    private BigDecimal monthlySIP;
+
+    public enum SolveFor {
+        STARTING_SIP,      // First-year monthly SIP for a given step-up
+        STEPUP_PERCENT     // Yearly step-up for a given first-year SIP
+    }
+
+    public SolveFor getSolveFor() {
+        return solveFor != null ? solveFor : SolveFor.STARTING_SIP;
+    }
+
+    public BigDecimal getAnnualStepupPercent() {
+        return annualStepupPercent != null ? annualStepupPercent : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,28 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+public class SIPGoalResponse {
+
+    private SIPGoalRequest.SolveFor solveFor;
+    private Boolean achievable;               // false when even a 50% step-up falls short
+
+    // Solved plan (first-year SIP and step-up)
+    private BigDecimal monthlySIP;
+    private BigDecimal annualStepupPercent;
+    private BigDecimal lastYearMonthlySIP;
+
+    // Outcome of the solved plan
+    private BigDecimal targetCorpus;
+    private BigDecimal maturityValue;         // >= targetCorpus when achievable
+    private BigDecimal totalInvested;
+
+    // Alternative: one-time investment today that reaches the target
+    private BigDecimal lumpSumToday;
+
+    private String message;
+}
@@ -27,6 +27,7 @@ public class SWPResponse {
     // Detailed breakdown
     private List<MonthlyWithdrawalBreakdown> monthlyBreakdown;
     private List<YearlyWithdrawalSummary> yearlySummary;
+    private SchedulePage schedulePage;
 
     // Charts
     private List<ChartPoint> corpusOverTimeChart;
@@ -0,0 +1,63 @@
+package com.moneymatters.calculators.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SWPSimulationRequest {
+
+    // Corpus, withdrawal, expected (mean) return and inflation
+    @NotNull
+    @Valid
+    private SWPRequest swp;
+
+    @Min(value = 1000, message = "At least 1,000 simulations required")
+    @Max(value = 100000, message = "At most 100,000 simulations allowed")
+    private Integer simulations;
+
+    private ReturnDistribution distribution;
+
+    // Annual volatility (standard deviation) of returns
+    @DecimalMin(value = "0.0", message = "Volatility cannot be negative")
+    @DecimalMax(value = "60.0", message = "Volatility too high (max 60%)")
+    private BigDecimal volatilityPercent;
+
+    // Tail weight for FAT_TAILED (lower = fatter tails)
+    @Min(value = 3, message = "Degrees of freedom must be at least 3")
+    @Max(value = 30, message = "Degrees of freedom cannot exceed 30")
+    private Integer degreesOfFreedom;
+
+    // HISTORICAL: consecutive market years drawn together (keeps crash-recovery runs intact)
+    @Min(value = 1, message = "Block must be at least 1 year")
+    @Max(value = 10, message = "Block cannot exceed 10 years")
+    private Integer blockYears;
+
+    // Fixed seed for reproducible runs
+    private Long seed;
+
+    public Integer getSimulations() {
+        return simulations != null ? simulations : 10000;
+    }
+
+    public ReturnDistribution getDistribution() {
+        return distribution != null ? distribution : ReturnDistribution.NORMAL;
+    }
+
+    public BigDecimal getVolatilityPercent() {
+        return volatilityPercent != null ? volatilityPercent : new BigDecimal("12");
+    }
+
+    public Integer getDegreesOfFreedom() {
+        return degreesOfFreedom != null ? degreesOfFreedom : 4;
+    }
+
+    public Integer getBlockYears() {
+        return blockYears != null ? blockYears : 3;
+    }
+}
@@ -0,0 +1,28 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SWPSimulationResponse {
+
+    // Run
+    private Integer simulations;
+    private ReturnDistribution distribution;
+    private Long seed;                              // Pass back to reproduce this run
+
+    // Outcome
+    private BigDecimal successProbabilityPercent;  // Corpus lasts the full duration
+    private BigDecimal constantReturnFinalCorpus;  // Same plan at the fixed expected return
+    private PercentileBand finalCorpus;
+    private PercentileBand depletionMonth;         // Among depleted paths; null when none deplete
+
+    // Charts
+    private List<ChartPoint> depletionByYear;      // Cumulative % of paths depleted by each year end
+    private List<PercentileBand> corpusBands;      // Year-end corpus spread
+
+    private Long elapsedMs;
+}
@@ -0,0 +1,37 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Describes which part of a schedule a shaped response contains.
+ * Omitted (null) for FULL responses. totalRows counts the rows of the
+ * requested view: years for YEARLY, months otherwise.
+ */
+@Data
+@AllArgsConstructor
+public class SchedulePage {
+    private ResponseShape.ScheduleView view;
+    private Integer offset;
+    private Integer rows;
+    private Integer totalRows;
+    private Boolean hasMore;
+
+    public static SchedulePage of(ResponseShape shape, int rows, int totalMonths) {
+        if (shape.getView() == ResponseShape.ScheduleView.FULL) {
+            return null;
+        }
+        boolean monthly = shape.getView() == ResponseShape.ScheduleView.MONTHLY;
+        int offset = monthly ? shape.getOffset() : 0;
+        int totalRows = shape.getView() == ResponseShape.ScheduleView.YEARLY
+            ? (totalMonths + 11) / 12
+            : totalMonths;
+        return new SchedulePage(
+            shape.getView(),
+            offset,
+            rows,
+            totalRows,
+            monthly && offset < totalRows && rows < totalRows - offset
+        );
+    }
+}
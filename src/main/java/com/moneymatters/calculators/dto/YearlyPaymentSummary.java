@@ -0,0 +1,18 @@
+package com.moneymatters.calculators.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+public class YearlyPaymentSummary {
+    private Integer year;
+    private Integer months;
+    private BigDecimal openingBalance;
+    private BigDecimal totalPaid;
+    private BigDecimal interestPaid;
+    private BigDecimal principalPaid;
+    private BigDecimal closingBalance;
+    private BigDecimal cumulativeInterest;
+}
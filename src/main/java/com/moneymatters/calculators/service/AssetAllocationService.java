@@ -2,7 +2,15 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.AssetAllocationRequest;
 import com.moneymatters.calculators.dto.AssetAllocationResponse;
+import com.moneymatters.calculators.dto.RebalanceOptimizationRequest;
+import com.moneymatters.calculators.dto.RebalanceOptimizationResponse;
 
 public interface AssetAllocationService {
     AssetAllocationResponse calculateRebalancing(AssetAllocationRequest request);
+
+    /**
+     * Lot-level rebalance into tolerance bands that minimizes trades, exit
+     * loads and capital gains tax, routing fresh investment first
+     */
+    RebalanceOptimizationResponse optimizeRebalancing(RebalanceOptimizationRequest request);
 }
@@ -2,18 +2,28 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.*;
 import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.common.exception.InvalidRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AssetAllocationServiceImpl implements AssetAllocationService {
 
+    private static final double PAISA = 0.005;
+    private static final BigDecimal HUNDRED = new BigDecimal(100);
+
    /*  @Override
     public AssetAllocationResponse calculateRebalancing(AssetAllocationRequest request) {
         // Implementation in Day 30
@@ -23,10 +33,13 @@ public class AssetAllocationServiceImpl implements AssetAllocationService {
 public AssetAllocationResponse calculateRebalancing(AssetAllocationRequest request) {
     log.info("Calculating asset allocation rebalancing");
 
-    // Calculate total portfolio value
-    BigDecimal totalValue = request.getCurrentHoldings().stream()
-        .map(AssetAllocationRequest.AssetClass::getCurrentValue)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    // Index holdings by name once instead of scanning them for every target
+    Map<String, BigDecimal> holdingValues = new HashMap<>();
+    BigDecimal totalValue = BigDecimal.ZERO;
+    for (AssetAllocationRequest.AssetClass holding : request.getCurrentHoldings()) {
+        holdingValues.merge(holding.getAssetName(), holding.getCurrentValue(), BigDecimal::add);
+        totalValue = totalValue.add(holding.getCurrentValue());
+    }
 
     // Add fresh investment if any
     if (request.getFreshInvestment() != null) {
@@ -42,11 +55,7 @@ public AssetAllocationResponse calculateRebalancing(AssetAllocationRequest reque
         BigDecimal targetPercentage = target.getTargetPercentage();
 
         // Find current holding
-        BigDecimal currentValue = request.getCurrentHoldings().stream()
-            .filter(h -> h.getAssetName().equals(assetName))
-            .map(AssetAllocationRequest.AssetClass::getCurrentValue)
-            .findFirst()
-            .orElse(BigDecimal.ZERO);
+        BigDecimal currentValue = holdingValues.getOrDefault(assetName, BigDecimal.ZERO);
 
         // Calculate current %
         BigDecimal currentPercentage = CalculationUtils.safeDivide(
@@ -82,11 +91,11 @@ public AssetAllocationResponse calculateRebalancing(AssetAllocationRequest reque
 
         if (adjustmentNeeded.compareTo(new BigDecimal("100")) > 0) {
             action = "BUY";
-            recommendation = String.format("Invest ₹%s more in %s", 
+            recommendation = String.format("Invest ₹%s more in %s",
                 CalculationUtils.format(actionAmount), assetName);
         } else if (adjustmentNeeded.compareTo(new BigDecimal("-100")) < 0) {
             action = "SELL";
-            recommendation = String.format("Redeem ₹%s from %s", 
+            recommendation = String.format("Redeem ₹%s from %s",
                 CalculationUtils.format(actionAmount), assetName);
         } else {
             action = "HOLD";
@@ -133,4 +142,492 @@ public AssetAllocationResponse calculateRebalancing(AssetAllocationRequest reque
     );
 }
 
+    /**
+     * Cost-aware rebalance into tolerance bands.
+     *
+     * Only classes outside their band trade, and only back to the band
+     * edge. Fresh investment goes to under-weight classes first; sales
+     * happen only for over-band classes or when the fresh money cannot
+     * lift every under-band class to its lower edge. Within a class, lots
+     * are sold cheapest first, where the cost of selling ₹1 of a lot is its
+     * exit load + transaction cost + marginal tax on the embedded gain (so
+     * loss lots go first and long-term equity gains are free while the
+     * yearly exemption lasts). Everything is one pass over the lots plus a
+     * sort per traded class, so hundreds of instruments solve in
+     * milliseconds.
+     */
+    @Override
+    public RebalanceOptimizationResponse optimizeRebalancing(RebalanceOptimizationRequest request) {
+        long startNanos = System.nanoTime();
+
+        double tolerance = request.getToleranceBandPercent().doubleValue();
+        double txnRate = request.getTransactionCostPercent().doubleValue() / 100.0;
+        double minTrade = request.getMinTradeAmount().doubleValue();
+        TaxBook tax = new TaxBook(request);
+        LocalDate asOf = request.getAsOfDate();
+
+        // Classes in target order, positions indexed by class name
+        BigDecimal targetSum = BigDecimal.ZERO;
+        Map<String, ClassBook> books = new LinkedHashMap<>();
+        for (AssetAllocationRequest.TargetAllocation target : request.getTargetAllocations()) {
+            targetSum = targetSum.add(target.getTargetPercentage());
+            if (books.put(target.getAssetName(),
+                    new ClassBook(target.getAssetName(), target.getTargetPercentage().doubleValue())) != null) {
+                throw new InvalidRequestException("Duplicate target for " + target.getAssetName());
+            }
+        }
+        if (targetSum.subtract(HUNDRED).abs().compareTo(new BigDecimal("0.01")) > 0) {
+            throw new InvalidRequestException("Target allocations must add up to 100%, got " + targetSum);
+        }
+
+        for (RebalanceOptimizationRequest.Position position : request.getPositions()) {
+            ClassBook book = books.get(position.getAssetClass());
+            if (book == null) {
+                throw new InvalidRequestException(
+                    "No target allocation for " + position.getAssetClass() + " (" + position.getSymbol() + ")");
+            }
+            book.add(new PositionBook(position, asOf, txnRate));
+        }
+
+        double fresh = request.getFreshInvestment().doubleValue();
+        double total = fresh;
+        for (ClassBook book : books.values()) {
+            total += book.value;
+        }
+        for (ClassBook book : books.values()) {
+            book.setBands(total, tolerance);
+        }
+        double[] initialValues = books.values().stream().mapToDouble(b -> b.value).toArray();
+
+        // 1. Over-band classes come down to their upper edge
+        double cash = fresh;
+        for (ClassBook book : books.values()) {
+            double excess = book.value - book.upper;
+            if (excess >= minTrade && excess > PAISA) {
+                cash += sell(book, excess, Double.POSITIVE_INFINITY, tax);
+            }
+        }
+
+        // 2. Under-band classes need cash to reach their lower edge (buys also pay transaction cost)
+        double required = 0;
+        for (ClassBook book : books.values()) {
+            double shortfall = book.lower - book.value;
+            if (shortfall >= minTrade && shortfall > PAISA) {
+                required += shortfall / (1 - txnRate);
+            }
+        }
+
+        // 3. Not enough: raise the rest from classes above target, cheapest lots first
+        if (cash + PAISA < required) {
+            List<ClassBook> donors = new ArrayList<>(books.values());
+            donors.removeIf(b -> b.value <= b.target + PAISA);
+            donors.sort(Comparator.comparingDouble(b -> b.cheapestRate(tax)));
+            for (ClassBook donor : donors) {
+                if (cash + PAISA >= required) {
+                    break;
+                }
+                cash += sell(donor, donor.value - donor.target, required - cash, tax);
+            }
+        }
+
+        // 4. Buy: lower edges first (scaled down if costs left us short), then toward target
+        double scale = required > 0 ? Math.min(1.0, cash / required) : 1.0;
+        for (ClassBook book : books.values()) {
+            double shortfall = book.lower - book.value;
+            if (shortfall >= minTrade && shortfall > PAISA) {
+                cash -= buy(book, scale * shortfall / (1 - txnRate), txnRate);
+            }
+        }
+
+        double gapToTarget = 0;
+        for (ClassBook book : books.values()) {
+            gapToTarget += Math.max(0, book.target - book.value);
+        }
+        if (cash >= minTrade && gapToTarget > PAISA) {
+            double spend = cash;
+            for (ClassBook book : books.values()) {
+                double gap = Math.max(0, book.target - book.value);
+                double amount = Math.min(spend * gap / gapToTarget, gap / (1 - txnRate));
+                if (amount >= minTrade && amount > PAISA) {
+                    cash -= buy(book, amount, txnRate);
+                }
+            }
+        }
+
+        // Results
+        double finalTotal = Math.max(cash, 0);
+        for (ClassBook book : books.values()) {
+            finalTotal += book.value;
+        }
+
+        List<RebalanceOptimizationResponse.ClassAllocation> allocations = new ArrayList<>();
+        List<RebalanceOptimizationResponse.Trade> trades = new ArrayList<>();
+        double totalBuy = 0;
+        double totalSell = 0;
+        double exitLoads = 0;
+        double transactionCosts = 0;
+        boolean withinBands = true;
+
+        int index = 0;
+        for (ClassBook book : books.values()) {
+            double initial = initialValues[index++];
+            double finalPercent = finalTotal > 0 ? 100.0 * book.value / finalTotal : 0;
+            withinBands &= finalPercent >= book.lowerPercent - 0.01 && finalPercent <= book.upperPercent + 0.01;
+
+            allocations.add(new RebalanceOptimizationResponse.ClassAllocation(
+                book.name,
+                money(initial),
+                percent(total > 0 ? 100.0 * initial / total : 0),
+                percent(book.targetPercent),
+                percent(book.lowerPercent),
+                percent(book.upperPercent),
+                money(book.value),
+                percent(finalPercent)
+            ));
+
+            for (PositionBook position : book.positions) {
+                if (position.soldAmount > PAISA) {
+                    trades.add(new RebalanceOptimizationResponse.Trade(
+                        position.symbol,
+                        book.name,
+                        "SELL",
+                        BigDecimal.valueOf(position.soldQuantity).setScale(4, RoundingMode.HALF_UP),
+                        money(position.soldAmount),
+                        money(position.shortTermGain),
+                        money(position.longTermGain),
+                        money(position.exitLoad),
+                        money(position.soldAmount * txnRate)
+                    ));
+                    totalSell += position.soldAmount;
+                    exitLoads += position.exitLoad;
+                    transactionCosts += position.soldAmount * txnRate;
+                }
+            }
+            if (book.bought > PAISA) {
+                trades.add(new RebalanceOptimizationResponse.Trade(
+                    book.largestSymbol(),
+                    book.name,
+                    "BUY",
+                    null,
+                    money(book.bought),
+                    BigDecimal.ZERO,
+                    BigDecimal.ZERO,
+                    BigDecimal.ZERO,
+                    money(book.bought * txnRate)
+                ));
+                totalBuy += book.bought;
+                transactionCosts += book.bought * txnRate;
+            }
+        }
+
+        tax.settle();
+        double totalCost = tax.tax + exitLoads + transactionCosts;
+
+        log.info("Optimized rebalance of {} positions into {} trades in {} ms",
+            request.getPositions().size(), trades.size(), (System.nanoTime() - startNanos) / 1_000_000);
+
+        return new RebalanceOptimizationResponse(
+            money(total),
+            CalculationUtils.format(request.getToleranceBandPercent()),
+            allocations,
+            trades,
+            money(totalBuy),
+            money(totalSell),
+            money(tax.netShortTerm),
+            money(tax.netLongTerm),
+            money(tax.tax),
+            money(exitLoads),
+            money(transactionCosts),
+            money(totalCost),
+            withinBands,
+            rebalanceRecommendation(trades.size(), totalSell, totalCost, withinBands)
+        );
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    /**
+     * Sells lots from the class cheapest first until grossLimit has been
+     * sold or netNeeded raised.
+     *
+     * @return Net proceeds after exit loads and transaction costs
+     */
+    private double sell(ClassBook book, double grossLimit, double netNeeded, TaxBook tax) {
+        List<LotBook> lots = new ArrayList<>(book.lots);
+        lots.removeIf(lot -> lot.quantity <= 0 || lot.price <= 0);
+        lots.sort(Comparator.comparingDouble(lot -> lot.costRate(tax)));
+
+        double sold = 0;
+        double raised = 0;
+        for (LotBook lot : lots) {
+            if (sold >= grossLimit - PAISA || raised >= netNeeded - PAISA) {
+                break;
+            }
+            double netRate = lot.netRate();
+            double gross = Math.min(lot.quantity * lot.price, grossLimit - sold);
+            if (netNeeded != Double.POSITIVE_INFINITY) {
+                gross = Math.min(gross, (netNeeded - raised) / netRate);
+            }
+
+            double quantity = Math.min(lot.quantity, gross / lot.price);
+            lot.quantity -= quantity;
+            tax.realize(lot, quantity * (lot.price - lot.buyPrice));
+
+            PositionBook position = lot.position;
+            position.soldQuantity += quantity;
+            position.soldAmount += gross;
+            position.exitLoad += lot.loaded ? gross * position.loadRate : 0;
+
+            sold += gross;
+            raised += gross * netRate;
+        }
+
+        book.value -= sold;
+        return raised;
+    }
+
+    /**
+     * @return Cash spent; the class grows by the amount net of transaction cost
+     */
+    private double buy(ClassBook book, double amount, double txnRate) {
+        book.bought += amount;
+        book.value += amount * (1 - txnRate);
+        return amount;
+    }
+
+    private String rebalanceRecommendation(int tradeCount, double totalSell, double totalCost, boolean withinBands) {
+        if (tradeCount == 0) {
+            return "Every asset class is within its tolerance band. No trades needed.";
+        }
+        if (totalSell <= PAISA) {
+            return String.format("%d purchase(s) with the fresh investment bring the portfolio into its bands " +
+                "without selling anything.", tradeCount);
+        }
+        return String.format("%d trade(s) bring the portfolio %s its bands at an estimated cost of ₹%s " +
+            "(tax, exit loads and charges).",
+            tradeCount, withinBands ? "into" : "closer to", money(totalCost));
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal percent(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static final class ClassBook {
+        final String name;
+        final double targetPercent;
+        final List<PositionBook> positions = new ArrayList<>();
+        final List<LotBook> lots = new ArrayList<>();
+        double lowerPercent;
+        double upperPercent;
+        double target;
+        double lower;
+        double upper;
+        double value;
+        double bought;
+
+        ClassBook(String name, double targetPercent) {
+            this.name = name;
+            this.targetPercent = targetPercent;
+        }
+
+        void add(PositionBook position) {
+            positions.add(position);
+            lots.addAll(position.lots);
+            value += position.value;
+        }
+
+        void setBands(double total, double tolerance) {
+            lowerPercent = Math.max(0, targetPercent - tolerance);
+            upperPercent = Math.min(100, targetPercent + tolerance);
+            target = total * targetPercent / 100.0;
+            lower = total * lowerPercent / 100.0;
+            upper = total * upperPercent / 100.0;
+        }
+
+        double cheapestRate(TaxBook tax) {
+            double cheapest = Double.POSITIVE_INFINITY;
+            for (LotBook lot : lots) {
+                if (lot.quantity > 0) {
+                    cheapest = Math.min(cheapest, lot.costRate(tax));
+                }
+            }
+            return cheapest;
+        }
+
+        String largestSymbol() {
+            return positions.stream()
+                .max(Comparator.comparingDouble(p -> p.value))
+                .map(p -> p.symbol)
+                .orElse(null);
+        }
+    }
+
+    private static final class PositionBook {
+        final String symbol;
+        final RebalanceOptimizationRequest.TaxTreatment treatment;
+        final double loadRate;
+        final double txnRate;
+        final List<LotBook> lots = new ArrayList<>();
+        double value;
+        double soldQuantity;
+        double soldAmount;
+        double exitLoad;
+        double shortTermGain;
+        double longTermGain;
+
+        PositionBook(RebalanceOptimizationRequest.Position position, LocalDate asOf, double txnRate) {
+            this.symbol = position.getSymbol();
+            this.treatment = position.getTaxTreatment();
+            this.loadRate = position.getExitLoadPercent().doubleValue() / 100.0;
+            this.txnRate = txnRate;
+
+            double price = position.getCurrentPrice().doubleValue();
+            int longTermMonths = treatment == RebalanceOptimizationRequest.TaxTreatment.EQUITY ? 12 : 24;
+
+            for (RebalanceOptimizationRequest.Lot lot : position.getLots()) {
+                LocalDate bought = lot.getPurchaseDate();
+                boolean longTerm = treatment != RebalanceOptimizationRequest.TaxTreatment.DEBT
+                    && bought.plusMonths(longTermMonths).isBefore(asOf);
+                boolean loaded = bought.plusDays(position.getExitLoadDays()).isAfter(asOf);
+
+                LotBook lotBook = new LotBook(this, lot.getQuantity().doubleValue(), price,
+                    lot.getBuyPrice().doubleValue(), longTerm, loaded);
+                lots.add(lotBook);
+                value += lotBook.quantity * price;
+            }
+        }
+    }
+
+    private static final class LotBook {
+        final PositionBook position;
+        final double price;
+        final double buyPrice;
+        final boolean longTerm;
+        final boolean loaded;
+        double quantity;
+
+        LotBook(PositionBook position, double quantity, double price, double buyPrice,
+                boolean longTerm, boolean loaded) {
+            this.position = position;
+            this.quantity = quantity;
+            this.price = price;
+            this.buyPrice = buyPrice;
+            this.longTerm = longTerm;
+            this.loaded = loaded;
+        }
+
+        /**
+         * Share of the sale value that reaches the investor
+         */
+        double netRate() {
+            return 1 - position.txnRate - (loaded ? position.loadRate : 0);
+        }
+
+        /**
+         * Cost of selling ₹1 of this lot; negative for losses worth harvesting
+         */
+        double costRate(TaxBook tax) {
+            double gainShare = price > 0 ? (price - buyPrice) / price : 0;
+            return 1 - netRate() + tax.marginalRate(this, gainShare) * gainShare;
+        }
+    }
+
+    /**
+     * Realized gains by tax bucket. Losses are netted the Indian way when
+     * settling: short-term losses offset any gain, long-term losses only
+     * long-term gains; the equity LTCG exemption applies last.
+     */
+    private static final class TaxBook {
+        static final int ST_SLAB = 0;
+        static final int ST_EQUITY = 1;
+        static final int LT_OTHER = 2;
+        static final int LT_EQUITY = 3;
+
+        final double stcgRate;
+        final double ltcgRate;
+        final double slabRate;
+        final double exemption;
+        final double[] gains = new double[4];
+        double netShortTerm;
+        double netLongTerm;
+        double tax;
+
+        TaxBook(RebalanceOptimizationRequest request) {
+            this.stcgRate = request.getStcgRatePercent().doubleValue() / 100.0;
+            this.ltcgRate = request.getLtcgRatePercent().doubleValue() / 100.0;
+            this.slabRate = request.getSlabRatePercent().doubleValue() / 100.0;
+            this.exemption = request.getLtcgExemption().doubleValue();
+        }
+
+        int bucket(LotBook lot) {
+            boolean equity = lot.position.treatment == RebalanceOptimizationRequest.TaxTreatment.EQUITY;
+            if (lot.longTerm) {
+                return equity ? LT_EQUITY : LT_OTHER;
+            }
+            return equity ? ST_EQUITY : ST_SLAB;
+        }
+
+        double rate(int bucket) {
+            return switch (bucket) {
+                case ST_SLAB -> slabRate;
+                case ST_EQUITY -> stcgRate;
+                default -> ltcgRate;
+            };
+        }
+
+        /**
+         * Tax per ₹1 of gain if the lot were sold now; equity LTCG is free
+         * while the exemption lasts
+         */
+        double marginalRate(LotBook lot, double gainShare) {
+            int bucket = bucket(lot);
+            if (bucket == LT_EQUITY && gainShare > 0 && gains[LT_EQUITY] < exemption) {
+                return 0;
+            }
+            return rate(bucket);
+        }
+
+        void realize(LotBook lot, double gain) {
+            gains[bucket(lot)] += gain;
+            if (lot.longTerm) {
+                lot.position.longTermGain += gain;
+            } else {
+                lot.position.shortTermGain += gain;
+            }
+        }
+
+        void settle() {
+            netShortTerm = gains[ST_SLAB] + gains[ST_EQUITY];
+            netLongTerm = gains[LT_OTHER] + gains[LT_EQUITY];
+
+            double shortLoss = -Math.min(0, gains[ST_SLAB]) - Math.min(0, gains[ST_EQUITY]);
+            double longLoss = -Math.min(0, gains[LT_OTHER]) - Math.min(0, gains[LT_EQUITY]);
+            for (int bucket = 0; bucket < gains.length; bucket++) {
+                gains[bucket] = Math.max(0, gains[bucket]);
+            }
+
+            // Highest-taxed gains absorb losses first; LT_OTHER before LT_EQUITY since the latter has the exemption
+            absorb(shortLoss, ST_SLAB, ST_EQUITY, LT_OTHER, LT_EQUITY);
+            absorb(longLoss, LT_OTHER, LT_EQUITY);
+
+            tax = gains[ST_SLAB] * slabRate
+                + gains[ST_EQUITY] * stcgRate
+                + gains[LT_OTHER] * ltcgRate
+                + Math.max(0, gains[LT_EQUITY] - exemption) * ltcgRate;
+        }
+
+        private void absorb(double loss, int... buckets) {
+            for (int bucket : buckets) {
+                double used = Math.min(loss, gains[bucket]);
+                gains[bucket] -= used;
+                loss -= used;
+            }
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.BatchCalculationRequest;
+import com.moneymatters.calculators.dto.BatchCalculationResponse;
+import com.moneymatters.calculators.dto.ResponseShape;
+
+import java.util.List;
+import java.util.function.Function;
+
+public interface CalculatorBatchService {
+
+    BatchCalculationResponse evaluate(BatchCalculationRequest request, ResponseShape shape);
+
+    /**
+     * Apply a calculation to every input concurrently, keeping input order.
+     * Each result is cached under the calculator name, keyed by the input
+     * plus keyParts. The first failure is rethrown.
+     */
+    <T, R> List<R> evaluateAll(String calculator, List<T> inputs, Function<T, R> calculation,
+                               Object... keyParts);
+}
@@ -0,0 +1,180 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.BatchCalculationRequest;
+import com.moneymatters.calculators.dto.BatchCalculationResponse;
+import com.moneymatters.calculators.dto.LoanAnalysisRequest;
+import com.moneymatters.calculators.dto.ResponseShape;
+import com.moneymatters.calculators.dto.RetirementPlanRequest;
+import com.moneymatters.calculators.dto.SIPStepupRequest;
+import com.moneymatters.calculators.dto.SWPRequest;
+import com.moneymatters.common.exception.InvalidRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Runs calculator requests concurrently on the bounded calculator pool.
+ * Items go through the same result cache as the single-calculator endpoints.
+ */
+@Service
+@Slf4j
+public class CalculatorBatchServiceImpl implements CalculatorBatchService {
+
+    private final SIPCalculatorService sipCalculatorService;
+    private final SWPCalculatorService swpCalculatorService;
+    private final LoanAnalyzerService loanAnalyzerService;
+    private final RetirementPlannerService retirementPlannerService;
+    private final CalculatorResultCache calculatorResultCache;
+    private final Executor calculatorExecutor;
+    private final long timeoutMs;
+
+    public CalculatorBatchServiceImpl(
+            SIPCalculatorService sipCalculatorService,
+            SWPCalculatorService swpCalculatorService,
+            LoanAnalyzerService loanAnalyzerService,
+            RetirementPlannerService retirementPlannerService,
+            CalculatorResultCache calculatorResultCache,
+            @Qualifier("calculatorExecutor") Executor calculatorExecutor,
+            @Value("${app.calculators.batch-timeout-ms:10000}") long timeoutMs) {
+        this.sipCalculatorService = sipCalculatorService;
+        this.swpCalculatorService = swpCalculatorService;
+        this.loanAnalyzerService = loanAnalyzerService;
+        this.retirementPlannerService = retirementPlannerService;
+        this.calculatorResultCache = calculatorResultCache;
+        this.calculatorExecutor = calculatorExecutor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public BatchCalculationResponse evaluate(BatchCalculationRequest request, ResponseShape shape) {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        List<BatchCalculationRequest.Item> items = request.getItems();
+        List<CompletableFuture<BatchCalculationResponse.Result>> futures = new ArrayList<>(items.size());
+        for (BatchCalculationRequest.Item item : items) {
+            futures.add(CompletableFuture.supplyAsync(() -> run(item, shape), calculatorExecutor));
+        }
+
+        // One failing or slow item never fails the whole batch
+        List<BatchCalculationResponse.Result> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BatchCalculationRequest.Item item = items.get(i);
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.add(futures.get(i).get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // Abandons the item: a queued one never starts, a running one
+                // finishes on its pool thread and its result is dropped
+                futures.get(i).cancel(false);
+                results.add(failure(item, "Calculation timed out"));
+            } catch (ExecutionException e) {
+                results.add(failure(item, e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(failure(item, "Calculation interrupted"));
+            }
+        }
+
+        int succeeded = (int) results.stream().filter(BatchCalculationResponse.Result::getSuccess).count();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        log.info("Batch of {} calculations: {} succeeded in {} ms", items.size(), succeeded, elapsedMs);
+
+        return new BatchCalculationResponse(results, succeeded, results.size() - succeeded, elapsedMs);
+    }
+
+    @Override
+    public <T, R> List<R> evaluateAll(String calculator, List<T> inputs, Function<T, R> calculation,
+                                      Object... keyParts) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            Object[] key = keyOf(input, keyParts);
+            futures.add(CompletableFuture.supplyAsync(
+                () -> calculatorResultCache.get(calculator, () -> calculation.apply(input), key),
+                calculatorExecutor));
+        }
+
+        List<R> results = new ArrayList<>(inputs.size());
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private BatchCalculationResponse.Result run(BatchCalculationRequest.Item item, ResponseShape shape) {
+        try {
+            return new BatchCalculationResponse.Result(
+                item.getId(), item.getType(), true, calculate(item, shape), null);
+        } catch (RuntimeException e) {
+            log.warn("Batch item {} ({}) failed: {}", item.getId(), item.getType(), e.getMessage());
+            return failure(item, e.getMessage());
+        }
+    }
+
+    private Object calculate(BatchCalculationRequest.Item item, ResponseShape shape) {
+        return switch (item.getType()) {
+            case SIP -> {
+                SIPStepupRequest sip = require(item.getSip(), "sip", item);
+                yield calculatorResultCache.get(
+                    "sip", () -> sipCalculatorService.calculateStepupSIP(sip), sip);
+            }
+            case SWP -> {
+                SWPRequest swp = require(item.getSwp(), "swp", item);
+                yield calculatorResultCache.get(
+                    "swp", () -> swpCalculatorService.calculateSWP(swp, shape), swp, shape);
+            }
+            case LOAN -> {
+                LoanAnalysisRequest loan = require(item.getLoan(), "loan", item);
+                yield calculatorResultCache.get(
+                    "loan", () -> loanAnalyzerService.analyzeLoan(loan, shape), loan, shape);
+            }
+            case RETIREMENT -> {
+                RetirementPlanRequest retirement = require(item.getRetirement(), "retirement", item);
+                yield calculatorResultCache.get(
+                    "retirement", () -> retirementPlannerService.calculateRetirementPlan(retirement), retirement);
+            }
+        };
+    }
+
+    private static Object[] keyOf(Object input, Object[] keyParts) {
+        Object[] key = new Object[keyParts.length + 1];
+        key[0] = input;
+        System.arraycopy(keyParts, 0, key, 1, keyParts.length);
+        return key;
+    }
+
+    private <T> T require(T payload, String field, BatchCalculationRequest.Item item) {
+        if (payload == null) {
+            throw new InvalidRequestException(
+                "Missing '" + field + "' payload for " + item.getType() + " calculation");
+        }
+        return payload;
+    }
+
+    private BatchCalculationResponse.Result failure(BatchCalculationRequest.Item item, String error) {
+        return new BatchCalculationResponse.Result(item.getId(), item.getType(), false, null, error);
+    }
+}
@@ -0,0 +1,190 @@
+package com.moneymatters.calculators.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes deterministic calculator results.
+ *
+ * The calculators are pure functions of their request (and response
+ * shape), so identical requests - the frontend's default inputs, shared
+ * links - are answered from memory. Requests are canonicalised before
+ * hashing: properties sorted, nulls dropped, and every BigDecimal
+ * normalised (12, 12.0 and 12.00 are the same key). Getters apply the DTO
+ * defaults, so an omitted optional field and its default also collide.
+ *
+ * Keys are the SHA-256 of the canonical JSON. Entries are weighed by the
+ * size of their canonical JSON in KiB, so a full 360-month schedule counts
+ * for far more than a summary. Past max-weight-kb Caffeine evicts the least
+ * recently and frequently used entries, and entries idle for
+ * expire-after-access-seconds are dropped.
+ *
+ * Cached responses are shared between callers and must be treated as
+ * read-only: controllers return them as-is and Jackson only reads them
+ * (CalculatorResultCacheTest checks this for the schedule-bearing ones).
+ */
+@Component
+@Slf4j
+public class CalculatorResultCache {
+
+    private final ObjectMapper canonicalMapper;
+    private final boolean enabled;
+    private final Cache<String, Object> results;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+    private final Counter hitsTotal;
+    private final Counter missesTotal;
+
+    public CalculatorResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.calculators.cache.enabled:true}") boolean enabled,
+            @Value("${app.calculators.cache.max-weight-kb:65536}") long maxWeightKb,
+            @Value("${app.calculators.cache.expire-after-access-seconds:1800}") long expireAfterAccessSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.canonicalMapper = canonicalMapper();
+        this.results = Caffeine.newBuilder()
+            .maximumWeight(maxWeightKb)
+            .weigher((String key, Object value) -> weighKb(value))
+            .expireAfterAccess(Duration.ofSeconds(expireAfterAccessSeconds))
+            .build();
+
+        this.hitsTotal = Counter.builder("calculator.cache.total").tag("result", "hit").register(meterRegistry);
+        this.missesTotal = Counter.builder("calculator.cache.total").tag("result", "miss").register(meterRegistry);
+        meterRegistry.gauge("calculator.cache.size", results, Cache::estimatedSize);
+        meterRegistry.gauge("calculator.cache.hit.ratio", this, CalculatorResultCache::hitRatio);
+    }
+
+    /**
+     * Cached result for the calculator and key parts, computing it on a miss.
+     *
+     * @param calculator Calculator name, also the metrics tag ("sip", "loan" ...)
+     * @param compute    The calculation; exceptions propagate and nothing is cached
+     * @param keyParts   Everything the result depends on (request, response shape)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String calculator, Supplier<T> compute, Object... keyParts) {
+        if (!enabled) {
+            return compute.get();
+        }
+
+        String key;
+        try {
+            key = calculator + ':' + hash(canonicalMapper.writeValueAsBytes(keyParts));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not canonicalise {} request, skipping cache: {}", calculator, e.getMessage());
+            return compute.get();
+        }
+
+        Counter[] hitMiss = counters.computeIfAbsent(calculator, this::registerCounters);
+
+        Object cached = results.getIfPresent(key);
+        if (cached != null) {
+            hitMiss[0].increment();
+            hitsTotal.increment();
+            return (T) cached;
+        }
+        hitMiss[1].increment();
+        missesTotal.increment();
+
+        T result = compute.get();
+        if (result != null) {
+            results.put(key, result);
+        }
+        return result;
+    }
+
+    public double hitRatio() {
+        double hits = hitsTotal.count();
+        double total = hits + missesTotal.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    public void clear() {
+        results.invalidateAll();
+    }
+
+    long size() {
+        results.cleanUp();
+        return results.estimatedSize();
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private Counter[] registerCounters(String calculator) {
+        return new Counter[] {
+            Counter.builder("calculator.cache").tag("calculator", calculator).tag("result", "hit")
+                .register(meterRegistry),
+            Counter.builder("calculator.cache").tag("calculator", calculator).tag("result", "miss")
+                .register(meterRegistry)
+        };
+    }
+
+    /**
+     * Canonical JSON size in KiB, at least 1. Only runs on a miss, once per entry.
+     */
+    private int weighKb(Object value) {
+        try {
+            return Math.max(1, canonicalMapper.writeValueAsBytes(value).length / 1024);
+        } catch (JsonProcessingException e) {
+            return 1;
+        }
+    }
+
+    private static ObjectMapper canonicalMapper() {
+        SimpleModule decimals = new SimpleModule();
+        decimals.addSerializer(BigDecimal.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider serializers)
+                    throws IOException {
+                gen.writeString(value.stripTrailingZeros().toPlainString());
+            }
+        });
+
+        return JsonMapper.builder()
+            .findAndAddModules()
+            .addModule(decimals)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+    }
+
+    private static String hash(byte[] canonical) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical);
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.*;
 import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.calculators.util.CashflowTimeline;
+import com.moneymatters.common.exception.InvalidRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,7 +22,10 @@ public class CashflowPlannerServiceImpl implements CashflowPlannerService {
     public CashflowResponse projectCashflow(CashflowRequest request) {
         log.info("Projecting cashflow for {} years", request.getProjectionYears());
 
-        // Calculate current month totals
+        // Lay every item onto the monthly timeline
+        CashflowTimeline timeline = buildTimeline(request);
+
+        // Current month snapshot: recurring items running now, as monthly equivalents
         BigDecimal currentMonthlyIncome = calculateTotal(request.getIncomes());
         BigDecimal currentMonthlyExpense = calculateTotal(request.getExpenses());
         BigDecimal currentNetCashflow = currentMonthlyIncome.subtract(currentMonthlyExpense);
@@ -30,13 +35,7 @@ public class CashflowPlannerServiceImpl implements CashflowPlannerService {
         );
 
         // Generate projections
-        List<CashflowResponse.YearlyCashflow> projections = generateProjections(
-            currentMonthlyIncome,
-            currentMonthlyExpense,
-            request.getProjectionYears(),
-            request.getExpectedIncomeGrowthPercent(),
-            request.getExpectedExpenseGrowthPercent()
-        );
+        List<CashflowResponse.YearlyCashflow> projections = generateProjections(timeline);
 
         // Calculate summary statistics
         BigDecimal totalSavings = projections.stream()
@@ -58,6 +57,8 @@ public class CashflowPlannerServiceImpl implements CashflowPlannerService {
             .reduce(BigDecimal.ZERO, BigDecimal::add)
             .divide(new BigDecimal(projections.size()), 2, RoundingMode.HALF_UP);
 
+        int firstDeficitMonth = timeline.firstDeficitMonth();
+
         // Generate breakdowns
         List<CashflowResponse.ItemBreakdown> incomeBreakdown = 
             generateBreakdown(request.getIncomes(), currentMonthlyIncome);
@@ -78,6 +79,8 @@ public class CashflowPlannerServiceImpl implements CashflowPlannerService {
             CalculationUtils.format(avgAnnualExpense),
             CalculationUtils.format(totalSavings),
             CalculationUtils.format(avgSavingsRate),
+            money(timeline.lowestNet()),
+            firstDeficitMonth > 0 ? firstDeficitMonth : null,
             projections,
             incomeBreakdown,
             expenseBreakdown,
@@ -87,12 +90,64 @@ public class CashflowPlannerServiceImpl implements CashflowPlannerService {
         );
     }
 
+    private CashflowTimeline buildTimeline(CashflowRequest request) {
+        int months = request.getProjectionYears() * 12;
+        CashflowTimeline timeline = new CashflowTimeline(months);
+        double incomeGrowth = request.getExpectedIncomeGrowthPercent().doubleValue();
+        double expenseGrowth = request.getExpectedExpenseGrowthPercent().doubleValue();
+
+        for (CashflowRequest.CashflowItem item : request.getIncomes()) {
+            timeline.addIncome(
+                item.getMonthlyAmount().doubleValue(),
+                item.getStartMonth(),
+                endMonth(item, months),
+                item.getFrequency().getMonths(),
+                item.getGrowthPercent() != null ? item.getGrowthPercent().doubleValue() : incomeGrowth
+            );
+        }
+        for (CashflowRequest.CashflowItem item : request.getExpenses()) {
+            timeline.addExpense(
+                item.getMonthlyAmount().doubleValue(),
+                item.getStartMonth(),
+                endMonth(item, months),
+                item.getFrequency().getMonths(),
+                item.getGrowthPercent() != null ? item.getGrowthPercent().doubleValue() : expenseGrowth
+            );
+        }
+        return timeline;
+    }
+
+    private int endMonth(CashflowRequest.CashflowItem item, int months) {
+        if (item.getEndMonth() == null) {
+            return Math.max(months, item.getStartMonth());
+        }
+        if (item.getEndMonth() < item.getStartMonth()) {
+            throw new InvalidRequestException(
+                "End month of '" + item.getName() + "' is before its start month");
+        }
+        return item.getEndMonth();
+    }
+
+    /**
+     * Monthly equivalent of the recurring items running in month 1.
+     * One-offs and items that start later show up in the projections only.
+     */
     private BigDecimal calculateTotal(List<CashflowRequest.CashflowItem> items) {
         return items.stream()
-            .map(CashflowRequest.CashflowItem::getMonthlyAmount)
+            .map(this::currentMonthlyAmount)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
+    private BigDecimal currentMonthlyAmount(CashflowRequest.CashflowItem item) {
+        int every = item.getFrequency().getMonths();
+        if (every == 0 || item.getStartMonth() > 1) {
+            return BigDecimal.ZERO;
+        }
+        return every == 1
+            ? item.getMonthlyAmount()
+            : item.getMonthlyAmount().divide(new BigDecimal(every), 2, RoundingMode.HALF_UP);
+    }
+
     private BigDecimal calculateSavingsRate(BigDecimal netCashflow, BigDecimal income) {
         if (income.compareTo(BigDecimal.ZERO) == 0) {
             return BigDecimal.ZERO;
@@ -102,55 +157,33 @@ public class CashflowPlannerServiceImpl implements CashflowPlannerService {
             .divide(income, 2, RoundingMode.HALF_UP);
     }
 
-    private List<CashflowResponse.YearlyCashflow> generateProjections(
-            BigDecimal baseMonthlyIncome,
-            BigDecimal baseMonthlyExpense,
-            int years,
-            BigDecimal incomeGrowthPercent,
-            BigDecimal expenseGrowthPercent) {
-
-        List<CashflowResponse.YearlyCashflow> projections = new ArrayList<>();
-        
-        BigDecimal incomeGrowthFactor = BigDecimal.ONE.add(
-            CalculationUtils.percentToDecimal(incomeGrowthPercent)
-        );
-        BigDecimal expenseGrowthFactor = BigDecimal.ONE.add(
-            CalculationUtils.percentToDecimal(expenseGrowthPercent)
-        );
+    /**
+     * Yearly rows aggregated from the monthly timeline. Monthly figures are
+     * the year's average month, so a bonus or a fee lifts its whole year.
+     */
+    private List<CashflowResponse.YearlyCashflow> generateProjections(CashflowTimeline timeline) {
+        List<CashflowResponse.YearlyCashflow> projections = new ArrayList<>(timeline.years());
+        double cumulativeSavings = 0;
 
-        BigDecimal cumulativeSavings = BigDecimal.ZERO;
-        BigDecimal currentMonthlyIncome = baseMonthlyIncome;
-        BigDecimal currentMonthlyExpense = baseMonthlyExpense;
-
-        for (int year = 1; year <= years; year++) {
-            // Calculate for this year
-            BigDecimal annualIncome = currentMonthlyIncome.multiply(new BigDecimal(12));
-            BigDecimal annualExpense = currentMonthlyExpense.multiply(new BigDecimal(12));
-            BigDecimal annualSavings = annualIncome.subtract(annualExpense);
-            BigDecimal monthlyNetCashflow = currentMonthlyIncome.subtract(currentMonthlyExpense);
-            
-            BigDecimal savingsRate = calculateSavingsRate(
-                monthlyNetCashflow,
-                currentMonthlyIncome
-            );
+        for (int year = 1; year <= timeline.years(); year++) {
+            double annualIncome = timeline.annualIncome(year);
+            double annualExpense = timeline.annualExpense(year);
+            double annualSavings = annualIncome - annualExpense;
+            double savingsRate = annualIncome > 0 ? annualSavings * 100 / annualIncome : 0;
 
-            cumulativeSavings = cumulativeSavings.add(annualSavings);
+            cumulativeSavings += annualSavings;
 
             projections.add(new CashflowResponse.YearlyCashflow(
                 year,
-                CalculationUtils.format(currentMonthlyIncome),
-                CalculationUtils.format(currentMonthlyExpense),
-                CalculationUtils.format(monthlyNetCashflow),
-                CalculationUtils.format(annualIncome),
-                CalculationUtils.format(annualExpense),
-                CalculationUtils.format(annualSavings),
-                CalculationUtils.format(savingsRate),
-                CalculationUtils.format(cumulativeSavings)
+                money(annualIncome / 12),
+                money(annualExpense / 12),
+                money(annualSavings / 12),
+                money(annualIncome),
+                money(annualExpense),
+                money(annualSavings),
+                money(savingsRate),
+                money(cumulativeSavings)
             ));
-
-            // Apply growth for next year
-            currentMonthlyIncome = currentMonthlyIncome.multiply(incomeGrowthFactor);
-            currentMonthlyExpense = currentMonthlyExpense.multiply(expenseGrowthFactor);
         }
 
         return projections;
@@ -161,14 +194,16 @@ public class CashflowPlannerServiceImpl implements CashflowPlannerService {
             BigDecimal total) {
 
         return items.stream()
+            .filter(item -> currentMonthlyAmount(item).signum() > 0)
             .map(item -> {
+                BigDecimal monthlyAmount = currentMonthlyAmount(item);
                 BigDecimal percentage = CalculationUtils.safeDivide(
-                    item.getMonthlyAmount().multiply(new BigDecimal(100)),
+                    monthlyAmount.multiply(new BigDecimal(100)),
                     total
                 );
                 return new CashflowResponse.ItemBreakdown(
                     item.getName(),
-                    CalculationUtils.format(item.getMonthlyAmount()),
+                    CalculationUtils.format(monthlyAmount),
                     CalculationUtils.format(percentage),
                     item.getCategory()
                 );
@@ -176,6 +211,10 @@ public class CashflowPlannerServiceImpl implements CashflowPlannerService {
             .toList();
     }
 
+    private BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
     private List<ChartPoint> generateIncomeVsExpenseChart(
             List<CashflowResponse.YearlyCashflow> projections) {
 
@@ -2,9 +2,12 @@ package com.moneymatters.calculators.service;
 
 import org.springframework.stereotype.Service;
 import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.calculators.util.FinancialMathKernel;
+import com.moneymatters.calculators.util.GrowthFactorTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
 
 /**
@@ -15,6 +18,12 @@ import java.math.RoundingMode;
  * 
  * PRINCIPLE: All rates are annual percentages
  * Example: 12% = input 12, not 0.12
+ *
+ * Every formula can run in two modes (see {@link Precision}):
+ * EXACT keeps the whole computation in BigDecimal and is the default
+ * (monthly (1 + r)^n factors come from {@link GrowthFactorTable}),
+ * FAST delegates to the double kernel in {@link FinancialMathKernel}
+ * and is meant for projections and chart series.
  */
 
 @Service
@@ -23,6 +32,17 @@ public class FinancialMathService {
     private static final Logger logger = LoggerFactory.getLogger(FinancialMathService.class);
     private static final int SCALE = 10;
     private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+    private static final MathContext EXACT_CONTEXT = MathContext.DECIMAL128;
+    private static final BigDecimal MONTHS_PER_YEAR_PERCENT = new BigDecimal(1200);
+
+    /**
+     * FAST: primitive double arithmetic, for projections and charts.
+     * EXACT: BigDecimal with a 34-digit MathContext, for displayed totals.
+     */
+    public enum Precision {
+        FAST,
+        EXACT
+    }
 
     // ==================== FUTURE VALUE ====================
 
@@ -37,10 +57,18 @@ public class FinancialMathService {
      * @param years Time period in years
      * @return Future value
      */
-     public BigDecimal calculateFutureValue(
+    public BigDecimal calculateFutureValue(
             BigDecimal presentValue,
             BigDecimal annualRatePercent,
             BigDecimal years) {
+        return calculateFutureValue(presentValue, annualRatePercent, years, Precision.EXACT);
+    }
+
+    public BigDecimal calculateFutureValue(
+            BigDecimal presentValue,
+            BigDecimal annualRatePercent,
+            BigDecimal years,
+            Precision precision) {
 
         logger.debug("Calculating FV: PV={}, rate={}, years={}", 
             presentValue, annualRatePercent, years);
@@ -50,10 +78,19 @@ public class FinancialMathService {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal rate = CalculationUtils.percentToDecimal(annualRatePercent);
+        if (precision == Precision.FAST) {
+            return FinancialMathKernel.toAmount(FinancialMathKernel.futureValue(
+                presentValue.doubleValue(),
+                FinancialMathKernel.toDouble(annualRatePercent),
+                years.intValue()
+            ));
+        }
+
+        BigDecimal rate = exactRate(annualRatePercent, new BigDecimal(100));
         BigDecimal factor = CalculationUtils.power(
             BigDecimal.ONE.add(rate),
-            years.intValue()
+            years.intValue(),
+            EXACT_CONTEXT
         );
 
         BigDecimal fv = presentValue.multiply(factor);
@@ -76,6 +113,14 @@ public class FinancialMathService {
             BigDecimal futureValue,
             BigDecimal annualRatePercent,
             BigDecimal years) {
+        return calculatePresentValue(futureValue, annualRatePercent, years, Precision.EXACT);
+    }
+
+    public BigDecimal calculatePresentValue(
+            BigDecimal futureValue,
+            BigDecimal annualRatePercent,
+            BigDecimal years,
+            Precision precision) {
 
         logger.debug("Calculating PV: FV={}, rate={}, years={}", 
             futureValue, annualRatePercent, years);
@@ -84,13 +129,26 @@ public class FinancialMathService {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal fvOfOne = calculateFutureValue(
-            BigDecimal.ONE, 
-            annualRatePercent, 
-            years
+        if (precision == Precision.FAST) {
+            return FinancialMathKernel.toAmount(FinancialMathKernel.presentValue(
+                futureValue.doubleValue(),
+                FinancialMathKernel.toDouble(annualRatePercent),
+                years == null ? 0 : years.intValue()
+            ));
+        }
+
+        if (!CalculationUtils.isNonNegative(years)) {
+            return BigDecimal.ZERO;
+        }
+
+        // Unrounded (1 + r)^n, so the division is not skewed by a 2-decimal factor
+        BigDecimal fvOfOne = CalculationUtils.power(
+            BigDecimal.ONE.add(exactRate(annualRatePercent, new BigDecimal(100))),
+            years.intValue(),
+            EXACT_CONTEXT
         );
 
-        BigDecimal pv = CalculationUtils.safeDivide(futureValue, fvOfOne);
+        BigDecimal pv = futureValue.divide(fvOfOne, EXACT_CONTEXT);
         return CalculationUtils.format(pv);
     }
     // ==================== EMI (LOAN PAYMENT) ====================
@@ -110,6 +168,14 @@ public class FinancialMathService {
             BigDecimal principal,
             BigDecimal annualRatePercent,
             Integer tenureMonths) {
+        return calculateEMI(principal, annualRatePercent, tenureMonths, Precision.EXACT);
+    }
+
+    public BigDecimal calculateEMI(
+            BigDecimal principal,
+            BigDecimal annualRatePercent,
+            Integer tenureMonths,
+            Precision precision) {
 
         logger.debug("Calculating EMI: principal={}, rate={}, months={}", 
             principal, annualRatePercent, tenureMonths);
@@ -118,8 +184,15 @@ public class FinancialMathService {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal monthlyRate = CalculationUtils.percentToDecimal(annualRatePercent)
-            .divide(new BigDecimal(12), SCALE, ROUNDING);
+        if (precision == Precision.FAST) {
+            return FinancialMathKernel.toAmount(FinancialMathKernel.emi(
+                principal.doubleValue(),
+                FinancialMathKernel.toDouble(annualRatePercent),
+                tenureMonths
+            ));
+        }
+
+        BigDecimal monthlyRate = exactRate(annualRatePercent, MONTHS_PER_YEAR_PERCENT);
 
         // Edge case: 0% rate
         if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
@@ -128,13 +201,12 @@ public class FinancialMathService {
             );
         }
 
-        BigDecimal base = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal powerN = CalculationUtils.power(base, tenureMonths);
+        BigDecimal powerN = GrowthFactorTable.monthlyFactor(annualRatePercent, tenureMonths);
 
-        BigDecimal numerator = monthlyRate.multiply(powerN);
+        BigDecimal numerator = monthlyRate.multiply(powerN, EXACT_CONTEXT);
         BigDecimal denominator = powerN.subtract(BigDecimal.ONE);
 
-        BigDecimal factor = CalculationUtils.safeDivide(numerator, denominator);
+        BigDecimal factor = numerator.divide(denominator, EXACT_CONTEXT);
         BigDecimal emi = principal.multiply(factor);
 
         return CalculationUtils.format(emi);
@@ -156,6 +228,14 @@ public class FinancialMathService {
             BigDecimal monthlyPayment,
             BigDecimal annualRatePercent,
             Integer months) {
+        return calculateAnnuityFutureValue(monthlyPayment, annualRatePercent, months, Precision.EXACT);
+    }
+
+    public BigDecimal calculateAnnuityFutureValue(
+            BigDecimal monthlyPayment,
+            BigDecimal annualRatePercent,
+            Integer months,
+            Precision precision) {
 
         logger.debug("Calculating AFV: payment={}, rate={}, months={}", 
             monthlyPayment, annualRatePercent, months);
@@ -164,8 +244,15 @@ public class FinancialMathService {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal monthlyRate = CalculationUtils.percentToDecimal(annualRatePercent)
-            .divide(new BigDecimal(12), SCALE, ROUNDING);
+        if (precision == Precision.FAST) {
+            return FinancialMathKernel.toAmount(FinancialMathKernel.annuityFutureValue(
+                monthlyPayment.doubleValue(),
+                FinancialMathKernel.toDouble(annualRatePercent),
+                months
+            ));
+        }
+
+        BigDecimal monthlyRate = exactRate(annualRatePercent, MONTHS_PER_YEAR_PERCENT);
 
         // Edge case: 0% rate
         if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
@@ -174,11 +261,10 @@ public class FinancialMathService {
             );
         }
 
-        BigDecimal base = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal powerN = CalculationUtils.power(base, months);
+        BigDecimal powerN = GrowthFactorTable.monthlyFactor(annualRatePercent, months);
 
         BigDecimal numerator = powerN.subtract(BigDecimal.ONE);
-        BigDecimal factor = CalculationUtils.safeDivide(numerator, monthlyRate);
+        BigDecimal factor = numerator.divide(monthlyRate, EXACT_CONTEXT);
 
         BigDecimal fva = monthlyPayment.multiply(factor);
         return CalculationUtils.format(fva);
@@ -201,6 +287,14 @@ public class FinancialMathService {
             BigDecimal currentValue,
             BigDecimal annualInflationPercent,
             Integer years) {
+        return adjustForInflation(currentValue, annualInflationPercent, years, Precision.EXACT);
+    }
+
+    public BigDecimal adjustForInflation(
+            BigDecimal currentValue,
+            BigDecimal annualInflationPercent,
+            Integer years,
+            Precision precision) {
 
         logger.debug("Adjusting for inflation: value={}, inflation={}, years={}", 
             currentValue, annualInflationPercent, years);
@@ -208,7 +302,8 @@ public class FinancialMathService {
         return calculateFutureValue(
             currentValue,
             annualInflationPercent,
-            new BigDecimal(years)
+            new BigDecimal(years),
+            precision
         );
     }
 
@@ -229,6 +324,14 @@ public class FinancialMathService {
             BigDecimal monthlyPayment,
             BigDecimal annualRatePercent,
             Integer months) {
+        return calculatePresentValueAnnuity(monthlyPayment, annualRatePercent, months, Precision.EXACT);
+    }
+
+    public BigDecimal calculatePresentValueAnnuity(
+            BigDecimal monthlyPayment,
+            BigDecimal annualRatePercent,
+            Integer months,
+            Precision precision) {
 
         logger.debug("Calculating PVA: payment={}, rate={}, months={}", 
             monthlyPayment, annualRatePercent, months);
@@ -237,8 +340,15 @@ public class FinancialMathService {
             return BigDecimal.ZERO;
         }
 
-        BigDecimal monthlyRate = CalculationUtils.percentToDecimal(annualRatePercent)
-            .divide(new BigDecimal(12), SCALE, ROUNDING);
+        if (precision == Precision.FAST) {
+            return FinancialMathKernel.toAmount(FinancialMathKernel.presentValueAnnuity(
+                monthlyPayment.doubleValue(),
+                FinancialMathKernel.toDouble(annualRatePercent),
+                months
+            ));
+        }
+
+        BigDecimal monthlyRate = exactRate(annualRatePercent, MONTHS_PER_YEAR_PERCENT);
 
         // Edge case: 0% rate
         if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
@@ -247,15 +357,25 @@ public class FinancialMathService {
             );
         }
 
-        BigDecimal base = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal powerN = CalculationUtils.power(base, months);
+        BigDecimal powerN = GrowthFactorTable.monthlyFactor(annualRatePercent, months);
 
-        BigDecimal discountFactor = CalculationUtils.safeDivide(BigDecimal.ONE, powerN);
+        BigDecimal discountFactor = BigDecimal.ONE.divide(powerN, EXACT_CONTEXT);
         BigDecimal numerator = BigDecimal.ONE.subtract(discountFactor);
 
-        BigDecimal factor = CalculationUtils.safeDivide(numerator, monthlyRate);
+        BigDecimal factor = numerator.divide(monthlyRate, EXACT_CONTEXT);
         BigDecimal pva = monthlyPayment.multiply(factor);
 
         return CalculationUtils.format(pva);
     }
+
+    /**
+     * Convert an annual percentage to a per-period decimal without
+     * truncating to a fixed scale (12 / 1200 = 0.01 monthly).
+     */
+    private BigDecimal exactRate(BigDecimal annualRatePercent, BigDecimal divisor) {
+        if (annualRatePercent == null) {
+            return BigDecimal.ZERO;
+        }
+        return annualRatePercent.divide(divisor, EXACT_CONTEXT);
+    }
 }
@@ -0,0 +1,12 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.GoalSeekRequest;
+import com.moneymatters.calculators.dto.GoalSeekResponse;
+
+public interface GoalSeekService {
+
+    /**
+     * Find the value of one calculator input that makes its output hit the target.
+     */
+    GoalSeekResponse solve(GoalSeekRequest request);
+}
@@ -0,0 +1,275 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.*;
+import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.calculators.util.FinancialMathKernel;
+import com.moneymatters.calculators.util.RootFinder;
+import com.moneymatters.calculators.util.StepupSIPMath;
+import com.moneymatters.common.exception.InvalidRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Goal seek over the calculators' closed forms.
+ *
+ * Each (calculator, variable) pair is turned into a one-dimensional
+ * function of the unknown, evaluated with the double kernel
+ * (FinancialMathKernel / StepupSIPMath) so a solve costs a few dozen
+ * formula evaluations and no allocation. Amounts and rates are solved
+ * with Brent's method after bracketing upwards from the request's own
+ * value; years, months and ages with a binary search for the first
+ * whole value that reaches the target.
+ */
+@Service
+@Slf4j
+public class GoalSeekServiceImpl implements GoalSeekService {
+
+    private static final double AMOUNT_TOLERANCE = 0.001;       // ₹
+    private static final double RATE_TOLERANCE = 1e-7;          // %
+    private static final int MAX_ITERATIONS = 100;
+    private static final double MAX_AMOUNT = 1e13;
+    private static final double MAX_RATE_PERCENT = 100;
+    private static final double DEFAULT_AMOUNT_GUESS = 10000;
+    private static final int MAX_YEARS = 100;
+    private static final int MAX_TENURE_MONTHS = 600;
+
+    @Override
+    public GoalSeekResponse solve(GoalSeekRequest request) {
+        long startNanos = System.nanoTime();
+        double target = request.getTarget().doubleValue();
+
+        Solution solution = switch (request.getCalculator()) {
+            case SIP -> solveSIP(require(request.getSip(), "sip"), request.getSolveFor(), target);
+            case SWP -> solveSWP(require(request.getSwp(), "swp"), request.getSolveFor(), target);
+            case LOAN -> solveLoan(require(request.getLoan(), "loan"), request.getSolveFor(), target);
+            case RETIREMENT -> solveRetirement(require(request.getRetirement(), "retirement"),
+                request.getMonthlySIP().doubleValue(), request.getSolveFor(), target);
+        };
+
+        long elapsedMicros = (System.nanoTime() - startNanos) / 1_000;
+        log.debug("Goal seek {} for {}: {} in {} evaluations, {} µs",
+            request.getCalculator(), request.getSolveFor(), solution.value(),
+            solution.evaluations(), elapsedMicros);
+
+        return new GoalSeekResponse(
+            request.getCalculator(),
+            request.getSolveFor(),
+            solution.value(),
+            CalculationUtils.format(request.getTarget()),
+            FinancialMathKernel.toAmount(solution.achieved()),
+            solution.evaluations(),
+            elapsedMicros
+        );
+    }
+
+    // ============================================================
+    // Calculators
+    // ============================================================
+
+    private Solution solveSIP(SIPStepupRequest sip, GoalSeekRequest.Variable variable, double target) {
+        requirePositiveTarget(target);
+        double monthlySIP = sip.getMonthlySIP().doubleValue();
+        double rate = sip.getExpectedAnnualReturnPercent().doubleValue();
+        double stepup = sip.getAnnualStepupPercent().doubleValue();
+        int years = sip.getYears();
+
+        return switch (variable) {
+            case MONTHLY_SIP -> solveAmount(
+                x -> x * StepupSIPMath.maturityFactor(rate, stepup, years), target, monthlySIP);
+            case STEPUP_PERCENT -> solveRate(
+                x -> monthlySIP * StepupSIPMath.maturityFactor(rate, x, years), target, stepup);
+            case RETURN_RATE -> solveRate(
+                x -> monthlySIP * StepupSIPMath.maturityFactor(x, stepup, years), target, rate);
+            case YEARS -> firstWhole(
+                n -> monthlySIP * StepupSIPMath.maturityFactor(rate, stepup, n), target, 1, MAX_YEARS, true);
+            default -> throw unsupported(GoalSeekRequest.Calculator.SIP, variable);
+        };
+    }
+
+    private Solution solveSWP(SWPRequest swp, GoalSeekRequest.Variable variable, double target) {
+        double corpus = swp.getStartingCorpus().doubleValue();
+        double withdrawal = swp.getMonthlyWithdrawal().doubleValue();
+        double rate = swp.getExpectedAnnualReturnPercent().doubleValue();
+        double inflation = swp.getInflationAdjusted() ? swp.getInflationPercent().doubleValue() : 0;
+        int months = swp.getDurationYears() * 12;
+
+        return switch (variable) {
+            case MONTHLY_WITHDRAWAL -> solveAmount(
+                x -> swpFinalCorpus(corpus, x, rate, inflation, months), target, withdrawal);
+            case STARTING_CORPUS -> solveAmount(
+                x -> swpFinalCorpus(x, withdrawal, rate, inflation, months), target, corpus);
+            case RETURN_RATE -> solveRate(
+                x -> swpFinalCorpus(corpus, withdrawal, x, inflation, months), target, rate);
+            case YEARS -> {
+                // Longest duration that still leaves the target: one year before the first that doesn't
+                IntToDoubleFunction finalCorpus = n -> swpFinalCorpus(corpus, withdrawal, rate, inflation, n * 12);
+                RootFinder.Root firstShort = RootFinder.smallestInteger(
+                    n -> finalCorpus.applyAsDouble(n) < target, 1, MAX_YEARS);
+                if (firstShort == null) {
+                    yield new Solution(BigDecimal.valueOf(MAX_YEARS), finalCorpus.applyAsDouble(MAX_YEARS), 1);
+                }
+                int years = (int) firstShort.x() - 1;
+                if (years < 1) {
+                    throw new InvalidRequestException("Withdrawals exhaust the corpus within the first year");
+                }
+                yield new Solution(BigDecimal.valueOf(years), finalCorpus.applyAsDouble(years), firstShort.evaluations());
+            }
+            default -> throw unsupported(GoalSeekRequest.Calculator.SWP, variable);
+        };
+    }
+
+    private Solution solveLoan(LoanAnalysisRequest loan, GoalSeekRequest.Variable variable, double target) {
+        requirePositiveTarget(target);
+        double principal = loan.getPrincipal().doubleValue();
+        double rate = loan.getAnnualInterestRatePercent().doubleValue();
+        int tenure = loan.getTenureMonths();
+
+        return switch (variable) {
+            case PRINCIPAL -> solveAmount(
+                x -> FinancialMathKernel.emi(x, rate, tenure), target, principal);
+            case INTEREST_RATE -> solveRate(
+                x -> FinancialMathKernel.emi(principal, x, tenure), target, rate);
+            // Shortest tenure whose EMI fits the target
+            case TENURE_MONTHS -> firstWhole(
+                n -> FinancialMathKernel.emi(principal, rate, n), target, 1, MAX_TENURE_MONTHS, false);
+            default -> throw unsupported(GoalSeekRequest.Calculator.LOAN, variable);
+        };
+    }
+
+    private Solution solveRetirement(RetirementPlanRequest plan, double monthlySIP,
+                                     GoalSeekRequest.Variable variable, double target) {
+        double preRate = plan.getExpectedReturnPreRetirementPercent().doubleValue();
+        int retirementAge = plan.getRetirementAge();
+
+        if (plan.getLifeExpectancy() < retirementAge && variable != GoalSeekRequest.Variable.RETIREMENT_AGE) {
+            throw new InvalidRequestException("Life expectancy cannot be less than retirement age");
+        }
+        if (retirementAge <= plan.getCurrentAge() && variable != GoalSeekRequest.Variable.RETIREMENT_AGE) {
+            throw new InvalidRequestException("Retirement age must be greater than current age");
+        }
+
+        return switch (variable) {
+            case MONTHLY_SIP -> solveAmount(
+                x -> retirementSurplus(plan, x, retirementAge, preRate), target, monthlySIP);
+            case RETURN_RATE -> solveRate(
+                x -> retirementSurplus(plan, monthlySIP, retirementAge, x), target, preRate);
+            // Earliest age at which the plan is funded
+            case RETIREMENT_AGE -> firstWhole(
+                age -> retirementSurplus(plan, monthlySIP, age, preRate), target,
+                plan.getCurrentAge() + 1, plan.getLifeExpectancy(), true);
+            default -> throw unsupported(GoalSeekRequest.Calculator.RETIREMENT, variable);
+        };
+    }
+
+    // ============================================================
+    // Closed forms
+    // ============================================================
+
+    /**
+     * Corpus after the SWP loop: withdrawals start at W and grow monthly by
+     * q = 1 + i/12 while the corpus grows by g = 1 + r/12:
+     * C·g^n - W·Σ q^(t-1)·g^(n-t) = C·g^n - W·(g^n - q^n)/(g - q)
+     */
+    private double swpFinalCorpus(double corpus, double withdrawal, double annualRatePercent,
+                                  double inflationPercent, int months) {
+        double g = 1 + FinancialMathKernel.monthlyRate(annualRatePercent);
+        double q = 1 + FinancialMathKernel.monthlyRate(inflationPercent);
+        double growth = Math.pow(g, months);
+
+        double series = Math.abs(g - q) < 1e-12
+            ? months * Math.pow(g, months - 1)
+            : (growth - Math.pow(q, months)) / (g - q);
+
+        return corpus * growth - withdrawal * series;
+    }
+
+    /**
+     * Projected corpus minus required corpus at retirement, as in the
+     * deterministic retirement plan
+     */
+    private double retirementSurplus(RetirementPlanRequest plan, double monthlySIP,
+                                     int retirementAge, double preRetirementRatePercent) {
+        int yearsToRetirement = retirementAge - plan.getCurrentAge();
+        int monthsInRetirement = (plan.getLifeExpectancy() - retirementAge) * 12;
+
+        double inflatedMonthlyExpense = FinancialMathKernel.futureValue(
+            plan.getCurrentMonthlyExpense().doubleValue(),
+            plan.getExpectedInflationPercent().doubleValue(),
+            yearsToRetirement);
+        double required = FinancialMathKernel.presentValueAnnuity(
+            inflatedMonthlyExpense,
+            plan.getExpectedReturnPostRetirementPercent().doubleValue(),
+            monthsInRetirement);
+
+        double projected = FinancialMathKernel.futureValue(
+                plan.getExistingCorpus().doubleValue(), preRetirementRatePercent, yearsToRetirement)
+            + FinancialMathKernel.annuityFutureValue(
+                monthlySIP, preRetirementRatePercent, yearsToRetirement * 12);
+
+        return projected - required;
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private record Solution(BigDecimal value, double achieved, int evaluations) {
+    }
+
+    private Solution solveAmount(DoubleUnaryOperator output, double target, double guess) {
+        return solveContinuous(output, target, guess > 0 ? guess : DEFAULT_AMOUNT_GUESS,
+            MAX_AMOUNT, AMOUNT_TOLERANCE, 2);
+    }
+
+    private Solution solveRate(DoubleUnaryOperator output, double target, double guess) {
+        return solveContinuous(output, target, guess > 0 ? guess : 1,
+            MAX_RATE_PERCENT, RATE_TOLERANCE, 4);
+    }
+
+    private Solution solveContinuous(DoubleUnaryOperator output, double target, double guess,
+                                     double limit, double tolerance, int scale) {
+        RootFinder.Root root = RootFinder.solveUpward(
+            x -> output.applyAsDouble(x) - target, 0, guess, limit, tolerance, MAX_ITERATIONS);
+
+        BigDecimal value = BigDecimal.valueOf(root.x()).setScale(scale, RoundingMode.HALF_UP);
+        return new Solution(value, output.applyAsDouble(value.doubleValue()), root.evaluations());
+    }
+
+    /**
+     * First whole number in range whose output reaches the target
+     * (at least the target when rising, at most when falling)
+     */
+    private Solution firstWhole(IntToDoubleFunction output, double target, int lower, int upper, boolean rising) {
+        RootFinder.Root root = RootFinder.smallestInteger(
+            n -> rising ? output.applyAsDouble(n) >= target : output.applyAsDouble(n) <= target,
+            lower, upper);
+        if (root == null) {
+            throw new InvalidRequestException("Target is not reachable within " + upper);
+        }
+        int n = (int) root.x();
+        return new Solution(BigDecimal.valueOf(n), output.applyAsDouble(n), root.evaluations());
+    }
+
+    private <T> T require(T payload, String field) {
+        if (payload == null) {
+            throw new InvalidRequestException("Missing '" + field + "' payload");
+        }
+        return payload;
+    }
+
+    private void requirePositiveTarget(double target) {
+        if (target <= 0) {
+            throw new InvalidRequestException("Target must be greater than zero");
+        }
+    }
+
+    private InvalidRequestException unsupported(GoalSeekRequest.Calculator calculator,
+                                                 GoalSeekRequest.Variable variable) {
+        return new InvalidRequestException("Cannot solve " + calculator + " for " + variable);
+    }
+}
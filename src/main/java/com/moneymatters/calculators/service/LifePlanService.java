@@ -0,0 +1,13 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.LifePlanRequest;
+import com.moneymatters.calculators.dto.LifePlanResponse;
+
+public interface LifePlanService {
+
+    /**
+     * Evaluate income, expenses, SIPs, loans, withdrawals and goals together
+     * on one monthly timeline.
+     */
+    LifePlanResponse evaluatePlan(LifePlanRequest request);
+}
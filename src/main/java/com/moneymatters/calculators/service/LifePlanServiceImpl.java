@@ -0,0 +1,238 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.*;
+import com.moneymatters.calculators.util.AmortizationEngine;
+import com.moneymatters.calculators.util.CashflowTimeline;
+import com.moneymatters.calculators.util.FinancialMathKernel;
+import com.moneymatters.calculators.util.LifePlanTimeline;
+import com.moneymatters.calculators.util.PrepaymentSchedule;
+import com.moneymatters.common.exception.InvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Household plan on one shared monthly timeline.
+ *
+ * Every component writes its flows onto the same primitive series (the
+ * loans through the loan analyzer's amortization engine, income and
+ * expenses through the cashflow planner's timeline) and the plan is then
+ * settled in a single pass, so a house loan, a child's education and
+ * retirement see each other's cashflows instead of being N separate
+ * calculator calls stitched together by the client.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LifePlanServiceImpl implements LifePlanService {
+
+    private final FinancialMathService financialMathService;
+
+    @Override
+    public LifePlanResponse evaluatePlan(LifePlanRequest request) {
+        log.info("Evaluating life plan over {} years: {} incomes, {} expenses, {} SIPs, {} loans, {} withdrawals, {} goals",
+            request.getHorizonYears(), request.getIncomes().size(), request.getExpenses().size(),
+            request.getSips().size(), request.getLoans().size(), request.getWithdrawals().size(),
+            request.getGoals().size());
+
+        int months = request.getHorizonYears() * 12;
+        double inflation = request.getInflationPercent().doubleValue();
+        LifePlanTimeline timeline = new LifePlanTimeline(months);
+
+        // Cashflow planner: income and expenses
+        addCashflows(timeline.cashflow(), request, months, inflation);
+
+        // SIP calculator: contributions into the portfolio
+        for (LifePlanRequest.PlannedSip sip : request.getSips()) {
+            timeline.addSip(
+                sip.getMonthlyAmount().doubleValue(),
+                sip.getStartMonth(),
+                endMonth(sip.getName(), sip.getStartMonth(), sip.getEndMonth(), months),
+                sip.getAnnualStepupPercent().doubleValue()
+            );
+        }
+
+        // Loan analyzer: EMIs, prepayments and outstanding balance
+        List<LifePlanResponse.LoanOutcome> loans = new ArrayList<>();
+        long totalInterest = 0;
+        for (LifePlanRequest.PlannedLoan planned : request.getLoans()) {
+            LoanAnalysisRequest loan = planned.getLoan();
+            BigDecimal emi = financialMathService.calculateEMI(
+                loan.getPrincipal(), loan.getAnnualInterestRatePercent(), loan.getTenureMonths());
+
+            AmortizationEngine.Result result = timeline.addLoan(
+                AmortizationEngine.toPaise(loan.getPrincipal()),
+                AmortizationEngine.toPaise(emi),
+                loan.getAnnualInterestRatePercent().doubleValue(),
+                loan.getTenureMonths(),
+                planned.getStartMonth(),
+                PrepaymentSchedule.of(loan.getPrepayments(), loan.getTenureMonths())
+            );
+            totalInterest += result.totalInterest();
+
+            loans.add(new LifePlanResponse.LoanOutcome(
+                planned.getName(),
+                planned.getStartMonth(),
+                emi,
+                AmortizationEngine.fromPaise(result.totalInterest()),
+                planned.getStartMonth() + result.months()
+            ));
+        }
+
+        // SWP calculator: withdrawals from the portfolio
+        for (LifePlanRequest.PlannedWithdrawal withdrawal : request.getWithdrawals()) {
+            timeline.addWithdrawal(
+                withdrawal.getMonthlyAmount().doubleValue(),
+                withdrawal.getStartMonth(),
+                endMonth(withdrawal.getName(), withdrawal.getStartMonth(), withdrawal.getEndMonth(), months),
+                withdrawal.getInflationAdjusted() ? inflation : 0.0
+            );
+        }
+
+        for (LifePlanRequest.Goal goal : request.getGoals()) {
+            if (goal.getTargetMonth() > months) {
+                throw new InvalidRequestException(
+                    "Goal '" + goal.getName() + "' falls after the end of the plan");
+            }
+            timeline.addGoal(goal.getAmountToday().doubleValue(), goal.getTargetMonth(), inflation);
+        }
+
+        // One pass over the whole plan
+        LifePlanTimeline.Result result = timeline.evaluate(
+            request.getStartingCorpus().doubleValue(),
+            request.getStartingCash().doubleValue(),
+            request.getExpectedAnnualReturnPercent().doubleValue()
+        );
+
+        List<LifePlanResponse.YearlyPlan> projections = generateProjections(timeline, result);
+        LifePlanResponse.YearlyPlan lastYear = projections.get(projections.size() - 1);
+
+        return new LifePlanResponse(
+            lastYear.getCorpus(),
+            lastYear.getCashBalance(),
+            lastYear.getLoanOutstanding(),
+            lastYear.getNetWorth(),
+            FinancialMathKernel.toAmount(result.totalInvested()),
+            FinancialMathKernel.toAmount(result.totalReturns()),
+            AmortizationEngine.fromPaise(totalInterest),
+            FinancialMathKernel.toAmount(result.totalShortfall()),
+            result.shortfallMonth() > 0 ? result.shortfallMonth() : null,
+            result.depletedMonth() > 0 ? result.depletedMonth() : null,
+            result.shortfallMonth() == 0,
+            goalOutcomes(request.getGoals(), result),
+            loans,
+            projections,
+            projections.stream()
+                .map(p -> new ChartPoint("Year " + p.getYear(), p.getNetWorth()))
+                .toList(),
+            projections.stream()
+                .map(p -> new ChartPoint("Year " + p.getYear(), p.getCorpus()))
+                .toList()
+        );
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private void addCashflows(CashflowTimeline cashflow, LifePlanRequest request, int months, double inflation) {
+        double incomeGrowth = request.getIncomeGrowthPercent().doubleValue();
+
+        for (CashflowRequest.CashflowItem item : request.getIncomes()) {
+            cashflow.addIncome(
+                item.getMonthlyAmount().doubleValue(),
+                item.getStartMonth(),
+                endMonth(item.getName(), item.getStartMonth(), item.getEndMonth(), months),
+                item.getFrequency().getMonths(),
+                item.getGrowthPercent() != null ? item.getGrowthPercent().doubleValue() : incomeGrowth
+            );
+        }
+        for (CashflowRequest.CashflowItem item : request.getExpenses()) {
+            cashflow.addExpense(
+                item.getMonthlyAmount().doubleValue(),
+                item.getStartMonth(),
+                endMonth(item.getName(), item.getStartMonth(), item.getEndMonth(), months),
+                item.getFrequency().getMonths(),
+                item.getGrowthPercent() != null ? item.getGrowthPercent().doubleValue() : inflation
+            );
+        }
+    }
+
+    private int endMonth(String name, int startMonth, Integer endMonth, int months) {
+        if (endMonth == null) {
+            return Math.max(months, startMonth);
+        }
+        if (endMonth < startMonth) {
+            throw new InvalidRequestException(
+                "End month of '" + name + "' is before its start month");
+        }
+        return endMonth;
+    }
+
+    private List<LifePlanResponse.YearlyPlan> generateProjections(
+            LifePlanTimeline timeline, LifePlanTimeline.Result result) {
+
+        CashflowTimeline cashflow = timeline.cashflow();
+        int years = cashflow.years();
+        List<LifePlanResponse.YearlyPlan> projections = new ArrayList<>(years);
+
+        for (int year = 1; year <= years; year++) {
+            int first = (year - 1) * 12 + 1;
+            int last = Math.min(year * 12, timeline.months());
+
+            double loanPayments = 0;
+            double sipContributions = 0;
+            double withdrawals = 0;
+            double goalPayments = 0;
+            for (int m = first; m <= last; m++) {
+                loanPayments += timeline.debt(m);
+                sipContributions += timeline.sip(m);
+                withdrawals += timeline.withdrawal(m);
+                goalPayments += result.goalPaid()[m - 1];
+            }
+
+            double cash = result.cash()[last - 1];
+            double corpus = result.corpus()[last - 1];
+            double loanOutstanding = timeline.loanBalance(last);
+
+            projections.add(new LifePlanResponse.YearlyPlan(
+                year,
+                FinancialMathKernel.toAmount(cashflow.annualIncome(year)),
+                FinancialMathKernel.toAmount(cashflow.annualExpense(year)),
+                FinancialMathKernel.toAmount(loanPayments),
+                FinancialMathKernel.toAmount(sipContributions),
+                FinancialMathKernel.toAmount(withdrawals),
+                FinancialMathKernel.toAmount(goalPayments),
+                FinancialMathKernel.toAmount(cash),
+                FinancialMathKernel.toAmount(corpus),
+                FinancialMathKernel.toAmount(loanOutstanding),
+                FinancialMathKernel.toAmount(cash + corpus - loanOutstanding)
+            ));
+        }
+
+        return projections;
+    }
+
+    private List<LifePlanResponse.GoalOutcome> goalOutcomes(
+            List<LifePlanRequest.Goal> goals, LifePlanTimeline.Result result) {
+
+        List<LifePlanResponse.GoalOutcome> outcomes = new ArrayList<>(goals.size());
+        for (int g = 0; g < goals.size(); g++) {
+            double due = result.goalDue()[g];
+            double funded = result.goalFunded()[g];
+            outcomes.add(new LifePlanResponse.GoalOutcome(
+                goals.get(g).getName(),
+                goals.get(g).getTargetMonth(),
+                FinancialMathKernel.toAmount(due),
+                FinancialMathKernel.toAmount(funded),
+                FinancialMathKernel.toAmount(due - funded),
+                due - funded < 0.005
+            ));
+        }
+        return outcomes;
+    }
+}
@@ -2,7 +2,12 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.LoanAnalysisRequest;
 import com.moneymatters.calculators.dto.LoanAnalysisResponse;
+import com.moneymatters.calculators.dto.ResponseShape;
 
 public interface LoanAnalyzerService {
-    LoanAnalysisResponse analyzeLoan(LoanAnalysisRequest request);
+    default LoanAnalysisResponse analyzeLoan(LoanAnalysisRequest request) {
+        return analyzeLoan(request, ResponseShape.full());
+    }
+
+    LoanAnalysisResponse analyzeLoan(LoanAnalysisRequest request, ResponseShape shape);
 }
@@ -1,13 +1,15 @@
 package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.*;
+import com.moneymatters.calculators.util.AmortizationEngine;
 import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.calculators.util.ChartSampler;
+import com.moneymatters.calculators.util.PrepaymentSchedule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,8 +25,8 @@ public class LoanAnalyzerServiceImpl implements LoanAnalyzerService {
     // ============================================================
     
     @Override
-    public LoanAnalysisResponse analyzeLoan(LoanAnalysisRequest request) {
-        log.info("Analyzing loan: {}", request);
+    public LoanAnalysisResponse analyzeLoan(LoanAnalysisRequest request, ResponseShape shape) {
+        log.info("Analyzing loan: {} (view={})", request, shape.getView());
 
         // Calculate EMI using FinancialMathService
         BigDecimal emi = financialMathService.calculateEMI(
@@ -33,38 +35,26 @@ public class LoanAnalyzerServiceImpl implements LoanAnalyzerService {
             request.getTenureMonths()
         );
 
-        BigDecimal monthlyRate = CalculationUtils.percentToDecimal(
-            request.getAnnualInterestRatePercent()
-        ).divide(new BigDecimal(12), 10, RoundingMode.HALF_UP);
-
-        // Generate amortization schedule WITHOUT prepayments first (for original values)
-        List<MonthlyPaymentBreakdown> originalSchedule = generateAmortizationSchedule(
-            request.getPrincipal(),
-            emi,
-            monthlyRate,
+        long principal = AmortizationEngine.toPaise(request.getPrincipal());
+        long emiPaise = AmortizationEngine.toPaise(emi);
+        double annualRate = request.getAnnualInterestRatePercent().doubleValue();
+        PrepaymentSchedule prepayments = PrepaymentSchedule.of(
+            request.getPrepayments(), request.getTenureMonths());
+
+        // Single pass WITH prepayments; only the rows the shape asks for are
+        // materialised, totals come back from the engine
+        ScheduleCollector collector = new ScheduleCollector(shape, request.getTenureMonths());
+        AmortizationEngine.Result result = AmortizationEngine.amortize(
+            principal,
+            emiPaise,
+            annualRate,
             request.getTenureMonths(),
-            null  // No prepayments for original calculation
+            prepayments,
+            collector
         );
+        collector.finish();
 
-        // Calculate original total interest (without prepayments)
-        BigDecimal originalTotalInterest = originalSchedule.stream()
-            .map(MonthlyPaymentBreakdown::getInterestPaid)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Generate amortization schedule WITH prepayments (for actual values)
-        List<MonthlyPaymentBreakdown> schedule = generateAmortizationSchedule(
-            request.getPrincipal(),
-            emi,
-            monthlyRate,
-            request.getTenureMonths(),
-            request.getPrepayments()
-        );
-
-        // Calculate totals from schedule (with prepayments if any)
-        BigDecimal totalInterest = schedule.stream()
-            .map(MonthlyPaymentBreakdown::getInterestPaid)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
+        BigDecimal totalInterest = AmortizationEngine.fromPaise(result.totalInterest());
         BigDecimal totalAmount = request.getPrincipal().add(totalInterest);
 
         BigDecimal interestPercentage = CalculationUtils.safeDivide(
@@ -76,28 +66,26 @@ public class LoanAnalyzerServiceImpl implements LoanAnalyzerService {
         PrepaymentImpact prepaymentImpact = calculatePrepaymentImpact(
             request,
             emi,
-            originalTotalInterest,  // Use original interest (without prepayments)
-            schedule
+            principal,
+            emiPaise,
+            annualRate,
+            result
         );
 
-        // Generate chart data
-        List<ChartPoint> principalVsInterestChart = 
-            generatePrincipalVsInterestChart(schedule);
-        List<ChartPoint> balanceOverTimeChart = 
-            generateBalanceOverTimeChart(schedule);
-
         // Return complete response
         return new LoanAnalysisResponse(
             CalculationUtils.format(emi),
             CalculationUtils.format(totalAmount),
             CalculationUtils.format(totalInterest),
-            schedule.size(),
+            result.months(),
             request.getPrincipal(),
             CalculationUtils.format(interestPercentage),
-            schedule,
+            collector.schedule,
+            collector.yearly,
+            SchedulePage.of(shape, collector.rows(), result.months()),
             prepaymentImpact,
-            principalVsInterestChart,
-            balanceOverTimeChart
+            ChartSampler.downsample(collector.principalPoints, shape.getChartPoints()),
+            ChartSampler.downsample(collector.balancePoints, shape.getChartPoints())
         );
     }
 
@@ -105,144 +93,43 @@ public class LoanAnalyzerServiceImpl implements LoanAnalyzerService {
     // Helper Methods (Write these BELOW the main method)
     // ============================================================
 
-    private List<MonthlyPaymentBreakdown> generateAmortizationSchedule(
-            BigDecimal principal,
-            BigDecimal emi,
-            BigDecimal monthlyRate,
-            int tenureMonths,
-            List<PrepaymentScenario> prepayments) {
-
-        List<MonthlyPaymentBreakdown> schedule = new ArrayList<>();
-        
-        BigDecimal balance = principal;
-        BigDecimal cumulativeInterest = BigDecimal.ZERO;
-        BigDecimal cumulativePrincipal = BigDecimal.ZERO;
-        
-        BigDecimal currentEMI = emi;
-
-        for (int month = 1; month <= tenureMonths && balance.compareTo(new BigDecimal("1")) > 0; month++) {
-            
-            BigDecimal openingBalance = balance;
-            
-            // Interest for this month
-            BigDecimal interestPaid = balance.multiply(monthlyRate);
-            interestPaid = CalculationUtils.format(interestPaid);
-            
-            // Principal for this month
-            BigDecimal principalPaid = currentEMI.subtract(interestPaid);
-            
-            // Don't pay more than remaining balance
-            if (principalPaid.compareTo(balance) > 0) {
-                principalPaid = balance;
-                currentEMI = principalPaid.add(interestPaid);
-            }
-            
-            principalPaid = CalculationUtils.format(principalPaid);
-            
-            // Update balance
-            balance = balance.subtract(principalPaid);
-            if (balance.compareTo(BigDecimal.ZERO) < 0) {
-                balance = BigDecimal.ZERO;
-            }
-            
-            // Update cumulatives
-            cumulativeInterest = cumulativeInterest.add(interestPaid);
-            cumulativePrincipal = cumulativePrincipal.add(principalPaid);
-            
-            // Add to schedule
-            schedule.add(new MonthlyPaymentBreakdown(
-                month,
-                (month - 1) / 12 + 1,
-                CalculationUtils.format(openingBalance),
-                CalculationUtils.format(currentEMI),
-                interestPaid,
-                principalPaid,
-                CalculationUtils.format(balance),
-                CalculationUtils.format(cumulativeInterest),
-                CalculationUtils.format(cumulativePrincipal)
-            ));
-            
-            // Handle prepayments at this month
-            if (prepayments != null) {
-                for (PrepaymentScenario prepayment : prepayments) {
-                    if (prepayment.getAtMonth().equals(month)) {
-                        balance = balance.subtract(prepayment.getAmount());
-                        if (balance.compareTo(BigDecimal.ZERO) < 0) {
-                            balance = BigDecimal.ZERO;
-                        }
-                        
-                        if (prepayment.getOption() == PrepaymentScenario.PrepaymentOption.REDUCE_EMI) {
-                            int remainingMonths = tenureMonths - month;
-                            currentEMI = recalculateEMI(balance, monthlyRate, remainingMonths);
-                        }
-                    }
-                }
-            }
-            
-            if (balance.compareTo(new BigDecimal("1")) < 0) {
-                break;
-            }
-        }
-        
-        return schedule;
-    }
-
-    private BigDecimal recalculateEMI(
-            BigDecimal principal,
-            BigDecimal monthlyRate,
-            int remainingMonths) {
-
-        if (remainingMonths <= 0 || principal.compareTo(BigDecimal.ZERO) <= 0) {
-            return BigDecimal.ZERO;
-        }
-
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
-            return CalculationUtils.safeDivide(principal, new BigDecimal(remainingMonths));
-        }
-
-        BigDecimal base = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal powerN = CalculationUtils.power(base, remainingMonths);
-        
-        BigDecimal numerator = monthlyRate.multiply(powerN);
-        BigDecimal denominator = powerN.subtract(BigDecimal.ONE);
-        
-        BigDecimal factor = CalculationUtils.safeDivide(numerator, denominator);
-        return CalculationUtils.format(principal.multiply(factor));
-    }
-
     private PrepaymentImpact calculatePrepaymentImpact(
             LoanAnalysisRequest request,
             BigDecimal originalEMI,
-            BigDecimal originalTotalInterest,
-            List<MonthlyPaymentBreakdown> scheduleWithPrepayment) {
+            long principal,
+            long emiPaise,
+            double annualRate,
+            AmortizationEngine.Result withPrepayment) {
 
         if (request.getPrepayments() == null || request.getPrepayments().isEmpty()) {
             return null;
         }
 
-        BigDecimal totalPrepayment = request.getPrepayments().stream()
-            .map(PrepaymentScenario::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Original interest (without prepayments): totals only, no rows
+        AmortizationEngine.Result original = AmortizationEngine.amortize(
+            principal,
+            emiPaise,
+            annualRate,
+            request.getTenureMonths(),
+            null,
+            null
+        );
+
+        // Recurring scenarios expand to many payments; report what was applied
+        BigDecimal totalPrepayment = AmortizationEngine.fromPaise(withPrepayment.totalPrepaid());
 
         BigDecimal originalTotalCost = originalEMI
             .multiply(new BigDecimal(request.getTenureMonths()));
 
-        BigDecimal newTotalInterest = scheduleWithPrepayment.stream()
-            .map(MonthlyPaymentBreakdown::getInterestPaid)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal newTotalCost = AmortizationEngine.fromPaise(
+                withPrepayment.totalInterest() + withPrepayment.totalPrincipal())
+            .add(totalPrepayment);
 
-        BigDecimal newTotalPrincipal = scheduleWithPrepayment.stream()
-            .map(MonthlyPaymentBreakdown::getPrincipalPaid)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal interestSaved = AmortizationEngine.fromPaise(
+            original.totalInterest() - withPrepayment.totalInterest());
+        int monthsSaved = request.getTenureMonths() - withPrepayment.months();
 
-        BigDecimal newTotalCost = newTotalInterest.add(newTotalPrincipal).add(totalPrepayment);
-
-        BigDecimal interestSaved = originalTotalInterest.subtract(newTotalInterest);
-        int monthsSaved = request.getTenureMonths() - scheduleWithPrepayment.size();
-
-        BigDecimal newEMI = scheduleWithPrepayment.isEmpty() 
-            ? BigDecimal.ZERO 
-            : scheduleWithPrepayment.get(scheduleWithPrepayment.size() - 1).getEmi();
+        BigDecimal newEMI = AmortizationEngine.fromPaise(withPrepayment.lastEmi());
 
         return new PrepaymentImpact(
             CalculationUtils.format(totalPrepayment),
@@ -254,51 +141,125 @@ public class LoanAnalyzerServiceImpl implements LoanAnalyzerService {
         );
     }
 
-    private List<ChartPoint> generatePrincipalVsInterestChart(
-            List<MonthlyPaymentBreakdown> schedule) {
-
-        List<ChartPoint> chart = new ArrayList<>();
-        
-        for (int i = 0; i < schedule.size(); i += 12) {
-            MonthlyPaymentBreakdown month = schedule.get(i);
-            chart.add(new ChartPoint(
-                "Month " + month.getMonth(),
-                month.getCumulativePrincipal()
-            ));
+    /**
+     * Turns engine rows into the response schedule and samples the charts
+     * (every 12th month plus the last month) in the same pass. Depending on
+     * the requested shape it keeps every month, a page of months, one row
+     * per year, or no rows at all.
+     */
+    private static final class ScheduleCollector implements AmortizationEngine.MonthVisitor {
+
+        private final ResponseShape shape;
+        private final List<MonthlyPaymentBreakdown> schedule;
+        private final List<YearlyPaymentSummary> yearly;
+        private final List<ChartPoint> principalPoints = new ArrayList<>();
+        private final List<ChartPoint> balancePoints = new ArrayList<>();
+
+        private int lastMonth;
+        private long lastClosingBalance;
+        private long lastCumulativeInterest;
+        private long lastCumulativePrincipal;
+
+        private int yearMonths;
+        private long yearOpeningBalance;
+        private long yearPaid;
+        private long yearInterest;
+        private long yearPrincipal;
+
+        ScheduleCollector(ResponseShape shape, int tenureMonths) {
+            this.shape = shape;
+            this.schedule = switch (shape.getView()) {
+                case FULL -> new ArrayList<>(tenureMonths);
+                case MONTHLY -> new ArrayList<>(Math.min(shape.getLimit(), tenureMonths));
+                default -> null;
+            };
+            this.yearly = shape.getView() == ResponseShape.ScheduleView.YEARLY
+                ? new ArrayList<>((tenureMonths + 11) / 12)
+                : null;
         }
-        
-        if (!schedule.isEmpty()) {
-            MonthlyPaymentBreakdown lastMonth = schedule.get(schedule.size() - 1);
-            chart.add(new ChartPoint(
-                "Month " + lastMonth.getMonth(),
-                lastMonth.getCumulativePrincipal()
-            ));
+
+        @Override
+        public void visit(int month, long openingBalance, long emi, long interest,
+                          long principal, long closingBalance,
+                          long cumulativeInterest, long cumulativePrincipal) {
+
+            int index = month - 1;
+
+            if (schedule != null && shape.includesMonthIndex(index)) {
+                schedule.add(new MonthlyPaymentBreakdown(
+                    month,
+                    index / 12 + 1,
+                    AmortizationEngine.fromPaise(openingBalance),
+                    AmortizationEngine.fromPaise(emi),
+                    AmortizationEngine.fromPaise(interest),
+                    AmortizationEngine.fromPaise(principal),
+                    AmortizationEngine.fromPaise(closingBalance),
+                    AmortizationEngine.fromPaise(cumulativeInterest),
+                    AmortizationEngine.fromPaise(cumulativePrincipal)
+                ));
+            }
+
+            if (yearly != null) {
+                if (yearMonths == 0) {
+                    yearOpeningBalance = openingBalance;
+                }
+                yearMonths++;
+                yearPaid += emi;
+                yearInterest += interest;
+                yearPrincipal += principal;
+            }
+
+            if (index % 12 == 0) {
+                principalPoints.add(new ChartPoint("Month " + month,
+                    AmortizationEngine.fromPaise(cumulativePrincipal)));
+                balancePoints.add(new ChartPoint("Month " + month,
+                    AmortizationEngine.fromPaise(closingBalance)));
+            }
+
+            lastMonth = month;
+            lastClosingBalance = closingBalance;
+            lastCumulativeInterest = cumulativeInterest;
+            lastCumulativePrincipal = cumulativePrincipal;
+
+            if (yearly != null && month % 12 == 0) {
+                closeYear();
+            }
         }
-        
-        return chart;
-    }
 
-    private List<ChartPoint> generateBalanceOverTimeChart(
-            List<MonthlyPaymentBreakdown> schedule) {
+        void finish() {
+            if (yearly != null && yearMonths > 0) {
+                closeYear();
+            }
+            if (lastMonth > 0) {
+                principalPoints.add(new ChartPoint("Month " + lastMonth,
+                    AmortizationEngine.fromPaise(lastCumulativePrincipal)));
+                balancePoints.add(new ChartPoint("Month " + lastMonth,
+                    AmortizationEngine.fromPaise(lastClosingBalance)));
+            }
+        }
 
-        List<ChartPoint> chart = new ArrayList<>();
-        
-        for (int i = 0; i < schedule.size(); i += 12) {
-            MonthlyPaymentBreakdown month = schedule.get(i);
-            chart.add(new ChartPoint(
-                "Month " + month.getMonth(),
-                month.getClosingBalance()
-            ));
+        int rows() {
+            if (schedule != null) {
+                return schedule.size();
+            }
+            return yearly != null ? yearly.size() : 0;
         }
-        
-        if (!schedule.isEmpty()) {
-            MonthlyPaymentBreakdown lastMonth = schedule.get(schedule.size() - 1);
-            chart.add(new ChartPoint(
-                "Month " + lastMonth.getMonth(),
-                lastMonth.getClosingBalance()
+
+        private void closeYear() {
+            yearly.add(new YearlyPaymentSummary(
+                (lastMonth - 1) / 12 + 1,
+                yearMonths,
+                AmortizationEngine.fromPaise(yearOpeningBalance),
+                AmortizationEngine.fromPaise(yearPaid),
+                AmortizationEngine.fromPaise(yearInterest),
+                AmortizationEngine.fromPaise(yearPrincipal),
+                AmortizationEngine.fromPaise(lastClosingBalance),
+                AmortizationEngine.fromPaise(lastCumulativeInterest)
             ));
+            yearMonths = 0;
+            yearPaid = 0;
+            yearInterest = 0;
+            yearPrincipal = 0;
         }
-        
-        return chart;
     }
 }
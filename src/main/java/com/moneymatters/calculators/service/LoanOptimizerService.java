@@ -0,0 +1,8 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.LoanOptimizationRequest;
+import com.moneymatters.calculators.dto.LoanOptimizationResponse;
+
+public interface LoanOptimizerService {
+    LoanOptimizationResponse optimize(LoanOptimizationRequest request);
+}
@@ -0,0 +1,229 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.LoanOptimizationRequest;
+import com.moneymatters.calculators.dto.LoanOptimizationResponse;
+import com.moneymatters.calculators.dto.PrepaymentScenario;
+import com.moneymatters.calculators.util.AmortizationEngine;
+import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.calculators.util.PrepaymentSchedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Searches prepayment plans for a loan given a monthly surplus.
+ *
+ * A plan pools the surplus from month 1 into a first prepayment at some
+ * month, then prepays the pooled surplus every N months after that, with
+ * either REDUCE_TENURE or REDUCE_EMI. Every combination of option,
+ * frequency (1-24 months) and first month (up to 24 months after the
+ * lock-in) that satisfies the constraints is run through the paise
+ * amortization kernel and ranked by the requested objective.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanOptimizerServiceImpl implements LoanOptimizerService {
+
+    private static final int MAX_FREQUENCY_MONTHS = 24;
+    private static final int MAX_START_DELAY_MONTHS = 24;
+    private static final int MAX_ALTERNATIVES = 5;
+
+    private final FinancialMathService financialMathService;
+
+    @Override
+    public LoanOptimizationResponse optimize(LoanOptimizationRequest request) {
+        long startNanos = System.nanoTime();
+        int tenure = request.getTenureMonths();
+
+        BigDecimal emi = financialMathService.calculateEMI(
+            request.getPrincipal(),
+            request.getAnnualInterestRatePercent(),
+            tenure
+        );
+
+        long principal = AmortizationEngine.toPaise(request.getPrincipal());
+        long emiPaise = AmortizationEngine.toPaise(emi);
+        double annualRate = request.getAnnualInterestRatePercent().doubleValue();
+
+        AmortizationEngine.Result baseline = AmortizationEngine.amortize(
+            principal, emiPaise, annualRate, tenure, null, null);
+
+        long surplus = AmortizationEngine.toPaise(request.getMonthlySurplus());
+        long fee = AmortizationEngine.toPaise(request.getPrepaymentFee());
+        long minAmount = AmortizationEngine.toPaise(request.getMinPrepaymentAmount());
+        double penaltyRate = request.getPrepaymentPenaltyPercent().doubleValue() / 100.0;
+
+        // A lock-in past the tenure just leaves no start month to try
+        int firstAllowed = Math.min(request.getLockInMonths(), tenure) + 1;
+        int lastStart = Math.min(firstAllowed + MAX_START_DELAY_MONTHS - 1, tenure - 1);
+
+        // One pair of arrays reused for every candidate
+        long[] amounts = new long[tenure + 1];
+        boolean[] reduceEmi = new boolean[tenure + 1];
+
+        List<Candidate> candidates = new ArrayList<>();
+
+        for (PrepaymentScenario.PrepaymentOption option : PrepaymentScenario.PrepaymentOption.values()) {
+            Arrays.fill(reduceEmi, option == PrepaymentScenario.PrepaymentOption.REDUCE_EMI);
+
+            for (int every = 1; every <= MAX_FREQUENCY_MONTHS; every++) {
+                long recurring = netPrepayment(every * surplus, fee, penaltyRate);
+                if (recurring <= 0 || recurring < minAmount) {
+                    continue;
+                }
+
+                for (int first = firstAllowed; first <= lastStart; first++) {
+                    long firstAmount = netPrepayment(first * surplus, fee, penaltyRate);
+                    if (firstAmount <= 0 || firstAmount < minAmount) {
+                        continue;
+                    }
+
+                    Arrays.fill(amounts, 0);
+                    amounts[first] = firstAmount;
+                    for (int month = first + every; month <= tenure; month += every) {
+                        amounts[month] = recurring;
+                    }
+
+                    AmortizationEngine.Result result = AmortizationEngine.amortize(
+                        principal, emiPaise, annualRate, tenure,
+                        PrepaymentSchedule.ofPaise(amounts, reduceEmi), null);
+
+                    int events = result.months() >= first ? 1 + (result.months() - first) / every : 0;
+                    long charges = Math.round(result.totalPrepaid() * penaltyRate) + events * fee;
+
+                    candidates.add(new Candidate(option, first, every, firstAmount, recurring, result, charges));
+                }
+            }
+        }
+
+        candidates.sort(ranking(request.getObjective()));
+
+        LoanOptimizationResponse.PrepaymentPlan bestPlan = candidates.isEmpty()
+            ? null
+            : toPlan(candidates.get(0), baseline, tenure);
+
+        // Alternatives: next best plans with a different option/frequency
+        List<LoanOptimizationResponse.PrepaymentPlan> alternatives = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            if (alternatives.size() >= MAX_ALTERNATIVES) {
+                break;
+            }
+            if (seen.add(candidate.option() + ":" + candidate.every()) && candidate != candidates.get(0)) {
+                alternatives.add(toPlan(candidate, baseline, tenure));
+            }
+        }
+
+        log.info("Evaluated {} prepayment plans in {} ms",
+            candidates.size(), (System.nanoTime() - startNanos) / 1_000_000);
+
+        return new LoanOptimizationResponse(
+            CalculationUtils.format(emi),
+            AmortizationEngine.fromPaise(baseline.totalInterest()),
+            baseline.months(),
+            request.getObjective(),
+            candidates.size(),
+            bestPlan,
+            alternatives,
+            recommendation(bestPlan)
+        );
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private record Candidate(
+            PrepaymentScenario.PrepaymentOption option,
+            int first,
+            int every,
+            long firstAmount,
+            long recurringAmount,
+            AmortizationEngine.Result result,
+            long charges) {
+
+        long cost() {
+            return result.totalInterest() + charges;
+        }
+    }
+
+    /**
+     * Amount that reaches the loan after the flat fee and percentage penalty
+     */
+    private long netPrepayment(long cash, long fee, double penaltyRate) {
+        return (long) Math.floor((cash - fee) / (1.0 + penaltyRate));
+    }
+
+    private Comparator<Candidate> ranking(LoanOptimizationRequest.Objective objective) {
+        Comparator<Candidate> byCost = Comparator.comparingLong(Candidate::cost);
+        Comparator<Candidate> byMonths = Comparator.comparingInt(c -> c.result().months());
+
+        return objective == LoanOptimizationRequest.Objective.MIN_TENURE
+            ? byMonths.thenComparing(byCost)
+            : byCost.thenComparing(byMonths);
+    }
+
+    private LoanOptimizationResponse.PrepaymentPlan toPlan(
+            Candidate candidate, AmortizationEngine.Result baseline, int tenure) {
+
+        List<PrepaymentScenario> prepayments = new ArrayList<>();
+        prepayments.add(new PrepaymentScenario(
+            candidate.first(),
+            AmortizationEngine.fromPaise(candidate.firstAmount()),
+            candidate.option()
+        ));
+        if (candidate.first() + candidate.every() <= tenure) {
+            prepayments.add(new PrepaymentScenario(
+                candidate.first() + candidate.every(),
+                AmortizationEngine.fromPaise(candidate.recurringAmount()),
+                candidate.option(),
+                candidate.every(),
+                null,
+                null
+            ));
+        }
+
+        AmortizationEngine.Result result = candidate.result();
+
+        return new LoanOptimizationResponse.PrepaymentPlan(
+            candidate.option(),
+            candidate.first(),
+            candidate.every(),
+            AmortizationEngine.fromPaise(candidate.firstAmount()),
+            AmortizationEngine.fromPaise(candidate.recurringAmount()),
+            AmortizationEngine.fromPaise(result.totalPrepaid()),
+            AmortizationEngine.fromPaise(candidate.charges()),
+            AmortizationEngine.fromPaise(result.totalInterest()),
+            AmortizationEngine.fromPaise(baseline.totalInterest() - candidate.cost()),
+            result.months(),
+            baseline.months() - result.months(),
+            AmortizationEngine.fromPaise(result.lastEmi()),
+            prepayments
+        );
+    }
+
+    private String recommendation(LoanOptimizationResponse.PrepaymentPlan plan) {
+        if (plan == null) {
+            return "No prepayment plan satisfies the constraints. Keep paying the regular EMI.";
+        }
+        return String.format(
+            "Prepay ₹%s every %d month(s) starting month %d (%s): saves ₹%s net of charges " +
+            "and closes the loan in %d months.",
+            plan.getRecurringPrepaymentAmount(),
+            plan.getEveryMonths(),
+            plan.getFirstPrepaymentMonth(),
+            plan.getOption(),
+            plan.getInterestSaved(),
+            plan.getDebtFreeMonth()
+        );
+    }
+}
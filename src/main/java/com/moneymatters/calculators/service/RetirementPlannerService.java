@@ -2,8 +2,15 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.RetirementPlanRequest;
 import com.moneymatters.calculators.dto.RetirementPlanResponse;
+import com.moneymatters.calculators.dto.RetirementSimulationRequest;
+import com.moneymatters.calculators.dto.RetirementSimulationResponse;
 
 public interface RetirementPlannerService {
     RetirementPlanResponse calculateRetirementPlan(RetirementPlanRequest request);
+
+    /**
+     * Monte Carlo version of the plan: random returns and inflation every year.
+     */
+    RetirementSimulationResponse simulateRetirementPlan(RetirementSimulationRequest request);
 }
 
@@ -2,18 +2,26 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.*;
 import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.calculators.util.FinancialMathKernel;
+import com.moneymatters.calculators.util.MonteCarloEngine;
+import com.moneymatters.calculators.util.ReturnSampler;
+import com.moneymatters.common.exception.InvalidRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RetirementPlannerServiceImpl implements RetirementPlannerService {
 
+    // Yearly bands are read from the first N paths; headline figures use every path
+    private static final int MAX_BAND_PATHS = 5000;
+
     private final FinancialMathService financialMathService;
 
     @Override
@@ -83,6 +91,8 @@ public class RetirementPlannerServiceImpl implements RetirementPlannerService {
                 .multiply(new BigDecimal(yearsToRetirement * 12));
         }
 
+        // Year-by-year projections and the chart run on the double kernel;
+        // the headline figures above stay in exact BigDecimal
         // Pre-retirement projections
         List<YearlyRetirementProjection> preRetirementProjections =
             generatePreRetirementProjections(
@@ -136,6 +146,166 @@ public class RetirementPlannerServiceImpl implements RetirementPlannerService {
         );
     }
 
+    /**
+     * Each path draws a return and an inflation rate for every year. Before
+     * retirement the existing corpus and the SIP grow with the drawn returns
+     * (SIP credited yearly, as in the deterministic projections); after
+     * retirement the corpus pays the year's expense, which keeps inflating
+     * along the path. A path succeeds if the corpus never runs out before
+     * life expectancy.
+     *
+     * The corpus at retirement is linear in the SIP (fixed + SIP × perUnitSip)
+     * and the smallest retirement corpus that survives a path can be found by
+     * discounting its withdrawals backwards, so every path also yields the
+     * exact SIP it needs. The safe SIP at the target confidence is then a
+     * percentile of those SIPs, with no search over SIP amounts.
+     */
+    @Override
+    public RetirementSimulationResponse simulateRetirementPlan(RetirementSimulationRequest request) {
+        long startNanos = System.nanoTime();
+        RetirementPlanRequest plan = request.getPlan();
+
+        if (plan.getRetirementAge() <= plan.getCurrentAge()) {
+            throw new InvalidRequestException("Retirement age must be greater than current age");
+        }
+        if (plan.getLifeExpectancy() < plan.getRetirementAge()) {
+            throw new InvalidRequestException("Life expectancy cannot be less than retirement age");
+        }
+
+        BigDecimal monthlySIP = request.getMonthlySIP() != null
+            ? request.getMonthlySIP()
+            : calculateRetirementPlan(plan).getRecommendedMonthlySIP();
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+        int paths = request.getSimulations();
+        int yearsToRetirement = plan.getRetirementAge() - plan.getCurrentAge();
+        int yearsInRetirement = plan.getLifeExpectancy() - plan.getRetirementAge();
+        int totalYears = yearsToRetirement + yearsInRetirement;
+        int bandPaths = Math.min(paths, MAX_BAND_PATHS);
+
+        ReturnDistribution distribution = request.getDistribution();
+        int degreesOfFreedom = request.getDegreesOfFreedom();
+        ReturnSampler preRetirement = new ReturnSampler(distribution,
+            plan.getExpectedReturnPreRetirementPercent().doubleValue(),
+            request.getPreRetirementVolatilityPercent().doubleValue(), degreesOfFreedom);
+        ReturnSampler postRetirement = new ReturnSampler(distribution,
+            plan.getExpectedReturnPostRetirementPercent().doubleValue(),
+            request.getPostRetirementVolatilityPercent().doubleValue(), degreesOfFreedom);
+        ReturnSampler inflation = new ReturnSampler(ReturnDistribution.NORMAL,
+            plan.getExpectedInflationPercent().doubleValue(),
+            request.getInflationVolatilityPercent().doubleValue(), 0);
+
+        double existingCorpus = FinancialMathKernel.toDouble(plan.getExistingCorpus());
+        double currentAnnualExpense = FinancialMathKernel.toDouble(plan.getCurrentMonthlyExpense()) * 12;
+        double annualSIP = FinancialMathKernel.toDouble(monthlySIP) * 12;
+
+        double[] corpusAtRetirement = new double[paths];
+        double[] requiredAnnualSIP = new double[paths];
+        int[] depletionYear = new int[paths];          // Years into retirement; 0 = never
+        double[][] bands = new double[totalYears][bandPaths];
+
+        MonteCarloEngine.run(paths, seed, (fromPath, toPath, random) -> {
+            double[] growth = new double[yearsInRetirement];
+            double[] withdrawal = new double[yearsInRetirement];
+
+            for (int path = fromPath; path < toPath; path++) {
+                boolean banded = path < bandPaths;
+
+                // Accumulation: corpus = fixed + annualSIP × perUnitSip
+                double fixed = existingCorpus;
+                double perUnitSip = 0;
+                double expense = currentAnnualExpense;
+                for (int year = 0; year < yearsToRetirement; year++) {
+                    double g = preRetirement.nextGrowth(random);
+                    fixed *= g;
+                    perUnitSip = perUnitSip * g + 1;
+                    expense *= inflation.nextGrowth(random);
+                    if (banded) {
+                        bands[year][path] = fixed + annualSIP * perUnitSip;
+                    }
+                }
+
+                for (int year = 0; year < yearsInRetirement; year++) {
+                    growth[year] = postRetirement.nextGrowth(random);
+                    withdrawal[year] = expense;
+                    expense *= inflation.nextGrowth(random);
+                }
+
+                // Smallest corpus at retirement that lasts this path
+                double needed = 0;
+                for (int year = yearsInRetirement - 1; year >= 0; year--) {
+                    needed = (needed + withdrawal[year]) / growth[year];
+                }
+                requiredAnnualSIP[path] = Math.max(0, (needed - fixed) / perUnitSip);
+
+                // Drawdown at the tested SIP
+                double corpus = fixed + annualSIP * perUnitSip;
+                corpusAtRetirement[path] = corpus;
+                int depleted = 0;
+                for (int year = 0; year < yearsInRetirement; year++) {
+                    corpus = corpus * growth[year] - withdrawal[year];
+                    if (corpus < 0) {
+                        corpus = 0;
+                        if (depleted == 0) {
+                            depleted = year + 1;
+                        }
+                    }
+                    if (banded) {
+                        bands[yearsToRetirement + year][path] = corpus;
+                    }
+                }
+                depletionYear[path] = depleted;
+            }
+        });
+
+        int failures = 0;
+        for (int depleted : depletionYear) {
+            if (depleted > 0) {
+                failures++;
+            }
+        }
+        double successPercent = 100.0 * (paths - failures) / paths;
+
+        Integer medianDepletionAge = null;
+        if (failures > 0) {
+            double[] failedYears = new double[failures];
+            int i = 0;
+            for (int depleted : depletionYear) {
+                if (depleted > 0) {
+                    failedYears[i++] = depleted;
+                }
+            }
+            medianDepletionAge = plan.getRetirementAge()
+                + (int) Math.round(MonteCarloEngine.percentiles(failedYears, 0.5)[0]);
+        }
+
+        double target = request.getTargetSuccessPercent().doubleValue() / 100.0;
+        double safeAnnualSIP = MonteCarloEngine.percentiles(requiredAnnualSIP, target)[0];
+
+        List<PercentileBand> corpusBands = new ArrayList<>(totalYears);
+        for (int year = 0; year < totalYears; year++) {
+            corpusBands.add(MonteCarloEngine.percentileBand("Age " + (plan.getCurrentAge() + year + 1), bands[year]));
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Simulated {} retirement paths ({}) in {} ms: {}% success",
+            paths, distribution, elapsedMs, String.format("%.1f", successPercent));
+
+        return new RetirementSimulationResponse(
+            paths,
+            distribution,
+            seed,
+            CalculationUtils.format(monthlySIP),
+            BigDecimal.valueOf(successPercent).setScale(2, java.math.RoundingMode.HALF_UP),
+            MonteCarloEngine.percentileBand("Age " + plan.getRetirementAge(), corpusAtRetirement),
+            medianDepletionAge,
+            request.getTargetSuccessPercent(),
+            FinancialMathKernel.toAmount(Math.ceil(safeAnnualSIP / 12)),
+            corpusBands,
+            elapsedMs
+        );
+    }
+
     private BigDecimal calculateReverseSIP(
         BigDecimal targetAmount,
         BigDecimal annualReturnPercent,
@@ -166,31 +336,32 @@ public class RetirementPlannerServiceImpl implements RetirementPlannerService {
         int startAge, int years, BigDecimal startingCorpus,
         BigDecimal monthlySIP, BigDecimal annualReturnPercent) {
 
-        List<YearlyRetirementProjection> projections = new ArrayList<>();
-        BigDecimal corpus = startingCorpus;
-        BigDecimal returnRate = CalculationUtils.percentToDecimal(annualReturnPercent);
+        List<YearlyRetirementProjection> projections = new ArrayList<>(Math.max(years, 0));
+        double corpus = FinancialMathKernel.toDouble(startingCorpus);
+        double returnRate = FinancialMathKernel.toDouble(annualReturnPercent) / 100.0;
+
+        // Annual SIP contribution
+        double sipContribution = FinancialMathKernel.toDouble(monthlySIP) * 12;
+        BigDecimal sipContributionAmount = FinancialMathKernel.toAmount(sipContribution);
 
         for (int year = 1; year <= years; year++) {
             int age = startAge + year;
-            BigDecimal corpusAtStart = corpus;
-
-            // Annual SIP contribution
-            BigDecimal sipContribution = monthlySIP.multiply(new BigDecimal(12));
+            double corpusAtStart = corpus;
 
             // Investment return
-            BigDecimal investmentReturn = corpus.multiply(returnRate);
+            double investmentReturn = corpus * returnRate;
 
             // Corpus at end
-            corpus = corpus.add(sipContribution).add(investmentReturn);
+            corpus = corpus + sipContribution + investmentReturn;
 
             projections.add(new YearlyRetirementProjection(
                 year,
                 age,
-                CalculationUtils.format(corpusAtStart),
-                CalculationUtils.format(sipContribution),
+                FinancialMathKernel.toAmount(corpusAtStart),
+                sipContributionAmount,
                 BigDecimal.ZERO, // No withdrawals yet
-                CalculationUtils.format(investmentReturn),
-                CalculationUtils.format(corpus)
+                FinancialMathKernel.toAmount(investmentReturn),
+                FinancialMathKernel.toAmount(corpus)
             ));
         }
 
@@ -201,34 +372,35 @@ public class RetirementPlannerServiceImpl implements RetirementPlannerService {
         int retirementAge, int years, BigDecimal startingCorpus,
         BigDecimal monthlyWithdrawal, BigDecimal annualReturnPercent) {
 
-        List<YearlyRetirementProjection> projections = new ArrayList<>();
-        BigDecimal corpus = startingCorpus;
-        BigDecimal returnRate = CalculationUtils.percentToDecimal(annualReturnPercent);
-        BigDecimal annualWithdrawal = monthlyWithdrawal.multiply(new BigDecimal(12));
+        List<YearlyRetirementProjection> projections = new ArrayList<>(Math.max(years, 0));
+        double corpus = FinancialMathKernel.toDouble(startingCorpus);
+        double returnRate = FinancialMathKernel.toDouble(annualReturnPercent) / 100.0;
+        double annualWithdrawal = FinancialMathKernel.toDouble(monthlyWithdrawal) * 12;
+        BigDecimal annualWithdrawalAmount = FinancialMathKernel.toAmount(annualWithdrawal);
 
         for (int year = 1; year <= years; year++) {
             int age = retirementAge + year;
-            BigDecimal corpusAtStart = corpus;
+            double corpusAtStart = corpus;
 
             // Investment return
-            BigDecimal investmentReturn = corpus.multiply(returnRate);
+            double investmentReturn = corpus * returnRate;
 
             // Withdrawals
-            corpus = corpus.add(investmentReturn).subtract(annualWithdrawal);
+            corpus = corpus + investmentReturn - annualWithdrawal;
 
             // Ensure corpus doesn't go negative
-            if (corpus.compareTo(BigDecimal.ZERO) < 0) {
-                corpus = BigDecimal.ZERO;
+            if (corpus < 0) {
+                corpus = 0.0;
             }
 
             projections.add(new YearlyRetirementProjection(
                 year,
                 age,
-                CalculationUtils.format(corpusAtStart),
+                FinancialMathKernel.toAmount(corpusAtStart),
                 BigDecimal.ZERO, // No SIP contributions
-                CalculationUtils.format(annualWithdrawal),
-                CalculationUtils.format(investmentReturn),
-                CalculationUtils.format(corpus)
+                annualWithdrawalAmount,
+                FinancialMathKernel.toAmount(investmentReturn),
+                FinancialMathKernel.toAmount(corpus)
             ));
         }
 
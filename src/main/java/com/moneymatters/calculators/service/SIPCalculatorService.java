@@ -1,9 +1,16 @@
 package com.moneymatters.calculators.service;
 
+import com.moneymatters.calculators.dto.SIPGoalRequest;
+import com.moneymatters.calculators.dto.SIPGoalResponse;
 import com.moneymatters.calculators.dto.SIPStepupRequest;
 import com.moneymatters.calculators.dto.SIPStepupResponse;
 
 public interface SIPCalculatorService {
 
     SIPStepupResponse calculateStepupSIP(SIPStepupRequest request);
+
+    /**
+     * Reverse calculation: starting SIP or yearly step-up that reaches a target corpus.
+     */
+    SIPGoalResponse solveGoal(SIPGoalRequest request);
 }
@@ -2,11 +2,15 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.*;
 import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.calculators.util.StepupSIPMath;
+import com.moneymatters.common.exception.InvalidRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +19,9 @@ import java.util.List;
 @Slf4j
 public class SIPCalculatorServiceImpl implements SIPCalculatorService {
 
+    private static final double MAX_STEPUP_PERCENT = 50.0;
+    private static final BigDecimal STEPUP_INCREMENT = new BigDecimal("0.01");
+
     private final FinancialMathService financialMathService;
 
     @Override
@@ -49,13 +56,27 @@ public class SIPCalculatorServiceImpl implements SIPCalculatorService {
             CalculationUtils.percentToDecimal(annualStepupPercent)
         );
 
-        // We'll reuse FinancialMathService for annuity FV and future value
-        List<YearlyBreakdown> breakdowns = new ArrayList<>();
-        List<ChartPoint> chartPoints = new ArrayList<>();
+        // Totals in closed form (see StepupSIPMath); the rows below only
+        // need one year-end factor and a running product of (1 + R)
+        BigDecimal totalInvested = baseMonthlySIP.multiply(
+            StepupSIPMath.investedFactor(annualStepupPercent, years));
+        BigDecimal totalMaturityValue = baseMonthlySIP.multiply(
+            StepupSIPMath.maturityFactor(annualReturnPercent, annualStepupPercent, years));
+
+        BigDecimal yearEndFactor = StepupSIPMath.yearEndFactor(annualReturnPercent);
+        BigDecimal annualGrowth = StepupSIPMath.growth(annualReturnPercent);
+
+        // (1 + R)^(years - year), filled from the last year backwards
+        BigDecimal[] growthToMaturity = new BigDecimal[years + 1];
+        growthToMaturity[years] = BigDecimal.ONE;
+        for (int year = years - 1; year >= 1; year--) {
+            growthToMaturity[year] = growthToMaturity[year + 1].multiply(annualGrowth, MathContext.DECIMAL128);
+        }
 
-        BigDecimal totalInvested = BigDecimal.ZERO;
-        BigDecimal totalMaturityValue = BigDecimal.ZERO;
+        List<YearlyBreakdown> breakdowns = new ArrayList<>(years);
+        List<ChartPoint> chartPoints = new ArrayList<>(years);
 
+        BigDecimal cumulativeMaturityValue = BigDecimal.ZERO;
         BigDecimal currentMonthlySIP = baseMonthlySIP;
 
         for (int year = 1; year <= years; year++) {
@@ -63,27 +84,13 @@ public class SIPCalculatorServiceImpl implements SIPCalculatorService {
             // 1) Yearly contribution
             BigDecimal yearlyContribution = currentMonthlySIP.multiply(new BigDecimal(12));
 
-            // 2) FV at end of this year using annuity formula for 12 months
-            BigDecimal yearMaturityAtYearEnd = financialMathService.calculateAnnuityFutureValue(
-                currentMonthlySIP,
-                annualReturnPercent,
-                12
-            );
+            // 2) FV at end of this year (12 monthly instalments)
+            BigDecimal yearMaturityAtYearEnd = currentMonthlySIP.multiply(yearEndFactor);
 
             // 3) Grow from end of this year to final year
-            int remainingYears = years - year;
-            BigDecimal yearMaturityAtFinal = yearMaturityAtYearEnd;
-
-            if (remainingYears > 0) {
-                yearMaturityAtFinal = financialMathService.calculateFutureValue(
-                    yearMaturityAtYearEnd,
-                    annualReturnPercent,
-                    new BigDecimal(remainingYears)
-                );
-            }
+            BigDecimal yearMaturityAtFinal = yearMaturityAtYearEnd.multiply(growthToMaturity[year]);
 
-            totalInvested = totalInvested.add(yearlyContribution);
-            totalMaturityValue = totalMaturityValue.add(yearMaturityAtFinal);
+            cumulativeMaturityValue = cumulativeMaturityValue.add(yearMaturityAtFinal);
 
             breakdowns.add(new YearlyBreakdown(
                 year,
@@ -95,7 +102,7 @@ public class SIPCalculatorServiceImpl implements SIPCalculatorService {
 
             chartPoints.add(new ChartPoint(
                 "Year " + year,
-                CalculationUtils.format(totalMaturityValue)
+                CalculationUtils.format(cumulativeMaturityValue)
             ));
 
             // Step up SIP for next year
@@ -119,4 +126,100 @@ public class SIPCalculatorServiceImpl implements SIPCalculatorService {
             chartPoints
         );
     }
+
+    @Override
+    public SIPGoalResponse solveGoal(SIPGoalRequest request) {
+        log.debug("Solving SIP goal: {}", request);
+
+        BigDecimal target = request.getTargetCorpus();
+        BigDecimal annualReturnPercent = request.getExpectedAnnualReturnPercent();
+        int years = request.getYears();
+
+        BigDecimal lumpSumToday = financialMathService.calculatePresentValue(
+            target, annualReturnPercent, new BigDecimal(years));
+
+        if (request.getSolveFor() == SIPGoalRequest.SolveFor.STARTING_SIP) {
+            BigDecimal stepupPercent = request.getAnnualStepupPercent();
+            BigDecimal factor = StepupSIPMath.maturityFactor(annualReturnPercent, stepupPercent, years);
+
+            // Maturity is linear in the SIP; round up so the plan never falls short
+            BigDecimal monthlySIP = target.divide(factor, 2, RoundingMode.CEILING);
+
+            return goalResponse(request, true, monthlySIP, stepupPercent, lumpSumToday, String.format(
+                "Start a SIP of ₹%s/month, stepping up %s%% every year, to reach ₹%s in %d years.",
+                monthlySIP, stepupPercent, CalculationUtils.format(target), years));
+        }
+
+        if (request.getMonthlySIP() == null) {
+            throw new InvalidRequestException("Monthly SIP is required when solving for the step-up percentage");
+        }
+        BigDecimal monthlySIP = request.getMonthlySIP();
+
+        // Maturity per rupee of SIP grows monotonically with the step-up
+        double requiredFactor = target.doubleValue() / monthlySIP.doubleValue();
+        double rate = annualReturnPercent.doubleValue();
+
+        if (StepupSIPMath.maturityFactor(rate, 0, years) >= requiredFactor) {
+            return goalResponse(request, true, monthlySIP, BigDecimal.ZERO, lumpSumToday,
+                "No step-up needed: the current SIP already reaches the target.");
+        }
+
+        if (StepupSIPMath.maturityFactor(rate, MAX_STEPUP_PERCENT, years) < requiredFactor) {
+            return goalResponse(request, false, monthlySIP, BigDecimal.valueOf(MAX_STEPUP_PERCENT), lumpSumToday,
+                String.format("Even a %.0f%% yearly step-up falls short. Start with a higher SIP or extend the horizon.",
+                    MAX_STEPUP_PERCENT));
+        }
+
+        // Bisection in double, then round up to 0.01% and confirm in BigDecimal
+        double low = 0;
+        double high = MAX_STEPUP_PERCENT;
+        for (int i = 0; i < 60; i++) {
+            double mid = (low + high) / 2;
+            if (StepupSIPMath.maturityFactor(rate, mid, years) < requiredFactor) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+
+        BigDecimal stepupPercent = BigDecimal.valueOf(high).setScale(2, RoundingMode.CEILING);
+        while (monthlySIP.multiply(StepupSIPMath.maturityFactor(annualReturnPercent, stepupPercent, years))
+                .compareTo(target) < 0) {
+            stepupPercent = stepupPercent.add(STEPUP_INCREMENT);
+        }
+
+        return goalResponse(request, true, monthlySIP, stepupPercent, lumpSumToday, String.format(
+            "Step up your ₹%s/month SIP by %s%% every year to reach ₹%s in %d years.",
+            CalculationUtils.format(monthlySIP), stepupPercent, CalculationUtils.format(target), years));
+    }
+
+    private SIPGoalResponse goalResponse(
+            SIPGoalRequest request,
+            boolean achievable,
+            BigDecimal monthlySIP,
+            BigDecimal stepupPercent,
+            BigDecimal lumpSumToday,
+            String message) {
+
+        int years = request.getYears();
+        BigDecimal maturityValue = monthlySIP.multiply(
+            StepupSIPMath.maturityFactor(request.getExpectedAnnualReturnPercent(), stepupPercent, years));
+        BigDecimal totalInvested = monthlySIP.multiply(
+            StepupSIPMath.investedFactor(stepupPercent, years));
+        BigDecimal lastYearMonthlySIP = monthlySIP.multiply(CalculationUtils.power(
+            StepupSIPMath.growth(stepupPercent), years - 1, MathContext.DECIMAL128));
+
+        return new SIPGoalResponse(
+            request.getSolveFor(),
+            achievable,
+            CalculationUtils.format(monthlySIP),
+            stepupPercent,
+            CalculationUtils.format(lastYearMonthlySIP),
+            CalculationUtils.format(request.getTargetCorpus()),
+            CalculationUtils.format(maturityValue),
+            CalculationUtils.format(totalInvested),
+            lumpSumToday,
+            message
+        );
+    }
 }
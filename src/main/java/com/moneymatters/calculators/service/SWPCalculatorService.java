@@ -1,8 +1,20 @@
 package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.SWPRequest;
+import com.moneymatters.calculators.dto.ResponseShape;
 import com.moneymatters.calculators.dto.SWPResponse;
+import com.moneymatters.calculators.dto.SWPSimulationRequest;
+import com.moneymatters.calculators.dto.SWPSimulationResponse;
 
 public interface SWPCalculatorService {
-    SWPResponse calculateSWP(SWPRequest request);
+    default SWPResponse calculateSWP(SWPRequest request) {
+        return calculateSWP(request, ResponseShape.full());
+    }
+
+    SWPResponse calculateSWP(SWPRequest request, ResponseShape shape);
+
+    /**
+     * Runs the withdrawal plan through many random return paths.
+     */
+    SWPSimulationResponse simulateSWP(SWPSimulationRequest request);
 }
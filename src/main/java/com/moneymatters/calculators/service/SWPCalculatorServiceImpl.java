@@ -2,6 +2,10 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.*;
 import com.moneymatters.calculators.util.CalculationUtils;
+import com.moneymatters.calculators.util.ChartSampler;
+import com.moneymatters.calculators.util.FinancialMathKernel;
+import com.moneymatters.calculators.util.MonteCarloEngine;
+import com.moneymatters.calculators.util.ReturnSampler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -10,6 +14,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @RequiredArgsConstructor
@@ -19,8 +24,11 @@ public class SWPCalculatorServiceImpl implements SWPCalculatorService {
     private static final int SCALE = 10;
     private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
 
+    // Year-end bands are read from the first N paths; headline figures use every path
+    private static final int MAX_BAND_PATHS = 5000;
+
     @Override
-    public SWPResponse calculateSWP(SWPRequest request) {
+    public SWPResponse calculateSWP(SWPRequest request, ResponseShape shape) {
         log.info("Calculating SWP: Corpus={}, Withdrawal={}, Duration={} years",
             request.getStartingCorpus(),
             request.getMonthlyWithdrawal(),
@@ -41,36 +49,29 @@ public class SWPCalculatorServiceImpl implements SWPCalculatorService {
             );
         }
 
-        // Generate month-by-month breakdown
-        List<SWPResponse.MonthlyWithdrawalBreakdown> monthlyBreakdown = 
-            generateMonthlyBreakdown(
-                request.getStartingCorpus(),
-                request.getMonthlyWithdrawal(),
-                monthlyReturnRate,
-                request.getDurationYears() * 12,
-                monthlyInflationFactor
-            );
-
-        // Generate yearly summary
-        List<SWPResponse.YearlyWithdrawalSummary> yearlySummary = 
-            generateYearlySummary(monthlyBreakdown, request.getDurationYears());
-
-        // Calculate totals
-        BigDecimal totalWithdrawn = monthlyBreakdown.stream()
-            .map(SWPResponse.MonthlyWithdrawalBreakdown::getWithdrawalAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Single month-by-month pass; only the rows the shape asks for are
+        // materialised, totals, yearly rows and chart samples are folded in
+        ScheduleCollector collector = new ScheduleCollector(shape, request.getDurationYears() * 12);
+        generateMonthlyBreakdown(
+            request.getStartingCorpus(),
+            request.getMonthlyWithdrawal(),
+            monthlyReturnRate,
+            request.getDurationYears() * 12,
+            monthlyInflationFactor,
+            collector
+        );
+        collector.finish();
 
-        BigDecimal totalReturns = monthlyBreakdown.stream()
-            .map(SWPResponse.MonthlyWithdrawalBreakdown::getInvestmentReturn)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalWithdrawn = collector.totalWithdrawn;
+        BigDecimal totalReturns = collector.totalReturns;
 
-        BigDecimal finalCorpus = monthlyBreakdown.isEmpty()
+        BigDecimal finalCorpus = collector.months == 0
             ? request.getStartingCorpus()
-            : monthlyBreakdown.get(monthlyBreakdown.size() - 1).getClosingBalance();
+            : collector.lastClosingBalance;
 
         // Sustainability analysis
         int requestedMonths = request.getDurationYears() * 12;
-        int effectiveMonths = monthlyBreakdown.size();
+        int effectiveMonths = collector.months;
         
         
         BigDecimal withdrawalRate = CalculationUtils.safeDivide(
@@ -96,8 +97,10 @@ public class SWPCalculatorServiceImpl implements SWPCalculatorService {
         );
 
         // Generate charts
-        List<ChartPoint> corpusChart = generateCorpusChart(monthlyBreakdown);
-        List<ChartPoint> withdrawalChart = generateWithdrawalChart(monthlyBreakdown);
+        List<ChartPoint> corpusChart = ChartSampler.downsample(
+            collector.corpusPoints, shape.getChartPoints());
+        List<ChartPoint> withdrawalChart = ChartSampler.downsample(
+            collector.withdrawalPoints, shape.getChartPoints());
 
         return new SWPResponse(
             CalculationUtils.format(request.getStartingCorpus()),
@@ -105,27 +108,192 @@ public class SWPCalculatorServiceImpl implements SWPCalculatorService {
             CalculationUtils.format(finalCorpus),
             CalculationUtils.format(totalWithdrawn),
             CalculationUtils.format(totalReturns),
-            monthlyBreakdown.size(),
+            effectiveMonths,
             isSustainable,
             sustainabilityMessage,
             CalculationUtils.format(withdrawalRate),
             CalculationUtils.format(safeWithdrawalRate),
-            monthlyBreakdown,
-            yearlySummary,
+            collector.monthly,
+            collector.yearly,
+            SchedulePage.of(shape, collector.rows(), effectiveMonths),
             corpusChart,
             withdrawalChart
         );
     }
 
-    private List<SWPResponse.MonthlyWithdrawalBreakdown> generateMonthlyBreakdown(
+    /**
+     * Same monthly loop as generateMonthlyBreakdown (return on the opening
+     * balance, withdrawal capped at it, stop below ₹1), but each month's
+     * return is drawn per path and only primitives are touched inside it.
+     *
+     * NORMAL / FAT_TAILED draw every month with mean r/12 and volatility
+     * σ/√12. HISTORICAL resamples runs of consecutive Nifty 50 years
+     * (block bootstrap) and spreads each year's return evenly over its
+     * months, so bad early years arrive in their real sequence.
+     */
+    @Override
+    public SWPSimulationResponse simulateSWP(SWPSimulationRequest request) {
+        long startNanos = System.nanoTime();
+        SWPRequest swp = request.getSwp();
+
+        int paths = request.getSimulations();
+        int years = swp.getDurationYears();
+        int totalMonths = years * 12;
+        int bandPaths = Math.min(paths, MAX_BAND_PATHS);
+        int blockYears = request.getBlockYears();
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+        double annualReturnPercent = swp.getExpectedAnnualReturnPercent().doubleValue();
+        double volatilityPercent = request.getVolatilityPercent().doubleValue();
+        ReturnDistribution distribution = request.getDistribution();
+        boolean historical = distribution == ReturnDistribution.HISTORICAL;
+
+        ReturnSampler monthlySampler = new ReturnSampler(
+            historical ? ReturnDistribution.NORMAL : distribution,
+            annualReturnPercent / 12,
+            volatilityPercent / Math.sqrt(12),
+            request.getDegreesOfFreedom()
+        );
+        // Yearly mean matches monthly compounding of r/12
+        ReturnSampler yearlySampler = new ReturnSampler(
+            ReturnDistribution.HISTORICAL,
+            FinancialMathKernel.growthFactorMinusOne(annualReturnPercent / 1200, 12) * 100,
+            volatilityPercent,
+            request.getDegreesOfFreedom()
+        );
+
+        double startingCorpus = FinancialMathKernel.toDouble(swp.getStartingCorpus());
+        double initialWithdrawal = FinancialMathKernel.toDouble(swp.getMonthlyWithdrawal());
+        double inflationFactor = swp.getInflationAdjusted()
+            ? 1 + swp.getInflationPercent().doubleValue() / 1200
+            : 1;
+
+        double[] finalCorpus = new double[paths];
+        int[] depletionMonth = new int[paths];        // 0 = lasted the full duration
+        double[][] bands = new double[years][bandPaths];
+
+        MonteCarloEngine.run(paths, seed, (fromPath, toPath, random) -> {
+            int historyLength = ReturnSampler.historicalYears();
+
+            for (int path = fromPath; path < toPath; path++) {
+                double corpus = startingCorpus;
+                double withdrawal = initialWithdrawal;
+                double monthGrowth = 1;
+                int historyYear = 0;
+                int blockLeft = 0;
+                int depleted = 0;
+
+                for (int month = 1; month <= totalMonths; month++) {
+                    double growth;
+                    if (historical) {
+                        if (month % 12 == 1) {
+                            if (blockLeft == 0) {
+                                historyYear = random.nextInt(historyLength);
+                                blockLeft = blockYears;
+                            } else {
+                                historyYear = (historyYear + 1) % historyLength;
+                            }
+                            blockLeft--;
+                            monthGrowth = Math.pow(
+                                yearlySampler.growthForShock(ReturnSampler.historicalShock(historyYear)),
+                                1.0 / 12);
+                        }
+                        growth = monthGrowth;
+                    } else {
+                        growth = monthlySampler.nextGrowth(random);
+                    }
+
+                    if (month > 1) {
+                        withdrawal *= inflationFactor;
+                    }
+
+                    corpus = Math.max(corpus * growth - Math.min(withdrawal, corpus), 0);
+                    if (corpus < 1) {
+                        corpus = 0;
+                        depleted = month;
+                    }
+
+                    if (month % 12 == 0 && path < bandPaths) {
+                        bands[month / 12 - 1][path] = corpus;
+                    }
+                    if (depleted > 0) {
+                        break;              // Remaining band years stay at 0
+                    }
+                }
+
+                finalCorpus[path] = corpus;
+                depletionMonth[path] = depleted;
+            }
+        });
+
+        // Depletion distribution
+        int[] depletedInYear = new int[years + 1];
+        int failures = 0;
+        for (int month : depletionMonth) {
+            if (month > 0) {
+                depletedInYear[(month - 1) / 12 + 1]++;
+                failures++;
+            }
+        }
+
+        List<ChartPoint> depletionByYear = new ArrayList<>(years);
+        int cumulative = 0;
+        for (int year = 1; year <= years; year++) {
+            cumulative += depletedInYear[year];
+            depletionByYear.add(new ChartPoint("Year " + year, percentOf(cumulative, paths)));
+        }
+
+        PercentileBand depletionBand = null;
+        if (failures > 0) {
+            double[] failedMonths = new double[failures];
+            int i = 0;
+            for (int month : depletionMonth) {
+                if (month > 0) {
+                    failedMonths[i++] = month;
+                }
+            }
+            depletionBand = MonteCarloEngine.percentileBand("Depletion month", failedMonths);
+        }
+
+        List<PercentileBand> corpusBands = new ArrayList<>(years);
+        for (int year = 0; year < years; year++) {
+            corpusBands.add(MonteCarloEngine.percentileBand("Year " + (year + 1), bands[year]));
+        }
+
+        BigDecimal constantReturnFinalCorpus = calculateSWP(
+            swp, ResponseShape.of(ResponseShape.ScheduleView.SUMMARY, null, null, null)
+        ).getFinalCorpusValue();
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("Simulated {} SWP paths ({}) in {} ms: {} depleted",
+            paths, distribution, elapsedMs, failures);
+
+        return new SWPSimulationResponse(
+            paths,
+            distribution,
+            seed,
+            percentOf(paths - failures, paths),
+            constantReturnFinalCorpus,
+            MonteCarloEngine.percentileBand("Final corpus", finalCorpus),
+            depletionBand,
+            depletionByYear,
+            corpusBands,
+            elapsedMs
+        );
+    }
+
+    private BigDecimal percentOf(int count, int total) {
+        return BigDecimal.valueOf(100.0 * count / total).setScale(2, ROUNDING);
+    }
+
+    private void generateMonthlyBreakdown(
             BigDecimal startingCorpus,
             BigDecimal initialWithdrawal,
             BigDecimal monthlyReturnRate,
             int totalMonths,
-            BigDecimal monthlyInflationFactor) {
+            BigDecimal monthlyInflationFactor,
+            ScheduleCollector collector) {
 
-        List<SWPResponse.MonthlyWithdrawalBreakdown> breakdown = new ArrayList<>();
-        
         BigDecimal corpus = startingCorpus;
         BigDecimal currentWithdrawal = initialWithdrawal;
 
@@ -162,76 +330,20 @@ public class SWPCalculatorServiceImpl implements SWPCalculatorService {
 
             BigDecimal netChange = investmentReturn.subtract(actualWithdrawal);
 
-            breakdown.add(new SWPResponse.MonthlyWithdrawalBreakdown(
+            collector.visit(
                 month,
-                (month - 1) / 12 + 1,
                 CalculationUtils.format(openingBalance),
                 CalculationUtils.format(investmentReturn),
                 CalculationUtils.format(actualWithdrawal),
                 CalculationUtils.format(corpus),
                 CalculationUtils.format(netChange)
-            ));
+            );
 
             // Stop if corpus depleted
             if (corpus.compareTo(new BigDecimal("1")) < 0) {
                 break;
             }
         }
-
-        return breakdown;
-    }
-
-    private List<SWPResponse.YearlyWithdrawalSummary> generateYearlySummary(
-            List<SWPResponse.MonthlyWithdrawalBreakdown> monthlyBreakdown,
-            int requestedYears) {
-
-        List<SWPResponse.YearlyWithdrawalSummary> summary = new ArrayList<>();
-
-        int actualYears = (monthlyBreakdown.size() + 11) / 12;
-
-        for (int year = 1; year <= actualYears; year++) {
-            int startMonth = (year - 1) * 12;
-            int endMonth = Math.min(year * 12, monthlyBreakdown.size());
-
-            if (startMonth >= monthlyBreakdown.size()) {
-                break;
-            }
-
-            List<SWPResponse.MonthlyWithdrawalBreakdown> yearMonths = 
-                monthlyBreakdown.subList(startMonth, endMonth);
-
-            BigDecimal startingCorpus = yearMonths.get(0).getOpeningBalance();
-            
-            BigDecimal totalReturns = yearMonths.stream()
-                .map(SWPResponse.MonthlyWithdrawalBreakdown::getInvestmentReturn)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal totalWithdrawals = yearMonths.stream()
-                .map(SWPResponse.MonthlyWithdrawalBreakdown::getWithdrawalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal endingCorpus = yearMonths.get(yearMonths.size() - 1)
-                .getClosingBalance();
-
-            BigDecimal avgWithdrawal = CalculationUtils.safeDivide(
-                totalWithdrawals,
-                new BigDecimal(yearMonths.size())
-            );
-
-            boolean corpusGrowing = endingCorpus.compareTo(startingCorpus) > 0;
-
-            summary.add(new SWPResponse.YearlyWithdrawalSummary(
-                year,
-                CalculationUtils.format(startingCorpus),
-                CalculationUtils.format(totalReturns),
-                CalculationUtils.format(totalWithdrawals),
-                CalculationUtils.format(endingCorpus),
-                CalculationUtils.format(avgWithdrawal),
-                corpusGrowing
-            ));
-        }
-
-        return summary;
     }
 
     private BigDecimal calculateSafeWithdrawalRate(
@@ -287,47 +399,120 @@ public class SWPCalculatorServiceImpl implements SWPCalculatorService {
         return "⚠️ CAUTION: Corpus is declining. Monitor regularly and adjust withdrawals if needed.";
     }
 
-    private List<ChartPoint> generateCorpusChart(
-            List<SWPResponse.MonthlyWithdrawalBreakdown> breakdown) {
+    /**
+     * Folds the monthly rows into totals, yearly summaries and the chart
+     * samples (corpus every 12th month plus the last month, withdrawal
+     * every 12th month) in the same pass. Depending on the requested shape
+     * it keeps every month, a page of months, one row per year, or none.
+     */
+    private static final class ScheduleCollector {
+
+        private final ResponseShape shape;
+        private final List<SWPResponse.MonthlyWithdrawalBreakdown> monthly;
+        private final List<SWPResponse.YearlyWithdrawalSummary> yearly;
+        private final List<ChartPoint> corpusPoints = new ArrayList<>();
+        private final List<ChartPoint> withdrawalPoints = new ArrayList<>();
+
+        private int months;
+        private BigDecimal totalWithdrawn = BigDecimal.ZERO;
+        private BigDecimal totalReturns = BigDecimal.ZERO;
+        private BigDecimal lastClosingBalance;
+
+        private int yearMonths;
+        private BigDecimal yearStartingCorpus;
+        private BigDecimal yearReturns;
+        private BigDecimal yearWithdrawals;
+
+        ScheduleCollector(ResponseShape shape, int totalMonths) {
+            this.shape = shape;
+            this.monthly = switch (shape.getView()) {
+                case FULL -> new ArrayList<>(totalMonths);
+                case MONTHLY -> new ArrayList<>(Math.min(shape.getLimit(), totalMonths));
+                default -> null;
+            };
+            this.yearly = shape.getView() == ResponseShape.ScheduleView.FULL
+                || shape.getView() == ResponseShape.ScheduleView.YEARLY
+                ? new ArrayList<>((totalMonths + 11) / 12)
+                : null;
+        }
 
-        List<ChartPoint> chart = new ArrayList<>();
+        void visit(int month, BigDecimal openingBalance, BigDecimal investmentReturn,
+                   BigDecimal withdrawal, BigDecimal closingBalance, BigDecimal netChange) {
+
+            int index = month - 1;
+            int year = index / 12 + 1;
+
+            if (monthly != null && shape.includesMonthIndex(index)) {
+                monthly.add(new SWPResponse.MonthlyWithdrawalBreakdown(
+                    month,
+                    year,
+                    openingBalance,
+                    investmentReturn,
+                    withdrawal,
+                    closingBalance,
+                    netChange
+                ));
+            }
 
-        // Sample every 12 months for readability
-        for (int i = 0; i < breakdown.size(); i += 12) {
-            SWPResponse.MonthlyWithdrawalBreakdown month = breakdown.get(i);
-            chart.add(new ChartPoint(
-                "Month " + month.getMonth(),
-                month.getClosingBalance()
-            ));
-        }
+            if (yearly != null) {
+                if (yearMonths == 0) {
+                    yearStartingCorpus = openingBalance;
+                    yearReturns = BigDecimal.ZERO;
+                    yearWithdrawals = BigDecimal.ZERO;
+                }
+                yearMonths++;
+                yearReturns = yearReturns.add(investmentReturn);
+                yearWithdrawals = yearWithdrawals.add(withdrawal);
+            }
 
-        // Always add last month
-        if (!breakdown.isEmpty()) {
-            SWPResponse.MonthlyWithdrawalBreakdown lastMonth = 
-                breakdown.get(breakdown.size() - 1);
-            chart.add(new ChartPoint(
-                "Month " + lastMonth.getMonth(),
-                lastMonth.getClosingBalance()
-            ));
-        }
+            // Sample every 12 months for readability
+            if (index % 12 == 0) {
+                corpusPoints.add(new ChartPoint("Month " + month, closingBalance));
+                withdrawalPoints.add(new ChartPoint("Year " + year, withdrawal));
+            }
 
-        return chart;
-    }
+            months = month;
+            totalWithdrawn = totalWithdrawn.add(withdrawal);
+            totalReturns = totalReturns.add(investmentReturn);
+            lastClosingBalance = closingBalance;
+
+            if (yearly != null && month % 12 == 0) {
+                closeYear();
+            }
+        }
 
-    private List<ChartPoint> generateWithdrawalChart(
-            List<SWPResponse.MonthlyWithdrawalBreakdown> breakdown) {
+        void finish() {
+            if (yearly != null && yearMonths > 0) {
+                closeYear();
+            }
+            // Always add last month
+            if (months > 0) {
+                corpusPoints.add(new ChartPoint("Month " + months, lastClosingBalance));
+            }
+        }
 
-        List<ChartPoint> chart = new ArrayList<>();
+        int rows() {
+            if (monthly != null) {
+                return monthly.size();
+            }
+            return yearly != null ? yearly.size() : 0;
+        }
 
-        // Sample every 12 months
-        for (int i = 0; i < breakdown.size(); i += 12) {
-            SWPResponse.MonthlyWithdrawalBreakdown month = breakdown.get(i);
-            chart.add(new ChartPoint(
-                "Year " + month.getYear(),
-                month.getWithdrawalAmount()
+        private void closeYear() {
+            BigDecimal avgWithdrawal = CalculationUtils.safeDivide(
+                yearWithdrawals,
+                new BigDecimal(yearMonths)
+            );
+            yearly.add(new SWPResponse.YearlyWithdrawalSummary(
+                (months - 1) / 12 + 1,
+                CalculationUtils.format(yearStartingCorpus),
+                CalculationUtils.format(yearReturns),
+                CalculationUtils.format(yearWithdrawals),
+                CalculationUtils.format(lastClosingBalance),
+                CalculationUtils.format(avgWithdrawal),
+                lastClosingBalance.compareTo(yearStartingCorpus) > 0
             ));
+            yearMonths = 0;
         }
-
-        return chart;
     }
 }
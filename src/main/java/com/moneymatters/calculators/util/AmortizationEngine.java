@@ -0,0 +1,136 @@
+package com.moneymatters.calculators.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Allocation-free amortization kernel.
+ *
+ * Balances are tracked as whole paise in a long and each month's interest
+ * is rounded to the paisa, exactly as a printed schedule would be, so the
+ * totals match the sum of the schedule rows. Nothing is allocated per
+ * month: callers that need the rows pass a {@link MonthVisitor}, callers
+ * that only need totals pass null.
+ */
+public final class AmortizationEngine {
+
+    /** Loop stops once less than ₹1 is outstanding */
+    private static final long CLOSE_OUT_PAISE = 100;
+
+    private AmortizationEngine() {
+    }
+
+    /**
+     * Receives one schedule row per month; all amounts in paise.
+     */
+    @FunctionalInterface
+    public interface MonthVisitor {
+        void visit(int month, long openingBalance, long emi, long interest,
+                   long principal, long closingBalance,
+                   long cumulativeInterest, long cumulativePrincipal);
+    }
+
+    /**
+     * Totals of an amortization run; all amounts in paise.
+     *
+     * @param months        Months until the loan closed (effective tenure)
+     * @param totalInterest Interest paid across all EMIs
+     * @param totalPrincipal Principal repaid through EMIs (excludes prepayments)
+     * @param lastEmi       EMI paid in the last month
+     * @param totalPrepaid  Prepayments actually applied (capped at the balance)
+     */
+    public record Result(int months, long totalInterest, long totalPrincipal, long lastEmi, long totalPrepaid) {
+    }
+
+    /**
+     * Run the schedule month by month.
+     *
+     * @param principal Loan amount in paise
+     * @param emi Monthly instalment in paise
+     * @param annualRatePercent Annual rate (8.5 for 8.5%)
+     * @param tenureMonths Contractual tenure
+     * @param prepayments Optional prepayment index, applied after the EMI of its month
+     * @param visitor Optional row consumer, null when only totals are needed
+     */
+    public static Result amortize(
+            long principal,
+            long emi,
+            double annualRatePercent,
+            int tenureMonths,
+            PrepaymentSchedule prepayments,
+            MonthVisitor visitor) {
+
+        double monthlyRate = FinancialMathKernel.monthlyRate(annualRatePercent);
+
+        long balance = principal;
+        long currentEmi = emi;
+        long cumulativeInterest = 0;
+        long cumulativePrincipal = 0;
+        long lastEmi = 0;
+        long totalPrepaid = 0;
+        int month = 0;
+
+        while (month < tenureMonths && balance > CLOSE_OUT_PAISE) {
+            month++;
+            long openingBalance = balance;
+
+            long interest = Math.round(balance * monthlyRate);
+            long principalPaid = currentEmi - interest;
+
+            // Don't pay more than remaining balance
+            if (principalPaid > balance) {
+                principalPaid = balance;
+                currentEmi = principalPaid + interest;
+            }
+
+            balance = Math.max(balance - principalPaid, 0);
+            cumulativeInterest += interest;
+            cumulativePrincipal += principalPaid;
+            lastEmi = currentEmi;
+
+            if (visitor != null) {
+                visitor.visit(month, openingBalance, currentEmi, interest, principalPaid,
+                    balance, cumulativeInterest, cumulativePrincipal);
+            }
+
+            if (prepayments != null) {
+                long prepayment = Math.min(prepayments.amountAt(month), balance);
+                if (prepayment > 0) {
+                    balance -= prepayment;
+                    totalPrepaid += prepayment;
+
+                    if (prepayments.reducesEmiAt(month)) {
+                        currentEmi = emiPaise(balance, annualRatePercent, tenureMonths - month);
+                    }
+                }
+            }
+
+            if (balance < CLOSE_OUT_PAISE) {
+                break;
+            }
+        }
+
+        return new Result(month, cumulativeInterest, cumulativePrincipal, lastEmi, totalPrepaid);
+    }
+
+    /**
+     * Standard EMI for a balance in paise, rounded to the paisa
+     */
+    public static long emiPaise(long balance, double annualRatePercent, int remainingMonths) {
+        if (remainingMonths <= 0 || balance <= 0) {
+            return 0;
+        }
+        return Math.round(FinancialMathKernel.emi(balance, annualRatePercent, remainingMonths));
+    }
+
+    public static long toPaise(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromPaise(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+}
@@ -1,6 +1,7 @@
 package com.moneymatters.calculators.util;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
 
 /**
@@ -14,6 +15,7 @@ public class CalculationUtils {
 
     private static final int SCALE = 10;  // Precision: 10 decimal places
     private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+    private static final MathContext POWER_CONTEXT = MathContext.DECIMAL128;
 
     /**
      * Calculate (base)^exponent
@@ -32,14 +34,64 @@ public class CalculationUtils {
         
         if (exponent < 0) {
             return BigDecimal.ONE.divide(
-                power(base, Math.abs(exponent)), 
+                power(base, Math.abs(exponent), POWER_CONTEXT), 
                 SCALE, 
                 ROUNDING
             );
         }
 
-        double result = Math.pow(base.doubleValue(), exponent);
-        return new BigDecimal(result).setScale(SCALE, ROUNDING);
+        return power(base, exponent, POWER_CONTEXT).setScale(SCALE, ROUNDING);
+    }
+
+    /**
+     * Calculate (base)^exponent entirely in BigDecimal
+     *
+     * Exponentiation by squaring: O(log n) multiplications, each rounded
+     * to mathContext plus a few guard digits so the rounding error of the
+     * ~2·log2(n) steps does not reach the requested precision.
+     *
+     * @param base The base number (usually 1 + rate)
+     * @param exponent The power
+     * @param mathContext Precision of the result
+     * @return base^exponent rounded to mathContext
+     */
+    public static BigDecimal power(BigDecimal base, int exponent, MathContext mathContext) {
+        if (exponent == 0) {
+            return BigDecimal.ONE;
+        }
+
+        if (exponent < 0) {
+            return BigDecimal.ONE.divide(
+                power(base, Math.abs(exponent), mathContext),
+                mathContext
+            );
+        }
+
+        if (mathContext.getPrecision() == 0) {
+            return base.pow(exponent); // Unlimited precision requested
+        }
+
+        int guardDigits = 32 - Integer.numberOfLeadingZeros(exponent) + 2;
+        MathContext working = new MathContext(
+            mathContext.getPrecision() + guardDigits,
+            mathContext.getRoundingMode()
+        );
+
+        BigDecimal result = BigDecimal.ONE;
+        BigDecimal square = base;
+        int remaining = exponent;
+
+        while (remaining > 0) {
+            if ((remaining & 1) == 1) {
+                result = result.multiply(square, working);
+            }
+            remaining >>= 1;
+            if (remaining > 0) {
+                square = square.multiply(square, working);
+            }
+        }
+
+        return result.round(mathContext);
     }
 
     /**
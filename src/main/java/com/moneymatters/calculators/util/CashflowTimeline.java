@@ -0,0 +1,165 @@
+package com.moneymatters.calculators.util;
+
+import com.moneymatters.common.exception.InvalidRequestException;
+
+/**
+ * Month-by-month income and expense series over a planning horizon.
+ *
+ * Items are laid onto two primitive double[] series, one slot per month
+ * (month 1 = index 0): a recurring item writes every N-th month between
+ * its start and end, a one-off writes a single slot. Amounts are in
+ * today's money and grow by the item's rate once a year from month 1, so
+ * a school fee that starts in year 6 is already inflated when it starts.
+ *
+ * Adding an item is O(months it touches); yearly totals are summed on
+ * first use and cached until the next item is added. A 40-year plan with
+ * dozens of items is a few thousand array writes.
+ */
+public final class CashflowTimeline {
+
+    private final int months;
+    private final double[] income;
+    private final double[] expense;
+
+    // Lazily aggregated
+    private double[] annualIncome;
+    private double[] annualExpense;
+
+    public CashflowTimeline(int months) {
+        if (months < 1) {
+            throw new InvalidRequestException("Timeline needs at least one month");
+        }
+        this.months = months;
+        this.income = new double[months];
+        this.expense = new double[months];
+    }
+
+    public int months() {
+        return months;
+    }
+
+    public int years() {
+        return (months + 11) / 12;
+    }
+
+    /**
+     * @param amount        Amount per occurrence in today's money
+     * @param startMonth    First month (1-based)
+     * @param endMonth      Last month, inclusive; clipped to the horizon
+     * @param everyMonths   Months between occurrences; 0 for a one-off
+     * @param growthPercent Yearly growth, applied from month 1
+     */
+    public void addIncome(double amount, int startMonth, int endMonth, int everyMonths, double growthPercent) {
+        accumulate(income, amount, startMonth, endMonth, everyMonths, growthPercent);
+    }
+
+    /**
+     * @see #addIncome(double, int, int, int, double)
+     */
+    public void addExpense(double amount, int startMonth, int endMonth, int everyMonths, double growthPercent) {
+        accumulate(expense, amount, startMonth, endMonth, everyMonths, growthPercent);
+    }
+
+    /**
+     * Income of the month (1-based)
+     */
+    public double income(int month) {
+        return income[month - 1];
+    }
+
+    public double expense(int month) {
+        return expense[month - 1];
+    }
+
+    public double net(int month) {
+        return income[month - 1] - expense[month - 1];
+    }
+
+    /**
+     * Income of the year (1-based)
+     */
+    public double annualIncome(int year) {
+        aggregate();
+        return annualIncome[year - 1];
+    }
+
+    public double annualExpense(int year) {
+        aggregate();
+        return annualExpense[year - 1];
+    }
+
+    /**
+     * First month with a negative net cashflow, or 0 when there is none
+     */
+    public int firstDeficitMonth() {
+        for (int m = 0; m < months; m++) {
+            if (income[m] < expense[m]) {
+                return m + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Lowest monthly net cashflow over the horizon
+     */
+    public double lowestNet() {
+        double lowest = Double.POSITIVE_INFINITY;
+        for (int m = 0; m < months; m++) {
+            lowest = Math.min(lowest, income[m] - expense[m]);
+        }
+        return lowest;
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private void accumulate(double[] series, double amount, int startMonth, int endMonth,
+                            int everyMonths, double growthPercent) {
+        if (startMonth < 1 || endMonth < startMonth) {
+            throw new InvalidRequestException(
+                "Invalid month range " + startMonth + ".." + endMonth);
+        }
+        if (everyMonths < 0) {
+            throw new InvalidRequestException("Frequency cannot be negative");
+        }
+
+        int last = everyMonths == 0 ? startMonth : Math.min(endMonth, months);
+        int step = everyMonths == 0 ? 1 : everyMonths;
+        if (startMonth > months) {
+            return; // Starts after the horizon
+        }
+
+        double growth = 1 + growthPercent / 100.0;
+        int year = (startMonth - 1) / 12;
+        double factor = Math.pow(growth, year);
+
+        for (int m = startMonth; m <= last; m += step) {
+            int y = (m - 1) / 12;
+            while (year < y) {
+                factor *= growth;
+                year++;
+            }
+            series[m - 1] += amount * factor;
+        }
+
+        annualIncome = null;
+        annualExpense = null;
+    }
+
+    private void aggregate() {
+        if (annualIncome != null) {
+            return;
+        }
+        int years = years();
+        double[] incomeTotals = new double[years];
+        double[] expenseTotals = new double[years];
+        for (int m = 0; m < months; m++) {
+            incomeTotals[m / 12] += income[m];
+            expenseTotals[m / 12] += expense[m];
+        }
+        annualIncome = incomeTotals;
+        annualExpense = expenseTotals;
+    }
+}
@@ -0,0 +1,38 @@
+package com.moneymatters.calculators.util;
+
+import com.moneymatters.calculators.dto.ChartPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reduces chart series to a requested number of points.
+ */
+public final class ChartSampler {
+
+    private ChartSampler() {
+    }
+
+    /**
+     * Pick evenly spaced points, always keeping the first and last one.
+     *
+     * @param series Full chart series
+     * @param maxPoints Maximum points to return, or null to keep everything
+     * @return The series itself if it already fits, otherwise a sampled copy
+     */
+    public static List<ChartPoint> downsample(List<ChartPoint> series, Integer maxPoints) {
+        if (series == null || maxPoints == null || series.size() <= maxPoints) {
+            return series;
+        }
+
+        int points = Math.max(maxPoints, 2);
+        int last = series.size() - 1;
+        List<ChartPoint> sampled = new ArrayList<>(points);
+
+        for (int i = 0; i < points; i++) {
+            int index = (int) Math.round((double) i * last / (points - 1));
+            sampled.add(series.get(index));
+        }
+        return sampled;
+    }
+}
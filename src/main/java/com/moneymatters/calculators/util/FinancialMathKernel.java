@@ -0,0 +1,125 @@
+package com.moneymatters.calculators.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Primitive double implementation of the standard financial formulas.
+ *
+ * Mirrors FinancialMathService, but works on doubles so projections,
+ * year-by-year tables and chart series can be computed without allocating
+ * a BigDecimal per step. Results are accurate to well under a paisa for
+ * realistic inputs; use FinancialMathService in EXACT mode for headline
+ * totals that are displayed to the user.
+ *
+ * PRINCIPLE: All rates are annual percentages
+ * Example: 12% = input 12, not 0.12
+ */
+public final class FinancialMathKernel {
+
+    private FinancialMathKernel() {
+    }
+
+    /**
+     * Convert an annual percentage to a monthly decimal rate
+     *
+     * Example: monthlyRate(12) = 0.01
+     */
+    public static double monthlyRate(double annualRatePercent) {
+        return annualRatePercent / 1200.0;
+    }
+
+    /**
+     * Calculate (1 + rate)^periods
+     */
+    public static double growthFactor(double rate, double periods) {
+        return Math.exp(periods * Math.log1p(rate));
+    }
+
+    /**
+     * Calculate (1 + rate)^periods - 1 without cancellation for small rates
+     */
+    public static double growthFactorMinusOne(double rate, double periods) {
+        return Math.expm1(periods * Math.log1p(rate));
+    }
+
+    /**
+     * FV = PV × (1 + r)^n, n in years
+     */
+    public static double futureValue(double presentValue, double annualRatePercent, double years) {
+        if (presentValue <= 0 || years < 0) {
+            return 0.0;
+        }
+        return presentValue * growthFactor(annualRatePercent / 100.0, Math.floor(years));
+    }
+
+    /**
+     * PV = FV / (1 + r)^n, n in years
+     */
+    public static double presentValue(double futureValue, double annualRatePercent, double years) {
+        if (futureValue <= 0) {
+            return 0.0;
+        }
+        double fvOfOne = futureValue(1.0, annualRatePercent, years);
+        return fvOfOne == 0.0 ? 0.0 : futureValue / fvOfOne;
+    }
+
+    /**
+     * EMI = P × r / [1 - (1 + r)^-n]
+     */
+    public static double emi(double principal, double annualRatePercent, int tenureMonths) {
+        if (principal <= 0 || tenureMonths <= 0) {
+            return 0.0;
+        }
+        double r = monthlyRate(annualRatePercent);
+        if (r == 0.0) {
+            return principal / tenureMonths;
+        }
+        return principal * r / -growthFactorMinusOne(r, -tenureMonths);
+    }
+
+    /**
+     * FVA = PMT × [((1 + r)^n - 1) / r]
+     */
+    public static double annuityFutureValue(double monthlyPayment, double annualRatePercent, int months) {
+        if (monthlyPayment <= 0 || months <= 0) {
+            return 0.0;
+        }
+        double r = monthlyRate(annualRatePercent);
+        if (r == 0.0) {
+            return monthlyPayment * months;
+        }
+        return monthlyPayment * growthFactorMinusOne(r, months) / r;
+    }
+
+    /**
+     * PVA = PMT × [1 - (1 + r)^-n] / r
+     */
+    public static double presentValueAnnuity(double monthlyPayment, double annualRatePercent, int months) {
+        if (monthlyPayment <= 0 || months <= 0) {
+            return 0.0;
+        }
+        double r = monthlyRate(annualRatePercent);
+        if (r == 0.0) {
+            return monthlyPayment * months;
+        }
+        return monthlyPayment * -growthFactorMinusOne(r, -months) / r;
+    }
+
+    /**
+     * Null-safe BigDecimal to double conversion for request fields
+     */
+    public static double toDouble(BigDecimal value) {
+        return value == null ? 0.0 : value.doubleValue();
+    }
+
+    /**
+     * Convert a double result to a 2-decimal currency amount
+     */
+    public static BigDecimal toAmount(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
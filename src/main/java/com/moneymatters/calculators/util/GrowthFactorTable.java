@@ -0,0 +1,91 @@
+package com.moneymatters.calculators.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Cached (1 + r)^n factors for monthly compounding.
+ *
+ * Loan, SIP and retirement requests overwhelmingly use a small set of
+ * annual rates quoted to at most two decimals (8.5, 10.75, 12 ...).
+ * For those rates the first 600 monthly factors (50 years) are built once
+ * by repeated multiplication and then served by array lookup; any other
+ * rate or tenure falls back to CalculationUtils.power. Up to 64 rates are
+ * kept; once full, rates that stop being asked for give way to new ones.
+ *
+ * All factors are rounded to DECIMAL128.
+ */
+public final class GrowthFactorTable {
+
+    public static final int MAX_TENURE_MONTHS = 600;
+
+    private static final int MAX_CACHED_RATES = 64;
+    private static final int MAX_RATE_SCALE = 2;
+    private static final MathContext CONTEXT = MathContext.DECIMAL128;
+    private static final MathContext WORKING_CONTEXT = new MathContext(
+        CONTEXT.getPrecision() + 6, CONTEXT.getRoundingMode());
+    private static final BigDecimal MONTHS_PER_YEAR_PERCENT = new BigDecimal(1200);
+
+    private static final Cache<BigDecimal, BigDecimal[]> TABLES = Caffeine.newBuilder()
+        .maximumSize(MAX_CACHED_RATES)
+        .executor(Runnable::run)
+        .build();
+
+    private GrowthFactorTable() {
+    }
+
+    /**
+     * Calculate (1 + annualRatePercent / 1200)^months
+     *
+     * Example: monthlyFactor(12, 12) = 1.01^12 = 1.1268
+     *
+     * @param annualRatePercent Annual rate (12 for 12%)
+     * @param months Number of monthly periods
+     * @return Growth factor rounded to DECIMAL128
+     */
+    public static BigDecimal monthlyFactor(BigDecimal annualRatePercent, int months) {
+        BigDecimal rate = annualRatePercent == null
+            ? BigDecimal.ZERO
+            : annualRatePercent.stripTrailingZeros();
+
+        if (months < 0 || months > MAX_TENURE_MONTHS || rate.scale() > MAX_RATE_SCALE) {
+            return CalculationUtils.power(monthlyBase(rate), months, CONTEXT);
+        }
+
+        return TABLES.get(rate, GrowthFactorTable::buildTable)[months];
+    }
+
+    /**
+     * Number of rates currently cached (for tests and diagnostics)
+     */
+    static long cachedRates() {
+        TABLES.cleanUp();
+        return TABLES.estimatedSize();
+    }
+
+    static boolean isCached(BigDecimal annualRatePercent) {
+        return TABLES.getIfPresent(annualRatePercent.stripTrailingZeros()) != null;
+    }
+
+    private static BigDecimal monthlyBase(BigDecimal annualRatePercent) {
+        return BigDecimal.ONE.add(annualRatePercent.divide(MONTHS_PER_YEAR_PERCENT, CONTEXT));
+    }
+
+    private static BigDecimal[] buildTable(BigDecimal annualRatePercent) {
+        BigDecimal base = monthlyBase(annualRatePercent);
+        BigDecimal[] factors = new BigDecimal[MAX_TENURE_MONTHS + 1];
+
+        // Carry the running product at extra precision and round each entry,
+        // so 600 sequential multiplications do not drift into the result
+        BigDecimal running = BigDecimal.ONE;
+        factors[0] = BigDecimal.ONE;
+        for (int n = 1; n <= MAX_TENURE_MONTHS; n++) {
+            running = running.multiply(base, WORKING_CONTEXT);
+            factors[n] = running.round(CONTEXT);
+        }
+        return factors;
+    }
+}
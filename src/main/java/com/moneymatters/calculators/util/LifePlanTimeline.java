@@ -0,0 +1,255 @@
+package com.moneymatters.calculators.util;
+
+import java.util.Arrays;
+
+/**
+ * One monthly timeline shared by every part of a household plan.
+ *
+ * Each calculator contributes its flows as primitive per-month series:
+ * the cashflow planner adds income and expenses (via {@link CashflowTimeline}),
+ * SIPs add contributions into the portfolio, loans add EMIs, prepayments
+ * and the outstanding balance (via {@link AmortizationEngine}), SWPs add
+ * withdrawals out of the portfolio and goals add dated lump sums. Nothing
+ * is simulated while flows are added; {@link #evaluate} then walks the
+ * months once and settles the household's cash and portfolio together.
+ *
+ * Month 1 is this month (index 0). Amounts are in rupees, in today's money
+ * where an item has a growth rate.
+ */
+public final class LifePlanTimeline {
+
+    private final int months;
+    private final CashflowTimeline cashflow;
+    private final double[] sip;
+    private final double[] debt;            // EMIs + prepayments
+    private final double[] loanBalance;     // Outstanding at month end, all loans
+    private final double[] withdrawal;      // SWP: portfolio -> household
+
+    // Goals, in insertion order
+    private int goalCount;
+    private int[] goalMonth = new int[4];
+    private double[] goalAmount = new double[4];
+
+    public LifePlanTimeline(int months) {
+        this.months = months;
+        this.cashflow = new CashflowTimeline(months);
+        this.sip = new double[months];
+        this.debt = new double[months];
+        this.loanBalance = new double[months];
+        this.withdrawal = new double[months];
+    }
+
+    public int months() {
+        return months;
+    }
+
+    /**
+     * Income and expense items go straight onto the cashflow series
+     */
+    public CashflowTimeline cashflow() {
+        return cashflow;
+    }
+
+    /**
+     * Monthly SIP stepping up every 12 months from its own start
+     */
+    public void addSip(double monthlyAmount, int startMonth, int endMonth, double annualStepupPercent) {
+        int last = Math.min(endMonth, months);
+        double stepup = 1 + annualStepupPercent / 100.0;
+        double amount = monthlyAmount;
+        for (int m = startMonth; m <= last; m++) {
+            if (m > startMonth && (m - startMonth) % 12 == 0) {
+                amount *= stepup;
+            }
+            sip[m - 1] += amount;
+        }
+    }
+
+    /**
+     * Loan taken in startMonth with its first EMI the month after.
+     * Prepayment months are relative to the loan, as in the loan analyzer.
+     *
+     * @return Amortization totals in paise
+     */
+    public AmortizationEngine.Result addLoan(long principalPaise, long emiPaise, double annualRatePercent,
+                                             int tenureMonths, int startMonth, PrepaymentSchedule prepayments) {
+        int offset = startMonth;  // Loan month k lands on plan month startMonth + k
+        if (offset <= months) {
+            loanBalance[offset - 1] += principalPaise / 100.0;
+        }
+
+        AmortizationEngine.Result result = AmortizationEngine.amortize(
+            principalPaise, emiPaise, annualRatePercent, tenureMonths, prepayments,
+            (month, opening, emi, interest, principal, closing, cumInterest, cumPrincipal) -> {
+                int index = offset + month - 1;
+                if (index >= months) {
+                    return;
+                }
+                long prepaid = prepayments != null ? Math.min(prepayments.amountAt(month), closing) : 0;
+                debt[index] += (emi + prepaid) / 100.0;
+                loanBalance[index] += (closing - prepaid) / 100.0;
+            });
+
+        return result;
+    }
+
+    /**
+     * Withdrawal from the portfolio into the household, growing yearly
+     * from month 1 (today's money)
+     */
+    public void addWithdrawal(double monthlyAmount, int startMonth, int endMonth, double annualGrowthPercent) {
+        int last = Math.min(endMonth, months);
+        double growth = 1 + annualGrowthPercent / 100.0;
+        double amount = monthlyAmount * Math.pow(growth, (startMonth - 1) / 12);
+        for (int m = startMonth; m <= last; m++) {
+            if (m > startMonth && (m - 1) % 12 == 0) {
+                amount *= growth;
+            }
+            withdrawal[m - 1] += amount;
+        }
+    }
+
+    /**
+     * Lump sum due in a month, inflated yearly from month 1
+     *
+     * @return Goal index for {@link Result#goalPaid}
+     */
+    public int addGoal(double amountToday, int month, double inflationPercent) {
+        if (goalCount == goalMonth.length) {
+            goalMonth = Arrays.copyOf(goalMonth, goalCount * 2);
+            goalAmount = Arrays.copyOf(goalAmount, goalCount * 2);
+        }
+        goalMonth[goalCount] = month;
+        goalAmount[goalCount] = amountToday * Math.pow(1 + inflationPercent / 100.0, (month - 1) / 12);
+        return goalCount++;
+    }
+
+    /**
+     * Settle every month in order.
+     *
+     * Each month the portfolio earns its return, receives the SIPs and
+     * pays out the SWP withdrawals. The household then receives income
+     * and withdrawals and pays expenses, EMIs and SIPs; surplus builds up
+     * as cash. A cash deficit is covered from the portfolio, and goals are
+     * paid from the portfolio first and cash second. Whatever neither can
+     * cover is recorded as a shortfall.
+     */
+    public Result evaluate(double startingCorpus, double startingCash, double annualReturnPercent) {
+        double r = FinancialMathKernel.monthlyRate(annualReturnPercent);
+
+        // Goals due per month, so the loop does one array read
+        double[] goalDue = new double[months];
+        for (int g = 0; g < goalCount; g++) {
+            if (goalMonth[g] <= months) {
+                goalDue[goalMonth[g] - 1] += goalAmount[g];
+            }
+        }
+        double[] goalFundedFraction = new double[months];
+
+        double[] corpus = new double[months];
+        double[] cash = new double[months];
+        double[] goalPaid = new double[months];
+        double portfolio = startingCorpus;
+        double balance = startingCash;
+        double totalInvested = 0;
+        double totalReturns = 0;
+        double totalShortfall = 0;
+        int depletedMonth = 0;
+        int shortfallMonth = 0;
+
+        for (int m = 0; m < months; m++) {
+            double returns = portfolio * r;
+            portfolio += returns + sip[m];
+            totalReturns += returns;
+            totalInvested += sip[m];
+
+            double withdrawn = Math.min(withdrawal[m], portfolio);
+            portfolio -= withdrawn;
+
+            balance += cashflow.income(m + 1) + withdrawn
+                - cashflow.expense(m + 1) - debt[m] - sip[m];
+
+            // A withdrawal the portfolio can't fund only matters if it leaves cash short
+            double unfunded = 0;
+            if (balance < 0) {
+                double draw = Math.min(-balance, portfolio);
+                portfolio -= draw;
+                balance += draw;
+            }
+
+            if (goalDue[m] > 0) {
+                double fromPortfolio = Math.min(goalDue[m], portfolio);
+                portfolio -= fromPortfolio;
+                double fromCash = Math.min(goalDue[m] - fromPortfolio, Math.max(balance, 0));
+                balance -= fromCash;
+                goalPaid[m] = fromPortfolio + fromCash;
+                goalFundedFraction[m] = goalPaid[m] / goalDue[m];
+                unfunded += goalDue[m] - goalPaid[m];
+            }
+
+            if (balance < 0) {
+                unfunded += -balance;
+                balance = 0;  // The gap is reported, not carried as debt
+            }
+
+            if (unfunded > 0.005) {
+                totalShortfall += unfunded;
+                if (shortfallMonth == 0) {
+                    shortfallMonth = m + 1;
+                }
+            }
+            if (depletedMonth == 0 && portfolio <= 0.005 && (startingCorpus > 0 || totalInvested > 0)) {
+                depletedMonth = m + 1;
+            }
+
+            corpus[m] = portfolio;
+            cash[m] = balance;
+        }
+
+        double[] paidByGoal = new double[goalCount];
+        for (int g = 0; g < goalCount; g++) {
+            if (goalMonth[g] <= months) {
+                paidByGoal[g] = goalAmount[g] * goalFundedFraction[goalMonth[g] - 1];
+            }
+        }
+
+        return new Result(corpus, cash, goalPaid, Arrays.copyOf(goalAmount, goalCount), paidByGoal,
+            totalInvested, totalReturns, totalShortfall, depletedMonth, shortfallMonth);
+    }
+
+    public double sip(int month) {
+        return sip[month - 1];
+    }
+
+    public double debt(int month) {
+        return debt[month - 1];
+    }
+
+    public double withdrawal(int month) {
+        return withdrawal[month - 1];
+    }
+
+    /**
+     * Loans outstanding at the end of the month
+     */
+    public double loanBalance(int month) {
+        return loanBalance[month - 1];
+    }
+
+    /**
+     * Outcome of {@link #evaluate}; series are indexed by month - 1.
+     *
+     * @param corpus          Portfolio value at each month end
+     * @param cash            Cash balance at each month end
+     * @param goalPaid        Goal payments made in each month
+     * @param goalDue         Inflated amount of each goal, in insertion order
+     * @param goalFunded      Amount actually paid towards each goal
+     * @param shortfallMonth  First month something could not be paid, 0 if never
+     * @param depletedMonth   First month the portfolio ran dry, 0 if never
+     */
+    public record Result(double[] corpus, double[] cash, double[] goalPaid,
+                         double[] goalDue, double[] goalFunded,
+                         double totalInvested, double totalReturns, double totalShortfall,
+                         int depletedMonth, int shortfallMonth) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.moneymatters.calculators.util;
+
+import com.moneymatters.calculators.dto.PercentileBand;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Runs independent simulation paths across all cores.
+ *
+ * Paths are cut into fixed blocks of {@link #PATHS_PER_BLOCK}; each block
+ * gets its own SplittableRandom split from the seed before anything runs,
+ * so a given seed yields the same paths whatever the core count or
+ * scheduling. Blocks run on the common fork/join pool via a parallel
+ * stream and write their results into caller-owned primitive arrays
+ * indexed by path, so no per-path objects are created.
+ */
+public final class MonteCarloEngine {
+
+    public static final int PATHS_PER_BLOCK = 1024;
+
+    private static final double[] BAND_FRACTIONS = {0.10, 0.25, 0.50, 0.75, 0.90};
+
+    private MonteCarloEngine() {
+    }
+
+    /**
+     * Simulates paths [fromPath, toPath) using only the given random stream.
+     */
+    @FunctionalInterface
+    public interface PathBlock {
+        void simulate(int fromPath, int toPath, SplittableRandom random);
+    }
+
+    public static void run(int paths, long seed, PathBlock block) {
+        int blocks = (paths + PATHS_PER_BLOCK - 1) / PATHS_PER_BLOCK;
+
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[blocks];
+        for (int b = 0; b < blocks; b++) {
+            streams[b] = root.split();
+        }
+
+        IntStream.range(0, blocks).parallel().forEach(b -> block.simulate(
+            b * PATHS_PER_BLOCK,
+            Math.min(paths, (b + 1) * PATHS_PER_BLOCK),
+            streams[b]
+        ));
+    }
+
+    /**
+     * Percentiles of the values (sorts the array in place).
+     *
+     * @param values Simulated outcomes
+     * @param fractions Requested percentiles as fractions (0.1 for p10)
+     */
+    public static double[] percentiles(double[] values, double... fractions) {
+        Arrays.sort(values);
+        double[] result = new double[fractions.length];
+        for (int i = 0; i < fractions.length; i++) {
+            result[i] = percentileOfSorted(values, fractions[i]);
+        }
+        return result;
+    }
+
+    /**
+     * p10 / p25 / p50 / p75 / p90 band over simulated outcomes (sorts the
+     * array in place)
+     */
+    public static PercentileBand percentileBand(String label, double[] values) {
+        double[] p = percentiles(values, BAND_FRACTIONS);
+        return new PercentileBand(
+            label,
+            FinancialMathKernel.toAmount(p[0]),
+            FinancialMathKernel.toAmount(p[1]),
+            FinancialMathKernel.toAmount(p[2]),
+            FinancialMathKernel.toAmount(p[3]),
+            FinancialMathKernel.toAmount(p[4])
+        );
+    }
+
+    /**
+     * Linear interpolation between the closest ranks of a sorted array
+     */
+    public static double percentileOfSorted(double[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        double rank = fraction * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+}
@@ -0,0 +1,99 @@
+package com.moneymatters.calculators.util;
+
+import com.moneymatters.calculators.dto.PrepaymentScenario;
+
+import java.util.List;
+
+/**
+ * Prepayments expanded into per-month arrays.
+ *
+ * Every scenario (one-time lump sums, recurring every N months, recurring
+ * with an annual step-up) is expanded once up front, so the amortization
+ * loop does a single array read per month instead of scanning the
+ * scenario list. Amounts landing in the same month are added together.
+ */
+public final class PrepaymentSchedule {
+
+    private final long[] amountByMonth;
+    private final boolean[] reduceEmiByMonth;
+    private final long totalScheduled;
+
+    private PrepaymentSchedule(long[] amountByMonth, boolean[] reduceEmiByMonth) {
+        this.amountByMonth = amountByMonth;
+        this.reduceEmiByMonth = reduceEmiByMonth;
+
+        long total = 0;
+        for (long amount : amountByMonth) {
+            total += amount;
+        }
+        this.totalScheduled = total;
+    }
+
+    /**
+     * Expand request scenarios over the loan tenure.
+     *
+     * @return The schedule, or null when there are no prepayments
+     */
+    public static PrepaymentSchedule of(List<PrepaymentScenario> prepayments, int tenureMonths) {
+        if (prepayments == null || prepayments.isEmpty()) {
+            return null;
+        }
+
+        long[] amounts = new long[tenureMonths + 1];
+        boolean[] reduceEmi = new boolean[tenureMonths + 1];
+
+        for (PrepaymentScenario prepayment : prepayments) {
+            if (prepayment.getAtMonth() == null || prepayment.getAtMonth() < 1) {
+                continue;
+            }
+
+            int first = prepayment.getAtMonth();
+            int step = prepayment.getEveryMonths() != null ? prepayment.getEveryMonths() : 0;
+            int last = step > 0
+                ? Math.min(prepayment.getUntilMonth() != null ? prepayment.getUntilMonth() : tenureMonths, tenureMonths)
+                : Math.min(first, tenureMonths);
+
+            double baseAmount = FinancialMathKernel.toDouble(prepayment.getAmount()) * 100;
+            double stepup = FinancialMathKernel.toDouble(prepayment.getAnnualStepupPercent()) / 100.0;
+            boolean reducesEmi = prepayment.getOption() == PrepaymentScenario.PrepaymentOption.REDUCE_EMI;
+
+            for (int month = first; month <= last; month += Math.max(step, 1)) {
+                int yearsElapsed = (month - first) / 12;
+                long amount = stepup == 0.0
+                    ? AmortizationEngine.toPaise(prepayment.getAmount())
+                    : Math.round(baseAmount * FinancialMathKernel.growthFactor(stepup, yearsElapsed));
+
+                amounts[month] += amount;
+                reduceEmi[month] |= reducesEmi;
+
+                if (step == 0) {
+                    break;
+                }
+            }
+        }
+
+        return new PrepaymentSchedule(amounts, reduceEmi);
+    }
+
+    /**
+     * Build directly from per-month amounts in paise (index = month)
+     */
+    public static PrepaymentSchedule ofPaise(long[] amountByMonth, boolean[] reduceEmiByMonth) {
+        return new PrepaymentSchedule(amountByMonth, reduceEmiByMonth);
+    }
+
+    /** Prepayment in paise due after the EMI of this month */
+    public long amountAt(int month) {
+        return month < amountByMonth.length ? amountByMonth[month] : 0;
+    }
+
+    /** Whether the EMI is recomputed after this month's prepayment */
+    public boolean reducesEmiAt(int month) {
+        return month < reduceEmiByMonth.length && reduceEmiByMonth[month];
+    }
+
+    /** Sum of all scheduled prepayments in paise, before any clamping */
+    public long totalScheduled() {
+        return totalScheduled;
+    }
+}
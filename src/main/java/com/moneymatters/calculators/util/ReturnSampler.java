@@ -0,0 +1,152 @@
+package com.moneymatters.calculators.util;
+
+import com.moneymatters.calculators.dto.ReturnDistribution;
+import com.moneymatters.common.exception.InvalidRequestException;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws yearly growth factors (1 + return) for stochastic simulations.
+ *
+ * Every distribution is log-based, so a draw can never lose more than
+ * 100%, and is calibrated so the arithmetic mean and standard deviation
+ * of the yearly return match the requested values:
+ *
+ *   log(1 + r) = m + s·ε,   s² = ln(1 + σ²/(1 + μ)²),   m = ln(1 + μ) - s²/2
+ *
+ * Only the unit shock ε differs: standard normal, a Student-t scaled to
+ * unit variance, or a standardised Nifty 50 year picked at random. The
+ * historical mode therefore keeps the shape of real market years (skew,
+ * crash years) while honouring the caller's expected return.
+ *
+ * Instances are immutable; all randomness comes from the caller's
+ * SplittableRandom, so one sampler can be shared across threads.
+ */
+public final class ReturnSampler {
+
+    /** Nifty 50 calendar-year price returns (%), 2000-2024 */
+    private static final double[] NIFTY_ANNUAL_RETURNS_PERCENT = {
+        -14.6, -16.2, 3.3, 71.9, 10.7, 36.3, 39.8, 54.8, -51.8, 75.8,
+        17.9, -24.6, 27.7, 6.8, 31.4, -4.1, 3.0, 28.6, 3.2, 12.0,
+        14.9, 24.1, 4.3, 20.0, 8.8
+    };
+
+    /**
+     * Student-t shocks are clipped here: exp() of an unbounded t has no
+     * finite mean, which would let a handful of extreme draws dominate
+     */
+    private static final double MAX_STUDENT_SHOCK = 6.0;
+
+    /** Historical log returns, demeaned and scaled to unit variance */
+    private static final double[] HISTORICAL_SHOCKS = standardise(NIFTY_ANNUAL_RETURNS_PERCENT);
+
+    private final ReturnDistribution distribution;
+    private final double logMean;
+    private final double logVolatility;
+    private final int degreesOfFreedom;
+    private final double studentScale;
+
+    /**
+     * @param distribution Shape of the yearly shock
+     * @param meanPercent Expected yearly return (12 for 12%)
+     * @param volatilityPercent Standard deviation of the yearly return (15 for 15%)
+     * @param degreesOfFreedom Tail weight for FAT_TAILED, at least 3
+     */
+    public ReturnSampler(ReturnDistribution distribution, double meanPercent,
+                         double volatilityPercent, int degreesOfFreedom) {
+        if (meanPercent <= -100) {
+            throw new InvalidRequestException("Expected return must be above -100%");
+        }
+        if (distribution == ReturnDistribution.FAT_TAILED && degreesOfFreedom < 3) {
+            throw new InvalidRequestException("Degrees of freedom must be at least 3");
+        }
+
+        double growth = 1 + meanPercent / 100.0;
+        double volatility = volatilityPercent / 100.0;
+        double logVariance = Math.log1p(volatility * volatility / (growth * growth));
+
+        this.distribution = distribution;
+        this.logVolatility = Math.sqrt(logVariance);
+        this.logMean = Math.log(growth) - logVariance / 2;
+        this.degreesOfFreedom = degreesOfFreedom;
+        this.studentScale = degreesOfFreedom >= 3
+            ? Math.sqrt((degreesOfFreedom - 2) / (double) degreesOfFreedom)
+            : 0;
+    }
+
+    /**
+     * Next yearly growth factor, e.g. 1.12 for a +12% year
+     */
+    public double nextGrowth(SplittableRandom random) {
+        if (logVolatility == 0) {
+            return Math.exp(logMean);
+        }
+        return Math.exp(logMean + logVolatility * nextShock(random));
+    }
+
+    /**
+     * Growth factor for a given unit shock, e.g. one picked with
+     * {@link #historicalShock(int)} when resampling whole blocks of years
+     */
+    public double growthForShock(double shock) {
+        return Math.exp(logMean + logVolatility * shock);
+    }
+
+    /**
+     * Number of historical years available to bootstrap from
+     */
+    public static int historicalYears() {
+        return HISTORICAL_SHOCKS.length;
+    }
+
+    /**
+     * Standardised shock of the given historical year (0 = oldest)
+     */
+    public static double historicalShock(int year) {
+        return HISTORICAL_SHOCKS[year];
+    }
+
+    private double nextShock(SplittableRandom random) {
+        return switch (distribution) {
+            case NORMAL -> random.nextGaussian();
+            case FAT_TAILED -> Math.max(-MAX_STUDENT_SHOCK,
+                Math.min(MAX_STUDENT_SHOCK, nextStudentT(random) * studentScale));
+            case HISTORICAL -> HISTORICAL_SHOCKS[random.nextInt(HISTORICAL_SHOCKS.length)];
+        };
+    }
+
+    /**
+     * Student-t draw: Z / sqrt(χ²(ν) / ν), with χ² as a sum of ν squared normals
+     */
+    private double nextStudentT(SplittableRandom random) {
+        double z = random.nextGaussian();
+        double chiSquared = 0;
+        for (int i = 0; i < degreesOfFreedom; i++) {
+            double g = random.nextGaussian();
+            chiSquared += g * g;
+        }
+        return z / Math.sqrt(chiSquared / degreesOfFreedom);
+    }
+
+    private static double[] standardise(double[] returnsPercent) {
+        int n = returnsPercent.length;
+        double[] logReturns = new double[n];
+        double mean = 0;
+        for (int i = 0; i < n; i++) {
+            logReturns[i] = Math.log1p(returnsPercent[i] / 100.0);
+            mean += logReturns[i];
+        }
+        mean /= n;
+
+        double variance = 0;
+        for (double logReturn : logReturns) {
+            variance += (logReturn - mean) * (logReturn - mean);
+        }
+        double sd = Math.sqrt(variance / n);
+
+        for (int i = 0; i < n; i++) {
+            logReturns[i] = (logReturns[i] - mean) / sd;
+        }
+        return logReturns;
+    }
+}
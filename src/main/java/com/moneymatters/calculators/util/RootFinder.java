@@ -0,0 +1,169 @@
+package com.moneymatters.calculators.util;
+
+import com.moneymatters.common.exception.InvalidRequestException;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntPredicate;
+
+/**
+ * Root finding for goal-seek style questions ("what X hits the target?").
+ *
+ * Continuous unknowns use Brent's method: inverse quadratic / secant
+ * steps with a bisection fallback, so it converges superlinearly on the
+ * smooth financial formulas yet can never leave the bracket. Whole-number
+ * unknowns (years, months, ages) use a binary search over a monotone
+ * condition instead.
+ */
+public final class RootFinder {
+
+    private static final int MAX_EXPANSIONS = 60;
+
+    private RootFinder() {
+    }
+
+    /**
+     * @param x           Solution
+     * @param evaluations Function evaluations spent, including bracketing
+     */
+    public record Root(double x, int evaluations) {
+    }
+
+    /**
+     * Brent's method on [lower, upper]; f(lower) and f(upper) must differ in sign.
+     *
+     * @param tolerance Absolute tolerance on x
+     */
+    public static Root brent(DoubleUnaryOperator f, double lower, double upper,
+                             double tolerance, int maxIterations) {
+        double a = lower;
+        double b = upper;
+        double fa = f.applyAsDouble(a);
+        double fb = f.applyAsDouble(b);
+        int evaluations = 2;
+
+        if (fa == 0) {
+            return new Root(a, evaluations);
+        }
+        if (fb == 0) {
+            return new Root(b, evaluations);
+        }
+        if (Math.signum(fa) == Math.signum(fb)) {
+            throw new InvalidRequestException("Target is not reachable within the search range");
+        }
+
+        double c = a;
+        double fc = fa;
+        double d = b - a;
+        double e = d;
+
+        for (int i = 0; i < maxIterations; i++) {
+            if (Math.signum(fb) == Math.signum(fc)) {
+                c = a;
+                fc = fa;
+                d = b - a;
+                e = d;
+            }
+            // Keep b as the best estimate
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+
+            double tol = 2 * Math.ulp(b) + 0.5 * tolerance;
+            double mid = 0.5 * (c - b);
+            if (Math.abs(mid) <= tol || fb == 0) {
+                return new Root(b, evaluations);
+            }
+
+            if (Math.abs(e) >= tol && Math.abs(fa) > Math.abs(fb)) {
+                // Interpolation: secant when only two points, inverse quadratic otherwise
+                double s = fb / fa;
+                double p;
+                double q;
+                if (a == c) {
+                    p = 2 * mid * s;
+                    q = 1 - s;
+                } else {
+                    double r = fb / fc;
+                    double t = fa / fc;
+                    p = s * (2 * mid * t * (t - r) - (b - a) * (r - 1));
+                    q = (t - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) {
+                    q = -q;
+                } else {
+                    p = -p;
+                }
+                if (2 * p < Math.min(3 * mid * q - Math.abs(tol * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = mid;
+                    e = d;
+                }
+            } else {
+                d = mid;
+                e = d;
+            }
+
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > tol ? d : Math.copySign(tol, mid);
+            fb = f.applyAsDouble(b);
+            evaluations++;
+        }
+
+        return new Root(b, evaluations);
+    }
+
+    /**
+     * Brent's method for an unknown in [lower, ∞): the upper end starts at
+     * guess and doubles until f changes sign or limit is passed.
+     */
+    public static Root solveUpward(DoubleUnaryOperator f, double lower, double guess, double limit,
+                                   double tolerance, int maxIterations) {
+        double fLower = f.applyAsDouble(lower);
+        double upper = Math.max(guess, lower + tolerance);
+        int expansions = 0;
+
+        while (Math.signum(f.applyAsDouble(upper)) == Math.signum(fLower)) {
+            if (upper >= limit || ++expansions > MAX_EXPANSIONS) {
+                throw new InvalidRequestException("Target is not reachable within the search range");
+            }
+            upper = Math.min(upper * 2, limit);
+        }
+
+        Root root = brent(f, lower, upper, tolerance, maxIterations);
+        return new Root(root.x(), root.evaluations() + expansions + 2);
+    }
+
+    /**
+     * Smallest n in [lower, upper] for which a monotone (false … true)
+     * condition holds, by binary search.
+     *
+     * @return The root, or null when the condition never holds in range
+     */
+    public static Root smallestInteger(IntPredicate condition, int lower, int upper) {
+        int evaluations = 1;
+        if (!condition.test(upper)) {
+            return null;
+        }
+
+        int low = lower;
+        int high = upper;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            evaluations++;
+            if (condition.test(mid)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return new Root(low, evaluations);
+    }
+}
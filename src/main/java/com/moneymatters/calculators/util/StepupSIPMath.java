@@ -0,0 +1,102 @@
+package com.moneymatters.calculators.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Closed forms for a step-up SIP.
+ *
+ * A SIP of P per month that steps up by s every year, at an expected
+ * annual return R, is valued the way the SIP calculator does it: each
+ * year's 12 instalments compound monthly at R/12 to the end of that year
+ * (factor a), and that amount then compounds yearly at R to maturity.
+ * With g = 1 + s and G = 1 + R:
+ *
+ *   maturity = P · a · Σ_{k=0}^{Y-1} g^k · G^(Y-1-k)
+ *            = P · a · (G^Y - g^Y) / (G - g)        (P · a · Y · G^(Y-1) when g = G)
+ *
+ *   invested = 12 · P · Σ_{k=0}^{Y-1} g^k = 12 · P · (g^Y - 1) / (g - 1)
+ *
+ * Both are linear in P, which makes solving for the starting SIP a single
+ * division. All factors are for P = ₹1 and rounded to DECIMAL128.
+ */
+public final class StepupSIPMath {
+
+    private static final MathContext CONTEXT = MathContext.DECIMAL128;
+    private static final BigDecimal HUNDRED = new BigDecimal(100);
+    private static final BigDecimal MONTHS_PER_YEAR = new BigDecimal(12);
+    private static final BigDecimal MONTHS_PER_YEAR_PERCENT = new BigDecimal(1200);
+
+    private StepupSIPMath() {
+    }
+
+    /**
+     * Value at the end of one year of ₹1/month: ((1 + R/12)^12 - 1) / (R/12)
+     */
+    public static BigDecimal yearEndFactor(BigDecimal annualReturnPercent) {
+        BigDecimal monthlyRate = annualReturnPercent.divide(MONTHS_PER_YEAR_PERCENT, CONTEXT);
+        if (monthlyRate.signum() == 0) {
+            return MONTHS_PER_YEAR;
+        }
+        return GrowthFactorTable.monthlyFactor(annualReturnPercent, 12)
+            .subtract(BigDecimal.ONE)
+            .divide(monthlyRate, CONTEXT);
+    }
+
+    /**
+     * 1 + percent / 100
+     */
+    public static BigDecimal growth(BigDecimal percent) {
+        return BigDecimal.ONE.add(percent.divide(HUNDRED, CONTEXT));
+    }
+
+    /**
+     * Maturity value of a ₹1/month step-up SIP
+     */
+    public static BigDecimal maturityFactor(BigDecimal annualReturnPercent, BigDecimal stepupPercent, int years) {
+        return yearEndFactor(annualReturnPercent).multiply(
+            blendedSeries(growth(annualReturnPercent), growth(stepupPercent), years), CONTEXT);
+    }
+
+    /**
+     * Total contributed by a ₹1/month step-up SIP
+     */
+    public static BigDecimal investedFactor(BigDecimal stepupPercent, int years) {
+        BigDecimal stepup = growth(stepupPercent);
+        if (stepup.compareTo(BigDecimal.ONE) == 0) {
+            return MONTHS_PER_YEAR.multiply(BigDecimal.valueOf(years));
+        }
+        BigDecimal series = CalculationUtils.power(stepup, years, CONTEXT)
+            .subtract(BigDecimal.ONE)
+            .divide(stepup.subtract(BigDecimal.ONE), CONTEXT);
+        return MONTHS_PER_YEAR.multiply(series, CONTEXT);
+    }
+
+    /**
+     * Double version of {@link #maturityFactor(BigDecimal, BigDecimal, int)}
+     * for iterative solvers
+     */
+    public static double maturityFactor(double annualReturnPercent, double stepupPercent, int years) {
+        double yearEnd = FinancialMathKernel.annuityFutureValue(1.0, annualReturnPercent, 12);
+        double growth = 1 + annualReturnPercent / 100.0;
+        double stepup = 1 + stepupPercent / 100.0;
+
+        if (Math.abs(growth - stepup) < 1e-12) {
+            return yearEnd * years * Math.pow(growth, years - 1);
+        }
+        return yearEnd * (Math.pow(growth, years) - Math.pow(stepup, years)) / (growth - stepup);
+    }
+
+    /**
+     * Σ_{k=0}^{n-1} g^k · G^(n-1-k)
+     */
+    private static BigDecimal blendedSeries(BigDecimal growth, BigDecimal stepup, int years) {
+        if (growth.compareTo(stepup) == 0) {
+            return BigDecimal.valueOf(years).multiply(
+                CalculationUtils.power(growth, years - 1, CONTEXT), CONTEXT);
+        }
+        return CalculationUtils.power(growth, years, CONTEXT)
+            .subtract(CalculationUtils.power(stepup, years, CONTEXT))
+            .divide(growth.subtract(stepup), CONTEXT);
+    }
+}
@@ -1,20 +1,34 @@
 package com.moneymatters.common.config;
 
+import com.moneymatters.common.metrics.MeteredCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-            "stockPrices", "portfolioAnalytics",
-            "stockFundamentals", "aiPortfolioAnalysis"
-        );
+    public CacheManager cacheManager(MeterRegistry meterRegistry) {
+        // Every cache counts its hits and misses
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new MeteredCache(super.createConcurrentMapCache(name), "cacheManager", meterRegistry);
+            }
+        };
+        cacheManager.setCacheNames(List.of(
+            "stockPrices", "portfolioAnalytics", "portfolioRebalance",
+            "stockFundamentals", "aiPortfolioAnalysis",
+            "jwkSet"
+        ));
+        return cacheManager;
     }
 }
@@ -0,0 +1,58 @@
+package com.moneymatters.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${app.calculators.executor.pool-size:0}")
+    private int poolSize;
+
+    @Value("${app.calculators.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    /**
+     * Bounded pool for CPU-bound calculator work (loan comparison, batch).
+     * Sized to the CPU count by default; when the queue is full the calling
+     * request thread runs the task itself instead of failing.
+     */
+    @Bean(name = "calculatorExecutor")
+    public ThreadPoolTaskExecutor calculatorExecutor() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("calc-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        // No initialize() here: the container calls afterPropertiesSet()
+        return executor;
+    }
+
+    /**
+     * Boot only auto-configures applicationTaskExecutor when no other
+     * Executor bean exists, so declaring calculatorExecutor would leave MVC
+     * async handling (SseEmitter) and @Async on SimpleAsyncTaskExecutor.
+     * Re-declare it the way Boot does, from the spring.task.execution.*
+     * properties.
+     */
+    @Lazy
+    @Bean(name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
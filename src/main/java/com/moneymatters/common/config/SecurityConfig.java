@@ -1,17 +1,40 @@
 package com.moneymatters.common.config;
 
+import com.moneymatters.common.security.CachingJwtDecoder;
+import com.moneymatters.common.security.JwkSetRefresher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
+    private String jwkSetUri;
+
+    @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}")
+    private String issuerUri;
+
+    @Value("${app.security.jwt-cache.max-entries:10000}")
+    private int jwtCacheMaxEntries;
+
+    @Value("${app.security.jwt-cache.max-ttl-seconds:300}")
+    private long jwtCacheMaxTtlSeconds;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -20,6 +43,8 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Completing an SSE stream re-dispatches a request that was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
                 .anyRequest().authenticated()
@@ -29,4 +54,25 @@ public class SecurityConfig {
             );
         return http.build();
     }
+
+    /**
+     * Same validation as Boot's default decoder (signature via the Clerk JWK set,
+     * exp/nbf and issuer checks), wrapped in a verified-token cache. The JWK set
+     * itself lives in the "jwkSet" cache, kept warm by {@link JwkSetRefresher}.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        NimbusJwtDecoder nimbus = NimbusJwtDecoder.withJwkSetUri(jwkSetUri)
+            .cache(cacheManager.getCache("jwkSet"))
+            .build();
+        nimbus.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+
+        return new CachingJwtDecoder(nimbus, jwtCacheMaxEntries,
+            Duration.ofSeconds(jwtCacheMaxTtlSeconds), meterRegistry);
+    }
+
+    @Bean
+    public JwkSetRefresher jwkSetRefresher(CacheManager cacheManager) {
+        return new JwkSetRefresher(jwkSetUri, cacheManager.getCache("jwkSet"));
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.util.HashMap;
@@ -31,6 +32,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * Constraint violations on @RequestParam / @PathVariable arguments
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<?> handleParameterValidation(HandlerMethodValidationException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", "Validation failed");
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getAllValidationResults().forEach(result ->
+            result.getResolvableErrors().forEach(error ->
+                errors.put(result.getMethodParameter().getParameterName(), error.getDefaultMessage())
+            )
+        );
+        response.put("errors", errors);
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(RateLimitExceededException.class)
     public ResponseEntity<?> handleRateLimit(RateLimitExceededException ex) {
         Map<String, Object> response = new HashMap<>();
@@ -44,6 +65,20 @@ public class GlobalExceptionHandler {
             .body(response);
     }
 
+    /**
+     * Only input the client can fix; an IllegalArgumentException from anywhere
+     * else is a bug and falls through to the 500 handler below
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<?> handleInvalidRequest(InvalidRequestException ex) {
+        logger.warn("Rejected request: {}", ex.getMessage());
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", ex.getMessage());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.badRequest().body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGenericException(Exception ex) {
         logger.error("Unexpected error", ex);
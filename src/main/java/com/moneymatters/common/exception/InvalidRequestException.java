@@ -0,0 +1,17 @@
+package com.moneymatters.common.exception;
+
+/**
+ * Input the client can correct: an out-of-range parameter, an unreachable
+ * goal, a malformed cursor. Reported as 400 with its message; any other
+ * IllegalArgumentException is treated as a server-side bug.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
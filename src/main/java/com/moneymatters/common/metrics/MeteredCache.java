@@ -0,0 +1,126 @@
+package com.moneymatters.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator counting hits and misses. The in-memory caches keep no
+ * statistics of their own and Actuator has no metrics binder for them, so
+ * this publishes "cache.gets" with the same tags Actuator uses for caches it
+ * does instrument (cache, cache.manager, result).
+ */
+public class MeteredCache implements Cache {
+
+    private final Cache delegate;
+    private final Counter hits;
+    private final Counter misses;
+
+    public MeteredCache(Cache delegate, String cacheManager, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.hits = counter(delegate.getName(), cacheManager, "hit", meterRegistry);
+        this.misses = counter(delegate.getName(), cacheManager, "miss", meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return count(delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    /**
+     * Used by @Cacheable(sync = true): a miss is the value loader running
+     */
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        (loaded[0] ? misses : hits).increment();
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> future = delegate.retrieve(key);
+        (future != null ? hits : misses).increment();
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        CompletableFuture<T> future = delegate.retrieve(key, () -> {
+            loaded[0] = true;
+            return valueLoader.get();
+        });
+        (loaded[0] ? misses : hits).increment();
+        return future;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private ValueWrapper count(ValueWrapper value) {
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    private static Counter counter(String cache, String cacheManager, String result, MeterRegistry meterRegistry) {
+        return Counter.builder("cache.gets")
+            .description("Cache lookups, by result")
+            .tag("cache", cache)
+            .tag("cache.manager", cacheManager)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
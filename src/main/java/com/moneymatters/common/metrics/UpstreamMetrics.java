@@ -0,0 +1,51 @@
+package com.moneymatters.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latency and outcome of calls to external services (Yahoo Finance,
+ * NVIDIA NIM), as one "upstream.requests" timer tagged by upstream,
+ * endpoint, status and outcome. Error rate per endpoint is the share of
+ * the timer's count whose outcome is not SUCCESS.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetrics {
+
+    /**
+     * Status tag for calls that never got a response (timeout, connection refused)
+     */
+    public static final int NO_RESPONSE = 0;
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * @param status HTTP status, or {@link #NO_RESPONSE}
+     */
+    public void record(Timer.Sample sample, String upstream, String endpoint, int status) {
+        sample.stop(Timer.builder("upstream.requests")
+            .description("Calls to external services")
+            .tag("upstream", upstream)
+            .tag("endpoint", endpoint)
+            .tag("status", status == NO_RESPONSE ? "IO_ERROR" : String.valueOf(status))
+            .tag("outcome", outcome(status))
+            .register(meterRegistry));
+    }
+
+    private static String outcome(int status) {
+        if (status == NO_RESPONSE) {
+            return "UNKNOWN";
+        }
+        if (status < 400) {
+            return "SUCCESS";
+        }
+        return status < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+}
@@ -0,0 +1,115 @@
+package com.moneymatters.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtDecoder that remembers tokens it has already verified.
+ *
+ * A dashboard page fires several API calls with the same Clerk token; only the
+ * first pays for parsing and RSA signature verification. Entries are keyed by
+ * the SHA-256 of the raw token and never outlive the token's own exp claim.
+ * The least recently used entries go first once the cache is full.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Duration maxTtl;
+    private final Clock clock;
+    private final Cache<String, CachedJwt> verified;
+
+    private final Timer verifyTimer;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxEntries, Duration maxTtl,
+                             MeterRegistry meterRegistry) {
+        this(delegate, maxEntries, maxTtl, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxEntries, Duration maxTtl,
+                      MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.verified = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(maxTtl)
+            .build();
+        this.verifyTimer = Timer.builder("auth.jwt.verify")
+            .description("Full JWT parse and signature verification time")
+            .register(meterRegistry);
+        this.hits = Counter.builder("auth.jwt.cache")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("auth.jwt.cache")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        meterRegistry.gauge("auth.jwt.cache.size", verified, Cache::estimatedSize);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Instant now = clock.instant();
+
+        CachedJwt cached = verified.getIfPresent(key);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(now)) {
+                hits.increment();
+                return cached.jwt();
+            }
+            verified.asMap().remove(key, cached);
+        }
+        misses.increment();
+
+        Jwt jwt;
+        long start = System.nanoTime();
+        try {
+            jwt = delegate.decode(token);
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        Instant cacheUntil = now.plus(maxTtl);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(cacheUntil)) {
+            cacheUntil = jwt.getExpiresAt();
+        }
+        if (cacheUntil.isAfter(now)) {
+            verified.put(key, new CachedJwt(jwt, cacheUntil));
+        }
+        return jwt;
+    }
+
+    long size() {
+        verified.cleanUp();
+        return verified.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedJwt(Jwt jwt, Instant expiresAt) {}
+}
@@ -0,0 +1,64 @@
+package com.moneymatters.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Keeps the Clerk JWK set warm in the cache the JwtDecoder reads from,
+ * so no user request waits on the JWKS download. Fetched once when the
+ * app is ready and then on a fixed schedule to pick up key rotation.
+ * A failed refresh leaves the previous key set in place.
+ */
+@Slf4j
+public class JwkSetRefresher {
+
+    private final String jwkSetUri;
+    private final Cache jwkSetCache;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    public JwkSetRefresher(String jwkSetUri, Cache jwkSetCache) {
+        this.jwkSetUri = jwkSetUri;
+        this.jwkSetCache = jwkSetCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetch() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.jwk-refresh-interval-ms:600000}",
+               initialDelayString = "${app.security.jwk-refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(jwkSetUri))
+                .timeout(Duration.ofSeconds(10))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("JWK set refresh returned HTTP {}", response.statusCode());
+                return;
+            }
+
+            // Same key and value shape the decoder's JWK source stores on its own fetch
+            jwkSetCache.put(jwkSetUri, response.body());
+            log.debug("JWK set refreshed from {}", jwkSetUri);
+        } catch (Exception e) {
+            log.warn("JWK set refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -96,13 +96,14 @@ public class HoldingController {
 
     @GetMapping("/user/summary")
     public ResponseEntity<ApiResponse<PortfolioSummaryResponse>> getPortfolioSummary(
+            @RequestParam(required = false, defaultValue = "true") boolean includeHoldings,
             @AuthenticationPrincipal Jwt jwt) {
 
         String clerkUserId = jwt.getSubject();
         userService.ensureUserExists(clerkUserId, jwt.getClaimAsString("email"));
         log.info("Generating portfolio summary for user {}", clerkUserId);
 
-        PortfolioSummaryResponse summary = holdingService.getPortfolioSummary(clerkUserId);
+        PortfolioSummaryResponse summary = holdingService.getPortfolioSummary(clerkUserId, includeHoldings);
 
         return ResponseEntity.ok(new ApiResponse<>(true, summary,
             "Portfolio summary generated successfully"));
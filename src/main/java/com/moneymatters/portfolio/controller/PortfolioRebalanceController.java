@@ -0,0 +1,74 @@
+package com.moneymatters.portfolio.controller;
+
+import com.moneymatters.common.dto.ApiResponse;
+import com.moneymatters.portfolio.dto.PortfolioRebalanceResponse;
+import com.moneymatters.portfolio.dto.RebalancePolicyRequest;
+import com.moneymatters.portfolio.service.PortfolioRebalanceService;
+import com.moneymatters.user.UserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/portfolio/rebalance")
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioRebalanceController {
+
+    private final PortfolioRebalanceService rebalanceService;
+    private final UserService userService;
+
+    /**
+     * Rebalance plan for the user's live holdings (served from cache)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<PortfolioRebalanceResponse>> getRebalance(
+            @AuthenticationPrincipal Jwt jwt) {
+
+        String clerkUserId = jwt.getSubject();
+        userService.ensureUserExists(clerkUserId, jwt.getClaimAsString("email"));
+
+        PortfolioRebalanceResponse response = rebalanceService.getRebalance(clerkUserId);
+        if (response == null) {
+            return ResponseEntity.ok(new ApiResponse<>(true, null, "No rebalance targets set"));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, response, "Rebalance plan generated successfully"));
+    }
+
+    /**
+     * Drift alerts only, for the dashboard
+     */
+    @GetMapping("/alerts")
+    public ResponseEntity<ApiResponse<List<PortfolioRebalanceResponse.DriftAlert>>> getDriftAlerts(
+            @AuthenticationPrincipal Jwt jwt) {
+
+        String clerkUserId = jwt.getSubject();
+        userService.ensureUserExists(clerkUserId, jwt.getClaimAsString("email"));
+
+        PortfolioRebalanceResponse response = rebalanceService.getRebalance(clerkUserId);
+        List<PortfolioRebalanceResponse.DriftAlert> alerts =
+            response != null ? response.getDriftAlerts() : List.of();
+
+        return ResponseEntity.ok(new ApiResponse<>(true, alerts, alerts.size() + " drift alert(s)"));
+    }
+
+    @PutMapping("/policy")
+    public ResponseEntity<ApiResponse<PortfolioRebalanceResponse>> savePolicy(
+            @Valid @RequestBody RebalancePolicyRequest request,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        String clerkUserId = jwt.getSubject();
+        userService.ensureUserExists(clerkUserId, jwt.getClaimAsString("email"));
+        log.info("Saving rebalance policy for user {}", clerkUserId);
+
+        PortfolioRebalanceResponse response = rebalanceService.savePolicy(clerkUserId, request);
+
+        return ResponseEntity.ok(new ApiResponse<>(true, response, "Rebalance policy saved"));
+    }
+}
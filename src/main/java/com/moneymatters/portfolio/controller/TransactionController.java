@@ -2,8 +2,10 @@ package com.moneymatters.portfolio.controller;
 
 import com.moneymatters.common.dto.ApiResponse;
 import com.moneymatters.portfolio.dto.FIFOCalculationResult;
+import com.moneymatters.portfolio.dto.TransactionPageResponse;
 import com.moneymatters.portfolio.dto.TransactionRequest;
 import com.moneymatters.portfolio.dto.TransactionResponse;
+import com.moneymatters.portfolio.entity.Transaction;
 import com.moneymatters.portfolio.service.TransactionService;
 import com.moneymatters.user.UserService;
 import jakarta.validation.Valid;
@@ -57,6 +59,26 @@ public class TransactionController {
             transactions.size() + " transactions found"));
     }
 
+    @GetMapping("/user/page")
+    public ResponseEntity<ApiResponse<TransactionPageResponse>> getUserTransactionsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String symbol,
+            @RequestParam(required = false) Transaction.TransactionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal Jwt jwt) {
+
+        String clerkUserId = jwt.getSubject();
+        userService.ensureUserExists(clerkUserId, jwt.getClaimAsString("email"));
+
+        TransactionPageResponse page = transactionService.getUserTransactionsPage(
+            clerkUserId, symbol, type, startDate, endDate, cursor, limit);
+
+        return ResponseEntity.ok(new ApiResponse<>(true, page,
+            page.getTransactions().size() + " transactions found"));
+    }
+
     @GetMapping("/user/symbol/{assetSymbol}")
     public ResponseEntity<ApiResponse<List<TransactionResponse>>> getTransactionsBySymbol(
             @PathVariable String assetSymbol,
@@ -0,0 +1,26 @@
+package com.moneymatters.portfolio.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of the GROUP BY ROLLUP(asset_type) summary query.
+ * The grand-total row is the one with rollupRow = 1; per-type rows have rollupRow = 0.
+ */
+public interface AssetTypeSummaryRow {
+
+    String getAssetType();
+
+    BigDecimal getTotalInvested();
+
+    BigDecimal getCurrentValue();
+
+    BigDecimal getUnrealizedGain();
+
+    Long getHoldingCount();
+
+    Integer getRollupRow();
+
+    default boolean isGrandTotal() {
+        return getRollupRow() != null && getRollupRow() == 1;
+    }
+}
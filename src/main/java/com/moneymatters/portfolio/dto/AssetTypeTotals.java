@@ -0,0 +1,16 @@
+package com.moneymatters.portfolio.dto;
+
+import com.moneymatters.portfolio.entity.Holding;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-asset-type SUMs computed by the database (read-only projection).
+ */
+public record AssetTypeTotals(
+    Holding.AssetType assetType,
+    BigDecimal totalInvested,
+    BigDecimal currentValue,
+    BigDecimal unrealizedGain,
+    Long count
+) {}
@@ -0,0 +1,39 @@
+package com.moneymatters.portfolio.dto;
+
+import com.moneymatters.calculators.dto.RebalanceOptimizationResponse;
+import com.moneymatters.portfolio.entity.RebalancePolicy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioRebalanceResponse {
+
+    private String userId;
+    private RebalancePolicy.Grouping grouping;
+    private BigDecimal toleranceBandPercent;
+    private boolean withinBands;            // No drift alerts
+    private List<DriftAlert> driftAlerts;
+    private RebalanceOptimizationResponse plan;
+    private LocalDateTime pricesAsOf;       // Oldest price among the holdings
+    private LocalDateTime computedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DriftAlert {
+        private String bucket;
+        private String direction;           // "OVERWEIGHT", "UNDERWEIGHT"
+        private BigDecimal currentPercentage;
+        private BigDecimal targetPercentage;
+        private BigDecimal lowerBandPercentage;
+        private BigDecimal upperBandPercentage;
+        private BigDecimal drift;           // Current - target, in percentage points
+    }
+}
@@ -0,0 +1,34 @@
+package com.moneymatters.portfolio.dto;
+
+import com.moneymatters.portfolio.entity.RebalancePolicy;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalancePolicyRequest {
+
+    private RebalancePolicy.Grouping grouping;
+
+    // Bucket -> target %, e.g. {"STOCK": 60, "BOND": 30, "GOLD": 10}; must add up to 100
+    @NotEmpty(message = "Target allocation required")
+    private Map<@NotBlank String, @NotNull @DecimalMin("0.0") @DecimalMax("100.0") BigDecimal> targets;
+
+    @DecimalMin(value = "0.0", message = "Tolerance band cannot be negative")
+    @DecimalMax(value = "25.0", message = "Tolerance band cannot exceed 25 points")
+    private BigDecimal toleranceBandPercent;
+
+    public RebalancePolicy.Grouping getGrouping() {
+        return grouping != null ? grouping : RebalancePolicy.Grouping.ASSET_TYPE;
+    }
+
+    public BigDecimal getToleranceBandPercent() {
+        return toleranceBandPercent != null ? toleranceBandPercent : new BigDecimal("5");
+    }
+}
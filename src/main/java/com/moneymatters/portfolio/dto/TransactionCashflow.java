@@ -0,0 +1,16 @@
+package com.moneymatters.portfolio.dto;
+
+import com.moneymatters.portfolio.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The columns analytics needs from a transaction (read-only projection).
+ */
+public record TransactionCashflow(
+    Transaction.TransactionType transactionType,
+    LocalDate transactionDate,
+    BigDecimal totalAmount,
+    BigDecimal netAmount
+) {}
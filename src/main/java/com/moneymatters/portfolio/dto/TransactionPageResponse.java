@@ -0,0 +1,18 @@
+package com.moneymatters.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageResponse {
+
+    private List<TransactionResponse> transactions;
+    private Integer limit;
+    private boolean hasMore;
+    private String nextCursor;  // Opaque; pass back as ?cursor= to fetch the next page
+}
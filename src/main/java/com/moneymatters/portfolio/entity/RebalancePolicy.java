@@ -0,0 +1,59 @@
+package com.moneymatters.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A user's target allocation for portfolio-linked rebalancing. Buckets
+ * are asset types (STOCK, BOND ...) or sectors, depending on grouping.
+ */
+@Entity
+@Table(name = "rebalance_policies", indexes = {
+    @Index(name = "idx_rebalance_user", columnList = "userId", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RebalancePolicy {
+
+    public enum Grouping {
+        ASSET_TYPE,
+        SECTOR
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, length = 255)
+    private String clerkUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Grouping grouping;
+
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal toleranceBandPercent;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "rebalance_policy_targets", joinColumns = @JoinColumn(name = "policy_id"))
+    @MapKeyColumn(name = "bucket", length = 100)
+    @Column(name = "target_percent", precision = 5, scale = 2)
+    @Builder.Default
+    private Map<String, BigDecimal> targets = new HashMap<>();
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "transactions", indexes = {
     @Index(name = "idx_user_date", columnList = "userId,transactionDate"),
+    @Index(name = "idx_user_date_id", columnList = "userId,transactionDate,id"),
     @Index(name = "idx_holding", columnList = "holdingId"),
     @Index(name = "idx_type", columnList = "transactionType")
 })
@@ -1,5 +1,7 @@
 package com.moneymatters.portfolio.repository;
 
+import com.moneymatters.portfolio.dto.AssetTypeSummaryRow;
+import com.moneymatters.portfolio.dto.HoldingResponse;
 import com.moneymatters.portfolio.entity.Holding;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -24,4 +26,33 @@ public interface HoldingRepository extends JpaRepository<Holding, Long> {
     List<Holding> findByAssetSymbol(String assetSymbol);
 
     boolean existsByClerkUserIdAndAssetSymbol(String clerkUserId, String assetSymbol);
+
+    // ---- Read-only projections (no managed entities, no dirty-checking snapshots) ----
+
+    String HOLDING_RESPONSE_SELECT = "SELECT new com.moneymatters.portfolio.dto.HoldingResponse(" +
+        "h.id, h.clerkUserId, h.assetType, h.assetName, h.assetSymbol, h.exchange, " +
+        "h.quantity, h.avgBuyPrice, h.totalInvested, h.currentPrice, h.currentValue, " +
+        "h.unrealizedGain, h.unrealizedGainPercent, h.purchaseDate, h.lastUpdated) FROM Holding h ";
+
+    @Query(HOLDING_RESPONSE_SELECT + "WHERE h.clerkUserId = :clerkUserId")
+    List<HoldingResponse> findResponsesByClerkUserId(@Param("clerkUserId") String clerkUserId);
+
+    @Query(HOLDING_RESPONSE_SELECT + "WHERE h.clerkUserId = :clerkUserId AND h.active = true")
+    List<HoldingResponse> findActiveResponsesByClerkUserId(@Param("clerkUserId") String clerkUserId);
+
+    /**
+     * Per-asset-type totals plus the grand total in a single round trip.
+     * GROUPING() tells the ROLLUP total row apart from a genuine NULL asset type.
+     */
+    @Query(value = "SELECT asset_type AS \"assetType\", " +
+                   "SUM(total_invested) AS \"totalInvested\", " +
+                   "SUM(current_value) AS \"currentValue\", " +
+                   "SUM(unrealized_gain) AS \"unrealizedGain\", " +
+                   "COUNT(*) AS \"holdingCount\", " +
+                   "GROUPING(asset_type) AS \"rollupRow\" " +
+                   "FROM holdings WHERE user_id = :clerkUserId AND active = true " +
+                   "GROUP BY ROLLUP(asset_type) " +
+                   "ORDER BY GROUPING(asset_type), asset_type",
+           nativeQuery = true)
+    List<AssetTypeSummaryRow> summarizeActiveByAssetType(@Param("clerkUserId") String clerkUserId);
 }
@@ -0,0 +1,15 @@
+package com.moneymatters.portfolio.repository;
+
+import com.moneymatters.portfolio.entity.RebalancePolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RebalancePolicyRepository extends JpaRepository<RebalancePolicy, Long> {
+
+    Optional<RebalancePolicy> findByClerkUserId(String clerkUserId);
+
+    boolean existsByClerkUserId(String clerkUserId);
+}
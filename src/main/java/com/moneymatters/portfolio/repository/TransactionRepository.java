@@ -1,6 +1,8 @@
 package com.moneymatters.portfolio.repository;
 
+import com.moneymatters.portfolio.dto.TransactionCashflow;
 import com.moneymatters.portfolio.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,6 +18,11 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
     List<Transaction> findByClerkUserIdOrderByTransactionDateDesc(String clerkUserId);
 
+    @Query("SELECT new com.moneymatters.portfolio.dto.TransactionCashflow(" +
+           "t.transactionType, t.transactionDate, t.totalAmount, t.netAmount) " +
+           "FROM Transaction t WHERE t.clerkUserId = :clerkUserId")
+    List<TransactionCashflow> findCashflowsByClerkUserId(@Param("clerkUserId") String clerkUserId);
+
     List<Transaction> findByClerkUserIdAndAssetSymbol(String clerkUserId, String assetSymbol);
 
     @Query("SELECT t FROM Transaction t WHERE t.clerkUserId = :clerkUserId " +
@@ -33,4 +40,37 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Transaction> findBuyTransactionsForAsset(
         @Param("clerkUserId") String clerkUserId,
         @Param("assetSymbol") String assetSymbol);
+
+    /**
+     * Every BUY of the user in one query, oldest first within each symbol.
+     * The rebalancer rebuilds the open lots of all holdings from this.
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.clerkUserId = :clerkUserId " +
+           "AND t.transactionType = 'BUY' " +
+           "ORDER BY t.assetSymbol ASC, t.transactionDate ASC, t.id ASC")
+    List<Transaction> findBuyTransactionsByClerkUserId(@Param("clerkUserId") String clerkUserId);
+
+    /**
+     * Keyset (seek) page over a user's history, newest first.
+     * Rows strictly after the (cursorDate, cursorId) position are returned, so the
+     * database walks idx_user_date_id from the cursor instead of skipping OFFSET rows.
+     * Pass a Pageable of size limit + 1 to detect whether another page exists.
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.clerkUserId = :clerkUserId " +
+           "AND (:assetSymbol IS NULL OR t.assetSymbol = :assetSymbol) " +
+           "AND (:transactionType IS NULL OR t.transactionType = :transactionType) " +
+           "AND (:startDate IS NULL OR t.transactionDate >= :startDate) " +
+           "AND (:endDate IS NULL OR t.transactionDate <= :endDate) " +
+           "AND (:cursorDate IS NULL OR t.transactionDate < :cursorDate " +
+           "     OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<Transaction> findPageByClerkUserId(
+        @Param("clerkUserId") String clerkUserId,
+        @Param("assetSymbol") String assetSymbol,
+        @Param("transactionType") Transaction.TransactionType transactionType,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("cursorDate") LocalDate cursorDate,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
 }
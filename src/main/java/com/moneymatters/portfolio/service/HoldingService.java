@@ -19,6 +19,12 @@ public interface HoldingService {
     List<HoldingResponse> getAllHoldingsForUser(String userId);
     
     PortfolioSummaryResponse getPortfolioSummary(String userId);
+
+    /**
+     * Totals and asset-type breakdown come from one aggregate query;
+     * holding rows are only loaded when includeHoldings is true.
+     */
+    PortfolioSummaryResponse getPortfolioSummary(String userId, boolean includeHoldings);
     
     void refreshHoldingPrice(Long holdingId);
     
@@ -1,5 +1,6 @@
 package com.moneymatters.portfolio.service;
 
+import com.moneymatters.portfolio.dto.AssetTypeSummaryRow;
 import com.moneymatters.portfolio.dto.HoldingRequest;
 import com.moneymatters.portfolio.dto.HoldingResponse;
 import com.moneymatters.portfolio.dto.PortfolioSummaryResponse;
@@ -152,21 +153,29 @@ public class HoldingServiceImpl implements HoldingService {
     public List<HoldingResponse> getAllHoldingsForUser(String clerkUserId) {
         log.info("Fetching all holdings for user: {}", clerkUserId);
 
-        List<Holding> holdings = holdingRepository.findByClerkUserId(clerkUserId);
-
-        return holdings.stream()
-            .map(HoldingResponse::fromEntity)
-            .collect(Collectors.toList());
+        return holdingRepository.findResponsesByClerkUserId(clerkUserId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PortfolioSummaryResponse getPortfolioSummary(String clerkUserId) {
+        return getPortfolioSummary(clerkUserId, true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioSummaryResponse getPortfolioSummary(String clerkUserId, boolean includeHoldings) {
         log.info("Generating portfolio summary for user: {}", clerkUserId);
 
-        List<Holding> holdings = holdingRepository.findActiveHoldingsByClerkUserId(clerkUserId);
+        List<AssetTypeSummaryRow> rows = holdingRepository.summarizeActiveByAssetType(clerkUserId);
 
-        if (holdings.isEmpty()) {
+        AssetTypeSummaryRow grandTotal = rows.stream()
+            .filter(AssetTypeSummaryRow::isGrandTotal)
+            .findFirst()
+            .orElse(null);
+
+        // ROLLUP over zero rows yields a single total row with COUNT(*) = 0
+        if (grandTotal == null || grandTotal.getHoldingCount() == 0) {
             return new PortfolioSummaryResponse(
                 clerkUserId,
                 BigDecimal.ZERO,
@@ -179,14 +188,8 @@ public class HoldingServiceImpl implements HoldingService {
             );
         }
 
-        BigDecimal totalInvested = holdings.stream()
-            .map(Holding::getTotalInvested)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalCurrentValue = holdings.stream()
-            .map(Holding::getCurrentValue)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
+        BigDecimal totalInvested = zeroIfNull(grandTotal.getTotalInvested());
+        BigDecimal totalCurrentValue = zeroIfNull(grandTotal.getCurrentValue());
         BigDecimal totalUnrealizedGain = totalCurrentValue.subtract(totalInvested);
 
         BigDecimal totalUnrealizedGainPercent = BigDecimal.ZERO;
@@ -196,22 +199,14 @@ public class HoldingServiceImpl implements HoldingService {
                 .divide(totalInvested, 4, RoundingMode.HALF_UP);
         }
 
-        Map<Holding.AssetType, List<Holding>> holdingsByType = holdings.stream()
-            .collect(Collectors.groupingBy(Holding::getAssetType));
-
         List<PortfolioSummaryResponse.AssetTypeBreakdown> assetTypeBreakdown = new ArrayList<>();
 
-        for (Map.Entry<Holding.AssetType, List<Holding>> entry : holdingsByType.entrySet()) {
-            Holding.AssetType assetType = entry.getKey();
-            List<Holding> typeHoldings = entry.getValue();
-
-            BigDecimal typeInvested = typeHoldings.stream()
-                .map(Holding::getTotalInvested)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        for (AssetTypeSummaryRow row : rows) {
+            if (row.isGrandTotal()) {
+                continue;
+            }
 
-            BigDecimal typeCurrentValue = typeHoldings.stream()
-                .map(Holding::getCurrentValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal typeCurrentValue = zeroIfNull(row.getCurrentValue());
 
             BigDecimal allocation = BigDecimal.ZERO;
             if (totalCurrentValue.compareTo(BigDecimal.ZERO) > 0) {
@@ -221,17 +216,17 @@ public class HoldingServiceImpl implements HoldingService {
             }
 
             assetTypeBreakdown.add(new PortfolioSummaryResponse.AssetTypeBreakdown(
-                assetType.name(),
-                typeInvested,
+                row.getAssetType(),
+                zeroIfNull(row.getTotalInvested()),
                 typeCurrentValue,
                 allocation,
-                typeHoldings.size()
+                row.getHoldingCount().intValue()
             ));
         }
 
-        List<HoldingResponse> holdingResponses = holdings.stream()
-            .map(HoldingResponse::fromEntity)
-            .collect(Collectors.toList());
+        List<HoldingResponse> holdingResponses = includeHoldings
+            ? holdingRepository.findActiveResponsesByClerkUserId(clerkUserId)
+            : null;
 
         return new PortfolioSummaryResponse(
             clerkUserId,
@@ -239,7 +234,7 @@ public class HoldingServiceImpl implements HoldingService {
             totalCurrentValue,
             totalUnrealizedGain,
             totalUnrealizedGainPercent,
-            holdings.size(),
+            grandTotal.getHoldingCount().intValue(),
             holdingResponses,
             assetTypeBreakdown
         );
@@ -307,6 +302,10 @@ public class HoldingServiceImpl implements HoldingService {
         portfolioAnalyticsService.clearAnalyticsCache(clerkUserId);
     }
 
+    private BigDecimal zeroIfNull(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
     private void calculateHoldingValues(Holding holding, BigDecimal currentPrice) {
         holding.setCurrentPrice(currentPrice);
 
@@ -1,11 +1,18 @@
 package com.moneymatters.portfolio.service;
 
+import com.moneymatters.portfolio.dto.AssetTypeSummaryRow;
+import com.moneymatters.portfolio.dto.AssetTypeTotals;
+import com.moneymatters.portfolio.dto.HoldingResponse;
 import com.moneymatters.portfolio.dto.PortfolioAnalyticsResponse;
+import com.moneymatters.portfolio.dto.TransactionCashflow;
 import com.moneymatters.portfolio.entity.Holding;
 import com.moneymatters.portfolio.entity.Transaction;
 import com.moneymatters.portfolio.repository.HoldingRepository;
 import com.moneymatters.portfolio.repository.TransactionRepository;
 import com.moneymatters.portfolio.util.XIRRCalculator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -27,6 +34,7 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
 
     private final HoldingRepository holdingRepository;
     private final TransactionRepository transactionRepository;
+    private final MeterRegistry meterRegistry;
 
     @Override
     @Transactional(readOnly = true)
@@ -34,36 +42,51 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
     public PortfolioAnalyticsResponse getPortfolioAnalytics(String userId) {
         log.info("Generating portfolio analytics for user: {}", userId);
 
-        // Get all holdings
-        List<Holding> holdings = holdingRepository.findActiveHoldingsByClerkUserId(userId);
+        // Cache misses only: queries plus computation
+        return Timer.builder("portfolio.analytics.compute")
+            .description("Portfolio analytics computation on a cache miss")
+            .register(meterRegistry)
+            .record(() -> computeAnalytics(userId));
+    }
 
-        // Get all transactions
-        List<Transaction> transactions = transactionRepository.findByClerkUserId(userId);
+    private PortfolioAnalyticsResponse computeAnalytics(String userId) {
+        // Read-only projections: only the columns analytics needs, no managed entities
+        List<HoldingResponse> holdings = holdingRepository.findActiveResponsesByClerkUserId(userId);
+        List<TransactionCashflow> transactions = transactionRepository.findCashflowsByClerkUserId(userId);
 
         if (holdings.isEmpty() && transactions.isEmpty()) {
             return createEmptyAnalytics(userId);
         }
 
-        // Calculate overall metrics
-        BigDecimal totalInvested = holdings.stream()
-            .map(Holding::getTotalInvested)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // Per-type SUMs and their grand total come from the database in one ROLLUP query
+        List<AssetTypeSummaryRow> rows = holdingRepository.summarizeActiveByAssetType(userId);
 
-        BigDecimal currentValue = holdings.stream()
-            .map(Holding::getCurrentValue)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        AssetTypeSummaryRow grandTotal = rows.stream()
+            .filter(AssetTypeSummaryRow::isGrandTotal)
+            .findFirst()
+            .orElse(null);
 
-        BigDecimal unrealizedGain = holdings.stream()
-            .map(Holding::getUnrealizedGain)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<AssetTypeTotals> typeTotals = rows.stream()
+            .filter(row -> !row.isGrandTotal())
+            .map(row -> new AssetTypeTotals(
+                row.getAssetType() != null ? Holding.AssetType.valueOf(row.getAssetType()) : null,
+                row.getTotalInvested(),
+                row.getCurrentValue(),
+                row.getUnrealizedGain(),
+                row.getHoldingCount()))
+            .toList();
+
+        BigDecimal totalInvested = grandTotal != null ? zeroIfNull(grandTotal.getTotalInvested()) : BigDecimal.ZERO;
+        BigDecimal currentValue = grandTotal != null ? zeroIfNull(grandTotal.getCurrentValue()) : BigDecimal.ZERO;
+        BigDecimal unrealizedGain = grandTotal != null ? zeroIfNull(grandTotal.getUnrealizedGain()) : BigDecimal.ZERO;
 
         // Calculate realized gains from SELL transactions
         BigDecimal realizedGain = calculateRealizedGain(transactions);
 
         // Calculate total dividend received
         BigDecimal totalDividend = transactions.stream()
-            .filter(t -> t.getTransactionType() == Transaction.TransactionType.DIVIDEND)
-            .map(Transaction::getTotalAmount)
+            .filter(t -> t.transactionType() == Transaction.TransactionType.DIVIDEND)
+            .map(TransactionCashflow::totalAmount)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         BigDecimal totalGain = realizedGain.add(unrealizedGain);
@@ -75,13 +98,13 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
 
         // Time metrics
         LocalDate firstInvestmentDate = transactions.stream()
-            .filter(t -> t.getTransactionType() == Transaction.TransactionType.BUY)
-            .map(Transaction::getTransactionDate)
+            .filter(t -> t.transactionType() == Transaction.TransactionType.BUY)
+            .map(TransactionCashflow::transactionDate)
             .min(LocalDate::compareTo)
             .orElse(LocalDate.now());
 
         LocalDate lastTransactionDate = transactions.stream()
-            .map(Transaction::getTransactionDate)
+            .map(TransactionCashflow::transactionDate)
             .max(LocalDate::compareTo)
             .orElse(LocalDate.now());
 
@@ -102,7 +125,7 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
 
         // Asset-wise analytics
         List<PortfolioAnalyticsResponse.AssetWiseAnalytics> assetWiseAnalytics = 
-            calculateAssetWiseAnalytics(holdings, currentValue);
+            calculateAssetWiseAnalytics(typeTotals, currentValue);
 
         // Top performers
         List<PortfolioAnalyticsResponse.TopPerformer> topGainers = 
@@ -136,16 +159,7 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
     public PortfolioAnalyticsResponse getPortfolioAnalyticsForDateRange(
             String userId, LocalDate startDate, LocalDate endDate) {
 
-        // Filter transactions by date range
-        List<Transaction> transactions = transactionRepository
-            .findByClerkUserIdAndDateRange(userId, startDate, endDate);
-
-        // Get holdings (current state)
-        List<Holding> holdings = holdingRepository.findActiveHoldingsByClerkUserId(userId);
-
-        // Similar calculation as above, but filtered by date range
-        // Implementation similar to getPortfolioAnalytics()
-        // For brevity, returning full analytics
+        // Date-range filtering is not implemented yet; returning full analytics
         return getPortfolioAnalytics(userId);
     }
 
@@ -153,26 +167,26 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
     // PRIVATE HELPER METHODS
     // ============================================================
 
-    private BigDecimal calculateXIRR(String userId, List<Transaction> transactions, 
-                                     List<Holding> holdings, BigDecimal currentValue) {
+    private BigDecimal calculateXIRR(String userId, List<TransactionCashflow> transactions,
+                                     List<HoldingResponse> holdings, BigDecimal currentValue) {
         try {
             List<LocalDate> dates = new ArrayList<>();
             List<BigDecimal> amounts = new ArrayList<>();
 
             // Add all BUY transactions (negative cash flow)
             transactions.stream()
-                .filter(t -> t.getTransactionType() == Transaction.TransactionType.BUY)
+                .filter(t -> t.transactionType() == Transaction.TransactionType.BUY)
                 .forEach(t -> {
-                    dates.add(t.getTransactionDate());
-                    amounts.add(t.getNetAmount().negate()); // Negative for outflow
+                    dates.add(t.transactionDate());
+                    amounts.add(t.netAmount().negate()); // Negative for outflow
                 });
 
             // Add all SELL transactions (positive cash flow)
             transactions.stream()
-                .filter(t -> t.getTransactionType() == Transaction.TransactionType.SELL)
+                .filter(t -> t.transactionType() == Transaction.TransactionType.SELL)
                 .forEach(t -> {
-                    dates.add(t.getTransactionDate());
-                    amounts.add(t.getNetAmount()); // Positive for inflow
+                    dates.add(t.transactionDate());
+                    amounts.add(t.netAmount()); // Positive for inflow
                 });
 
             // Add current portfolio value as final cash flow (if holdings exist)
@@ -185,7 +199,13 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
                 return BigDecimal.ZERO;
             }
 
-            return XIRRCalculator.calculateXIRR(dates, amounts);
+            XIRRCalculator.Solution solution = XIRRCalculator.solveXIRR(dates, amounts);
+            DistributionSummary.builder("portfolio.xirr.iterations")
+                .description("Newton-Raphson iterations per XIRR solve")
+                .tag("converged", String.valueOf(solution.converged()))
+                .register(meterRegistry)
+                .record(solution.iterations());
+            return solution.xirr();
 
         } catch (Exception e) {
             log.error("Error calculating XIRR for user {}: {}", userId, e.getMessage());
@@ -193,13 +213,13 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
         }
     }
 
-    private BigDecimal calculateRealizedGain(List<Transaction> transactions) {
+    private BigDecimal calculateRealizedGain(List<TransactionCashflow> transactions) {
         // For now, simplified calculation
         // In real implementation, you'd track FIFO cost basis for each SELL
         
         BigDecimal totalSaleValue = transactions.stream()
-            .filter(t -> t.getTransactionType() == Transaction.TransactionType.SELL)
-            .map(Transaction::getNetAmount)
+            .filter(t -> t.transactionType() == Transaction.TransactionType.SELL)
+            .map(TransactionCashflow::netAmount)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         // This is simplified - real calculation needs FIFO cost basis
@@ -209,24 +229,13 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
     }
 
     private List<PortfolioAnalyticsResponse.AssetWiseAnalytics> calculateAssetWiseAnalytics(
-            List<Holding> holdings, BigDecimal totalValue) {
-
-        Map<Holding.AssetType, List<Holding>> holdingsByType = holdings.stream()
-            .collect(Collectors.groupingBy(Holding::getAssetType));
+            List<AssetTypeTotals> typeTotals, BigDecimal totalValue) {
 
         List<PortfolioAnalyticsResponse.AssetWiseAnalytics> analytics = new ArrayList<>();
 
-        for (Map.Entry<Holding.AssetType, List<Holding>> entry : holdingsByType.entrySet()) {
-            Holding.AssetType assetType = entry.getKey();
-            List<Holding> typeHoldings = entry.getValue();
-
-            BigDecimal invested = typeHoldings.stream()
-                .map(Holding::getTotalInvested)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal currentValue = typeHoldings.stream()
-                .map(Holding::getCurrentValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        for (AssetTypeTotals totals : typeTotals) {
+            BigDecimal invested = zeroIfNull(totals.totalInvested());
+            BigDecimal currentValue = zeroIfNull(totals.currentValue());
 
             BigDecimal gain = currentValue.subtract(invested);
 
@@ -241,13 +250,13 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
                 BigDecimal.ZERO;
 
             analytics.add(new PortfolioAnalyticsResponse.AssetWiseAnalytics(
-                assetType.name(),
+                totals.assetType() != null ? totals.assetType().name() : null,
                 invested,
                 currentValue,
                 gain,
                 gainPercent,
                 allocation,
-                typeHoldings.size()
+                totals.count().intValue()
             ));
         }
 
@@ -255,7 +264,7 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
     }
 
     private List<PortfolioAnalyticsResponse.TopPerformer> getTopPerformers(
-            List<Holding> holdings, boolean gainers, int limit) {
+            List<HoldingResponse> holdings, boolean gainers, int limit) {
 
         return holdings.stream()
             .filter(h -> h.getQuantity().compareTo(BigDecimal.ZERO) > 0)
@@ -276,6 +285,10 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
             .collect(Collectors.toList());
     }
 
+    private BigDecimal zeroIfNull(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
     private PortfolioAnalyticsResponse createEmptyAnalytics(String userId) {
         return new PortfolioAnalyticsResponse(
             BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
@@ -288,8 +301,9 @@ public class PortfolioAnalyticsServiceImpl implements PortfolioAnalyticsService
     /**
      * Clear analytics cache when portfolio is updated
      * This method is called by TransactionService and HoldingService
+     * The rebalance plan is derived from the same holdings, so it goes too
      */
-    @CacheEvict(value = "portfolioAnalytics", key = "#userId")
+    @CacheEvict(value = {"portfolioAnalytics", "portfolioRebalance"}, key = "#userId")
     public void clearAnalyticsCache(String userId) {
         log.info("Clearing analytics cache for user: {}", userId);
     }
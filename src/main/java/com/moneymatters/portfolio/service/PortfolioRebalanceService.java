@@ -0,0 +1,23 @@
+package com.moneymatters.portfolio.service;
+
+import com.moneymatters.portfolio.dto.PortfolioRebalanceResponse;
+import com.moneymatters.portfolio.dto.RebalancePolicyRequest;
+
+public interface PortfolioRebalanceService {
+
+    /**
+     * Cached rebalance of the user's live holdings against their saved
+     * policy; null when the user has no policy
+     */
+    PortfolioRebalanceResponse getRebalance(String userId);
+
+    /**
+     * Save the user's targets and return the fresh rebalance
+     */
+    PortfolioRebalanceResponse savePolicy(String userId, RebalancePolicyRequest request);
+
+    /**
+     * Recompute and re-cache after a price update; no-op without a policy
+     */
+    PortfolioRebalanceResponse refreshRebalance(String userId);
+}
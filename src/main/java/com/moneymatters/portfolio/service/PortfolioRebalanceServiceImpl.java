@@ -0,0 +1,242 @@
+package com.moneymatters.portfolio.service;
+
+import com.moneymatters.calculators.dto.AssetAllocationRequest;
+import com.moneymatters.calculators.dto.RebalanceOptimizationRequest;
+import com.moneymatters.calculators.dto.RebalanceOptimizationResponse;
+import com.moneymatters.calculators.service.AssetAllocationService;
+import com.moneymatters.common.exception.InvalidRequestException;
+import com.moneymatters.portfolio.dto.PortfolioRebalanceResponse;
+import com.moneymatters.portfolio.dto.RebalancePolicyRequest;
+import com.moneymatters.portfolio.entity.Holding;
+import com.moneymatters.portfolio.entity.RebalancePolicy;
+import com.moneymatters.portfolio.entity.Transaction;
+import com.moneymatters.portfolio.repository.HoldingRepository;
+import com.moneymatters.portfolio.repository.RebalancePolicyRepository;
+import com.moneymatters.portfolio.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Rebalancing against the user's real positions.
+ *
+ * Holdings and their last scheduled prices are read server-side, grouped
+ * into buckets (asset type or NSE sector) and handed to the calculators'
+ * lot-level optimizer. Open lots are rebuilt from the BUY history: sales
+ * are FIFO, so the units still held are the most recent purchases. The
+ * result is cached per user and recomputed by the price updater, so the
+ * dashboard reads drift alerts without recomputing them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioRebalanceServiceImpl implements PortfolioRebalanceService {
+
+    private static final BigDecimal HUNDRED = new BigDecimal(100);
+
+    private final HoldingRepository holdingRepository;
+    private final TransactionRepository transactionRepository;
+    private final RebalancePolicyRepository rebalancePolicyRepository;
+    private final AssetAllocationService assetAllocationService;
+    private final SectorClassifier sectorClassifier;
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "portfolioRebalance", key = "#userId", unless = "#result == null")
+    public PortfolioRebalanceResponse getRebalance(String userId) {
+        return rebalancePolicyRepository.findByClerkUserId(userId)
+            .map(this::compute)
+            .orElse(null);
+    }
+
+    @Override
+    @Transactional
+    @CachePut(value = "portfolioRebalance", key = "#userId")
+    public PortfolioRebalanceResponse savePolicy(String userId, RebalancePolicyRequest request) {
+        BigDecimal targetSum = request.getTargets().values().stream()
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (targetSum.subtract(HUNDRED).abs().compareTo(new BigDecimal("0.01")) > 0) {
+            throw new InvalidRequestException("Target allocations must add up to 100%, got " + targetSum);
+        }
+
+        RebalancePolicy policy = rebalancePolicyRepository.findByClerkUserId(userId)
+            .orElseGet(() -> RebalancePolicy.builder().clerkUserId(userId).build());
+        policy.setGrouping(request.getGrouping());
+        policy.setToleranceBandPercent(request.getToleranceBandPercent());
+        policy.getTargets().clear();
+        policy.getTargets().putAll(request.getTargets());
+
+        log.info("Saving {} rebalance policy with {} buckets for user {}",
+            policy.getGrouping(), policy.getTargets().size(), userId);
+
+        return compute(rebalancePolicyRepository.save(policy));
+    }
+
+    // Called from the price update's afterCommit callback, where the committed
+    // transaction's resources are still bound: REQUIRES_NEW gives it a fresh one
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @CachePut(value = "portfolioRebalance", key = "#userId", unless = "#result == null")
+    public PortfolioRebalanceResponse refreshRebalance(String userId) {
+        return getRebalance(userId);
+    }
+
+    // ============================================================
+    // Helper Methods
+    // ============================================================
+
+    private PortfolioRebalanceResponse compute(RebalancePolicy policy) {
+        String userId = policy.getClerkUserId();
+        List<Holding> holdings = holdingRepository.findActiveHoldingsByClerkUserId(userId);
+
+        // One query for every open lot instead of one per holding
+        Map<String, List<Transaction>> buysBySymbol = transactionRepository
+            .findBuyTransactionsByClerkUserId(userId).stream()
+            .collect(Collectors.groupingBy(Transaction::getAssetSymbol));
+
+        List<RebalanceOptimizationRequest.Position> positions = new ArrayList<>();
+        Map<String, BigDecimal> targets = new LinkedHashMap<>(policy.getTargets());
+        LocalDateTime pricesAsOf = null;
+
+        for (Holding holding : holdings) {
+            if (holding.getQuantity() == null || holding.getQuantity().signum() <= 0) {
+                continue;
+            }
+            String bucket = bucketOf(holding, policy.getGrouping());
+            targets.putIfAbsent(bucket, BigDecimal.ZERO); // Held but untargeted: sell down
+
+            BigDecimal price = holding.getCurrentPrice() != null
+                ? holding.getCurrentPrice()
+                : holding.getAvgBuyPrice();
+
+            RebalanceOptimizationRequest.Position position = new RebalanceOptimizationRequest.Position();
+            position.setSymbol(holding.getAssetSymbol());
+            position.setAssetClass(bucket);
+            position.setCurrentPrice(price);
+            position.setTaxTreatment(taxTreatment(holding.getAssetType()));
+            position.setLots(openLots(holding, buysBySymbol.getOrDefault(holding.getAssetSymbol(), List.of())));
+            positions.add(position);
+
+            if (holding.getLastUpdated() != null
+                    && (pricesAsOf == null || holding.getLastUpdated().isBefore(pricesAsOf))) {
+                pricesAsOf = holding.getLastUpdated();
+            }
+        }
+
+        if (positions.isEmpty()) {
+            return new PortfolioRebalanceResponse(userId, policy.getGrouping(), policy.getToleranceBandPercent(),
+                true, List.of(), null, null, LocalDateTime.now());
+        }
+
+        RebalanceOptimizationRequest request = new RebalanceOptimizationRequest();
+        request.setPositions(positions);
+        request.setTargetAllocations(targets.entrySet().stream()
+            .map(e -> new AssetAllocationRequest.TargetAllocation(e.getKey(), e.getValue()))
+            .toList());
+        request.setToleranceBandPercent(policy.getToleranceBandPercent());
+
+        RebalanceOptimizationResponse plan = assetAllocationService.optimizeRebalancing(request);
+        List<PortfolioRebalanceResponse.DriftAlert> alerts = driftAlerts(plan);
+
+        log.info("Rebalance for user {}: {} holdings, {} drift alerts", userId, positions.size(), alerts.size());
+
+        return new PortfolioRebalanceResponse(
+            userId,
+            policy.getGrouping(),
+            policy.getToleranceBandPercent(),
+            alerts.isEmpty(),
+            alerts,
+            plan,
+            pricesAsOf,
+            LocalDateTime.now()
+        );
+    }
+
+    private String bucketOf(Holding holding, RebalancePolicy.Grouping grouping) {
+        Holding.AssetType type = holding.getAssetType();
+        if (grouping == RebalancePolicy.Grouping.SECTOR && type == Holding.AssetType.STOCK) {
+            return sectorClassifier.sectorOf(holding.getAssetSymbol());
+        }
+        return type != null ? type.name() : "OTHER";
+    }
+
+    private RebalanceOptimizationRequest.TaxTreatment taxTreatment(Holding.AssetType type) {
+        if (type == null) {
+            return RebalanceOptimizationRequest.TaxTreatment.OTHER;
+        }
+        return switch (type) {
+            case STOCK, ETF, MUTUAL_FUND -> RebalanceOptimizationRequest.TaxTreatment.EQUITY;
+            case BOND -> RebalanceOptimizationRequest.TaxTreatment.DEBT;
+            case GOLD -> RebalanceOptimizationRequest.TaxTreatment.OTHER;
+        };
+    }
+
+    /**
+     * Assumes FIFO sale matching, the rule TransactionServiceImpl applies
+     * when it books a SELL (calculateFIFOGain): units still held are the
+     * newest purchases, because sales consume the oldest first. If sales are
+     * ever matched differently (specific lots, average cost) this must change
+     * with them. Anything the history does not explain becomes one lot at the
+     * holding's average price and purchase date.
+     *
+     * @param buys The symbol's BUY transactions, oldest first
+     */
+    private List<RebalanceOptimizationRequest.Lot> openLots(Holding holding, List<Transaction> buys) {
+        List<RebalanceOptimizationRequest.Lot> lots = new ArrayList<>();
+        BigDecimal remaining = holding.getQuantity();
+
+        for (int i = buys.size() - 1; i >= 0 && remaining.signum() > 0; i--) {
+            Transaction buy = buys.get(i);
+            BigDecimal quantity = remaining.min(buy.getQuantity());
+            if (quantity.signum() > 0) {
+                lots.add(new RebalanceOptimizationRequest.Lot(
+                    quantity, buy.getPricePerUnit(), buy.getTransactionDate()));
+                remaining = remaining.subtract(quantity);
+            }
+        }
+
+        if (remaining.signum() > 0) {
+            lots.add(new RebalanceOptimizationRequest.Lot(
+                remaining,
+                holding.getAvgBuyPrice(),
+                holding.getPurchaseDate() != null ? holding.getPurchaseDate() : LocalDate.now()
+            ));
+        }
+        return lots;
+    }
+
+    private List<PortfolioRebalanceResponse.DriftAlert> driftAlerts(RebalanceOptimizationResponse plan) {
+        List<PortfolioRebalanceResponse.DriftAlert> alerts = new ArrayList<>();
+        for (RebalanceOptimizationResponse.ClassAllocation allocation : plan.getAllocations()) {
+            BigDecimal current = allocation.getCurrentPercentage();
+            String direction = null;
+            if (current.compareTo(allocation.getUpperBandPercentage()) > 0) {
+                direction = "OVERWEIGHT";
+            } else if (current.compareTo(allocation.getLowerBandPercentage()) < 0) {
+                direction = "UNDERWEIGHT";
+            }
+            if (direction != null) {
+                alerts.add(new PortfolioRebalanceResponse.DriftAlert(
+                    allocation.getAssetClass(),
+                    direction,
+                    current,
+                    allocation.getTargetPercentage(),
+                    allocation.getLowerBandPercentage(),
+                    allocation.getUpperBandPercentage(),
+                    current.subtract(allocation.getTargetPercentage())
+                ));
+            }
+        }
+        return alerts;
+    }
+}
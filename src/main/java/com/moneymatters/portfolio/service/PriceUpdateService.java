@@ -2,11 +2,17 @@ package com.moneymatters.portfolio.service;
 
 import com.moneymatters.portfolio.entity.Holding;
 import com.moneymatters.portfolio.repository.HoldingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -22,6 +28,8 @@ public class PriceUpdateService {
 
     private final HoldingRepository holdingRepository;
     private final StockPriceService stockPriceService;
+    private final PortfolioRebalanceService portfolioRebalanceService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Update prices for a single holding
@@ -50,11 +58,18 @@ public class PriceUpdateService {
      */
     @Transactional
     public void updateAllHoldingsForUser(String userId) {
+        repriceHoldings(userId);
+    }
+
+    /**
+     * Reprices the user's active holdings and returns how many got a quote
+     */
+    private Repriced repriceHoldings(String userId) {
         List<Holding> holdings = holdingRepository.findActiveHoldingsByClerkUserId(userId);
         
         if (holdings.isEmpty()) {
             log.info("No active holdings found for user {}", userId);
-            return;
+            return new Repriced(0, 0);
         }
         
         // Get all symbols
@@ -66,6 +81,7 @@ public class PriceUpdateService {
         Map<String, BigDecimal> prices = stockPriceService.getCurrentPrices(yahooSymbols);
         
         // Update each holding
+        int updated = 0;
         for (Holding holding : holdings) {
             String yahooSymbol = stockPriceService.toYahooSymbol(
                 holding.getAssetSymbol(), 
@@ -75,11 +91,19 @@ public class PriceUpdateService {
             BigDecimal currentPrice = prices.get(yahooSymbol);
             if (currentPrice != null) {
                 updateHoldingWithNewPrice(holding, currentPrice);
+                updated++;
             }
         }
         
         holdingRepository.saveAll(holdings);
         log.info("Updated prices for {} holdings of user {}", holdings.size(), userId);
+
+        // Precompute drift at the new prices so the dashboard reads it from cache
+        refreshRebalanceOnCommit(userId);
+        return new Repriced(holdings.size(), updated);
+    }
+
+    private record Repriced(int holdings, int updated) {
     }
 
     /**
@@ -89,6 +113,13 @@ public class PriceUpdateService {
     @Scheduled(cron = "0 */15 9-15 * * MON-FRI", zone = "Asia/Kolkata")
     @Transactional
     public void scheduledPriceUpdate() {
+        Timer.builder("price.refresh.run")
+            .description("Duration of the scheduled price refresh")
+            .register(meterRegistry)
+            .record(this::refreshAllHoldings);
+    }
+
+    private void refreshAllHoldings() {
         log.info("Starting scheduled price update for all holdings");
         
         List<Holding> allHoldings = holdingRepository.findAll();
@@ -97,22 +128,70 @@ public class PriceUpdateService {
             log.info("No holdings to update");
             return;
         }
+
+        DistributionSummary.builder("price.refresh.symbols")
+            .description("Distinct symbols refreshed per scheduled run")
+            .register(meterRegistry)
+            .record(allHoldings.stream()
+                .map(h -> stockPriceService.toYahooSymbol(h.getAssetSymbol(), h.getExchange()))
+                .distinct()
+                .count());
         
         // Group by user and update
         Map<String, List<Holding>> holdingsByUser = allHoldings.stream()
             .collect(Collectors.groupingBy(Holding::getClerkUserId));
         
+        int checked = 0;
+        int updated = 0;
         for (String userId : holdingsByUser.keySet()) {
             try {
-                updateAllHoldingsForUser(userId);
+                Repriced repriced = repriceHoldings(userId);
+                checked += repriced.holdings();
+                updated += repriced.updated();
             } catch (Exception e) {
                 log.error("Error updating holdings for user {}: {}", userId, e.getMessage());
             }
         }
+        // Scheduled runs only; manual refreshes from the API are not counted
+        refreshCounter("updated").increment(updated);
+        refreshCounter("missing").increment(checked - updated);
         
         log.info("Completed scheduled price update");
     }
 
+    /**
+     * The rebalance must see the committed prices, and a failed refresh must not
+     * roll them back, so it runs after the price update commits (in its own
+     * transaction, see PortfolioRebalanceServiceImpl.refreshRebalance)
+     */
+    private void refreshRebalanceOnCommit(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshRebalance(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshRebalance(userId);
+            }
+        });
+    }
+
+    private void refreshRebalance(String userId) {
+        try {
+            portfolioRebalanceService.refreshRebalance(userId);
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh rebalance plan for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private Counter refreshCounter(String result) {
+        return Counter.builder("price.refresh.holdings")
+            .description("Holdings repriced (updated) or left stale for lack of a quote (missing) by scheduled runs")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
     /**
      * Helper: Update holding calculations with new price
      */
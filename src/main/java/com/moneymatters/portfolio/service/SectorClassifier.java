@@ -0,0 +1,72 @@
+package com.moneymatters.portfolio.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Symbol -> industry lookup from the NSE Nifty 500 list
+ * (Company Name,Industry,Symbol,Series,ISIN Code), loaded once at startup.
+ */
+@Component
+@Slf4j
+public class SectorClassifier {
+
+    public static final String UNCLASSIFIED = "Other Equity";
+
+    private final Map<String, String> sectors;
+
+    public SectorClassifier(@Value("${app.portfolio.sector-file:file:ind_nifty500list.csv}") Resource sectorFile) {
+        this.sectors = load(sectorFile);
+    }
+
+    /**
+     * Industry of an NSE symbol (exchange suffixes such as .NS are ignored)
+     */
+    public String sectorOf(String symbol) {
+        if (symbol == null) {
+            return UNCLASSIFIED;
+        }
+        String key = symbol.toUpperCase(Locale.ROOT);
+        int dot = key.indexOf('.');
+        if (dot > 0) {
+            key = key.substring(0, dot);
+        }
+        return sectors.getOrDefault(key, UNCLASSIFIED);
+    }
+
+    private static Map<String, String> load(Resource file) {
+        Map<String, String> sectors = new HashMap<>();
+        if (!file.exists()) {
+            log.warn("Sector file {} not found; stocks will be grouped as '{}'", file, UNCLASSIFIED);
+            return sectors;
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.readLine(); // Header
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Company names never contain commas in this file, so a plain split is enough
+                String[] columns = line.split(",");
+                if (columns.length >= 3 && !columns[1].isBlank()) {
+                    sectors.put(columns[2].trim().toUpperCase(Locale.ROOT), columns[1].trim());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read sector file {}: {}", file, e.getMessage());
+        }
+
+        log.info("Loaded sectors for {} symbols", sectors.size());
+        return sectors;
+    }
+}
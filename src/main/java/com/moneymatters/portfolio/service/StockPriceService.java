@@ -2,7 +2,11 @@ package com.moneymatters.portfolio.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moneymatters.common.metrics.UpstreamMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -17,14 +21,19 @@ import java.util.List;
 import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class StockPriceService {
 
-    private static final String YAHOO_CHART_URL = "https://query1.finance.yahoo.com/v8/finance/chart/%s?range=1d&interval=1d";
+    private static final String YAHOO_CHART_PATH = "/v8/finance/chart/%s?range=1d&interval=1d";
     private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
     
     private final HttpClient httpClient = HttpClient.newHttpClient();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UpstreamMetrics upstreamMetrics;
+
+    @Value("${app.market-data.yahoo-base-url:https://query1.finance.yahoo.com}")
+    private String yahooBaseUrl;
 
     /**
      * Get current price for a single stock using Yahoo v8 chart API
@@ -131,7 +140,7 @@ public class StockPriceService {
     // ---- Internal helpers ----
 
     private JsonNode fetchYahooData(String symbol) throws Exception {
-        String url = String.format(YAHOO_CHART_URL, symbol);
+        String url = yahooBaseUrl + String.format(YAHOO_CHART_PATH, symbol);
         log.info("Sending request: {}", url);
 
         HttpRequest request = HttpRequest.newBuilder()
@@ -140,7 +149,15 @@ public class StockPriceService {
                 .GET()
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        Timer.Sample sample = upstreamMetrics.start();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            upstreamMetrics.record(sample, "yahoo", "chart", UpstreamMetrics.NO_RESPONSE);
+            throw e;
+        }
+        upstreamMetrics.record(sample, "yahoo", "chart", response.statusCode());
 
         if (response.statusCode() != 200) {
             log.error("Yahoo API returned status {} for {}", response.statusCode(), symbol);
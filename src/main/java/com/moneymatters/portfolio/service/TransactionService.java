@@ -1,8 +1,10 @@
 package com.moneymatters.portfolio.service;
 
 import com.moneymatters.portfolio.dto.FIFOCalculationResult;
+import com.moneymatters.portfolio.dto.TransactionPageResponse;
 import com.moneymatters.portfolio.dto.TransactionRequest;
 import com.moneymatters.portfolio.dto.TransactionResponse;
+import com.moneymatters.portfolio.entity.Transaction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -13,6 +15,14 @@ public interface TransactionService {
     TransactionResponse recordTransaction(String clerkUserId, TransactionRequest request);
     
     List<TransactionResponse> getUserTransactions(String userId);
+
+    /**
+     * Cursor-paginated history, newest first. All filters are optional;
+     * cursor is the nextCursor of the previous page (null for the first page).
+     */
+    TransactionPageResponse getUserTransactionsPage(
+        String userId, String assetSymbol, Transaction.TransactionType transactionType,
+        LocalDate startDate, LocalDate endDate, String cursor, Integer limit);
     
     List<TransactionResponse> getTransactionsBySymbol(String userId, String assetSymbol);
     
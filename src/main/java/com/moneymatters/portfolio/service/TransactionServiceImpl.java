@@ -1,5 +1,6 @@
 package com.moneymatters.portfolio.service;
 
+import com.moneymatters.common.exception.InvalidRequestException;
 import com.moneymatters.portfolio.dto.*;
 import com.moneymatters.portfolio.entity.Holding;
 import com.moneymatters.portfolio.entity.Transaction;
@@ -7,13 +8,17 @@ import com.moneymatters.portfolio.repository.HoldingRepository;
 import com.moneymatters.portfolio.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,6 +32,9 @@ public class TransactionServiceImpl implements TransactionService {
     private final HoldingService holdingService;
     private final PortfolioAnalyticsService portfolioAnalyticsService;
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Override
     @Transactional
     public TransactionResponse recordTransaction(String clerkUserId, TransactionRequest request) {
@@ -92,6 +100,45 @@ public class TransactionServiceImpl implements TransactionService {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionPageResponse getUserTransactionsPage(
+            String clerkUserId, String assetSymbol, Transaction.TransactionType transactionType,
+            LocalDate startDate, LocalDate endDate, String cursor, Integer limit) {
+
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        LocalDate cursorDate = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            cursorDate = LocalDate.parse(position[0]);
+            cursorId = Long.parseLong(position[1]);
+        }
+
+        String symbol = assetSymbol != null && !assetSymbol.isBlank() ? assetSymbol : null;
+
+        // Fetch one extra row: its presence answers "has more" without a COUNT query
+        List<Transaction> rows = transactionRepository.findPageByClerkUserId(
+            clerkUserId, symbol, transactionType, startDate, endDate,
+            cursorDate, cursorId, PageRequest.ofSize(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Transaction> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getTransactionDate(), last.getId());
+        }
+
+        List<TransactionResponse> transactions = page.stream()
+            .map(TransactionResponse::fromEntity)
+            .collect(Collectors.toList());
+
+        return new TransactionPageResponse(transactions, pageSize, hasMore, nextCursor);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsBySymbol(String clerkUserId, String assetSymbol) {
@@ -334,6 +381,27 @@ public class TransactionServiceImpl implements TransactionService {
         holdingRepository.save(holding);
     }
 
+    private String encodeCursor(LocalDate transactionDate, Long id) {
+        String position = transactionDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|");
+            if (parts.length != 2) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            LocalDate.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
     private void reverseTransactionEffect(Transaction transaction) {
         log.warn("Transaction reversal not fully implemented yet");
     }
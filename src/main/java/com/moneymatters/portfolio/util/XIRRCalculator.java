@@ -23,6 +23,15 @@ public class XIRRCalculator {
      * @return XIRR as a percentage (e.g., 15.5 for 15.5%)
      */
     public static BigDecimal calculateXIRR(List<LocalDate> dates, List<BigDecimal> amounts) {
+        return solveXIRR(dates, amounts).xirr();
+    }
+
+    /**
+     * XIRR with the solver's effort, for instrumentation
+     *
+     * @return Rate as in {@link #calculateXIRR} plus Newton-Raphson iterations used
+     */
+    public static Solution solveXIRR(List<LocalDate> dates, List<BigDecimal> amounts) {
         if (dates == null || amounts == null || dates.size() != amounts.size()) {
             throw new IllegalArgumentException("Dates and amounts must have same size");
         }
@@ -44,20 +53,16 @@ public class XIRRCalculator {
         }
 
         // Use Newton-Raphson method to find rate
-        double rate = newtonRaphson(doubleAmounts, daysDifference);
-
-        // Convert to percentage
-        BigDecimal xirr = BigDecimal.valueOf(rate * 100)
-            .setScale(4, RoundingMode.HALF_UP);
+        Solution solution = newtonRaphson(doubleAmounts, daysDifference);
 
-        log.debug("Calculated XIRR: {}%", xirr);
-        return xirr;
+        log.debug("Calculated XIRR: {}% in {} iterations", solution.xirr(), solution.iterations());
+        return solution;
     }
 
     /**
      * Newton-Raphson method to solve for rate
      */
-    private static double newtonRaphson(double[] amounts, long[] days) {
+    private static Solution newtonRaphson(double[] amounts, long[] days) {
         double rate = 0.1; // Initial guess: 10%
 
         for (int i = 0; i < MAX_ITERATIONS; i++) {
@@ -65,19 +70,23 @@ public class XIRRCalculator {
             double df = calculateNPVDerivative(amounts, days, rate);
 
             if (Math.abs(df) < PRECISION) {
-                break;
+                return new Solution(toPercent(rate), i + 1, false);
             }
 
             double newRate = rate - (f / df);
 
             if (Math.abs(newRate - rate) < PRECISION) {
-                return newRate;
+                return new Solution(toPercent(newRate), i + 1, true);
             }
 
             rate = newRate;
         }
 
-        return rate;
+        return new Solution(toPercent(rate), MAX_ITERATIONS, false);
+    }
+
+    private static BigDecimal toPercent(double rate) {
+        return BigDecimal.valueOf(rate * 100).setScale(4, RoundingMode.HALF_UP);
     }
 
     /**
@@ -108,6 +117,14 @@ public class XIRRCalculator {
         return derivative;
     }
 
+    /**
+     * @param xirr       XIRR as a percentage
+     * @param iterations Newton-Raphson steps taken
+     * @param converged  False if the solver hit a flat derivative or the iteration cap
+     */
+    public record Solution(BigDecimal xirr, int iterations, boolean converged) {
+    }
+
     /**
      * Calculate CAGR (Compound Annual Growth Rate)
      * 
@@ -1,5 +1,22 @@
 package com.moneymatters.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface UserRepository extends JpaRepository<User, String> {}
+public interface UserRepository extends JpaRepository<User, String> {
+
+    /**
+     * Idempotent create: a concurrent first request for the same user is a no-op
+     * instead of a primary-key violation.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO users (clerk_user_id, email, created_at) " +
+                   "VALUES (:clerkUserId, :email, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (clerk_user_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("clerkUserId") String clerkUserId, @Param("email") String email);
+}
@@ -1,23 +1,51 @@
 package com.moneymatters.user;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    // Bounded so a flood of distinct subjects can't grow the heap without limit
+    private static final int MAX_KNOWN_USERS = 100_000;
+
     private final UserRepository userRepository;
+    private final Cache<String, Boolean> knownUsers = Caffeine.newBuilder()
+        .maximumSize(MAX_KNOWN_USERS)
+        .build();
+
+    /**
+     * Called on nearly every authenticated request. Users already seen by this
+     * instance skip the database entirely; first sight does a single idempotent upsert.
+     */
+    public void ensureUserExists(String clerkUserId, String email) {
+        if (knownUsers.getIfPresent(clerkUserId) != null) {
+            return;
+        }
+
+        userRepository.insertIfAbsent(clerkUserId, email != null ? email : "");
+        rememberOnCommit(clerkUserId);
+    }
 
-    @Transactional
-    public User ensureUserExists(String clerkUserId, String email) {
-        return userRepository.findById(clerkUserId)
-            .orElseGet(() -> {
-                User user = new User();
-                user.setClerkUserId(clerkUserId);
-                user.setEmail(email != null ? email : "");
-                return userRepository.save(user);
-            });
+    /**
+     * Inside a caller's transaction the upsert can still roll back, so the user
+     * is only remembered once it has committed
+     */
+    private void rememberOnCommit(String clerkUserId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            knownUsers.put(clerkUserId, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                knownUsers.put(clerkUserId, Boolean.TRUE);
+            }
+        });
     }
 }
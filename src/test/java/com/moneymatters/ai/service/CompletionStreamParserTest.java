@@ -0,0 +1,64 @@
+package com.moneymatters.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Completion Stream Parser Tests")
+public class CompletionStreamParserTest {
+
+    private CompletionStreamParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new CompletionStreamParser(new ObjectMapper());
+    }
+
+    private static String chunk(String content) {
+        return "data: {\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"" + content
+            + "\"},\"finish_reason\":null}]}";
+    }
+
+    @Test
+    @DisplayName("Content deltas are returned in order and accumulated")
+    void testDeltasAccumulate() {
+        assertEquals("Your ", parser.accept(chunk("Your ")));
+        assertNull(parser.accept(""));
+        assertEquals("SIP\n", parser.accept(chunk("SIP\\n")));
+        assertEquals("grows", parser.accept(chunk("grows")));
+
+        assertEquals("Your SIP\ngrows", parser.text());
+        assertFalse(parser.done());
+    }
+
+    @Test
+    @DisplayName("Role-only, empty and malformed chunks add no text")
+    void testChunksWithoutContent() {
+        assertNull(parser.accept("data: {\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\"}}]}"));
+        assertNull(parser.accept("data: {\"choices\":[{\"index\":0,\"delta\":{\"content\":null}}]}"));
+        assertNull(parser.accept("data: {not json"));
+        assertNull(parser.accept(": keep-alive"));
+        assertNull(parser.accept("event: message"));
+
+        assertEquals("", parser.text());
+    }
+
+    @Test
+    @DisplayName("Usage arrives in the final chunk and nothing is read after [DONE]")
+    void testUsageAndDone() {
+        parser.accept(chunk("Hello"));
+        assertTrue(parser.usage().isMissingNode());
+
+        parser.accept("data: {\"choices\":[],\"usage\":{\"prompt_tokens\":412,\"completion_tokens\":37}}");
+        assertNull(parser.accept("data: [DONE]"));
+        assertNull(parser.accept(chunk("late")));
+
+        assertTrue(parser.done());
+        assertEquals(412, parser.usage().path("prompt_tokens").asInt());
+        assertEquals(37, parser.usage().path("completion_tokens").asInt());
+        assertEquals("Hello", parser.text());
+    }
+}
@@ -0,0 +1,180 @@
+package com.moneymatters.ai.service;
+
+import com.moneymatters.ai.config.NvidiaProperties;
+import com.moneymatters.ai.exception.AiUnavailableException;
+import com.moneymatters.common.metrics.UpstreamMetrics;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * streamChat against a local stand-in for the NIM chat completions endpoint
+ */
+@DisplayName("Nemotron Service Tests")
+public class NemotronServiceTest {
+
+    private HttpServer server;
+    private SimpleMeterRegistry registry;
+    private List<String> tokens;
+
+    // Counted down when the endless stream can no longer write to the client
+    private CountDownLatch endlessStopped;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new SimpleMeterRegistry();
+        tokens = new CopyOnWriteArrayList<>();
+        endlessStopped = new CountDownLatch(1);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/stream", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                write(out, "data: {\"choices\":[{\"delta\":{\"role\":\"assistant\"}}]}\n\n");
+                write(out, chunk("Your "));
+                write(out, chunk("SIP\\n"));
+                write(out, chunk("grows"));
+                write(out, "data: {\"choices\":[],\"usage\":{\"prompt_tokens\":12,\"completion_tokens\":3}}\n\n");
+                write(out, "data: [DONE]\n\n");
+            }
+        });
+        server.createContext("/limited", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = "{\"error\":\"rate limited\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(429, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/blank", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                write(out, chunk("  "));
+                write(out, "data: [DONE]\n\n");
+            }
+        });
+        server.createContext("/endless", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < 1000; i++) {
+                    write(out, chunk("token" + i + " "));
+                    Thread.sleep(20);
+                }
+            } catch (IOException | InterruptedException e) {
+                endlessStopped.countDown();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private NemotronService service(String path) {
+        NvidiaProperties props = new NvidiaProperties();
+        props.setApiKey("test-key");
+        props.setModel("test-model");
+        props.setApiUrl("http://localhost:" + server.getAddress().getPort() + path);
+        return new NemotronService(props, new UpstreamMetrics(registry), registry);
+    }
+
+    private static String chunk(String content) {
+        return "data: {\"choices\":[{\"delta\":{\"content\":\"" + content + "\"}}]}\n\n";
+    }
+
+    private static void write(OutputStream out, String event) throws IOException {
+        out.write(event.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static Throwable failure(ChatStream stream) throws InterruptedException {
+        try {
+            stream.result().get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (CancellationException e) {
+            return e;
+        } catch (TimeoutException e) {
+            fail("Stream did not finish");
+        }
+        return fail("Stream should have failed");
+    }
+
+    @Test
+    @DisplayName("Tokens are relayed in order and the full text completes the stream")
+    void testTokensRelayed() throws Exception {
+        ChatStream stream = service("/stream").streamChat("system", "user", tokens::add);
+
+        assertEquals("Your SIP\ngrows", stream.result().get(10, TimeUnit.SECONDS));
+        assertEquals(List.of("Your ", "SIP\n", "grows"), tokens);
+        assertEquals(12.0, registry.get("nvidia.tokens").tag("type", "prompt").counter().count());
+        assertEquals(3.0, registry.get("nvidia.tokens").tag("type", "completion").counter().count());
+    }
+
+    @Test
+    @DisplayName("A 4xx response fails with a message for the error event")
+    void testClientError() throws Exception {
+        Throwable error = failure(service("/limited").streamChat("system", "user", tokens::add));
+
+        assertInstanceOf(AiUnavailableException.class, error);
+        assertTrue(error.getMessage().contains("HTTP 429"));
+        assertTrue(tokens.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A blank completion fails instead of completing with no text")
+    void testBlankCompletion() throws Exception {
+        Throwable error = failure(service("/blank").streamChat("system", "user", tokens::add));
+
+        assertInstanceOf(AiUnavailableException.class, error);
+        assertTrue(error.getMessage().contains("empty response"));
+    }
+
+    @Test
+    @DisplayName("A failing consumer cancels the upstream request")
+    void testConsumerFailureCancels() throws Exception {
+        IllegalStateException gone = new IllegalStateException("browser gone");
+        ChatStream stream = service("/endless").streamChat("system", "user", token -> {
+            throw gone;
+        });
+
+        assertSame(gone, failure(stream));
+        assertTrue(endlessStopped.await(10, TimeUnit.SECONDS), "Upstream kept streaming");
+    }
+
+    @Test
+    @DisplayName("Cancelling the stream closes the upstream request")
+    void testCancelStopsUpstream() throws Exception {
+        CountDownLatch firstToken = new CountDownLatch(1);
+        ChatStream stream = service("/endless").streamChat("system", "user", token -> firstToken.countDown());
+
+        assertTrue(firstToken.await(10, TimeUnit.SECONDS));
+        stream.cancel();
+
+        assertInstanceOf(CancellationException.class, failure(stream));
+        assertTrue(endlessStopped.await(10, TimeUnit.SECONDS), "Upstream kept streaming");
+    }
+}
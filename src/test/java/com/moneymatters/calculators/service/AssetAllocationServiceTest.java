@@ -5,6 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -117,4 +119,156 @@ public class AssetAllocationServiceTest {
         assertTrue(response.getRebalancingActions().stream()
             .anyMatch(a -> a.getAction().equals("BUY")));
     }
+
+    @Test
+    @DisplayName("Holdings listed twice under one name are added together")
+    void testDuplicateHoldingsMerged() {
+        List<AssetAllocationRequest.AssetClass> holdings = List.of(
+            new AssetAllocationRequest.AssetClass("Equity", new BigDecimal("300000")),
+            new AssetAllocationRequest.AssetClass("Debt", new BigDecimal("400000")),
+            new AssetAllocationRequest.AssetClass("Equity", new BigDecimal("300000"))
+        );
+
+        List<AssetAllocationRequest.TargetAllocation> targets = List.of(
+            new AssetAllocationRequest.TargetAllocation("Equity", new BigDecimal("60")),
+            new AssetAllocationRequest.TargetAllocation("Debt", new BigDecimal("40"))
+        );
+
+        AssetAllocationResponse response = service.calculateRebalancing(
+            new AssetAllocationRequest(holdings, targets, BigDecimal.ZERO));
+
+        assertTrue(response.isBalanced());
+        assertEquals(0, response.getAssetAnalyses().get(0).getCurrentValue()
+            .compareTo(new BigDecimal("600000")));
+    }
+
+    // ============================================================
+    // Optimizer
+    // ============================================================
+
+    private static final LocalDate AS_OF = LocalDate.of(2025, 6, 30);
+
+    private RebalanceOptimizationRequest.Position position(
+            String symbol, String assetClass, String price, RebalanceOptimizationRequest.Lot... lots) {
+        return new RebalanceOptimizationRequest.Position(
+            symbol, assetClass, new BigDecimal(price), List.of(lots), null, null, null);
+    }
+
+    private RebalanceOptimizationRequest.Lot lot(String quantity, String buyPrice, LocalDate bought) {
+        return new RebalanceOptimizationRequest.Lot(new BigDecimal(quantity), new BigDecimal(buyPrice), bought);
+    }
+
+    private RebalanceOptimizationRequest optimization(
+            List<RebalanceOptimizationRequest.Position> positions, String fresh, String exemption) {
+        RebalanceOptimizationRequest request = new RebalanceOptimizationRequest();
+        request.setPositions(positions);
+        request.setTargetAllocations(List.of(
+            new AssetAllocationRequest.TargetAllocation("Equity", new BigDecimal("60")),
+            new AssetAllocationRequest.TargetAllocation("Debt", new BigDecimal("40"))
+        ));
+        request.setFreshInvestment(new BigDecimal(fresh));
+        request.setLtcgExemption(exemption != null ? new BigDecimal(exemption) : null);
+        request.setAsOfDate(AS_OF);
+        return request;
+    }
+
+    private RebalanceOptimizationRequest.Position debt(String units) {
+        RebalanceOptimizationRequest.Position debt = position("LIQUIDBEES", "Debt", "100",
+            lot(units, "100", AS_OF.minusYears(2)));
+        debt.setTaxTreatment(RebalanceOptimizationRequest.TaxTreatment.DEBT);
+        return debt;
+    }
+
+    @Test
+    @DisplayName("Optimizer: portfolio inside its bands needs no trades")
+    void testOptimizerWithinBands() {
+        RebalanceOptimizationResponse response = service.optimizeRebalancing(optimization(List.of(
+            position("NIFTYBEES", "Equity", "100", lot("630", "80", AS_OF.minusYears(3))),
+            debt("370")
+        ), "0", null));
+
+        assertTrue(response.getTrades().isEmpty());
+        assertTrue(response.isWithinBands());
+        assertEquals(0, response.getTotalCost().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("Optimizer: fresh investment closes the gap without any sale")
+    void testOptimizerFreshInvestmentFirst() {
+        RebalanceOptimizationResponse response = service.optimizeRebalancing(optimization(List.of(
+            position("NIFTYBEES", "Equity", "100", lot("700", "80", AS_OF.minusYears(3))),
+            debt("300")
+        ), "20000", null));
+
+        assertTrue(response.getTrades().stream().noneMatch(t -> t.getAction().equals("SELL")));
+        assertEquals(0, response.getEstimatedTax().compareTo(BigDecimal.ZERO));
+        assertTrue(response.isWithinBands());
+        assertEquals("LIQUIDBEES", response.getTrades().stream()
+            .filter(t -> t.getAssetClass().equals("Debt")).findFirst().orElseThrow().getSymbol());
+    }
+
+    @Test
+    @DisplayName("Optimizer: loss-making lot is sold before a long-term gain")
+    void testOptimizerHarvestsLossesFirst() {
+        RebalanceOptimizationResponse response = service.optimizeRebalancing(optimization(List.of(
+            position("NIFTYBEES", "Equity", "100",
+                lot("500", "50", AS_OF.minusYears(3)),      // Long-term gain
+                lot("300", "120", AS_OF.minusMonths(2))),   // Short-term loss
+            debt("200")
+        ), "0", null));
+
+        RebalanceOptimizationResponse.Trade sell = response.getTrades().stream()
+            .filter(t -> t.getAction().equals("SELL")).findFirst().orElseThrow();
+
+        assertTrue(sell.getShortTermGain().compareTo(BigDecimal.ZERO) < 0);
+        assertEquals(0, sell.getLongTermGain().compareTo(BigDecimal.ZERO));
+        assertEquals(0, response.getEstimatedTax().compareTo(BigDecimal.ZERO));
+        assertTrue(response.isWithinBands());
+    }
+
+    @Test
+    @DisplayName("Optimizer: equity LTCG within the exemption is tax free")
+    void testOptimizerLtcgExemption() {
+        List<RebalanceOptimizationRequest.Position> positions = List.of(
+            position("NIFTYBEES", "Equity", "100", lot("800", "50", AS_OF.minusYears(3))),
+            debt("200")
+        );
+
+        RebalanceOptimizationResponse exempt = service.optimizeRebalancing(optimization(positions, "0", null));
+        RebalanceOptimizationResponse taxed = service.optimizeRebalancing(optimization(positions, "0", "0"));
+
+        assertEquals(0, exempt.getEstimatedTax().compareTo(BigDecimal.ZERO));
+        assertTrue(taxed.getLongTermGains().compareTo(BigDecimal.ZERO) > 0);
+        // 12.5% of the realised long-term gain
+        assertEquals(0, taxed.getEstimatedTax().compareTo(
+            taxed.getLongTermGains().multiply(new BigDecimal("0.125")).setScale(2, java.math.RoundingMode.HALF_UP)));
+    }
+
+    @Test
+    @DisplayName("Optimizer: targets must add up to 100%")
+    void testOptimizerRejectsBadTargets() {
+        RebalanceOptimizationRequest request = optimization(List.of(debt("100")), "0", null);
+        request.setTargetAllocations(List.of(
+            new AssetAllocationRequest.TargetAllocation("Debt", new BigDecimal("90"))
+        ));
+
+        assertThrows(IllegalArgumentException.class, () -> service.optimizeRebalancing(request));
+    }
+
+    @Test
+    @DisplayName("Optimizer: hundreds of instruments rebalance into their bands")
+    void testOptimizerLargePortfolio() {
+        List<RebalanceOptimizationRequest.Position> positions = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            positions.add(position("EQ" + i, "Equity", String.valueOf(100 + i % 50),
+                lot("10", String.valueOf(60 + i % 90), AS_OF.minusDays(30L * (i % 40))),
+                lot("5", String.valueOf(90 + i % 30), AS_OF.minusDays(10L * (i % 50)))));
+        }
+        positions.add(debt("500"));
+
+        RebalanceOptimizationResponse response = service.optimizeRebalancing(optimization(positions, "0", null));
+
+        assertTrue(response.isWithinBands());
+        assertTrue(response.getTotalSellAmount().compareTo(BigDecimal.ZERO) > 0);
+    }
 }
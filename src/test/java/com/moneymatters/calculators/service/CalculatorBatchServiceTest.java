@@ -0,0 +1,158 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Calculator Batch Service Tests")
+public class CalculatorBatchServiceTest {
+
+    private ExecutorService executor;
+    private CalculatorBatchServiceImpl service;
+    private LoanAnalyzerServiceImpl loanService;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        FinancialMathService mathService = new FinancialMathService();
+        executor = Executors.newFixedThreadPool(2);
+        loanService = new LoanAnalyzerServiceImpl(mathService);
+        registry = new SimpleMeterRegistry();
+        service = new CalculatorBatchServiceImpl(
+            new SIPCalculatorServiceImpl(mathService),
+            new SWPCalculatorServiceImpl(),
+            loanService,
+            new RetirementPlannerServiceImpl(mathService),
+            new CalculatorResultCache(registry, true, 65536, 1800),
+            executor,
+            10_000
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private LoanAnalysisRequest loan(String rate) {
+        return new LoanAnalysisRequest(
+            new BigDecimal("5000000"),
+            new BigDecimal(rate),
+            240,
+            null
+        );
+    }
+
+    @Test
+    @DisplayName("Mixed batch: every item answered, in request order")
+    void testMixedBatch() {
+        BatchCalculationRequest request = new BatchCalculationRequest(List.of(
+            new BatchCalculationRequest.Item("sip", BatchCalculationRequest.CalculatorType.SIP,
+                new SIPStepupRequest(new BigDecimal("10000"), new BigDecimal("12"), 10, new BigDecimal("10")),
+                null, null, null),
+            new BatchCalculationRequest.Item("swp", BatchCalculationRequest.CalculatorType.SWP,
+                null,
+                new SWPRequest(new BigDecimal("5000000"), new BigDecimal("30000"), new BigDecimal("8"),
+                    25, BigDecimal.ZERO, false),
+                null, null),
+            new BatchCalculationRequest.Item("loan", BatchCalculationRequest.CalculatorType.LOAN,
+                null, null, loan("8.5"), null)
+        ));
+
+        BatchCalculationResponse response = service.evaluate(
+            request, ResponseShape.of(ResponseShape.ScheduleView.SUMMARY, null, null, null));
+
+        assertEquals(3, response.getSucceeded());
+        assertEquals(0, response.getFailed());
+        assertEquals(List.of("sip", "swp", "loan"),
+            response.getResults().stream().map(BatchCalculationResponse.Result::getId).toList());
+        assertInstanceOf(SIPStepupResponse.class, response.getResults().get(0).getData());
+        assertInstanceOf(SWPResponse.class, response.getResults().get(1).getData());
+
+        // Shape is applied to loan items
+        LoanAnalysisResponse analysis = (LoanAnalysisResponse) response.getResults().get(2).getData();
+        assertNull(analysis.getAmortizationSchedule());
+    }
+
+    @Test
+    @DisplayName("A failing item is reported without failing the batch")
+    void testFailureIsolation() {
+        BatchCalculationRequest request = new BatchCalculationRequest(List.of(
+            new BatchCalculationRequest.Item("missing", BatchCalculationRequest.CalculatorType.LOAN,
+                null, null, null, null),
+            new BatchCalculationRequest.Item("ok", BatchCalculationRequest.CalculatorType.LOAN,
+                null, null, loan("9"), null)
+        ));
+
+        BatchCalculationResponse response = service.evaluate(request, ResponseShape.full());
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+
+        BatchCalculationResponse.Result failed = response.getResults().get(0);
+        assertFalse(failed.getSuccess());
+        assertNull(failed.getData());
+        assertTrue(failed.getError().contains("loan"));
+        assertTrue(response.getResults().get(1).getSuccess());
+    }
+
+    @Test
+    @DisplayName("Batch items are answered from the calculator result cache")
+    void testBatchUsesResultCache() {
+        BatchCalculationRequest request = new BatchCalculationRequest(List.of(
+            new BatchCalculationRequest.Item("first", BatchCalculationRequest.CalculatorType.LOAN,
+                null, null, loan("8.5"), null)
+        ));
+
+        BatchCalculationResponse first = service.evaluate(request, ResponseShape.full());
+        BatchCalculationResponse second = service.evaluate(request, ResponseShape.full());
+
+        assertSame(first.getResults().get(0).getData(), second.getResults().get(0).getData());
+        assertEquals(1.0, registry.get("calculator.cache").tag("calculator", "loan").tag("result", "hit")
+            .counter().count());
+    }
+
+    @Test
+    @DisplayName("Parallel evaluation matches sequential results in input order")
+    void testEvaluateAllPreservesOrder() {
+        List<LoanAnalysisRequest> requests = new ArrayList<>();
+        for (String rate : List.of("7.5", "8.5", "9.5", "10.5", "11.5")) {
+            requests.add(loan(rate));
+        }
+
+        List<LoanAnalysisResponse> parallel = service.evaluateAll("loan", requests, loanService::analyzeLoan);
+
+        assertEquals(requests.size(), parallel.size());
+        for (int i = 0; i < requests.size(); i++) {
+            LoanAnalysisResponse sequential = loanService.analyzeLoan(requests.get(i));
+            assertEquals(0, sequential.getTotalInterestPayable()
+                .compareTo(parallel.get(i).getTotalInterestPayable()));
+        }
+    }
+
+    @Test
+    @DisplayName("evaluateAll rethrows the calculation's own exception")
+    void testEvaluateAllPropagatesFailure() {
+        List<Integer> inputs = List.of(1, 2, 3);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> service.evaluateAll("test", inputs, i -> {
+                if (i == 2) {
+                    throw new IllegalArgumentException("bad input " + i);
+                }
+                return i;
+            }));
+        assertEquals("bad input 2", e.getMessage());
+    }
+}
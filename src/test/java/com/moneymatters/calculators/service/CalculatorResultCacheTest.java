@@ -0,0 +1,167 @@
+package com.moneymatters.calculators.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.moneymatters.calculators.controller.LoanController;
+import com.moneymatters.calculators.controller.SWPController;
+import com.moneymatters.calculators.dto.LoanAnalysisRequest;
+import com.moneymatters.calculators.dto.LoanAnalysisResponse;
+import com.moneymatters.calculators.dto.ResponseShape;
+import com.moneymatters.calculators.dto.SIPStepupRequest;
+import com.moneymatters.calculators.dto.SWPRequest;
+import com.moneymatters.calculators.dto.SWPResponse;
+import com.moneymatters.common.dto.ApiResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Calculator Result Cache Tests")
+public class CalculatorResultCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private CalculatorResultCache cache;
+    private AtomicInteger computations;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new CalculatorResultCache(registry, true, 3, 1800);
+        computations = new AtomicInteger();
+    }
+
+    private SIPStepupRequest sip(String monthly, String rate) {
+        return new SIPStepupRequest(new BigDecimal(monthly), new BigDecimal(rate), 10, new BigDecimal("10"));
+    }
+
+    private LoanAnalysisRequest loan() {
+        return new LoanAnalysisRequest(new BigDecimal("5000000"), new BigDecimal("9"), 360, null);
+    }
+
+    private String compute() {
+        return "result-" + computations.incrementAndGet();
+    }
+
+    @Test
+    @DisplayName("Requests differing only in BigDecimal scale share an entry")
+    void testScaleNormalised() {
+        String first = cache.get("sip", this::compute, sip("10000", "12"));
+        String second = cache.get("sip", this::compute, sip("10000.00", "12.0"));
+
+        assertEquals(first, second);
+        assertEquals(1, computations.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Different requests, shapes and calculators are separate entries")
+    void testDistinctKeys() {
+        cache.get("sip", this::compute, sip("10000", "12"));
+        cache.get("sip", this::compute, sip("10000", "13"));
+        cache.get("swp", this::compute, sip("10000", "12"));
+        cache.get("sip", this::compute, sip("10000", "12"), ResponseShape.of(null, null, null, 50));
+
+        assertEquals(4, computations.get());
+    }
+
+    @Test
+    @DisplayName("Hit ratio and counters track hits and misses")
+    void testMetrics() {
+        cache.get("sip", this::compute, sip("10000", "12"));
+        cache.get("sip", this::compute, sip("10000", "12"));
+        cache.get("sip", this::compute, sip("10000", "12"));
+        cache.get("loan", this::compute, sip("10000", "12"));
+
+        assertEquals(0.5, cache.hitRatio(), 1e-9);
+        assertEquals(2.0, registry.get("calculator.cache")
+            .tag("calculator", "sip").tag("result", "hit").counter().count());
+        assertEquals(1.0, registry.get("calculator.cache")
+            .tag("calculator", "loan").tag("result", "miss").counter().count());
+        assertEquals(0.5, registry.get("calculator.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Cache never grows beyond its bound")
+    void testBounded() {
+        for (int i = 1; i <= 10; i++) {
+            cache.get("sip", this::compute, sip(String.valueOf(i * 1000), "12"));
+            assertTrue(cache.size() <= 3);
+        }
+        assertEquals(10, computations.get());
+    }
+
+    @Test
+    @DisplayName("Entries are weighed by size: a full schedule outweighs a summary")
+    void testWeighedBySize() {
+        LoanAnalyzerService loanService = new LoanAnalyzerServiceImpl(new FinancialMathService());
+        CalculatorResultCache small = new CalculatorResultCache(new SimpleMeterRegistry(), true, 16, 1800);
+        ResponseShape summary = ResponseShape.of(ResponseShape.ScheduleView.SUMMARY, null, null, null);
+        ResponseShape full = ResponseShape.full();
+
+        LoanAnalysisResponse first = small.get("loan", () -> loanService.analyzeLoan(loan(), summary), loan(), summary);
+        assertSame(first, small.get("loan", () -> loanService.analyzeLoan(loan(), summary), loan(), summary));
+
+        // 360 monthly rows are far over 16 KiB, so the entry is never retained
+        LoanAnalysisResponse schedule = small.get("loan", () -> loanService.analyzeLoan(loan(), full), loan(), full);
+        assertEquals(1, small.size());
+        assertNotSame(schedule, small.get("loan", () -> loanService.analyzeLoan(loan(), full), loan(), full));
+    }
+
+    @Test
+    @DisplayName("Controllers and JSON serialization leave cached responses untouched")
+    void testCachedResponsesNotMutated() throws Exception {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        CalculatorResultCache shared = new CalculatorResultCache(new SimpleMeterRegistry(), true, 65536, 1800);
+        LoanController loanController = new LoanController(
+            new LoanAnalyzerServiceImpl(new FinancialMathService()), null, null, shared);
+        SWPController swpController = new SWPController(new SWPCalculatorServiceImpl(), shared);
+        SWPRequest swp = new SWPRequest(new BigDecimal("5000000"), new BigDecimal("30000"),
+            new BigDecimal("8"), 25, new BigDecimal("6"), true);
+
+        ApiResponse<LoanAnalysisResponse> loanBody =
+            loanController.analyzeLoan(loan(), null, null, null, null).getBody();
+        String loanJson = objectMapper.writeValueAsString(loanBody.getData());
+        objectMapper.writeValueAsString(loanBody);
+        ApiResponse<LoanAnalysisResponse> loanAgain =
+            loanController.analyzeLoan(loan(), null, null, null, null).getBody();
+        assertSame(loanBody.getData(), loanAgain.getData());
+        assertEquals(loanJson, objectMapper.writeValueAsString(loanAgain.getData()));
+
+        ApiResponse<SWPResponse> swpBody = swpController.calculateSWP(
+            swp, ResponseShape.ScheduleView.YEARLY, null, null, 20).getBody();
+        String swpJson = objectMapper.writeValueAsString(swpBody.getData());
+        objectMapper.writeValueAsString(swpBody);
+        ApiResponse<SWPResponse> swpAgain = swpController.calculateSWP(
+            swp, ResponseShape.ScheduleView.YEARLY, null, null, 20).getBody();
+        assertSame(swpBody.getData(), swpAgain.getData());
+        assertEquals(swpJson, objectMapper.writeValueAsString(swpAgain.getData()));
+    }
+
+    @Test
+    @DisplayName("Failed calculations are not cached")
+    void testExceptionNotCached() {
+        assertThrows(IllegalArgumentException.class, () -> cache.get("sip", () -> {
+            throw new IllegalArgumentException("bad input");
+        }, sip("10000", "12")));
+
+        assertEquals(0, cache.size());
+        assertEquals("result-1", cache.get("sip", this::compute, sip("10000", "12")));
+    }
+
+    @Test
+    @DisplayName("Disabled cache always computes")
+    void testDisabled() {
+        CalculatorResultCache disabled = new CalculatorResultCache(new SimpleMeterRegistry(), false, 3, 1800);
+
+        disabled.get("sip", this::compute, sip("10000", "12"));
+        disabled.get("sip", this::compute, sip("10000", "12"));
+
+        assertEquals(2, computations.get());
+        assertEquals(0, disabled.size());
+    }
+}
@@ -178,4 +178,108 @@ public class CashflowPlannerServiceTest {
         // Year 5 should have higher savings rate
         assertTrue(year5Rate.compareTo(year1Rate) > 0);
     }
+
+    @Test
+    @DisplayName("One-off bonus lifts only its year")
+    void testOneOffBonus() {
+        List<CashflowRequest.CashflowItem> incomes = List.of(
+            new CashflowRequest.CashflowItem("Salary", new BigDecimal("100000"), "Fixed"),
+            new CashflowRequest.CashflowItem("Bonus", new BigDecimal("240000"), "Variable",
+                CashflowRequest.Frequency.ONE_OFF, 15, null, null)
+        );
+
+        List<CashflowRequest.CashflowItem> expenses = List.of(
+            new CashflowRequest.CashflowItem("Living", new BigDecimal("60000"), "Variable")
+        );
+
+        CashflowRequest request = new CashflowRequest(
+            incomes, expenses, 3, BigDecimal.ZERO, BigDecimal.ZERO
+        );
+
+        CashflowResponse response = service.projectCashflow(request);
+        List<CashflowResponse.YearlyCashflow> projections = response.getProjections();
+
+        // Bonus is not part of the current month
+        assertEquals(0, response.getCurrentMonthlyIncome().compareTo(new BigDecimal("100000.00")));
+        assertEquals(1, response.getIncomeBreakdown().size());
+
+        assertEquals(0, projections.get(0).getAnnualIncome().compareTo(new BigDecimal("1200000.00")));
+        assertEquals(0, projections.get(1).getAnnualIncome().compareTo(new BigDecimal("1440000.00")));
+        assertEquals(0, projections.get(1).getMonthlyIncome().compareTo(new BigDecimal("120000.00")));
+        assertEquals(0, projections.get(2).getAnnualIncome().compareTo(new BigDecimal("1200000.00")));
+        assertEquals(0, response.getTotalSavingsOverPeriod().compareTo(new BigDecimal("1680000.00")));
+    }
+
+    @Test
+    @DisplayName("EMI ending mid-horizon frees up cashflow")
+    void testEmiEnds() {
+        List<CashflowRequest.CashflowItem> incomes = List.of(
+            new CashflowRequest.CashflowItem("Salary", new BigDecimal("100000"), "Fixed")
+        );
+
+        List<CashflowRequest.CashflowItem> expenses = List.of(
+            new CashflowRequest.CashflowItem("Living", new BigDecimal("50000"), "Variable"),
+            new CashflowRequest.CashflowItem("Car EMI", new BigDecimal("20000"), "Fixed",
+                null, null, 18, BigDecimal.ZERO)
+        );
+
+        CashflowRequest request = new CashflowRequest(
+            incomes, expenses, 3, BigDecimal.ZERO, new BigDecimal("6")
+        );
+
+        CashflowResponse response = service.projectCashflow(request);
+        List<CashflowResponse.YearlyCashflow> projections = response.getProjections();
+
+        assertEquals(0, response.getCurrentMonthlyExpense().compareTo(new BigDecimal("70000.00")));
+
+        // Year 2: six EMIs of 20K at the item's own zero growth, living costs up 6%
+        assertEquals(0, projections.get(1).getAnnualExpense().compareTo(new BigDecimal("756000.00")));
+
+        // Year 3: no EMI left
+        assertEquals(0, projections.get(2).getAnnualExpense().compareTo(new BigDecimal("674160.00")));
+        assertNull(response.getFirstDeficitMonth());
+    }
+
+    @Test
+    @DisplayName("Future school fees push a month into deficit")
+    void testFutureSchoolFees() {
+        List<CashflowRequest.CashflowItem> incomes = List.of(
+            new CashflowRequest.CashflowItem("Salary", new BigDecimal("100000"), "Fixed")
+        );
+
+        List<CashflowRequest.CashflowItem> expenses = List.of(
+            new CashflowRequest.CashflowItem("Living", new BigDecimal("70000"), "Variable"),
+            new CashflowRequest.CashflowItem("School fees", new BigDecimal("100000"), "Fixed",
+                CashflowRequest.Frequency.QUARTERLY, 37, null, new BigDecimal("10"))
+        );
+
+        CashflowRequest request = new CashflowRequest(
+            incomes, expenses, 5, BigDecimal.ZERO, BigDecimal.ZERO
+        );
+
+        CashflowResponse response = service.projectCashflow(request);
+        List<CashflowResponse.YearlyCashflow> projections = response.getProjections();
+
+        // Not running yet, so not in today's snapshot
+        assertEquals(0, response.getCurrentMonthlyExpense().compareTo(new BigDecimal("70000.00")));
+        assertEquals(0, projections.get(2).getAnnualExpense().compareTo(new BigDecimal("840000.00")));
+
+        // Year 4: four instalments already inflated by three years of 10%
+        assertEquals(0, projections.get(3).getAnnualExpense().compareTo(new BigDecimal("1372400.00")));
+        assertEquals(37, response.getFirstDeficitMonth());
+        assertTrue(response.getLowestMonthlyNetCashflow().compareTo(BigDecimal.ZERO) < 0);
+    }
+
+    @Test
+    @DisplayName("End month before start month is rejected")
+    void testInvalidMonthRange() {
+        CashflowRequest request = new CashflowRequest(
+            List.of(new CashflowRequest.CashflowItem("Salary", new BigDecimal("100000"), "Fixed")),
+            List.of(new CashflowRequest.CashflowItem("Rent", new BigDecimal("30000"), "Fixed",
+                null, 24, 12, null)),
+            3, BigDecimal.ZERO, BigDecimal.ZERO
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> service.projectCashflow(request));
+    }
 }
@@ -129,4 +129,49 @@ public class FinancialMathServiceTest {
         assertTrue(result.compareTo(new BigDecimal("12000000")) > 0);
         assertTrue(result.compareTo(new BigDecimal("14000000")) < 0);
     }
+
+    // ==================== PRECISION MODE TESTS ====================
+
+    @Test
+    @DisplayName("EMI: exact mode is paise-exact for a 30-year loan")
+    void testEMIExact() {
+        BigDecimal result = service.calculateEMI(
+            new BigDecimal("5000000"),
+            new BigDecimal("8.5"),
+            360,
+            FinancialMathService.Precision.EXACT
+        );
+
+        assertEquals(new BigDecimal("38445.67"), result);
+    }
+
+    @Test
+    @DisplayName("Fast mode agrees with exact mode to the paisa")
+    void testFastMatchesExact() {
+        BigDecimal amount = new BigDecimal("10000");
+        BigDecimal rate = new BigDecimal("12");
+
+        BigDecimal exact = service.calculateAnnuityFutureValue(
+            amount, rate, 360, FinancialMathService.Precision.EXACT);
+        BigDecimal fast = service.calculateAnnuityFutureValue(
+            amount, rate, 360, FinancialMathService.Precision.FAST);
+
+        assertTrue(exact.subtract(fast).abs().compareTo(new BigDecimal("0.01")) <= 0);
+
+        BigDecimal exactEmi = service.calculateEMI(
+            new BigDecimal("5000000"), new BigDecimal("8.5"), 240, FinancialMathService.Precision.EXACT);
+        BigDecimal fastEmi = service.calculateEMI(
+            new BigDecimal("5000000"), new BigDecimal("8.5"), 240, FinancialMathService.Precision.FAST);
+
+        assertTrue(exactEmi.subtract(fastEmi).abs().compareTo(new BigDecimal("0.01")) <= 0);
+    }
+
+    @Test
+    @DisplayName("Fast mode keeps the invalid-input guards")
+    void testFastModeGuards() {
+        assertEquals(BigDecimal.ZERO, service.calculateEMI(
+            new BigDecimal("-1"), new BigDecimal("8.5"), 240, FinancialMathService.Precision.FAST));
+        assertEquals(BigDecimal.ZERO, service.calculateFutureValue(
+            new BigDecimal("-100"), new BigDecimal("10"), new BigDecimal("5"), FinancialMathService.Precision.FAST));
+    }
 }
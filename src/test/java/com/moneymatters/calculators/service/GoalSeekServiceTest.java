@@ -0,0 +1,164 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Goal Seek Service Tests")
+public class GoalSeekServiceTest {
+
+    private GoalSeekServiceImpl service;
+    private FinancialMathService mathService;
+
+    @BeforeEach
+    void setUp() {
+        service = new GoalSeekServiceImpl();
+        mathService = new FinancialMathService();
+    }
+
+    private GoalSeekRequest request(GoalSeekRequest.Calculator calculator, GoalSeekRequest.Variable variable,
+                                    String target) {
+        GoalSeekRequest request = new GoalSeekRequest();
+        request.setCalculator(calculator);
+        request.setSolveFor(variable);
+        request.setTarget(target != null ? new BigDecimal(target) : null);
+        return request;
+    }
+
+    private LoanAnalysisRequest loan() {
+        return new LoanAnalysisRequest(new BigDecimal("5000000"), new BigDecimal("8.5"), 240, null);
+    }
+
+    @Test
+    @DisplayName("Loan: principal affordable for an EMI inverts the EMI formula")
+    void testLoanPrincipal() {
+        BigDecimal emi = mathService.calculateEMI(new BigDecimal("5000000"), new BigDecimal("8.5"), 240);
+
+        GoalSeekRequest request = request(GoalSeekRequest.Calculator.LOAN,
+            GoalSeekRequest.Variable.PRINCIPAL, emi.toPlainString());
+        request.setLoan(new LoanAnalysisRequest(new BigDecimal("1000000"), new BigDecimal("8.5"), 240, null));
+
+        GoalSeekResponse response = service.solve(request);
+
+        assertEquals(5000000, response.getSolution().doubleValue(), 1.0);
+        assertEquals(0, response.getAchievedValue().compareTo(emi));
+        assertTrue(response.getEvaluations() < 50);
+    }
+
+    @Test
+    @DisplayName("Loan: shortest tenure whose EMI fits the budget")
+    void testLoanTenure() {
+        GoalSeekRequest request = request(GoalSeekRequest.Calculator.LOAN,
+            GoalSeekRequest.Variable.TENURE_MONTHS, "50000");
+        request.setLoan(loan());
+
+        int tenure = service.solve(request).getSolution().intValue();
+
+        assertTrue(mathService.calculateEMI(new BigDecimal("5000000"), new BigDecimal("8.5"), tenure)
+            .compareTo(new BigDecimal("50000")) <= 0);
+        assertTrue(mathService.calculateEMI(new BigDecimal("5000000"), new BigDecimal("8.5"), tenure - 1)
+            .compareTo(new BigDecimal("50000")) > 0);
+    }
+
+    @Test
+    @DisplayName("SIP: return needed to reach a target")
+    void testSIPReturnRate() {
+        GoalSeekRequest request = request(GoalSeekRequest.Calculator.SIP,
+            GoalSeekRequest.Variable.RETURN_RATE, "10000000");
+        request.setSip(new SIPStepupRequest(
+            new BigDecimal("10000"), new BigDecimal("12"), 15, new BigDecimal("10")));
+
+        BigDecimal rate = service.solve(request).getSolution();
+
+        SIPStepupResponse plan = new SIPCalculatorServiceImpl(mathService).calculateStepupSIP(
+            new SIPStepupRequest(new BigDecimal("10000"), rate, 15, new BigDecimal("10")));
+        assertEquals(10000000, plan.getMaturityValue().doubleValue(), 1000);
+    }
+
+    @Test
+    @DisplayName("SWP: withdrawal that lasts exactly the duration")
+    void testSWPWithdrawal() {
+        GoalSeekRequest request = request(GoalSeekRequest.Calculator.SWP,
+            GoalSeekRequest.Variable.MONTHLY_WITHDRAWAL, null);
+        SWPRequest swp = new SWPRequest(
+            new BigDecimal("5000000"), new BigDecimal("30000"), new BigDecimal("8"),
+            20, new BigDecimal("6"), true);
+        request.setSwp(swp);
+
+        BigDecimal withdrawal = service.solve(request).getSolution();
+
+        SWPResponse atSolution = new SWPCalculatorServiceImpl().calculateSWP(new SWPRequest(
+            new BigDecimal("5000000"), withdrawal, new BigDecimal("8"), 20, new BigDecimal("6"), true));
+        assertTrue(atSolution.getEffectiveDurationMonths() >= 239);
+        assertTrue(atSolution.getFinalCorpusValue().compareTo(new BigDecimal("1000")) < 0);
+    }
+
+    @Test
+    @DisplayName("Retirement: SIP solved for a funded plan matches the planner's recommendation")
+    void testRetirementSIP() {
+        RetirementPlanRequest plan = new RetirementPlanRequest(
+            30, 60, 85,
+            new BigDecimal("50000"),
+            new BigDecimal("6"),
+            new BigDecimal("12"),
+            new BigDecimal("8"),
+            new BigDecimal("1000000")
+        );
+        GoalSeekRequest request = request(GoalSeekRequest.Calculator.RETIREMENT,
+            GoalSeekRequest.Variable.MONTHLY_SIP, null);
+        request.setRetirement(plan);
+
+        BigDecimal solved = service.solve(request).getSolution();
+        BigDecimal recommended = new RetirementPlannerServiceImpl(mathService)
+            .calculateRetirementPlan(plan).getRecommendedMonthlySIP();
+
+        assertEquals(recommended.doubleValue(), solved.doubleValue(), 1.0);
+    }
+
+    @Test
+    @DisplayName("Retirement: earliest funded retirement age")
+    void testRetirementAge() {
+        RetirementPlanRequest plan = new RetirementPlanRequest(
+            30, 60, 85,
+            new BigDecimal("50000"),
+            new BigDecimal("6"),
+            new BigDecimal("12"),
+            new BigDecimal("8"),
+            new BigDecimal("1000000")
+        );
+        GoalSeekRequest request = request(GoalSeekRequest.Calculator.RETIREMENT,
+            GoalSeekRequest.Variable.RETIREMENT_AGE, null);
+        request.setRetirement(plan);
+        request.setMonthlySIP(new BigDecimal("50000"));
+
+        GoalSeekResponse response = service.solve(request);
+
+        assertTrue(response.getSolution().intValue() > 30);
+        assertTrue(response.getSolution().intValue() < 60);
+        assertTrue(response.getAchievedValue().compareTo(BigDecimal.ZERO) >= 0);
+    }
+
+    @Test
+    @DisplayName("Unsupported variable or missing payload is rejected")
+    void testInvalidRequests() {
+        GoalSeekRequest wrongVariable = request(GoalSeekRequest.Calculator.LOAN,
+            GoalSeekRequest.Variable.STEPUP_PERCENT, "50000");
+        wrongVariable.setLoan(loan());
+        assertThrows(IllegalArgumentException.class, () -> service.solve(wrongVariable));
+
+        GoalSeekRequest missingPayload = request(GoalSeekRequest.Calculator.SIP,
+            GoalSeekRequest.Variable.MONTHLY_SIP, "1000000");
+        assertThrows(IllegalArgumentException.class, () -> service.solve(missingPayload));
+
+        // Rate cannot bring the EMI below principal / tenure
+        GoalSeekRequest unreachable = request(GoalSeekRequest.Calculator.LOAN,
+            GoalSeekRequest.Variable.INTEREST_RATE, "1000");
+        unreachable.setLoan(loan());
+        assertThrows(IllegalArgumentException.class, () -> service.solve(unreachable));
+    }
+}
@@ -0,0 +1,159 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Life Plan Service Tests")
+public class LifePlanServiceTest {
+
+    private LifePlanServiceImpl service;
+    private LoanAnalyzerServiceImpl loanService;
+
+    @BeforeEach
+    void setUp() {
+        FinancialMathService mathService = new FinancialMathService();
+        service = new LifePlanServiceImpl(mathService);
+        loanService = new LoanAnalyzerServiceImpl(mathService);
+    }
+
+    @Test
+    @DisplayName("Surplus splits between SIP and cash")
+    void testSurplusAndSip() {
+        LifePlanRequest request = basePlan(1, "100000", "60000");
+        request.setSips(List.of(new LifePlanRequest.PlannedSip(
+            "Index fund", new BigDecimal("20000"), null, null, null)));
+
+        LifePlanResponse response = service.evaluatePlan(request);
+
+        assertEquals(0, response.getFinalCorpus().compareTo(new BigDecimal("240000.00")));
+        assertEquals(0, response.getFinalCash().compareTo(new BigDecimal("240000.00")));
+        assertEquals(0, response.getFinalNetWorth().compareTo(new BigDecimal("480000.00")));
+        assertEquals(0, response.getTotalInvested().compareTo(new BigDecimal("240000.00")));
+        assertTrue(response.isFeasible());
+        assertNull(response.getFirstShortfallMonth());
+    }
+
+    @Test
+    @DisplayName("Loan matches the loan analyzer and is paid from cashflow")
+    void testLoanMatchesAnalyzer() {
+        LoanAnalysisRequest loan = new LoanAnalysisRequest(
+            new BigDecimal("1000000"), new BigDecimal("9"), 12, null);
+
+        LifePlanRequest request = basePlan(2, "150000", "50000");
+        request.setLoans(List.of(new LifePlanRequest.PlannedLoan("Car loan", loan, 1)));
+
+        LifePlanResponse response = service.evaluatePlan(request);
+        LoanAnalysisResponse analysis = loanService.analyzeLoan(loan);
+
+        LifePlanResponse.LoanOutcome outcome = response.getLoans().get(0);
+        assertEquals(0, outcome.getEmi().compareTo(analysis.getEmi()));
+        assertEquals(0, outcome.getTotalInterest().compareTo(analysis.getTotalInterestPayable()));
+        assertEquals(13, outcome.getClosedInMonth());
+
+        // Year 1 carries 11 EMIs, year 2 the last one; nothing outstanding at the end
+        BigDecimal yearOnePayments = response.getProjections().get(0).getLoanPayments();
+        assertEquals(0, yearOnePayments.compareTo(
+            analysis.getEmi().multiply(new BigDecimal("11"))));
+        assertEquals(0, response.getFinalLoanOutstanding().compareTo(BigDecimal.ZERO));
+
+        // Cash = 24 months of surplus - principal - interest
+        BigDecimal expectedCash = new BigDecimal("2400000")
+            .subtract(new BigDecimal("1000000"))
+            .subtract(analysis.getTotalInterestPayable());
+        assertTrue(response.getFinalCash().subtract(expectedCash).abs()
+            .compareTo(new BigDecimal("1.00")) <= 0);
+    }
+
+    @Test
+    @DisplayName("Goal larger than savings is partly funded")
+    void testGoalShortfall() {
+        LifePlanRequest request = basePlan(2, "50000", "50000");
+        request.setStartingCorpus(new BigDecimal("500000"));
+        request.setGoals(List.of(new LifePlanRequest.Goal(
+            "Education", new BigDecimal("1000000"), 24)));
+
+        LifePlanResponse response = service.evaluatePlan(request);
+
+        LifePlanResponse.GoalOutcome goal = response.getGoals().get(0);
+        assertFalse(goal.isFunded());
+        assertEquals(0, goal.getFundedAmount().compareTo(new BigDecimal("500000.00")));
+        assertEquals(0, goal.getShortfall().compareTo(new BigDecimal("500000.00")));
+        assertEquals(24, response.getFirstShortfallMonth());
+        assertFalse(response.isFeasible());
+    }
+
+    @Test
+    @DisplayName("Goal inflates with the plan's inflation")
+    void testGoalInflation() {
+        LifePlanRequest request = basePlan(4, "100000", "50000");
+        request.setInflationPercent(new BigDecimal("10"));
+        request.setExpenses(List.of(new CashflowRequest.CashflowItem(
+            "Living", new BigDecimal("50000"), "Variable", null, null, null, BigDecimal.ZERO)));
+        request.setGoals(List.of(new LifePlanRequest.Goal(
+            "Car", new BigDecimal("500000"), 37)));
+
+        LifePlanResponse response = service.evaluatePlan(request);
+
+        LifePlanResponse.GoalOutcome goal = response.getGoals().get(0);
+        assertEquals(0, goal.getInflatedAmount().compareTo(new BigDecimal("665500.00")));
+        assertTrue(goal.isFunded());
+    }
+
+    @Test
+    @DisplayName("Retirement deficits drain cash, then the corpus")
+    void testRetirementDrawdown() {
+        LifePlanRequest request = basePlan(2, "100000", "80000");
+        request.setIncomes(List.of(new CashflowRequest.CashflowItem(
+            "Salary", new BigDecimal("100000"), "Fixed", null, null, 12, null)));
+        request.setStartingCorpus(new BigDecimal("300000"));
+
+        LifePlanResponse response = service.evaluatePlan(request);
+
+        // 240K cash lasts 3 months of retirement, 300K corpus another 3.75
+        assertEquals(19, response.getCorpusDepletedMonth());
+        assertEquals(19, response.getFirstShortfallMonth());
+        assertEquals(0, response.getTotalShortfall().compareTo(new BigDecimal("420000.00")));
+    }
+
+    @Test
+    @DisplayName("SWP withdrawals feed the household until the corpus runs out")
+    void testWithdrawals() {
+        LifePlanRequest request = basePlan(2, "10000", "20000");
+        request.setStartingCorpus(new BigDecimal("120000"));
+        request.setWithdrawals(List.of(new LifePlanRequest.PlannedWithdrawal(
+            "SWP", new BigDecimal("10000"), 1, null, false)));
+
+        LifePlanResponse response = service.evaluatePlan(request);
+
+        assertEquals(12, response.getCorpusDepletedMonth());
+        assertEquals(13, response.getFirstShortfallMonth());
+        assertEquals(0, response.getProjections().get(0).getWithdrawals()
+            .compareTo(new BigDecimal("120000.00")));
+    }
+
+    @Test
+    @DisplayName("Goal after the horizon is rejected")
+    void testGoalOutsideHorizon() {
+        LifePlanRequest request = basePlan(1, "100000", "50000");
+        request.setGoals(List.of(new LifePlanRequest.Goal("House", new BigDecimal("100000"), 13)));
+
+        assertThrows(IllegalArgumentException.class, () -> service.evaluatePlan(request));
+    }
+
+    private LifePlanRequest basePlan(int years, String income, String expense) {
+        LifePlanRequest request = new LifePlanRequest();
+        request.setHorizonYears(years);
+        request.setExpectedAnnualReturnPercent(BigDecimal.ZERO);
+        request.setInflationPercent(BigDecimal.ZERO);
+        request.setIncomes(List.of(new CashflowRequest.CashflowItem("Salary", new BigDecimal(income), "Fixed")));
+        request.setExpenses(List.of(new CashflowRequest.CashflowItem("Living", new BigDecimal(expense), "Variable")));
+        return request;
+    }
+}
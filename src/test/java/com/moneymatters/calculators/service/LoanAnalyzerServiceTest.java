@@ -265,4 +265,130 @@ public class LoanAnalyzerServiceTest {
         // Should close loan after prepayment month
         assertTrue(response.getEffectiveTenureMonths() <= 6);
     }
+
+    @Test
+    @DisplayName("Totals equal the sum of schedule rows to the paisa")
+    void testTotalsMatchScheduleExactly() {
+        LoanAnalysisRequest request = new LoanAnalysisRequest(
+            new BigDecimal("5000000"),
+            new BigDecimal("8.5"),
+            240,
+            List.of(new PrepaymentScenario(36, new BigDecimal("300000"),
+                PrepaymentScenario.PrepaymentOption.REDUCE_TENURE))
+        );
+
+        LoanAnalysisResponse response = service.analyzeLoan(request);
+        List<MonthlyPaymentBreakdown> schedule = response.getAmortizationSchedule();
+
+        BigDecimal interestFromRows = schedule.stream()
+            .map(MonthlyPaymentBreakdown::getInterestPaid)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        assertEquals(0, interestFromRows.compareTo(response.getTotalInterestPayable()));
+        assertEquals(schedule.size(), response.getEffectiveTenureMonths());
+        assertEquals(0, schedule.get(schedule.size() - 1).getCumulativeInterest()
+            .compareTo(response.getTotalInterestPayable()));
+
+        // Charts sample every 12th month plus the final month
+        assertEquals("Month 1", response.getBalanceOverTimeChart().get(0).getLabel());
+        assertEquals("Month " + schedule.size(), response.getBalanceOverTimeChart()
+            .get(response.getBalanceOverTimeChart().size() - 1).getLabel());
+    }
+
+    @Test
+    @DisplayName("Yearly view: one row per year, totals unchanged")
+    void testYearlyView() {
+        LoanAnalysisRequest request = new LoanAnalysisRequest(
+            new BigDecimal("5000000"),
+            new BigDecimal("9"),
+            360,
+            null
+        );
+
+        LoanAnalysisResponse full = service.analyzeLoan(request);
+        LoanAnalysisResponse yearly = service.analyzeLoan(request,
+            ResponseShape.of(ResponseShape.ScheduleView.YEARLY, null, null, 10));
+
+        assertNull(yearly.getAmortizationSchedule());
+        assertEquals(30, yearly.getYearlySchedule().size());
+        assertEquals(30, yearly.getSchedulePage().getTotalRows());
+        assertEquals(full.getTotalInterestPayable(), yearly.getTotalInterestPayable());
+
+        BigDecimal interestFromYears = yearly.getYearlySchedule().stream()
+            .map(YearlyPaymentSummary::getInterestPaid)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, interestFromYears.compareTo(yearly.getTotalInterestPayable()));
+
+        // Charts downsampled to 10 points, keeping the last month
+        assertEquals(10, yearly.getBalanceOverTimeChart().size());
+        assertEquals("Month 360", yearly.getBalanceOverTimeChart().get(9).getLabel());
+    }
+
+    @Test
+    @DisplayName("Monthly view: page of rows with offset")
+    void testMonthlyPage() {
+        LoanAnalysisRequest request = new LoanAnalysisRequest(
+            new BigDecimal("5000000"),
+            new BigDecimal("9"),
+            360,
+            null
+        );
+
+        LoanAnalysisResponse page = service.analyzeLoan(request,
+            ResponseShape.of(ResponseShape.ScheduleView.MONTHLY, 348, 24, null));
+
+        assertEquals(12, page.getAmortizationSchedule().size());
+        assertEquals(349, page.getAmortizationSchedule().get(0).getMonth());
+        assertEquals(360, page.getSchedulePage().getTotalRows());
+        assertFalse(page.getSchedulePage().getHasMore());
+
+        // offset + limit past Integer.MAX_VALUE must not wrap round to month 1
+        LoanAnalysisResponse beyond = service.analyzeLoan(request,
+            ResponseShape.of(ResponseShape.ScheduleView.MONTHLY, Integer.MAX_VALUE,
+                ResponseShape.MAX_PAGE_SIZE, null));
+        assertTrue(beyond.getAmortizationSchedule().isEmpty());
+        assertFalse(beyond.getSchedulePage().getHasMore());
+
+        LoanAnalysisResponse summary = service.analyzeLoan(request,
+            ResponseShape.of(ResponseShape.ScheduleView.SUMMARY, null, null, null));
+        assertNull(summary.getAmortizationSchedule());
+        assertNull(summary.getYearlySchedule());
+        assertEquals(360, summary.getEffectiveTenureMonths());
+    }
+
+    @Test
+    @DisplayName("Recurring prepayment with annual step-up")
+    void testRecurringPrepaymentWithStepup() {
+        // ₹10K every 12 months from month 12, growing 10% a year
+        PrepaymentScenario recurring = new PrepaymentScenario(
+            12,
+            new BigDecimal("10000"),
+            PrepaymentScenario.PrepaymentOption.REDUCE_TENURE,
+            12,
+            null,
+            new BigDecimal("10")
+        );
+
+        LoanAnalysisRequest request = new LoanAnalysisRequest(
+            new BigDecimal("500000"),
+            new BigDecimal("10"),
+            60,
+            List.of(recurring)
+        );
+
+        LoanAnalysisResponse response = service.analyzeLoan(request);
+        PrepaymentImpact impact = response.getPrepaymentImpact();
+
+        // 10,000 + 11,000 + 12,100 + 13,310 land before the loan closes
+        assertEquals(new BigDecimal("46410.00"), impact.getTotalPrepaymentAmount());
+        assertTrue(response.getEffectiveTenureMonths() < 60);
+        assertTrue(impact.getInterestSaved().compareTo(BigDecimal.ZERO) > 0);
+
+        // Principal through EMIs plus prepayments repays the loan exactly
+        BigDecimal principalFromRows = response.getAmortizationSchedule().stream()
+            .map(MonthlyPaymentBreakdown::getPrincipalPaid)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, principalFromRows.add(impact.getTotalPrepaymentAmount())
+            .compareTo(new BigDecimal("500000")));
+    }
 }
@@ -0,0 +1,110 @@
+package com.moneymatters.calculators.service;
+
+import com.moneymatters.calculators.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Loan Optimizer Service Tests")
+public class LoanOptimizerServiceTest {
+
+    private LoanOptimizerServiceImpl service;
+    private LoanAnalyzerServiceImpl analyzer;
+
+    @BeforeEach
+    void setUp() {
+        FinancialMathService mathService = new FinancialMathService();
+        service = new LoanOptimizerServiceImpl(mathService);
+        analyzer = new LoanAnalyzerServiceImpl(mathService);
+    }
+
+    private LoanOptimizationRequest request(BigDecimal fee, BigDecimal minAmount, Integer lockIn) {
+        return new LoanOptimizationRequest(
+            new BigDecimal("5000000"),   // 50L
+            new BigDecimal("8.5"),       // 8.5%
+            240,                         // 20 years
+            new BigDecimal("10000"),     // ₹10K/month surplus
+            null,
+            fee,
+            minAmount,
+            lockIn,
+            LoanOptimizationRequest.Objective.MIN_INTEREST
+        );
+    }
+
+    @Test
+    @DisplayName("No constraints: prepay every month from month 1, reduce tenure")
+    void testUnconstrained() {
+        LoanOptimizationResponse response = service.optimize(request(null, null, null));
+        LoanOptimizationResponse.PrepaymentPlan best = response.getBestPlan();
+
+        assertNotNull(best);
+        assertEquals(PrepaymentScenario.PrepaymentOption.REDUCE_TENURE, best.getOption());
+        assertEquals(1, best.getFirstPrepaymentMonth());
+        assertEquals(1, best.getEveryMonths());
+        assertTrue(best.getDebtFreeMonth() < 240);
+        assertTrue(best.getInterestSaved().compareTo(BigDecimal.ZERO) > 0);
+        assertTrue(response.getCandidatesEvaluated() > 1000);
+    }
+
+    @Test
+    @DisplayName("Flat fee per prepayment favours less frequent prepayments")
+    void testFeeReducesFrequency() {
+        LoanOptimizationResponse response = service.optimize(
+            request(new BigDecimal("5000"), null, null));
+
+        assertTrue(response.getBestPlan().getEveryMonths() > 1);
+    }
+
+    @Test
+    @DisplayName("Minimum lump size and lock-in are respected")
+    void testConstraints() {
+        LoanOptimizationResponse response = service.optimize(
+            request(null, new BigDecimal("100000"), 12));
+        LoanOptimizationResponse.PrepaymentPlan best = response.getBestPlan();
+
+        assertTrue(best.getFirstPrepaymentMonth() > 12);
+        assertTrue(best.getRecurringPrepaymentAmount().compareTo(new BigDecimal("100000")) >= 0);
+    }
+
+    @Test
+    @DisplayName("Infeasible constraints return no plan")
+    void testInfeasible() {
+        LoanOptimizationResponse response = service.optimize(
+            request(null, new BigDecimal("10000000"), null));
+
+        assertNull(response.getBestPlan());
+        assertEquals(0, response.getCandidatesEvaluated());
+    }
+
+    @Test
+    @DisplayName("Lock-in beyond the tenure returns no plan")
+    void testLockInBeyondTenure() {
+        LoanOptimizationResponse response = service.optimize(
+            request(null, null, Integer.MAX_VALUE));
+
+        assertNull(response.getBestPlan());
+        assertEquals(0, response.getCandidatesEvaluated());
+    }
+
+    @Test
+    @DisplayName("Recommended plan reproduces its totals through the loan analyzer")
+    void testPlanMatchesAnalyzer() {
+        LoanOptimizationResponse.PrepaymentPlan best = service.optimize(
+            request(new BigDecimal("2000"), null, null)).getBestPlan();
+
+        LoanAnalysisResponse analysis = analyzer.analyzeLoan(new LoanAnalysisRequest(
+            new BigDecimal("5000000"),
+            new BigDecimal("8.5"),
+            240,
+            best.getPrepayments()
+        ));
+
+        assertEquals(0, analysis.getTotalInterestPayable().compareTo(best.getTotalInterest()));
+        assertEquals(best.getDebtFreeMonth(), analysis.getEffectiveTenureMonths());
+    }
+}
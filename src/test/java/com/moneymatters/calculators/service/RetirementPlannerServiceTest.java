@@ -2,6 +2,9 @@ package com.moneymatters.calculators.service;
 
 import com.moneymatters.calculators.dto.RetirementPlanRequest;
 import com.moneymatters.calculators.dto.RetirementPlanResponse;
+import com.moneymatters.calculators.dto.RetirementSimulationRequest;
+import com.moneymatters.calculators.dto.RetirementSimulationResponse;
+import com.moneymatters.calculators.dto.ReturnDistribution;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -183,4 +186,89 @@ void testHighInflationScenario() {
         assertNotNull(response.getPreRetirementProjections());
         assertTrue(response.getPreRetirementProjections().size() > 0);
     }
-}
\ No newline at end of file
+
+    // ============================================================
+    // Monte Carlo simulation
+    // ============================================================
+
+    private RetirementPlanRequest basePlan() {
+        return new RetirementPlanRequest(
+            30, 60, 85,
+            new BigDecimal("50000"),
+            new BigDecimal("6"),
+            new BigDecimal("12"),
+            new BigDecimal("8"),
+            new BigDecimal("1000000")
+        );
+    }
+
+    private RetirementSimulationRequest simulation(BigDecimal monthlySIP, ReturnDistribution distribution,
+                                                   BigDecimal volatility) {
+        return new RetirementSimulationRequest(
+            basePlan(), monthlySIP, 10000, distribution,
+            volatility, volatility, volatility, null, null, 42L
+        );
+    }
+
+    @Test
+    @DisplayName("Simulation: no volatility means every path succeeds or fails together")
+    void testSimulationWithoutVolatility() {
+        RetirementSimulationResponse response = service.simulateRetirementPlan(
+            simulation(null, ReturnDistribution.NORMAL, BigDecimal.ZERO));
+        BigDecimal safeSIP = response.getSafeMonthlySIP();
+        assertTrue(safeSIP.compareTo(BigDecimal.ZERO) > 0);
+
+        RetirementSimulationResponse atSafe = service.simulateRetirementPlan(
+            simulation(safeSIP, ReturnDistribution.NORMAL, BigDecimal.ZERO));
+        assertEquals(0, atSafe.getSuccessProbabilityPercent().compareTo(new BigDecimal("100.00")));
+        assertNull(atSafe.getMedianDepletionAge());
+
+        RetirementSimulationResponse belowSafe = service.simulateRetirementPlan(
+            simulation(safeSIP.multiply(new BigDecimal("0.9")), ReturnDistribution.NORMAL, BigDecimal.ZERO));
+        assertEquals(0, belowSafe.getSuccessProbabilityPercent().compareTo(new BigDecimal("0.00")));
+        assertNotNull(belowSafe.getMedianDepletionAge());
+    }
+
+    @Test
+    @DisplayName("Simulation: safe SIP reaches the target success rate")
+    void testSimulationSafeSIP() {
+        RetirementSimulationResponse response = service.simulateRetirementPlan(
+            simulation(null, ReturnDistribution.FAT_TAILED, null));
+
+        RetirementSimulationResponse atSafe = service.simulateRetirementPlan(
+            simulation(response.getSafeMonthlySIP(), ReturnDistribution.FAT_TAILED, null));
+
+        assertTrue(atSafe.getSuccessProbabilityPercent().compareTo(new BigDecimal("89.5")) >= 0);
+
+        // Bands are ordered and cover every year to life expectancy
+        assertEquals(55, atSafe.getCorpusBands().size());
+        assertTrue(atSafe.getCorpusAtRetirement().getP10()
+            .compareTo(atSafe.getCorpusAtRetirement().getP90()) < 0);
+    }
+
+    @Test
+    @DisplayName("Simulation: same seed reproduces the same run")
+    void testSimulationReproducible() {
+        RetirementSimulationResponse first = service.simulateRetirementPlan(
+            simulation(new BigDecimal("30000"), ReturnDistribution.HISTORICAL, null));
+        RetirementSimulationResponse second = service.simulateRetirementPlan(
+            simulation(new BigDecimal("30000"), ReturnDistribution.HISTORICAL, null));
+
+        assertEquals(42L, first.getSeed());
+        assertEquals(first.getSuccessProbabilityPercent(), second.getSuccessProbabilityPercent());
+        assertEquals(first.getCorpusAtRetirement(), second.getCorpusAtRetirement());
+        assertEquals(first.getSafeMonthlySIP(), second.getSafeMonthlySIP());
+    }
+
+    @Test
+    @DisplayName("Simulation: invalid ages are rejected")
+    void testSimulationInvalidAges() {
+        RetirementPlanRequest plan = basePlan();
+        plan.setRetirementAge(25);
+
+        RetirementSimulationRequest request = simulation(null, ReturnDistribution.NORMAL, null);
+        request.setPlan(plan);
+
+        assertThrows(IllegalArgumentException.class, () -> service.simulateRetirementPlan(request));
+    }
+}
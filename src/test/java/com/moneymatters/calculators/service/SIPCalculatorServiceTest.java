@@ -1,11 +1,14 @@
 package com.moneymatters.calculators.service;
 
+import com.moneymatters.calculators.dto.SIPGoalRequest;
+import com.moneymatters.calculators.dto.SIPGoalResponse;
 import com.moneymatters.calculators.dto.SIPStepupRequest;
 import com.moneymatters.calculators.dto.SIPStepupResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -83,4 +86,106 @@ public class SIPCalculatorServiceTest {
         assertEquals(BigDecimal.ZERO, response.getMaturityValue());
         assertEquals(BigDecimal.ZERO, response.getWealthGained());
     }
+
+    @Test
+    void testClosedFormMaturityMatchesYearlyRows() {
+        SIPStepupRequest request = new SIPStepupRequest(
+            new BigDecimal("10000"),
+            new BigDecimal("12"),
+            40,
+            new BigDecimal("12")       // step-up equal to return (g = G edge case)
+        );
+
+        SIPStepupResponse response = service.calculateStepupSIP(request);
+
+        BigDecimal sumOfRows = response.getYearlyBreakdown().stream()
+            .map(row -> row.getValueAtMaturity())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // Rows are rounded to the paisa individually
+        assertTrue(sumOfRows.subtract(response.getMaturityValue()).abs()
+            .compareTo(new BigDecimal("0.40")) <= 0);
+        assertEquals(0, response.getMaturityCurve().get(39).getValue()
+            .compareTo(response.getMaturityValue()));
+    }
+
+    @Test
+    void testGoalStartingSIPReachesTarget() {
+        SIPGoalRequest request = new SIPGoalRequest(
+            new BigDecimal("10000000"),   // ₹1 Cr
+            new BigDecimal("12"),
+            15,
+            SIPGoalRequest.SolveFor.STARTING_SIP,
+            new BigDecimal("10"),
+            null
+        );
+
+        SIPGoalResponse goal = service.solveGoal(request);
+        assertTrue(goal.getAchievable());
+
+        SIPStepupResponse plan = service.calculateStepupSIP(new SIPStepupRequest(
+            goal.getMonthlySIP(), new BigDecimal("12"), 15, new BigDecimal("10")));
+
+        // Reaches the target, and one rupee less per month would not
+        assertTrue(plan.getMaturityValue().compareTo(request.getTargetCorpus()) >= 0);
+        SIPStepupResponse smaller = service.calculateStepupSIP(new SIPStepupRequest(
+            goal.getMonthlySIP().subtract(BigDecimal.ONE), new BigDecimal("12"), 15, new BigDecimal("10")));
+        assertTrue(smaller.getMaturityValue().compareTo(request.getTargetCorpus()) < 0);
+
+        assertEquals(0, goal.getMaturityValue().compareTo(plan.getMaturityValue()));
+        assertEquals(0, goal.getTotalInvested().compareTo(plan.getTotalInvested()));
+        assertTrue(goal.getLumpSumToday().compareTo(request.getTargetCorpus()) < 0);
+    }
+
+    @Test
+    void testGoalStepupPercent() {
+        SIPGoalRequest request = new SIPGoalRequest(
+            new BigDecimal("10000000"),
+            new BigDecimal("12"),
+            15,
+            SIPGoalRequest.SolveFor.STEPUP_PERCENT,
+            null,
+            new BigDecimal("15000")
+        );
+
+        SIPGoalResponse goal = service.solveGoal(request);
+        BigDecimal stepup = goal.getAnnualStepupPercent();
+
+        assertTrue(goal.getAchievable());
+        assertTrue(stepup.compareTo(BigDecimal.ZERO) > 0);
+        assertTrue(goal.getMaturityValue().compareTo(request.getTargetCorpus()) >= 0);
+
+        // Smallest step-up at 0.01% resolution
+        SIPStepupResponse lower = service.calculateStepupSIP(new SIPStepupRequest(
+            new BigDecimal("15000"), new BigDecimal("12"), 15,
+            stepup.subtract(new BigDecimal("0.01")).setScale(2, RoundingMode.HALF_UP)));
+        assertTrue(lower.getMaturityValue().compareTo(request.getTargetCorpus()) < 0);
+    }
+
+    @Test
+    void testGoalStepupUnachievable() {
+        SIPGoalRequest request = new SIPGoalRequest(
+            new BigDecimal("100000000"),  // ₹10 Cr
+            new BigDecimal("8"),
+            5,
+            SIPGoalRequest.SolveFor.STEPUP_PERCENT,
+            null,
+            new BigDecimal("5000")
+        );
+
+        SIPGoalResponse goal = service.solveGoal(request);
+
+        assertFalse(goal.getAchievable());
+        assertTrue(goal.getMaturityValue().compareTo(request.getTargetCorpus()) < 0);
+    }
+
+    @Test
+    void testGoalStepupRequiresMonthlySIP() {
+        SIPGoalRequest request = new SIPGoalRequest(
+            new BigDecimal("10000000"), new BigDecimal("12"), 15,
+            SIPGoalRequest.SolveFor.STEPUP_PERCENT, null, null
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> service.solveGoal(request));
+    }
 }
@@ -1,7 +1,11 @@
 package com.moneymatters.calculators.service;
 
+import com.moneymatters.calculators.dto.ResponseShape;
+import com.moneymatters.calculators.dto.ReturnDistribution;
 import com.moneymatters.calculators.dto.SWPRequest;
 import com.moneymatters.calculators.dto.SWPResponse;
+import com.moneymatters.calculators.dto.SWPSimulationRequest;
+import com.moneymatters.calculators.dto.SWPSimulationResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -199,4 +203,126 @@ public class SWPCalculatorServiceTest {
         // Corpus should be growing
         assertTrue(year1.getCorpusGrowing());
     }
+
+    @Test
+    @DisplayName("Yearly view drops the monthly breakdown")
+    void testYearlyView() {
+        SWPRequest request = new SWPRequest(
+            new BigDecimal("5000000"),
+            new BigDecimal("30000"),
+            new BigDecimal("8"),
+            25,
+            BigDecimal.ZERO,
+            false
+        );
+
+        SWPResponse response = service.calculateSWP(request,
+            ResponseShape.of(ResponseShape.ScheduleView.YEARLY, null, null, 5));
+
+        assertNull(response.getMonthlyBreakdown());
+        assertEquals(25, response.getYearlySummary().size());
+        assertEquals(5, response.getCorpusOverTimeChart().size());
+        assertEquals(25, response.getSchedulePage().getTotalRows());
+    }
+
+    @Test
+    @DisplayName("Monthly view: page matches the full breakdown, huge offset is empty")
+    void testMonthlyPage() {
+        SWPRequest request = new SWPRequest(
+            new BigDecimal("5000000"),
+            new BigDecimal("30000"),
+            new BigDecimal("8"),
+            25,
+            BigDecimal.ZERO,
+            false
+        );
+
+        SWPResponse full = service.calculateSWP(request, ResponseShape.full());
+        SWPResponse page = service.calculateSWP(request,
+            ResponseShape.of(ResponseShape.ScheduleView.MONTHLY, 290, 24, null));
+
+        assertEquals(10, page.getMonthlyBreakdown().size());
+        assertEquals(full.getMonthlyBreakdown().get(290), page.getMonthlyBreakdown().get(0));
+        assertNull(page.getYearlySummary());
+        assertEquals(full.getFinalCorpusValue(), page.getFinalCorpusValue());
+        assertEquals(full.getTotalWithdrawn(), page.getTotalWithdrawn());
+        assertFalse(page.getSchedulePage().getHasMore());
+
+        SWPResponse beyond = service.calculateSWP(request,
+            ResponseShape.of(ResponseShape.ScheduleView.MONTHLY, Integer.MAX_VALUE,
+                ResponseShape.MAX_PAGE_SIZE, null));
+        assertTrue(beyond.getMonthlyBreakdown().isEmpty());
+        assertFalse(beyond.getSchedulePage().getHasMore());
+    }
+
+    // ============================================================
+    // Sequence-of-returns simulation
+    // ============================================================
+
+    private SWPRequest sustainablePlan() {
+        return new SWPRequest(
+            new BigDecimal("5000000"), new BigDecimal("30000"), new BigDecimal("8"),
+            25, BigDecimal.ZERO, false
+        );
+    }
+
+    private SWPSimulationRequest simulation(SWPRequest swp, ReturnDistribution distribution, BigDecimal volatility) {
+        return new SWPSimulationRequest(swp, 5000, distribution, volatility, null, null, 7L);
+    }
+
+    @Test
+    @DisplayName("Simulation without volatility reproduces the constant-return plan")
+    void testSimulationWithoutVolatility() {
+        SWPSimulationResponse sustainable = service.simulateSWP(
+            simulation(sustainablePlan(), ReturnDistribution.NORMAL, BigDecimal.ZERO));
+
+        assertEquals(0, sustainable.getSuccessProbabilityPercent().compareTo(new BigDecimal("100")));
+        assertNull(sustainable.getDepletionMonth());
+        assertEquals(sustainable.getConstantReturnFinalCorpus().doubleValue(),
+            sustainable.getFinalCorpus().getP50().doubleValue(), 10.0);
+
+        SWPRequest unsustainable = new SWPRequest(
+            new BigDecimal("5000000"), new BigDecimal("50000"), new BigDecimal("6"),
+            20, BigDecimal.ZERO, false
+        );
+        SWPSimulationResponse depleting = service.simulateSWP(
+            simulation(unsustainable, ReturnDistribution.NORMAL, BigDecimal.ZERO));
+
+        int deterministicMonths = service.calculateSWP(unsustainable).getEffectiveDurationMonths();
+        assertEquals(0, depleting.getSuccessProbabilityPercent().compareTo(BigDecimal.ZERO));
+        assertEquals(deterministicMonths, depleting.getDepletionMonth().getP50().intValue(), 1);
+    }
+
+    @Test
+    @DisplayName("Volatile returns expose depletion risk the constant-return plan hides")
+    void testSimulationSequenceRisk() {
+        SWPSimulationResponse response = service.simulateSWP(
+            simulation(sustainablePlan(), ReturnDistribution.FAT_TAILED, new BigDecimal("18")));
+
+        assertTrue(response.getSuccessProbabilityPercent().compareTo(new BigDecimal("100")) < 0);
+        assertTrue(response.getSuccessProbabilityPercent().compareTo(BigDecimal.ZERO) > 0);
+        assertNotNull(response.getDepletionMonth());
+
+        // Cumulative depletion never falls and ends at the failure rate
+        BigDecimal previous = BigDecimal.ZERO;
+        for (var point : response.getDepletionByYear()) {
+            assertTrue(point.getValue().compareTo(previous) >= 0);
+            previous = point.getValue();
+        }
+        assertEquals(0, previous.add(response.getSuccessProbabilityPercent())
+            .compareTo(new BigDecimal("100")));
+        assertEquals(25, response.getCorpusBands().size());
+    }
+
+    @Test
+    @DisplayName("Historical block bootstrap is reproducible for a seed")
+    void testSimulationHistoricalReproducible() {
+        SWPSimulationResponse first = service.simulateSWP(
+            simulation(sustainablePlan(), ReturnDistribution.HISTORICAL, null));
+        SWPSimulationResponse second = service.simulateSWP(
+            simulation(sustainablePlan(), ReturnDistribution.HISTORICAL, null));
+
+        assertEquals(first.getSuccessProbabilityPercent(), second.getSuccessProbabilityPercent());
+        assertEquals(first.getFinalCorpus(), second.getFinalCorpus());
+    }
 }
@@ -42,6 +42,47 @@ public class CalculationUtilsTest {
         assertTrue(result.compareTo(new BigDecimal("0.6210")) < 0);
     }
 
+    @Test
+    void testPowerExactLongTenure() {
+        // (1 + 8.5/1200)^360 to 34 significant digits
+        BigDecimal base = BigDecimal.ONE.add(
+            new BigDecimal("8.5").divide(new BigDecimal(1200), java.math.MathContext.DECIMAL128));
+        BigDecimal result = CalculationUtils.power(base, 360, java.math.MathContext.DECIMAL128);
+
+        BigDecimal expected = new BigDecimal("12.692498787119434265014023032960715");
+        assertTrue(result.subtract(expected).abs().compareTo(new BigDecimal("1E-30")) < 0);
+    }
+
+    @Test
+    void testPowerExactMatchesTable() {
+        BigDecimal base = BigDecimal.ONE.add(
+            new BigDecimal("12").divide(new BigDecimal(1200), java.math.MathContext.DECIMAL128));
+
+        for (int months : new int[] {1, 12, 240, 360, 600}) {
+            assertEquals(
+                CalculationUtils.power(base, months, java.math.MathContext.DECIMAL128),
+                GrowthFactorTable.monthlyFactor(new BigDecimal("12.00"), months)
+            );
+        }
+    }
+
+    @Test
+    void testTableMakesRoomForNewRates() {
+        // More distinct rates than the table holds, each asked for once
+        for (int bps = 100; bps < 100 + 200; bps++) {
+            GrowthFactorTable.monthlyFactor(new BigDecimal(bps).movePointLeft(2), 12);
+        }
+        assertTrue(GrowthFactorTable.cachedRates() <= 64);
+
+        // A rate that then becomes popular still gets a table
+        BigDecimal popular = new BigDecimal("9.99");
+        for (int i = 0; i < 10; i++) {
+            GrowthFactorTable.monthlyFactor(popular, 120);
+        }
+        assertTrue(GrowthFactorTable.isCached(popular));
+        assertTrue(GrowthFactorTable.cachedRates() <= 64);
+    }
+
     // ==================== PERCENT TESTS ====================
 
     @Test
@@ -0,0 +1,31 @@
+package com.moneymatters.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("Executor Config Tests")
+public class ExecutorConfigTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    @Qualifier("calculatorExecutor")
+    private ThreadPoolTaskExecutor calculatorExecutor;
+
+    @Test
+    @DisplayName("MVC async and @Async keep a pooled executor next to the calculator pool")
+    void testApplicationTaskExecutorIsPooled() {
+        assertNotSame(calculatorExecutor, applicationTaskExecutor);
+        assertEquals("task-", applicationTaskExecutor.getThreadNamePrefix());
+        assertEquals("calc-", calculatorExecutor.getThreadNamePrefix());
+    }
+}
@@ -0,0 +1,70 @@
+package com.moneymatters.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Metered Cache Tests")
+public class MeteredCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private MeteredCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new MeteredCache(new ConcurrentMapCache("stockPrices"), "cacheManager", registry);
+    }
+
+    private double gets(String cacheName, String result) {
+        return registry.get("cache.gets").tag("cache", cacheName).tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Lookups are counted as misses until the value is cached")
+    void testHitAndMiss() {
+        assertNull(cache.get("TCS.NS"));
+        cache.put("TCS.NS", 3500);
+
+        assertEquals(3500, cache.get("TCS.NS").get());
+        assertEquals(3500, cache.get("TCS.NS", Integer.class));
+
+        assertEquals(1.0, gets("stockPrices", "miss"));
+        assertEquals(2.0, gets("stockPrices", "hit"));
+    }
+
+    @Test
+    @DisplayName("Synchronized lookups count a miss only when the loader runs")
+    void testValueLoader() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(3500, cache.get("TCS.NS", () -> 3500 + loads.getAndIncrement()));
+        assertEquals(3500, cache.get("TCS.NS", () -> 3500 + loads.getAndIncrement()));
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, gets("stockPrices", "miss"));
+        assertEquals(1.0, gets("stockPrices", "hit"));
+    }
+
+    @Test
+    @DisplayName("Each cache has its own counters")
+    void testPerCacheCounters() {
+        MeteredCache analytics = new MeteredCache(
+            new ConcurrentMapCache("portfolioAnalytics"), "cacheManager", registry);
+
+        analytics.get("user-1");
+        cache.put("TCS.NS", 3500);
+        cache.get("TCS.NS");
+
+        assertEquals(1.0, gets("portfolioAnalytics", "miss"));
+        assertEquals(0.0, gets("portfolioAnalytics", "hit"));
+        assertEquals(1.0, gets("stockPrices", "hit"));
+        assertEquals(0.0, gets("stockPrices", "miss"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.moneymatters.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Caching JWT Decoder Tests")
+public class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private JwtDecoder delegateExpiringIn(Duration lifetime) {
+        return token -> {
+            verifications.incrementAndGet();
+            if (token.startsWith("bad")) {
+                throw new BadJwtException("bad signature");
+            }
+            return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("user-" + token)
+                // Issued a minute before expiry so expiresAt stays after issuedAt
+                // even for tokens that expired before NOW
+                .issuedAt(NOW.plus(lifetime).minusSeconds(60))
+                .expiresAt(NOW.plus(lifetime))
+                .build();
+        };
+    }
+
+    private CachingJwtDecoder decoder(JwtDecoder delegate, int maxEntries, Instant now) {
+        return new CachingJwtDecoder(delegate, maxEntries, Duration.ofMinutes(5),
+            new SimpleMeterRegistry(), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Same token is verified only once")
+    void testRepeatedTokenHitsCache() {
+        CachingJwtDecoder decoder = decoder(delegateExpiringIn(Duration.ofMinutes(10)), 100, NOW);
+
+        Jwt first = decoder.decode("abc");
+        Jwt second = decoder.decode("abc");
+
+        assertEquals(1, verifications.get());
+        assertSame(first, second);
+        assertEquals("user-abc", second.getSubject());
+    }
+
+    @Test
+    @DisplayName("Expired tokens are never served from cache")
+    void testAlreadyExpiredTokenNotCached() {
+        CachingJwtDecoder decoder = decoder(delegateExpiringIn(Duration.ofSeconds(-1)), 100, NOW);
+
+        decoder.decode("abc");
+        decoder.decode("abc");
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    @DisplayName("Failed verification is not cached")
+    void testInvalidTokenPropagates() {
+        CachingJwtDecoder decoder = decoder(delegateExpiringIn(Duration.ofMinutes(10)), 100, NOW);
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad-token"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad-token"));
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("Cache never grows past its bound")
+    void testBounded() {
+        CachingJwtDecoder decoder = decoder(delegateExpiringIn(Duration.ofMinutes(10)), 3, NOW);
+
+        for (int i = 0; i < 10; i++) {
+            decoder.decode("token-" + i);
+        }
+
+        assertTrue(decoder.size() <= 3);
+    }
+}
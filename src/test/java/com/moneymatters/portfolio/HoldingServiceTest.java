@@ -62,6 +62,21 @@ public class HoldingServiceTest {
         assertTrue(summary.getAssetTypeBreakdown().size() >= 2);
     }
 
+    @Test
+    void testPortfolioSummaryWithoutHoldings() {
+        createTestHolding("STOCK1", Holding.AssetType.STOCK,
+            new BigDecimal("100"), new BigDecimal("1000"));
+        createTestHolding("BOND1", Holding.AssetType.BOND,
+            new BigDecimal("10"), new BigDecimal("10000"));
+
+        PortfolioSummaryResponse summary = holdingService.getPortfolioSummary(TEST_USER, false);
+
+        assertNull(summary.getHoldings());
+        assertEquals(2, summary.getTotalHoldings());
+        assertEquals(2, summary.getAssetTypeBreakdown().size());
+        assertEquals(0, new BigDecimal("200000.00").compareTo(summary.getTotalInvested()));
+    }
+
     private void createTestHolding(String symbol, Holding.AssetType type,
                                    BigDecimal quantity, BigDecimal price) {
         HoldingRequest request = new HoldingRequest(
@@ -0,0 +1,134 @@
+package com.moneymatters.portfolio;
+
+import com.moneymatters.portfolio.dto.HoldingResponse;
+import com.moneymatters.portfolio.dto.PortfolioAnalyticsResponse;
+import com.moneymatters.portfolio.entity.Holding;
+import com.moneymatters.portfolio.repository.HoldingRepository;
+import com.moneymatters.portfolio.service.PortfolioAnalyticsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Analytics are read from HoldingResponse projections; these check they
+ * agree with the same numbers taken from the managed Holding entities.
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("Portfolio Analytics Service Tests")
+public class PortfolioAnalyticsServiceTest {
+
+    @Autowired
+    private PortfolioAnalyticsService analyticsService;
+
+    @Autowired
+    private HoldingRepository holdingRepository;
+
+    @Test
+    @DisplayName("Active holding projections carry the entity values")
+    void testProjectionsMatchEntities() {
+        String user = "analytics-user-projection";
+        seedHoldings(user);
+
+        Map<Long, HoldingResponse> projected = holdingRepository.findActiveResponsesByClerkUserId(user).stream()
+            .collect(Collectors.toMap(HoldingResponse::getId, Function.identity()));
+        List<Holding> entities = holdingRepository.findActiveHoldingsByClerkUserId(user);
+
+        assertEquals(entities.size(), projected.size());
+        for (Holding entity : entities) {
+            HoldingResponse row = projected.get(entity.getId());
+            assertNotNull(row, "No projection for " + entity.getAssetSymbol());
+            assertEquals(entity.getAssetType(), row.getAssetType());
+            assertEquals(entity.getAssetSymbol(), row.getAssetSymbol());
+            assertSameAmount(entity.getTotalInvested(), row.getTotalInvested());
+            assertSameAmount(entity.getCurrentValue(), row.getCurrentValue());
+            assertSameAmount(entity.getUnrealizedGain(), row.getUnrealizedGain());
+            assertSameAmount(entity.getUnrealizedGainPercent(), row.getUnrealizedGainPercent());
+        }
+    }
+
+    @Test
+    @DisplayName("Totals, per-type breakdown and top performers match the entity-based numbers")
+    void testAnalyticsMatchEntityTotals() {
+        String user = "analytics-user-totals";
+        seedHoldings(user);
+        List<Holding> entities = holdingRepository.findActiveHoldingsByClerkUserId(user);
+
+        PortfolioAnalyticsResponse analytics = analyticsService.getPortfolioAnalytics(user);
+
+        assertSameAmount(sum(entities, Holding::getTotalInvested), analytics.getTotalInvested());
+        assertSameAmount(sum(entities, Holding::getCurrentValue), analytics.getCurrentValue());
+        assertSameAmount(sum(entities, Holding::getUnrealizedGain), analytics.getUnrealizedGain());
+
+        Map<String, List<Holding>> byType = entities.stream()
+            .collect(Collectors.groupingBy(h -> h.getAssetType().name()));
+        assertEquals(List.of("BOND", "STOCK"), analytics.getAssetWiseAnalytics().stream()
+            .map(PortfolioAnalyticsResponse.AssetWiseAnalytics::getAssetType).toList());
+        for (PortfolioAnalyticsResponse.AssetWiseAnalytics row : analytics.getAssetWiseAnalytics()) {
+            List<Holding> group = byType.get(row.getAssetType());
+            assertEquals(group.size(), row.getCount());
+            assertSameAmount(sum(group, Holding::getTotalInvested), row.getInvested());
+            assertSameAmount(sum(group, Holding::getCurrentValue), row.getCurrentValue());
+        }
+
+        String bestByEntity = entities.stream()
+            .max(Comparator.comparing(Holding::getUnrealizedGainPercent))
+            .map(Holding::getAssetSymbol)
+            .orElseThrow();
+        assertEquals(bestByEntity, analytics.getTopGainers().get(0).getAssetSymbol());
+        assertTrue(analytics.getTopGainers().stream().noneMatch(t -> "OLDCO".equals(t.getAssetSymbol())));
+    }
+
+    private void seedHoldings(String user) {
+        save(user, "INFY", Holding.AssetType.STOCK, "10", "1500.00", "1800.00", true);
+        save(user, "TCS", Holding.AssetType.STOCK, "5", "3500.00", "3200.00", true);
+        save(user, "GSEC", Holding.AssetType.BOND, "20", "1000.00", "1010.00", true);
+        save(user, "OLDCO", Holding.AssetType.STOCK, "100", "10.00", "90.00", false);
+    }
+
+    private void save(String user, String symbol, Holding.AssetType type,
+                      String quantity, String avgPrice, String price, boolean active) {
+        BigDecimal qty = new BigDecimal(quantity);
+        BigDecimal invested = qty.multiply(new BigDecimal(avgPrice));
+        BigDecimal value = qty.multiply(new BigDecimal(price));
+        BigDecimal gain = value.subtract(invested);
+        holdingRepository.save(Holding.builder()
+            .clerkUserId(user)
+            .assetSymbol(symbol)
+            .assetName(symbol + " Ltd")
+            .exchange("NSE")
+            .assetType(type)
+            .quantity(qty)
+            .avgBuyPrice(new BigDecimal(avgPrice))
+            .totalInvested(invested)
+            .currentPrice(new BigDecimal(price))
+            .currentValue(value)
+            .unrealizedGain(gain)
+            .unrealizedGainPercent(gain.multiply(new BigDecimal(100))
+                .divide(invested, 4, RoundingMode.HALF_UP))
+            .purchaseDate(LocalDate.now().minusYears(1))
+            .active(active)
+            .build());
+    }
+
+    private static BigDecimal sum(List<Holding> holdings, Function<Holding, BigDecimal> field) {
+        return holdings.stream().map(field).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static void assertSameAmount(BigDecimal expected, BigDecimal actual) {
+        assertEquals(0, expected.compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,90 @@
+package com.moneymatters.portfolio;
+
+import com.moneymatters.portfolio.dto.HoldingRequest;
+import com.moneymatters.portfolio.dto.PortfolioRebalanceResponse;
+import com.moneymatters.portfolio.dto.RebalancePolicyRequest;
+import com.moneymatters.portfolio.entity.Holding;
+import com.moneymatters.portfolio.entity.RebalancePolicy;
+import com.moneymatters.portfolio.service.HoldingService;
+import com.moneymatters.portfolio.service.PortfolioRebalanceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+public class PortfolioRebalanceServiceTest {
+
+    @Autowired
+    private HoldingService holdingService;
+
+    @Autowired
+    private PortfolioRebalanceService rebalanceService;
+
+    @Test
+    void testNoPolicy() {
+        assertNull(rebalanceService.getRebalance("test-user-rebalance-none"));
+    }
+
+    @Test
+    void testOverweightAssetTypeRaisesAlert() {
+        String user = "test-user-rebalance-1";
+        createTestHolding(user, "STOCK1", Holding.AssetType.STOCK, new BigDecimal("800"));
+        createTestHolding(user, "BOND1", Holding.AssetType.BOND, new BigDecimal("200"));
+
+        PortfolioRebalanceResponse response = rebalanceService.savePolicy(user, new RebalancePolicyRequest(
+            RebalancePolicy.Grouping.ASSET_TYPE,
+            Map.of("STOCK", new BigDecimal("50"), "BOND", new BigDecimal("50")),
+            null
+        ));
+
+        assertFalse(response.isWithinBands());
+        assertTrue(response.getDriftAlerts().stream()
+            .anyMatch(a -> a.getBucket().equals("STOCK") && a.getDirection().equals("OVERWEIGHT")));
+        assertTrue(response.getPlan().getTrades().stream()
+            .anyMatch(t -> t.getSymbol().equals("STOCK1") && t.getAction().equals("SELL")));
+
+        // Served from the cache afterwards
+        assertSame(response, rebalanceService.getRebalance(user));
+    }
+
+    @Test
+    void testBalancedPortfolioHasNoAlerts() {
+        String user = "test-user-rebalance-2";
+        createTestHolding(user, "STOCK1", Holding.AssetType.STOCK, new BigDecimal("600"));
+        createTestHolding(user, "GOLD1", Holding.AssetType.GOLD, new BigDecimal("400"));
+
+        PortfolioRebalanceResponse response = rebalanceService.savePolicy(user, new RebalancePolicyRequest(
+            RebalancePolicy.Grouping.ASSET_TYPE,
+            Map.of("STOCK", new BigDecimal("60"), "GOLD", new BigDecimal("40")),
+            new BigDecimal("5")
+        ));
+
+        assertTrue(response.isWithinBands());
+        assertTrue(response.getDriftAlerts().isEmpty());
+        assertTrue(response.getPlan().getTrades().isEmpty());
+    }
+
+    @Test
+    void testTargetsMustAddUpTo100() {
+        assertThrows(IllegalArgumentException.class, () -> rebalanceService.savePolicy(
+            "test-user-rebalance-3",
+            new RebalancePolicyRequest(null, Map.of("STOCK", new BigDecimal("70")), null)
+        ));
+    }
+
+    private void createTestHolding(String user, String symbol, Holding.AssetType type, BigDecimal quantity) {
+        HoldingRequest request = new HoldingRequest(
+            type, symbol + " Company", symbol, "NSE",
+            quantity, new BigDecimal("1000"), LocalDate.now().minusYears(2)
+        );
+        holdingService.createHolding(user, request);
+    }
+}
@@ -1,7 +1,9 @@
 package com.moneymatters.portfolio;
 
+import com.moneymatters.common.exception.InvalidRequestException;
 import com.moneymatters.portfolio.dto.FIFOCalculationResult;
 import com.moneymatters.portfolio.dto.HoldingResponse;
+import com.moneymatters.portfolio.dto.TransactionPageResponse;
 import com.moneymatters.portfolio.dto.TransactionRequest;
 import com.moneymatters.portfolio.dto.TransactionResponse;
 import com.moneymatters.portfolio.entity.Holding;
@@ -103,6 +105,34 @@ public class TransactionServiceTest {
         assertEquals(0, new BigDecimal("50").compareTo(holding.getQuantity()));
     }
 
+    @Test
+    void testKeysetPagination() {
+        // First BUY creates the holding (plus its initial transaction), the rest update it: 4 rows
+        for (int i = 0; i < 3; i++) {
+            transactionService.recordTransaction(TEST_USER,
+                createBuyTransaction("PAGE", new BigDecimal("10"), new BigDecimal("100")));
+        }
+
+        TransactionPageResponse first = transactionService.getUserTransactionsPage(
+            TEST_USER, "PAGE", null, null, null, null, 3);
+
+        assertEquals(3, first.getTransactions().size());
+        assertTrue(first.isHasMore());
+        assertNotNull(first.getNextCursor());
+        assertTrue(first.getTransactions().get(0).getId() > first.getTransactions().get(1).getId());
+
+        TransactionPageResponse second = transactionService.getUserTransactionsPage(
+            TEST_USER, "PAGE", null, null, null, first.getNextCursor(), 3);
+
+        assertEquals(1, second.getTransactions().size());
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+        assertTrue(second.getTransactions().get(0).getId() < first.getTransactions().get(2).getId());
+
+        assertThrows(InvalidRequestException.class, () -> transactionService.getUserTransactionsPage(
+            TEST_USER, null, null, null, null, "not-a-cursor", 10));
+    }
+
     private TransactionRequest createBuyTransaction(String symbol,
                                                     BigDecimal quantity, BigDecimal price) {
         return new TransactionRequest(
@@ -170,4 +170,24 @@ public class XIRRCalculatorTest {
 
         System.out.println("Real-world XIRR: " + xirr + "%");
     }
+
+    @Test
+    @DisplayName("Test XIRR: Solver reports its iterations")
+    void testSolveXIRRReportsIterations() {
+        List<LocalDate> dates = Arrays.asList(
+            LocalDate.of(2024, 1, 1),
+            LocalDate.of(2024, 12, 31)
+        );
+
+        List<BigDecimal> amounts = Arrays.asList(
+            new BigDecimal("-100000"),
+            new BigDecimal("120000")
+        );
+
+        XIRRCalculator.Solution solution = XIRRCalculator.solveXIRR(dates, amounts);
+
+        assertTrue(solution.converged());
+        assertTrue(solution.iterations() > 1 && solution.iterations() < 20);
+        assertEquals(0, solution.xirr().compareTo(XIRRCalculator.calculateXIRR(dates, amounts)));
+    }
 }
@@ -0,0 +1,65 @@
+package com.moneymatters.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Not @Transactional: these tests need real commits and rollbacks.
+ */
+@SpringBootTest
+@DisplayName("User Service Tests")
+public class UserServiceTest {
+
+    private static final String ROLLED_BACK_USER = "user-service-test-rollback";
+    private static final String KNOWN_USER = "user-service-test-known";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllById(List.of(ROLLED_BACK_USER, KNOWN_USER));
+    }
+
+    @Test
+    @DisplayName("A user inserted in a rolled-back transaction is inserted again later")
+    void testRollbackIsNotRemembered() {
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.ensureUserExists(ROLLED_BACK_USER, "rollback@example.com");
+            status.setRollbackOnly();
+        });
+        assertFalse(userRepository.existsById(ROLLED_BACK_USER));
+
+        userService.ensureUserExists(ROLLED_BACK_USER, "rollback@example.com");
+
+        assertTrue(userRepository.existsById(ROLLED_BACK_USER));
+    }
+
+    @Test
+    @DisplayName("A committed user is answered from memory without touching the database")
+    void testKnownUserSkipsDatabase() {
+        transactionTemplate.executeWithoutResult(status ->
+            userService.ensureUserExists(KNOWN_USER, "known@example.com"));
+        assertTrue(userRepository.existsById(KNOWN_USER));
+
+        // Deleted behind the service's back: only a database lookup would notice
+        userRepository.deleteById(KNOWN_USER);
+        userService.ensureUserExists(KNOWN_USER, "known@example.com");
+
+        assertFalse(userRepository.existsById(KNOWN_USER));
+    }
+}